@@ -0,0 +1,94 @@
+package net.alastairwyse.applicationaccessclient;
+
+import java.util.Set;
+
+/**
+ * Defines methods to invalidate cached access decisions (i.e. results of hasAccessToApplicationComponent() and hasAccessToEntity() queries) which have become stale.
+ * <p>
+ * Implementations must ensure that a decision retrieved before an invalidation call, but cached after it, is not subsequently served from the cache.
+ * </p>
+ *
+ * @param <TUser> The type of users in the application.
+ * @param <TComponent> The type of components in the application to manage access to.
+ * @param <TAccess> The type of levels of access which can be assigned to an application component.
+ */
+public interface AccessDecisionCache<TUser, TComponent, TAccess> {
+
+    /**
+     * Invalidates all cached access decisions for the specified user.
+     *
+     * @param user The user to invalidate the decisions for.
+     */
+    public void invalidateUser(TUser user);
+
+    /**
+     * Invalidates all cached access decisions for the specified users.
+     *
+     * @param users The users to invalidate the decisions for.
+     */
+    public void invalidateUsers(Set<TUser> users);
+
+    /**
+     * Invalidates all cached access decisions for all users.
+     */
+    public void invalidateAllUsers();
+
+    /**
+     * Invalidates the cached decision for the specified user's access to an application component at the specified level of access.
+     *
+     * @param user The user to invalidate the decision for.
+     * @param applicationComponent The application component.
+     * @param accessLevel The level of access to the component.
+     */
+    public void invalidateApplicationComponent(TUser user, TComponent applicationComponent, TAccess accessLevel);
+
+    /**
+     * Invalidates the cached decisions for the specified users' access to an application component at the specified level of access.
+     *
+     * @param users The users to invalidate the decisions for.
+     * @param applicationComponent The application component.
+     * @param accessLevel The level of access to the component.
+     */
+    public void invalidateApplicationComponent(Set<TUser> users, TComponent applicationComponent, TAccess accessLevel);
+
+    /**
+     * Invalidates the cached decisions for all users' access to an application component at the specified level of access.
+     *
+     * @param applicationComponent The application component.
+     * @param accessLevel The level of access to the component.
+     */
+    public void invalidateApplicationComponent(TComponent applicationComponent, TAccess accessLevel);
+
+    /**
+     * Invalidates the cached decision for the specified user's access to an entity.
+     *
+     * @param user The user to invalidate the decision for.
+     * @param entityType The type of the entity.
+     * @param entity The entity.
+     */
+    public void invalidateEntity(TUser user, String entityType, String entity);
+
+    /**
+     * Invalidates the cached decisions for the specified users' access to an entity.
+     *
+     * @param users The users to invalidate the decisions for.
+     * @param entityType The type of the entity.
+     * @param entity The entity.
+     */
+    public void invalidateEntity(Set<TUser> users, String entityType, String entity);
+
+    /**
+     * Invalidates the cached decisions for all users' access to an entity.
+     *
+     * @param entityType The type of the entity.
+     * @param entity The entity.
+     */
+    public void invalidateEntity(String entityType, String entity);
+
+    /**
+     * Invalidates the cached decisions for all users' access to all entities of the specified type.
+     *
+     * @param entityType The type of the entities.
+     */
+    public void invalidateEntityType(String entityType);
+}
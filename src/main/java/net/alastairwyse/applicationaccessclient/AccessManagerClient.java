@@ -4,12 +4,12 @@ import java.io.IOException;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-
-import com.fasterxml.jackson.core.type.TypeReference;
+import java.util.function.Consumer;
 
 import net.alastairwyse.applicationaccessclient.models.ApplicationComponentAndAccessLevel;
 import net.alastairwyse.applicationaccessclient.models.EntityTypeAndEntity;
@@ -102,16 +102,37 @@ public class AccessManagerClient<TUser, TGroup, TComponent, TAccess>
     @Override
     public List<TUser> getUsers() throws IOException, InterruptedException {
 
-        var url = appendPathToBaseUrl("users");
-        ArrayList<String> rawResults = sendGetRequest(url, new TypeReference<ArrayList<String>>(){});
-        var results = new ArrayList<TUser>();
-        for (String currentRawResult : rawResults) {
-            results.add(userStringifier.fromString(currentRawResult));
+        if (parallelConversionThreshold > 0) {
+            var rawResults = new ArrayList<String>();
+            sendGetRequestForArray(createUrl(usersRoute), String.class, (String currentRawResult) -> rawResults.add(currentRawResult));
+            return convertResults(rawResults, (String currentRawResult) -> userStringifier.fromString(currentRawResult));
         }
+        var results = new ArrayList<TUser>();
+        getUsers((TUser currentResult) -> results.add(currentResult));
 
         return results;
     }
 
+    /**
+     * Retrieves all users in the access manager, passing each to the specified consumer as it is read from the response.
+     * <p>
+     * Results are converted as they are read from the response body, so they can be processed without holding the full collection in memory.
+     * </p>
+     * 
+     * @param resultConsumer Accepts each result.
+     * @exception RuntimeException If a non-success response status was received.
+     * @exception RuntimeException If the response could not be deserialized to an object.
+     * @exception IOException If an I/O error occurs when sending or receiving, or the client has shut down.
+     * @exception InterruptedException If the operation is interrupted.
+     */
+    public void getUsers(Consumer<TUser> resultConsumer) throws IOException, InterruptedException {
+
+        var url = createUrl(usersRoute);
+        sendGetRequestForArray(url, String.class, (String currentRawResult) -> {
+            resultConsumer.accept(userStringifier.fromString(currentRawResult));
+        });
+    }
+
     /**
      * @inheritDoc
      * @exception RuntimeException If a non-success response status was received.
@@ -122,16 +143,37 @@ public class AccessManagerClient<TUser, TGroup, TComponent, TAccess>
     @Override
     public List<TGroup> getGroups() throws IOException, InterruptedException {
 
-        var url = appendPathToBaseUrl("groups");
-        ArrayList<String> rawResults = sendGetRequest(url, new TypeReference<ArrayList<String>>(){});
-        var results = new ArrayList<TGroup>();
-        for (String currentRawResult : rawResults) {
-            results.add(groupStringifier.fromString(currentRawResult));
+        if (parallelConversionThreshold > 0) {
+            var rawResults = new ArrayList<String>();
+            sendGetRequestForArray(createUrl(groupsRoute), String.class, (String currentRawResult) -> rawResults.add(currentRawResult));
+            return convertResults(rawResults, (String currentRawResult) -> groupStringifier.fromString(currentRawResult));
         }
+        var results = new ArrayList<TGroup>();
+        getGroups((TGroup currentResult) -> results.add(currentResult));
 
         return results;
     }
 
+    /**
+     * Retrieves all groups in the access manager, passing each to the specified consumer as it is read from the response.
+     * <p>
+     * Results are converted as they are read from the response body, so they can be processed without holding the full collection in memory.
+     * </p>
+     * 
+     * @param resultConsumer Accepts each result.
+     * @exception RuntimeException If a non-success response status was received.
+     * @exception RuntimeException If the response could not be deserialized to an object.
+     * @exception IOException If an I/O error occurs when sending or receiving, or the client has shut down.
+     * @exception InterruptedException If the operation is interrupted.
+     */
+    public void getGroups(Consumer<TGroup> resultConsumer) throws IOException, InterruptedException {
+
+        var url = createUrl(groupsRoute);
+        sendGetRequestForArray(url, String.class, (String currentRawResult) -> {
+            resultConsumer.accept(groupStringifier.fromString(currentRawResult));
+        });
+    }
+
     /**
      * @inheritDoc
      * @exception RuntimeException If a non-success response status was received.
@@ -142,9 +184,30 @@ public class AccessManagerClient<TUser, TGroup, TComponent, TAccess>
     @Override
     public List<String> getEntityTypes() throws IOException, InterruptedException {
 
-        var url = appendPathToBaseUrl("entityTypes");
+        var results = new ArrayList<String>();
+        getEntityTypes((String currentResult) -> results.add(currentResult));
 
-        return sendGetRequest(url, new TypeReference<ArrayList<String>>(){});
+        return results;
+    }
+
+    /**
+     * Retrieves all entity types in the access manager, passing each to the specified consumer as it is read from the response.
+     * <p>
+     * Results are converted as they are read from the response body, so they can be processed without holding the full collection in memory.
+     * </p>
+     * 
+     * @param resultConsumer Accepts each result.
+     * @exception RuntimeException If a non-success response status was received.
+     * @exception RuntimeException If the response could not be deserialized to an object.
+     * @exception IOException If an I/O error occurs when sending or receiving, or the client has shut down.
+     * @exception InterruptedException If the operation is interrupted.
+     */
+    public void getEntityTypes(Consumer<String> resultConsumer) throws IOException, InterruptedException {
+
+        var url = createUrl(entityTypesRoute);
+        sendGetRequestForArray(url, String.class, (String currentRawResult) -> {
+            resultConsumer.accept(currentRawResult);
+        });
     }
 
     /**
@@ -157,10 +220,7 @@ public class AccessManagerClient<TUser, TGroup, TComponent, TAccess>
     @Override
     public void addUser(TUser user) throws IOException, InterruptedException {
 
-        var url = appendPathToBaseUrl(String.format("users/%s", 
-                encodeUrlComponent(userStringifier.toString(user)) 
-            )
-        );
+        var url = createUrl(userRoute, encodeUser(user));
         sendPostRequest(url);
     }
 
@@ -174,10 +234,7 @@ public class AccessManagerClient<TUser, TGroup, TComponent, TAccess>
     @Override
     public boolean containsUser(TUser user) throws IOException, InterruptedException {
         
-        var url = appendPathToBaseUrl(String.format("users/%s",
-                encodeUrlComponent(userStringifier.toString(user)) 
-            )
-        );
+        var url = createUrl(userRoute, encodeUser(user));
 
         return sendGetRequestForContainsMethod(url);
     }
@@ -192,10 +249,7 @@ public class AccessManagerClient<TUser, TGroup, TComponent, TAccess>
     @Override
     public void removeUser(TUser user) throws IOException, InterruptedException {
 
-        var url = appendPathToBaseUrl(String.format("users/%s", 
-                encodeUrlComponent(userStringifier.toString(user))
-            )
-        );
+        var url = createUrl(userRoute, encodeUser(user));
         sendDeleteRequest(url);
     }
 
@@ -209,10 +263,7 @@ public class AccessManagerClient<TUser, TGroup, TComponent, TAccess>
     @Override
     public void addGroup(TGroup group) throws IOException, InterruptedException {
 
-        var url = appendPathToBaseUrl(String.format("groups/%s", 
-                encodeUrlComponent(groupStringifier.toString(group))
-            )
-        );
+        var url = createUrl(groupRoute, encodeGroup(group));
         sendPostRequest(url);
     }
 
@@ -226,10 +277,7 @@ public class AccessManagerClient<TUser, TGroup, TComponent, TAccess>
     @Override
     public boolean containsGroup(TGroup group) throws IOException, InterruptedException {
         
-        var url = appendPathToBaseUrl(String.format("groups/%s",
-                encodeUrlComponent(groupStringifier.toString(group))
-            )
-        );
+        var url = createUrl(groupRoute, encodeGroup(group));
 
         return sendGetRequestForContainsMethod(url);
     }
@@ -244,10 +292,7 @@ public class AccessManagerClient<TUser, TGroup, TComponent, TAccess>
     @Override
     public void removeGroup(TGroup group) throws IOException, InterruptedException {
 
-        var url = appendPathToBaseUrl(String.format("groups/%s", 
-                encodeUrlComponent(groupStringifier.toString(group))
-            )
-        );
+        var url = createUrl(groupRoute, encodeGroup(group));
         sendDeleteRequest(url);
     }
 
@@ -261,10 +306,9 @@ public class AccessManagerClient<TUser, TGroup, TComponent, TAccess>
     @Override
     public void addUserToGroupMapping(TUser user, TGroup group) throws IOException, InterruptedException {
 
-        var url = appendPathToBaseUrl(String.format("userToGroupMappings/user/%s/group/%s", 
-                encodeUrlComponent(userStringifier.toString(user)), 
-                encodeUrlComponent(groupStringifier.toString(group))
-            )
+        var url = createUrl(userToGroupMappingRoute, 
+            encodeUser(user), 
+            encodeGroup(group)
         );
         sendPostRequest(url);
     }
@@ -279,16 +323,19 @@ public class AccessManagerClient<TUser, TGroup, TComponent, TAccess>
     @Override
     public List<TGroup> getUserToGroupMappings(TUser user, boolean includeIndirectMappings) throws IOException, InterruptedException {
 
-        var url = appendPathToBaseUrl(String.format("userToGroupMappings/user/%s?includeIndirectMappings=%s",
-                encodeUrlComponent(userStringifier.toString(user)), 
-                includeIndirectMappings
-            )
+        var url = createUrl(userToGroupMappingsByUserRoute, 
+            encodeUser(user), 
+            String.valueOf(includeIndirectMappings)
         );
-        ArrayList<UserAndGroup> rawResults = sendGetRequest(url, new TypeReference<ArrayList<UserAndGroup>>(){});
+        if (parallelConversionThreshold > 0) {
+            var rawResults = new ArrayList<String>();
+            sendCoalescedGetRequestForArray(url, UserAndGroup.class, (UserAndGroup currentRawResult) -> rawResults.add(currentRawResult.Group));
+            return convertResults(rawResults, (String currentRawResult) -> groupStringifier.fromString(currentRawResult));
+        }
         var results = new ArrayList<TGroup>();
-        for (UserAndGroup currentRawResult : rawResults) {
+        sendCoalescedGetRequestForArray(url, UserAndGroup.class, (UserAndGroup currentRawResult) -> {
             results.add(groupStringifier.fromString(currentRawResult.Group));
-        }
+        });
 
         return results;
     }
@@ -303,20 +350,46 @@ public class AccessManagerClient<TUser, TGroup, TComponent, TAccess>
     @Override
     public List<TUser> getGroupToUserMappings(TGroup group, Boolean includeIndirectMappings) throws IOException, InterruptedException {
 
-        var url = appendPathToBaseUrl(String.format("userToGroupMappings/group/%s?includeIndirectMappings=%s",
-                encodeUrlComponent(groupStringifier.toString(group)), 
-                includeIndirectMappings
-            )
-        );
-        ArrayList<UserAndGroup> rawResults = sendGetRequest(url, new TypeReference<ArrayList<UserAndGroup>>(){});
-        var results = new ArrayList<TUser>();
-        for (UserAndGroup currentRawResult : rawResults) {
-            results.add(userStringifier.fromString(currentRawResult.User));
+        if (parallelConversionThreshold > 0) {
+            var url = createUrl(userToGroupMappingsByGroupRoute, 
+                encodeGroup(group), 
+                String.valueOf(includeIndirectMappings)
+            );
+            var rawResults = new ArrayList<String>();
+            sendGetRequestForArray(url, UserAndGroup.class, (UserAndGroup currentRawResult) -> rawResults.add(currentRawResult.User));
+            return convertResults(rawResults, (String currentRawResult) -> userStringifier.fromString(currentRawResult));
         }
+        var results = new ArrayList<TUser>();
+        getGroupToUserMappings(group, includeIndirectMappings, (TUser currentResult) -> results.add(currentResult));
 
         return results;
     }
 
+    /**
+     * Retrieves the users that are mapped to the specified group, passing each to the specified consumer as it is read from the response.
+     * <p>
+     * Results are converted as they are read from the response body, so they can be processed without holding the full collection in memory.
+     * </p>
+     * 
+     * @param group The group to retrieve the users for.
+     * @param includeIndirectMappings Whether to include indirect mappings (i.e. those where a user is mapped to the group via other groups).
+     * @param resultConsumer Accepts each result.
+     * @exception RuntimeException If a non-success response status was received.
+     * @exception RuntimeException If the response could not be deserialized to an object.
+     * @exception IOException If an I/O error occurs when sending or receiving, or the client has shut down.
+     * @exception InterruptedException If the operation is interrupted.
+     */
+    public void getGroupToUserMappings(TGroup group, Boolean includeIndirectMappings, Consumer<TUser> resultConsumer) throws IOException, InterruptedException {
+
+        var url = createUrl(userToGroupMappingsByGroupRoute, 
+            encodeGroup(group), 
+            String.valueOf(includeIndirectMappings)
+        );
+        sendGetRequestForArray(url, UserAndGroup.class, (UserAndGroup currentRawResult) -> {
+            resultConsumer.accept(userStringifier.fromString(currentRawResult.User));
+        });
+    }
+
     /**
      * @inheritDoc
      * @exception RuntimeException If a non-success response status was received.
@@ -327,10 +400,9 @@ public class AccessManagerClient<TUser, TGroup, TComponent, TAccess>
     @Override
     public void removeUserToGroupMapping(TUser user, TGroup group) throws IOException, InterruptedException {
 
-        var url = appendPathToBaseUrl(String.format("userToGroupMappings/user/%s/group/%s", 
-                encodeUrlComponent(userStringifier.toString(user)), 
-                encodeUrlComponent(groupStringifier.toString(group))
-            )
+        var url = createUrl(userToGroupMappingRoute, 
+            encodeUser(user), 
+            encodeGroup(group)
         );
         sendDeleteRequest(url);
     }
@@ -345,10 +417,9 @@ public class AccessManagerClient<TUser, TGroup, TComponent, TAccess>
     @Override
     public void addGroupToGroupMapping(TGroup fromGroup, TGroup toGroup) throws IOException, InterruptedException {
 
-        var url = appendPathToBaseUrl(String.format("groupToGroupMappings/fromGroup/%s/toGroup/%s", 
-                encodeUrlComponent(groupStringifier.toString(fromGroup)), 
-                encodeUrlComponent(groupStringifier.toString(toGroup))
-            )
+        var url = createUrl(groupToGroupMappingRoute, 
+            encodeGroup(fromGroup), 
+            encodeGroup(toGroup)
         );
         sendPostRequest(url);
     }
@@ -363,16 +434,19 @@ public class AccessManagerClient<TUser, TGroup, TComponent, TAccess>
     @Override
     public List<TGroup> getGroupToGroupMappings(TGroup group, boolean includeIndirectMappings) throws IOException, InterruptedException {
 
-        var url = appendPathToBaseUrl(String.format("groupToGroupMappings/group/%s?includeIndirectMappings=%s",
-                encodeUrlComponent(groupStringifier.toString(group)), 
-                includeIndirectMappings
-            )
+        var url = createUrl(groupToGroupMappingsByGroupRoute, 
+            encodeGroup(group), 
+            String.valueOf(includeIndirectMappings)
         );
-        ArrayList<FromGroupAndToGroup> rawResults = sendGetRequest(url, new TypeReference<ArrayList<FromGroupAndToGroup>>(){});
+        if (parallelConversionThreshold > 0) {
+            var rawResults = new ArrayList<String>();
+            sendGetRequestForArray(url, FromGroupAndToGroup.class, (FromGroupAndToGroup currentRawResult) -> rawResults.add(currentRawResult.ToGroup));
+            return convertResults(rawResults, (String currentRawResult) -> groupStringifier.fromString(currentRawResult));
+        }
         var results = new ArrayList<TGroup>();
-        for (FromGroupAndToGroup currentRawResult : rawResults) {
+        sendGetRequestForArray(url, FromGroupAndToGroup.class, (FromGroupAndToGroup currentRawResult) -> {
             results.add(groupStringifier.fromString(currentRawResult.ToGroup));
-        }
+        });
 
         return results;
     }
@@ -387,16 +461,19 @@ public class AccessManagerClient<TUser, TGroup, TComponent, TAccess>
     @Override
     public List<TGroup> getGroupToGroupReverseMappings(TGroup group, Boolean includeIndirectMappings) throws IOException, InterruptedException {
 
-        var url = appendPathToBaseUrl(String.format("groupToGroupReverseMappings/group/%s?includeIndirectMappings=%s",
-                encodeUrlComponent(groupStringifier.toString(group)), 
-                includeIndirectMappings
-            )
+        var url = createUrl(groupToGroupReverseMappingsByGroupRoute, 
+            encodeGroup(group), 
+            String.valueOf(includeIndirectMappings)
         );
-        ArrayList<FromGroupAndToGroup> rawResults = sendGetRequest(url, new TypeReference<ArrayList<FromGroupAndToGroup>>(){});
+        if (parallelConversionThreshold > 0) {
+            var rawResults = new ArrayList<String>();
+            sendGetRequestForArray(url, FromGroupAndToGroup.class, (FromGroupAndToGroup currentRawResult) -> rawResults.add(currentRawResult.FromGroup));
+            return convertResults(rawResults, (String currentRawResult) -> groupStringifier.fromString(currentRawResult));
+        }
         var results = new ArrayList<TGroup>();
-        for (FromGroupAndToGroup currentRawResult : rawResults) {
+        sendGetRequestForArray(url, FromGroupAndToGroup.class, (FromGroupAndToGroup currentRawResult) -> {
             results.add(groupStringifier.fromString(currentRawResult.FromGroup));
-        }
+        });
 
         return results;
     }
@@ -411,10 +488,9 @@ public class AccessManagerClient<TUser, TGroup, TComponent, TAccess>
     @Override
     public void removeGroupToGroupMapping(TGroup fromGroup, TGroup toGroup) throws IOException, InterruptedException {
 
-        var url = appendPathToBaseUrl(String.format("groupToGroupMappings/fromGroup/%s/toGroup/%s", 
-                encodeUrlComponent(groupStringifier.toString(fromGroup)), 
-                encodeUrlComponent(groupStringifier.toString(toGroup))
-            )
+        var url = createUrl(groupToGroupMappingRoute, 
+            encodeGroup(fromGroup), 
+            encodeGroup(toGroup)
         );
         sendDeleteRequest(url);
     }
@@ -429,11 +505,10 @@ public class AccessManagerClient<TUser, TGroup, TComponent, TAccess>
     @Override
     public void addUserToApplicationComponentAndAccessLevelMapping(TUser user, TComponent applicationComponent, TAccess accessLevel) throws IOException, InterruptedException {
 
-        var url = appendPathToBaseUrl(String.format("userToApplicationComponentAndAccessLevelMappings/user/%s/applicationComponent/%s/accessLevel/%s", 
-                encodeUrlComponent(userStringifier.toString(user)), 
-                encodeUrlComponent(applicationComponentStringifier.toString(applicationComponent)), 
-                encodeUrlComponent(accessLevelStringifier.toString(accessLevel))
-            )
+        var url = createUrl(userToApplicationComponentAndAccessLevelMappingRoute, 
+            encodeUser(user), 
+            encodeApplicationComponent(applicationComponent), 
+            encodeAccessLevel(accessLevel)
         );
         sendPostRequest(url);
     }
@@ -448,18 +523,9 @@ public class AccessManagerClient<TUser, TGroup, TComponent, TAccess>
     @Override
     public List<ApplicationComponentAndAccessLevel<TComponent, TAccess>> getUserToApplicationComponentAndAccessLevelMappings(TUser user) throws IOException, InterruptedException {
 
-        var url = appendPathToBaseUrl(String.format("userToApplicationComponentAndAccessLevelMappings/user/%s?includeIndirectMappings=false",
-                encodeUrlComponent(userStringifier.toString(user))
-            )
-        );
-        ArrayList<net.alastairwyse.applicationaccessclient.models.datatransferobjects.UserAndApplicationComponentAndAccessLevel> rawResults = sendGetRequest(url, new TypeReference<ArrayList<net.alastairwyse.applicationaccessclient.models.datatransferobjects.UserAndApplicationComponentAndAccessLevel>>(){});
+        var url = createUrl(userToApplicationComponentAndAccessLevelMappingsByUserRoute, encodeUser(user));
         var results = new ArrayList<ApplicationComponentAndAccessLevel<TComponent, TAccess>>();
-        for (var currentRawResult : rawResults) {
-            results.add(new ApplicationComponentAndAccessLevel<TComponent,TAccess>(
-                applicationComponentStringifier.fromString(currentRawResult.ApplicationComponent), 
-                accessLevelStringifier.fromString(currentRawResult.AccessLevel)
-            ));
-        }
+        sendGetRequestForArray(url, applicationComponentAndAccessLevelMapper, (ApplicationComponentAndAccessLevel<TComponent, TAccess> currentResult) -> results.add(currentResult));
 
         return results;
     }
@@ -474,17 +540,20 @@ public class AccessManagerClient<TUser, TGroup, TComponent, TAccess>
     @Override
     public List<TUser> getApplicationComponentAndAccessLevelToUserMappings(TComponent applicationComponent, TAccess accessLevel, Boolean includeIndirectMappings) throws IOException, InterruptedException {
 
-        var url = appendPathToBaseUrl(String.format("userToApplicationComponentAndAccessLevelMappings/applicationComponent/%s/accessLevel/%s?includeIndirectMappings=%s",
-                encodeUrlComponent(applicationComponentStringifier.toString(applicationComponent)), 
-                encodeUrlComponent(accessLevelStringifier.toString(accessLevel)), 
-                includeIndirectMappings
-            )
+        var url = createUrl(userToApplicationComponentAndAccessLevelMappingsByApplicationComponentAndAccessLevelRoute, 
+            encodeApplicationComponent(applicationComponent), 
+            encodeAccessLevel(accessLevel), 
+            String.valueOf(includeIndirectMappings)
         );
-        ArrayList<net.alastairwyse.applicationaccessclient.models.datatransferobjects.UserAndApplicationComponentAndAccessLevel> rawResults = sendGetRequest(url, new TypeReference<ArrayList<net.alastairwyse.applicationaccessclient.models.datatransferobjects.UserAndApplicationComponentAndAccessLevel>>(){});
+        if (parallelConversionThreshold > 0) {
+            var rawResults = new ArrayList<String>();
+            sendGetRequestForArray(url, net.alastairwyse.applicationaccessclient.models.datatransferobjects.UserAndApplicationComponentAndAccessLevel.class, (net.alastairwyse.applicationaccessclient.models.datatransferobjects.UserAndApplicationComponentAndAccessLevel currentRawResult) -> rawResults.add(currentRawResult.User));
+            return convertResults(rawResults, (String currentRawResult) -> userStringifier.fromString(currentRawResult));
+        }
         var results = new ArrayList<TUser>();
-        for (var currentRawResult : rawResults) {
+        sendGetRequestForArray(url, net.alastairwyse.applicationaccessclient.models.datatransferobjects.UserAndApplicationComponentAndAccessLevel.class, (net.alastairwyse.applicationaccessclient.models.datatransferobjects.UserAndApplicationComponentAndAccessLevel currentRawResult) -> {
             results.add(userStringifier.fromString(currentRawResult.User));
-        }
+        });
 
         return results;
     }
@@ -499,11 +568,10 @@ public class AccessManagerClient<TUser, TGroup, TComponent, TAccess>
     @Override
     public void removeUserToApplicationComponentAndAccessLevelMapping(TUser user, TComponent applicationComponent, TAccess accessLevel) throws IOException, InterruptedException {
         
-        var url = appendPathToBaseUrl(String.format("userToApplicationComponentAndAccessLevelMappings/user/%s/applicationComponent/%s/accessLevel/%s", 
-                encodeUrlComponent(userStringifier.toString(user)), 
-                encodeUrlComponent(applicationComponentStringifier.toString(applicationComponent)), 
-                encodeUrlComponent(accessLevelStringifier.toString(accessLevel))
-            )
+        var url = createUrl(userToApplicationComponentAndAccessLevelMappingRoute, 
+            encodeUser(user), 
+            encodeApplicationComponent(applicationComponent), 
+            encodeAccessLevel(accessLevel)
         );
         sendDeleteRequest(url);
     }
@@ -518,11 +586,10 @@ public class AccessManagerClient<TUser, TGroup, TComponent, TAccess>
     @Override
     public void addGroupToApplicationComponentAndAccessLevelMapping(TGroup group, TComponent applicationComponent, TAccess accessLevel) throws IOException, InterruptedException {
 
-        var url = appendPathToBaseUrl(String.format("groupToApplicationComponentAndAccessLevelMappings/group/%s/applicationComponent/%s/accessLevel/%s", 
-                encodeUrlComponent(groupStringifier.toString(group)), 
-                encodeUrlComponent(applicationComponentStringifier.toString(applicationComponent)), 
-                encodeUrlComponent(accessLevelStringifier.toString(accessLevel))
-            )
+        var url = createUrl(groupToApplicationComponentAndAccessLevelMappingRoute, 
+            encodeGroup(group), 
+            encodeApplicationComponent(applicationComponent), 
+            encodeAccessLevel(accessLevel)
         );
         sendPostRequest(url);
     }
@@ -537,18 +604,9 @@ public class AccessManagerClient<TUser, TGroup, TComponent, TAccess>
     @Override
     public List<ApplicationComponentAndAccessLevel<TComponent, TAccess>> getGroupToApplicationComponentAndAccessLevelMappings(TGroup group) throws IOException, InterruptedException {
         
-        var url = appendPathToBaseUrl(String.format("groupToApplicationComponentAndAccessLevelMappings/group/%s?includeIndirectMappings=false",
-                encodeUrlComponent(groupStringifier.toString(group))
-            )
-        );
-        ArrayList<net.alastairwyse.applicationaccessclient.models.datatransferobjects.GroupAndApplicationComponentAndAccessLevel> rawResults = sendGetRequest(url, new TypeReference<ArrayList<net.alastairwyse.applicationaccessclient.models.datatransferobjects.GroupAndApplicationComponentAndAccessLevel>>(){});
+        var url = createUrl(groupToApplicationComponentAndAccessLevelMappingsByGroupRoute, encodeGroup(group));
         var results = new ArrayList<ApplicationComponentAndAccessLevel<TComponent, TAccess>>();
-        for (var currentRawResult : rawResults) {
-            results.add(new ApplicationComponentAndAccessLevel<TComponent,TAccess>(
-                applicationComponentStringifier.fromString(currentRawResult.ApplicationComponent), 
-                accessLevelStringifier.fromString(currentRawResult.AccessLevel)
-            ));
-        }
+        sendGetRequestForArray(url, applicationComponentAndAccessLevelMapper, (ApplicationComponentAndAccessLevel<TComponent, TAccess> currentResult) -> results.add(currentResult));
 
         return results;
     }
@@ -563,17 +621,20 @@ public class AccessManagerClient<TUser, TGroup, TComponent, TAccess>
     @Override
     public List<TGroup> getApplicationComponentAndAccessLevelToGroupMappings(TComponent applicationComponent, TAccess accessLevel, Boolean includeIndirectMappings) throws IOException, InterruptedException {
 
-        var url = appendPathToBaseUrl(String.format("groupToApplicationComponentAndAccessLevelMappings/applicationComponent/%s/accessLevel/%s?includeIndirectMappings=%s",
-                encodeUrlComponent(applicationComponentStringifier.toString(applicationComponent)), 
-                encodeUrlComponent(accessLevelStringifier.toString(accessLevel)), 
-                includeIndirectMappings
-            )
+        var url = createUrl(groupToApplicationComponentAndAccessLevelMappingsByApplicationComponentAndAccessLevelRoute, 
+            encodeApplicationComponent(applicationComponent), 
+            encodeAccessLevel(accessLevel), 
+            String.valueOf(includeIndirectMappings)
         );
-        ArrayList<net.alastairwyse.applicationaccessclient.models.datatransferobjects.GroupAndApplicationComponentAndAccessLevel> rawResults = sendGetRequest(url, new TypeReference<ArrayList<net.alastairwyse.applicationaccessclient.models.datatransferobjects.GroupAndApplicationComponentAndAccessLevel>>(){});
+        if (parallelConversionThreshold > 0) {
+            var rawResults = new ArrayList<String>();
+            sendGetRequestForArray(url, net.alastairwyse.applicationaccessclient.models.datatransferobjects.GroupAndApplicationComponentAndAccessLevel.class, (net.alastairwyse.applicationaccessclient.models.datatransferobjects.GroupAndApplicationComponentAndAccessLevel currentRawResult) -> rawResults.add(currentRawResult.Group));
+            return convertResults(rawResults, (String currentRawResult) -> groupStringifier.fromString(currentRawResult));
+        }
         var results = new ArrayList<TGroup>();
-        for (var currentRawResult : rawResults) {
+        sendGetRequestForArray(url, net.alastairwyse.applicationaccessclient.models.datatransferobjects.GroupAndApplicationComponentAndAccessLevel.class, (net.alastairwyse.applicationaccessclient.models.datatransferobjects.GroupAndApplicationComponentAndAccessLevel currentRawResult) -> {
             results.add(groupStringifier.fromString(currentRawResult.Group));
-        }
+        });
 
         return results;
     }
@@ -588,11 +649,10 @@ public class AccessManagerClient<TUser, TGroup, TComponent, TAccess>
     @Override
     public void removeGroupToApplicationComponentAndAccessLevelMapping(TGroup group, TComponent applicationComponent, TAccess accessLevel) throws IOException, InterruptedException {
 
-        var url = appendPathToBaseUrl(String.format("groupToApplicationComponentAndAccessLevelMappings/group/%s/applicationComponent/%s/accessLevel/%s", 
-                encodeUrlComponent(groupStringifier.toString(group)), 
-                encodeUrlComponent(applicationComponentStringifier.toString(applicationComponent)), 
-                encodeUrlComponent(accessLevelStringifier.toString(accessLevel))
-            )
+        var url = createUrl(groupToApplicationComponentAndAccessLevelMappingRoute, 
+            encodeGroup(group), 
+            encodeApplicationComponent(applicationComponent), 
+            encodeAccessLevel(accessLevel)
         );
         sendDeleteRequest(url);
     }
@@ -607,10 +667,7 @@ public class AccessManagerClient<TUser, TGroup, TComponent, TAccess>
     @Override
     public void addEntityType(String entityType) throws IOException, InterruptedException {
 
-        var url = appendPathToBaseUrl(String.format("entityTypes/%s", 
-                encodeUrlComponent(entityType)
-            )
-        );
+        var url = createUrl(entityTypeRoute, encodeUrlComponent(entityType));
         sendPostRequest(url);
     }
 
@@ -624,10 +681,7 @@ public class AccessManagerClient<TUser, TGroup, TComponent, TAccess>
     @Override
     public boolean containsEntityType(String entityType) throws IOException, InterruptedException {
         
-        var url = appendPathToBaseUrl(String.format("entityTypes/%s",
-                encodeUrlComponent(entityType)
-            )
-        );
+        var url = createUrl(entityTypeRoute, encodeUrlComponent(entityType));
 
         return sendGetRequestForContainsMethod(url);
     }
@@ -642,10 +696,7 @@ public class AccessManagerClient<TUser, TGroup, TComponent, TAccess>
     @Override
     public void removeEntityType(String entityType) throws IOException, InterruptedException {
 
-        var url = appendPathToBaseUrl(String.format("entityTypes/%s", 
-                encodeUrlComponent(entityType)
-            )
-        );
+        var url = createUrl(entityTypeRoute, encodeUrlComponent(entityType));
         sendDeleteRequest(url);
     }
 
@@ -659,10 +710,9 @@ public class AccessManagerClient<TUser, TGroup, TComponent, TAccess>
     @Override
     public void addEntity(String entityType, String entity) throws IOException, InterruptedException {
 
-        var url = appendPathToBaseUrl(String.format("entityTypes/%s/entities/%s", 
-                encodeUrlComponent(entityType), 
-                encodeUrlComponent(entity)
-            )
+        var url = createUrl(entityRoute, 
+            encodeUrlComponent(entityType), 
+            encodeUrlComponent(entity)
         );
         sendPostRequest(url);
     }
@@ -677,19 +727,33 @@ public class AccessManagerClient<TUser, TGroup, TComponent, TAccess>
     @Override
     public List<String> getEntities(String entityType) throws IOException, InterruptedException {
 
-        var url = appendPathToBaseUrl(String.format("entityTypes/%s/entities", 
-                encodeUrlComponent(entityType)
-            )
-        );
-        ArrayList<net.alastairwyse.applicationaccessclient.models.datatransferobjects.EntityTypeAndEntity> rawResults = sendGetRequest(url, new TypeReference<ArrayList<net.alastairwyse.applicationaccessclient.models.datatransferobjects.EntityTypeAndEntity>>(){});
         var results = new ArrayList<String>();
-        for (var currentRawResult : rawResults) {
-            results.add(currentRawResult.Entity);
-        }
+        getEntities(entityType, (String currentResult) -> results.add(currentResult));
 
         return results;
     }
 
+    /**
+     * Retrieves all entities of the specified type, passing each to the specified consumer as it is read from the response.
+     * <p>
+     * Results are converted as they are read from the response body, so they can be processed without holding the full collection in memory.
+     * </p>
+     * 
+     * @param entityType The type of the entity.
+     * @param resultConsumer Accepts each result.
+     * @exception RuntimeException If a non-success response status was received.
+     * @exception RuntimeException If the response could not be deserialized to an object.
+     * @exception IOException If an I/O error occurs when sending or receiving, or the client has shut down.
+     * @exception InterruptedException If the operation is interrupted.
+     */
+    public void getEntities(String entityType, Consumer<String> resultConsumer) throws IOException, InterruptedException {
+
+        var url = createUrl(entitiesRoute, encodeUrlComponent(entityType));
+        sendGetRequestForArray(url, net.alastairwyse.applicationaccessclient.models.datatransferobjects.EntityTypeAndEntity.class, (net.alastairwyse.applicationaccessclient.models.datatransferobjects.EntityTypeAndEntity currentRawResult) -> {
+            resultConsumer.accept(currentRawResult.Entity);
+        });
+    }
+
     /**
      * @inheritDoc
      * @exception RuntimeException If a non-success response status was received.
@@ -700,10 +764,9 @@ public class AccessManagerClient<TUser, TGroup, TComponent, TAccess>
     @Override
     public boolean containsEntity(String entityType, String entity) throws IOException, InterruptedException {
         
-        var url = appendPathToBaseUrl(String.format("entityTypes/%s/entities/%s",
-                encodeUrlComponent(entityType), 
-                encodeUrlComponent(entity)
-            )
+        var url = createUrl(entityRoute, 
+            encodeUrlComponent(entityType), 
+            encodeUrlComponent(entity)
         );
 
         return sendGetRequestForContainsMethod(url);
@@ -719,10 +782,9 @@ public class AccessManagerClient<TUser, TGroup, TComponent, TAccess>
     @Override
     public void removeEntity(String entityType, String entity) throws IOException, InterruptedException {
 
-        var url = appendPathToBaseUrl(String.format("entityTypes/%s/entities/%s", 
-                encodeUrlComponent(entityType), 
-                encodeUrlComponent(entity)
-            )
+        var url = createUrl(entityRoute, 
+            encodeUrlComponent(entityType), 
+            encodeUrlComponent(entity)
         );
         sendDeleteRequest(url);
     }
@@ -737,11 +799,10 @@ public class AccessManagerClient<TUser, TGroup, TComponent, TAccess>
     @Override
     public void addUserToEntityMapping(TUser user, String entityType, String entity) throws IOException, InterruptedException {
 
-        var url = appendPathToBaseUrl(String.format("userToEntityMappings/user/%s/entityType/%s/entity/%s", 
-                encodeUrlComponent(userStringifier.toString(user)), 
-                encodeUrlComponent(entityType), 
-                encodeUrlComponent(entity)
-            )
+        var url = createUrl(userToEntityMappingRoute, 
+            encodeUser(user), 
+            encodeUrlComponent(entityType), 
+            encodeUrlComponent(entity)
         );
         sendPostRequest(url);
     }
@@ -756,18 +817,9 @@ public class AccessManagerClient<TUser, TGroup, TComponent, TAccess>
     @Override
     public List<EntityTypeAndEntity> getUserToEntityMappings(TUser user) throws IOException, InterruptedException {
 
-        var url = appendPathToBaseUrl(String.format("userToEntityMappings/user/%s?includeIndirectMappings=false",
-                encodeUrlComponent(userStringifier.toString(user))
-            )
-        );
-        ArrayList<net.alastairwyse.applicationaccessclient.models.datatransferobjects.UserAndEntity> rawResults = sendGetRequest(url, new TypeReference<ArrayList<net.alastairwyse.applicationaccessclient.models.datatransferobjects.UserAndEntity>>(){});
+        var url = createUrl(userToEntityMappingsByUserRoute, encodeUser(user));
         var results = new ArrayList<EntityTypeAndEntity>();
-        for (var currentRawResult : rawResults) {
-            results.add(new EntityTypeAndEntity(
-                currentRawResult.EntityType, 
-                currentRawResult.Entity
-            ));
-        }
+        sendGetRequestForArray(url, entityTypeAndEntityMapper, (EntityTypeAndEntity currentResult) -> results.add(currentResult));
 
         return results;
     }
@@ -782,16 +834,14 @@ public class AccessManagerClient<TUser, TGroup, TComponent, TAccess>
     @Override
     public List<String> getUserToEntityMappings(TUser user, String entityType) throws IOException, InterruptedException {
 
-        var url = appendPathToBaseUrl(String.format("userToEntityMappings/user/%s/entityType/%s?includeIndirectMappings=false",
-                encodeUrlComponent(userStringifier.toString(user)), 
-                encodeUrlComponent(entityType)
-            )
+        var url = createUrl(userToEntityMappingsByUserAndEntityTypeRoute, 
+            encodeUser(user), 
+            encodeUrlComponent(entityType)
         );
-        ArrayList<net.alastairwyse.applicationaccessclient.models.datatransferobjects.UserAndEntity> rawResults = sendGetRequest(url, new TypeReference<ArrayList<net.alastairwyse.applicationaccessclient.models.datatransferobjects.UserAndEntity>>(){});
         var results = new ArrayList<String>();
-        for (var currentRawResult : rawResults) {
+        sendGetRequestForArray(url, net.alastairwyse.applicationaccessclient.models.datatransferobjects.UserAndEntity.class, (net.alastairwyse.applicationaccessclient.models.datatransferobjects.UserAndEntity currentRawResult) -> {
             results.add(currentRawResult.Entity);
-        }
+        });
 
         return results;
     }
@@ -806,21 +856,49 @@ public class AccessManagerClient<TUser, TGroup, TComponent, TAccess>
     @Override
     public List<TUser> getEntityToUserMappings(String entityType, String entity, Boolean includeIndirectMappings) throws IOException, InterruptedException {
 
-        var url = appendPathToBaseUrl(String.format("userToEntityMappings/entityType/%s/entity/%s?includeIndirectMappings=%s",
+        if (parallelConversionThreshold > 0) {
+            var url = createUrl(userToEntityMappingsByEntityTypeAndEntityRoute, 
                 encodeUrlComponent(entityType), 
                 encodeUrlComponent(entity), 
-                includeIndirectMappings
-            )
-        );
-        ArrayList<net.alastairwyse.applicationaccessclient.models.datatransferobjects.UserAndEntity> rawResults = sendGetRequest(url, new TypeReference<ArrayList<net.alastairwyse.applicationaccessclient.models.datatransferobjects.UserAndEntity>>(){});
-        var results = new ArrayList<TUser>();
-        for (var currentRawResult : rawResults) {
-            results.add(userStringifier.fromString(currentRawResult.User));
+                String.valueOf(includeIndirectMappings)
+            );
+            var rawResults = new ArrayList<String>();
+            sendGetRequestForArray(url, net.alastairwyse.applicationaccessclient.models.datatransferobjects.UserAndEntity.class, (net.alastairwyse.applicationaccessclient.models.datatransferobjects.UserAndEntity currentRawResult) -> rawResults.add(currentRawResult.User));
+            return convertResults(rawResults, (String currentRawResult) -> userStringifier.fromString(currentRawResult));
         }
+        var results = new ArrayList<TUser>();
+        getEntityToUserMappings(entityType, entity, includeIndirectMappings, (TUser currentResult) -> results.add(currentResult));
 
         return results;
     }
 
+    /**
+     * Retrieves the users that are mapped to the specified entity, passing each to the specified consumer as it is read from the response.
+     * <p>
+     * Results are converted as they are read from the response body, so they can be processed without holding the full collection in memory.
+     * </p>
+     * 
+     * @param entityType The entity type to retrieve the mappings for.
+     * @param entity The entity to retrieve the mappings for.
+     * @param includeIndirectMappings Whether to include indirect mappings (i.e. those where a user is mapped to the entity via groups).
+     * @param resultConsumer Accepts each result.
+     * @exception RuntimeException If a non-success response status was received.
+     * @exception RuntimeException If the response could not be deserialized to an object.
+     * @exception IOException If an I/O error occurs when sending or receiving, or the client has shut down.
+     * @exception InterruptedException If the operation is interrupted.
+     */
+    public void getEntityToUserMappings(String entityType, String entity, Boolean includeIndirectMappings, Consumer<TUser> resultConsumer) throws IOException, InterruptedException {
+
+        var url = createUrl(userToEntityMappingsByEntityTypeAndEntityRoute, 
+            encodeUrlComponent(entityType), 
+            encodeUrlComponent(entity), 
+            String.valueOf(includeIndirectMappings)
+        );
+        sendGetRequestForArray(url, net.alastairwyse.applicationaccessclient.models.datatransferobjects.UserAndEntity.class, (net.alastairwyse.applicationaccessclient.models.datatransferobjects.UserAndEntity currentRawResult) -> {
+            resultConsumer.accept(userStringifier.fromString(currentRawResult.User));
+        });
+    }
+
     /**
      * @inheritDoc
      * @exception RuntimeException If a non-success response status was received.
@@ -831,11 +909,10 @@ public class AccessManagerClient<TUser, TGroup, TComponent, TAccess>
     @Override
     public void removeUserToEntityMapping(TUser user, String entityType, String entity) throws IOException, InterruptedException {
 
-        var url = appendPathToBaseUrl(String.format("userToEntityMappings/user/%s/entityType/%s/entity/%s", 
-                encodeUrlComponent(userStringifier.toString(user)), 
-                encodeUrlComponent(entityType), 
-                encodeUrlComponent(entity)
-            )
+        var url = createUrl(userToEntityMappingRoute, 
+            encodeUser(user), 
+            encodeUrlComponent(entityType), 
+            encodeUrlComponent(entity)
         );
         sendDeleteRequest(url);
     }
@@ -850,11 +927,10 @@ public class AccessManagerClient<TUser, TGroup, TComponent, TAccess>
     @Override
     public void addGroupToEntityMapping(TGroup group, String entityType, String entity) throws IOException, InterruptedException {
 
-        var url = appendPathToBaseUrl(String.format("groupToEntityMappings/group/%s/entityType/%s/entity/%s", 
-                encodeUrlComponent(groupStringifier.toString(group)), 
-                encodeUrlComponent(entityType), 
-                encodeUrlComponent(entity)
-            )
+        var url = createUrl(groupToEntityMappingRoute, 
+            encodeGroup(group), 
+            encodeUrlComponent(entityType), 
+            encodeUrlComponent(entity)
         );
         sendPostRequest(url);
     }
@@ -869,18 +945,9 @@ public class AccessManagerClient<TUser, TGroup, TComponent, TAccess>
     @Override
     public List<EntityTypeAndEntity> getGroupToEntityMappings(TGroup group) throws IOException, InterruptedException {
 
-        var url = appendPathToBaseUrl(String.format("groupToEntityMappings/group/%s?includeIndirectMappings=false",
-                encodeUrlComponent(groupStringifier.toString(group))
-            )
-        );
-        ArrayList<net.alastairwyse.applicationaccessclient.models.datatransferobjects.GroupAndEntity> rawResults = sendGetRequest(url, new TypeReference<ArrayList<net.alastairwyse.applicationaccessclient.models.datatransferobjects.GroupAndEntity>>(){});
+        var url = createUrl(groupToEntityMappingsByGroupRoute, encodeGroup(group));
         var results = new ArrayList<EntityTypeAndEntity>();
-        for (var currentRawResult : rawResults) {
-            results.add(new EntityTypeAndEntity(
-                currentRawResult.EntityType, 
-                currentRawResult.Entity
-            ));
-        }
+        sendGetRequestForArray(url, entityTypeAndEntityMapper, (EntityTypeAndEntity currentResult) -> results.add(currentResult));
 
         return results;
     }
@@ -895,16 +962,14 @@ public class AccessManagerClient<TUser, TGroup, TComponent, TAccess>
     @Override
     public List<String> getGroupToEntityMappings(TGroup group, String entityType) throws IOException, InterruptedException {
 
-        var url = appendPathToBaseUrl(String.format("groupToEntityMappings/group/%s/entityType/%s?includeIndirectMappings=false",
-                encodeUrlComponent(groupStringifier.toString(group)), 
-                encodeUrlComponent(entityType)
-            )
+        var url = createUrl(groupToEntityMappingsByGroupAndEntityTypeRoute, 
+            encodeGroup(group), 
+            encodeUrlComponent(entityType)
         );
-        ArrayList<net.alastairwyse.applicationaccessclient.models.datatransferobjects.GroupAndEntity> rawResults = sendGetRequest(url, new TypeReference<ArrayList<net.alastairwyse.applicationaccessclient.models.datatransferobjects.GroupAndEntity>>(){});
         var results = new ArrayList<String>();
-        for (var currentRawResult : rawResults) {
+        sendGetRequestForArray(url, net.alastairwyse.applicationaccessclient.models.datatransferobjects.GroupAndEntity.class, (net.alastairwyse.applicationaccessclient.models.datatransferobjects.GroupAndEntity currentRawResult) -> {
             results.add(currentRawResult.Entity);
-        }
+        });
 
         return results;
     }
@@ -919,21 +984,49 @@ public class AccessManagerClient<TUser, TGroup, TComponent, TAccess>
     @Override
     public List<TGroup> getEntityToGroupMappings(String entityType, String entity, Boolean includeIndirectMappings) throws IOException, InterruptedException {
 
-        var url = appendPathToBaseUrl(String.format("groupToEntityMappings/entityType/%s/entity/%s?includeIndirectMappings=%s",
+        if (parallelConversionThreshold > 0) {
+            var url = createUrl(groupToEntityMappingsByEntityTypeAndEntityRoute, 
                 encodeUrlComponent(entityType), 
                 encodeUrlComponent(entity), 
-                includeIndirectMappings
-            )
-        );
-        ArrayList<net.alastairwyse.applicationaccessclient.models.datatransferobjects.GroupAndEntity> rawResults = sendGetRequest(url, new TypeReference<ArrayList<net.alastairwyse.applicationaccessclient.models.datatransferobjects.GroupAndEntity>>(){});
-        var results = new ArrayList<TGroup>();
-        for (var currentRawResult : rawResults) {
-            results.add(groupStringifier.fromString(currentRawResult.Group));
+                String.valueOf(includeIndirectMappings)
+            );
+            var rawResults = new ArrayList<String>();
+            sendGetRequestForArray(url, net.alastairwyse.applicationaccessclient.models.datatransferobjects.GroupAndEntity.class, (net.alastairwyse.applicationaccessclient.models.datatransferobjects.GroupAndEntity currentRawResult) -> rawResults.add(currentRawResult.Group));
+            return convertResults(rawResults, (String currentRawResult) -> groupStringifier.fromString(currentRawResult));
         }
+        var results = new ArrayList<TGroup>();
+        getEntityToGroupMappings(entityType, entity, includeIndirectMappings, (TGroup currentResult) -> results.add(currentResult));
 
         return results;
     }
 
+    /**
+     * Retrieves the groups that are mapped to the specified entity, passing each to the specified consumer as it is read from the response.
+     * <p>
+     * Results are converted as they are read from the response body, so they can be processed without holding the full collection in memory.
+     * </p>
+     * 
+     * @param entityType The entity type to retrieve the mappings for.
+     * @param entity The entity to retrieve the mappings for.
+     * @param includeIndirectMappings Whether to include indirect mappings (i.e. those where a group is mapped to the entity via other groups).
+     * @param resultConsumer Accepts each result.
+     * @exception RuntimeException If a non-success response status was received.
+     * @exception RuntimeException If the response could not be deserialized to an object.
+     * @exception IOException If an I/O error occurs when sending or receiving, or the client has shut down.
+     * @exception InterruptedException If the operation is interrupted.
+     */
+    public void getEntityToGroupMappings(String entityType, String entity, Boolean includeIndirectMappings, Consumer<TGroup> resultConsumer) throws IOException, InterruptedException {
+
+        var url = createUrl(groupToEntityMappingsByEntityTypeAndEntityRoute, 
+            encodeUrlComponent(entityType), 
+            encodeUrlComponent(entity), 
+            String.valueOf(includeIndirectMappings)
+        );
+        sendGetRequestForArray(url, net.alastairwyse.applicationaccessclient.models.datatransferobjects.GroupAndEntity.class, (net.alastairwyse.applicationaccessclient.models.datatransferobjects.GroupAndEntity currentRawResult) -> {
+            resultConsumer.accept(groupStringifier.fromString(currentRawResult.Group));
+        });
+    }
+
     /**
      * @inheritDoc
      * @exception RuntimeException If a non-success response status was received.
@@ -944,11 +1037,10 @@ public class AccessManagerClient<TUser, TGroup, TComponent, TAccess>
     @Override
     public void removeGroupToEntityMapping(TGroup group, String entityType, String entity) throws IOException, InterruptedException {
 
-        var url = appendPathToBaseUrl(String.format("groupToEntityMappings/group/%s/entityType/%s/entity/%s", 
-                encodeUrlComponent(groupStringifier.toString(group)), 
-                encodeUrlComponent(entityType), 
-                encodeUrlComponent(entity)
-            )
+        var url = createUrl(groupToEntityMappingRoute, 
+            encodeGroup(group), 
+            encodeUrlComponent(entityType), 
+            encodeUrlComponent(entity)
         );
         sendDeleteRequest(url);
     }
@@ -963,15 +1055,9 @@ public class AccessManagerClient<TUser, TGroup, TComponent, TAccess>
     @Override
     public boolean hasAccessToApplicationComponent(TUser user, TComponent applicationComponent, TAccess accessLevel) throws IOException, InterruptedException {
 
-        var url = appendPathToBaseUrl(String.format("dataElementAccess/applicationComponent/user/%s/applicationComponent/%s/accessLevel/%s",
-                encodeUrlComponent(userStringifier.toString(user)), 
-                encodeUrlComponent(applicationComponentStringifier.toString(applicationComponent)), 
-                encodeUrlComponent(accessLevelStringifier.toString(accessLevel))
-            )
-        );
-        Boolean result = sendGetRequest(url, new TypeReference<Boolean>(){});
+        var url = createHasAccessToApplicationComponentUrl(user, applicationComponent, accessLevel);
 
-        return result;
+        return sendGetRequestForBoolean(url);
     }
 
     /**
@@ -984,15 +1070,80 @@ public class AccessManagerClient<TUser, TGroup, TComponent, TAccess>
     @Override
     public boolean hasAccessToEntity(TUser user, String entityType, String entity) throws IOException, InterruptedException {
 
-        var url = appendPathToBaseUrl(String.format("dataElementAccess/entity/user/%s/entityType/%s/entity/%s",
-                encodeUrlComponent(userStringifier.toString(user)), 
-                encodeUrlComponent(entityType), 
-                encodeUrlComponent(entity)
-            )
-        );
-        Boolean result = sendGetRequest(url, new TypeReference<Boolean>(){});
+        var url = createHasAccessToEntityUrl(user, entityType, entity);
 
-        return result;
+        return sendGetRequestForBoolean(url);
+    }
+
+    /**
+     * Checks whether the specified user has access to each of the specified application components at the specified access levels.
+     * <p>
+     * The individual checks are sent to the web API concurrently, with at most 'bulkRequestParallelism' checks in-flight at any time.
+     * </p>
+     * 
+     * @param user The user.
+     * @param applicationComponentsAndAccessLevels The application components and levels of access to check.
+     * @return A map from each of the specified application components and access levels to whether the user has access.
+     * @exception RuntimeException If a non-success response status was received.
+     * @exception RuntimeException If the response could not be deserialized to an object.
+     * @exception IOException If an I/O error occurs when sending or receiving, or the client has shut down.
+     * @exception InterruptedException If the operation is interrupted.
+     */
+    public Map<ApplicationComponentAndAccessLevel<TComponent, TAccess>, Boolean> hasAccessToApplicationComponents(
+        TUser user, 
+        Collection<ApplicationComponentAndAccessLevel<TComponent, TAccess>> applicationComponentsAndAccessLevels
+    ) throws IOException, InterruptedException {
+
+        return awaitResult(executeWithBoundedParallelism(applicationComponentsAndAccessLevels, (ApplicationComponentAndAccessLevel<TComponent, TAccess> currentApplicationComponent) -> {
+            var url = createHasAccessToApplicationComponentUrl(user, currentApplicationComponent.getApplicationComponent(), currentApplicationComponent.getAccessLevel());
+            return sendGetRequestForBooleanAsync(url);
+        }));
+    }
+
+    /**
+     * Checks whether the specified user has access to each of the specified entities of a given type.
+     * <p>
+     * The individual checks are sent to the web API concurrently, with at most 'bulkRequestParallelism' checks in-flight at any time.
+     * </p>
+     * 
+     * @param user The user.
+     * @param entityType The type of the entities.
+     * @param entities The entities to check.
+     * @return A map from each of the specified entities to whether the user has access.
+     * @exception RuntimeException If a non-success response status was received.
+     * @exception RuntimeException If the response could not be deserialized to an object.
+     * @exception IOException If an I/O error occurs when sending or receiving, or the client has shut down.
+     * @exception InterruptedException If the operation is interrupted.
+     */
+    public Map<String, Boolean> hasAccessToEntities(TUser user, String entityType, Collection<String> entities) throws IOException, InterruptedException {
+
+        return awaitResult(executeWithBoundedParallelism(entities, (String currentEntity) -> {
+            var url = createHasAccessToEntityUrl(user, entityType, currentEntity);
+            return sendGetRequestForBooleanAsync(url);
+        }));
+    }
+
+    /**
+     * Checks whether each of the specified users has access to a given entity.
+     * <p>
+     * The individual checks are sent to the web API concurrently, with at most 'bulkRequestParallelism' checks in-flight at any time.
+     * </p>
+     * 
+     * @param users The users to check.
+     * @param entityType The type of the entity.
+     * @param entity The entity.
+     * @return A map from each of the specified users to whether the user has access.
+     * @exception RuntimeException If a non-success response status was received.
+     * @exception RuntimeException If the response could not be deserialized to an object.
+     * @exception IOException If an I/O error occurs when sending or receiving, or the client has shut down.
+     * @exception InterruptedException If the operation is interrupted.
+     */
+    public Map<TUser, Boolean> usersHaveAccessToEntity(Collection<TUser> users, String entityType, String entity) throws IOException, InterruptedException {
+
+        return awaitResult(executeWithBoundedParallelism(users, (TUser currentUser) -> {
+            var url = createHasAccessToEntityUrl(currentUser, entityType, entity);
+            return sendGetRequestForBooleanAsync(url);
+        }));
     }
 
     /**
@@ -1005,18 +1156,9 @@ public class AccessManagerClient<TUser, TGroup, TComponent, TAccess>
     @Override
     public Set<ApplicationComponentAndAccessLevel<TComponent, TAccess>> getApplicationComponentsAccessibleByUser(TUser user) throws IOException, InterruptedException {
 
-        var url = appendPathToBaseUrl(String.format("userToApplicationComponentAndAccessLevelMappings/user/%s?includeIndirectMappings=true",
-                encodeUrlComponent(userStringifier.toString(user))
-            )
-        );
-        ArrayList<net.alastairwyse.applicationaccessclient.models.datatransferobjects.UserAndApplicationComponentAndAccessLevel> rawResults = sendGetRequest(url, new TypeReference<ArrayList<net.alastairwyse.applicationaccessclient.models.datatransferobjects.UserAndApplicationComponentAndAccessLevel>>(){});
-        var results = new HashSet<ApplicationComponentAndAccessLevel<TComponent, TAccess>>();
-        for (var currentRawResult : rawResults) {
-            results.add(new ApplicationComponentAndAccessLevel<TComponent,TAccess>(
-                applicationComponentStringifier.fromString(currentRawResult.ApplicationComponent), 
-                accessLevelStringifier.fromString(currentRawResult.AccessLevel)
-            ));
-        }
+        var url = createUrl(userToApplicationComponentAndAccessLevelMappingsByUserIncludingIndirectRoute, encodeUser(user));
+        var results = createApplicationComponentAndAccessLevelSet();
+        sendCoalescedGetRequestForArray(url, applicationComponentAndAccessLevelMapper, (ApplicationComponentAndAccessLevel<TComponent, TAccess> currentResult) -> results.add(currentResult));
 
         return results;
     }
@@ -1031,18 +1173,9 @@ public class AccessManagerClient<TUser, TGroup, TComponent, TAccess>
     @Override
     public Set<ApplicationComponentAndAccessLevel<TComponent, TAccess>> getApplicationComponentsAccessibleByGroup(TGroup group) throws IOException, InterruptedException {
 
-        var url = appendPathToBaseUrl(String.format("groupToApplicationComponentAndAccessLevelMappings/group/%s?includeIndirectMappings=true",
-                encodeUrlComponent(groupStringifier.toString(group))
-            )
-        );
-        ArrayList<net.alastairwyse.applicationaccessclient.models.datatransferobjects.GroupAndApplicationComponentAndAccessLevel> rawResults = sendGetRequest(url, new TypeReference<ArrayList<net.alastairwyse.applicationaccessclient.models.datatransferobjects.GroupAndApplicationComponentAndAccessLevel>>(){});
-        var results = new HashSet<ApplicationComponentAndAccessLevel<TComponent, TAccess>>();
-        for (var currentRawResult : rawResults) {
-            results.add(new ApplicationComponentAndAccessLevel<TComponent,TAccess>(
-                applicationComponentStringifier.fromString(currentRawResult.ApplicationComponent), 
-                accessLevelStringifier.fromString(currentRawResult.AccessLevel)
-            ));
-        }
+        var url = createUrl(groupToApplicationComponentAndAccessLevelMappingsByGroupIncludingIndirectRoute, encodeGroup(group));
+        var results = createApplicationComponentAndAccessLevelSet();
+        sendGetRequestForArray(url, applicationComponentAndAccessLevelMapper, (ApplicationComponentAndAccessLevel<TComponent, TAccess> currentResult) -> results.add(currentResult));
 
         return results;
     }
@@ -1057,22 +1190,31 @@ public class AccessManagerClient<TUser, TGroup, TComponent, TAccess>
     @Override
     public Set<EntityTypeAndEntity> getEntitiesAccessibleByUser(TUser user) throws IOException, InterruptedException {
 
-        var url = appendPathToBaseUrl(String.format("userToEntityMappings/user/%s?includeIndirectMappings=true",
-                encodeUrlComponent(userStringifier.toString(user))
-            )
-        );
-        ArrayList<net.alastairwyse.applicationaccessclient.models.datatransferobjects.UserAndEntity> rawResults = sendGetRequest(url, new TypeReference<ArrayList<net.alastairwyse.applicationaccessclient.models.datatransferobjects.UserAndEntity>>(){});
         var results = new HashSet<EntityTypeAndEntity>();
-        for (var currentRawResult : rawResults) {
-            results.add(new EntityTypeAndEntity(
-                currentRawResult.EntityType, 
-                currentRawResult.Entity
-            ));
-        }
+        getEntitiesAccessibleByUser(user, (EntityTypeAndEntity currentResult) -> results.add(currentResult));
 
         return results;
     }
 
+    /**
+     * Retrieves all entities that the specified user (or a group that the user is a member of) has access to, passing each to the specified consumer as it is read from the response.  An entity may be passed more than once if the user has access to it via multiple paths.
+     * <p>
+     * Results are converted as they are read from the response body, so they can be processed without holding the full collection in memory.
+     * </p>
+     * 
+     * @param user The user to retrieve the entities for.
+     * @param resultConsumer Accepts each result.
+     * @exception RuntimeException If a non-success response status was received.
+     * @exception RuntimeException If the response could not be deserialized to an object.
+     * @exception IOException If an I/O error occurs when sending or receiving, or the client has shut down.
+     * @exception InterruptedException If the operation is interrupted.
+     */
+    public void getEntitiesAccessibleByUser(TUser user, Consumer<EntityTypeAndEntity> resultConsumer) throws IOException, InterruptedException {
+
+        var url = createUrl(userToEntityMappingsByUserIncludingIndirectRoute, encodeUser(user));
+        sendGetRequestForArray(url, entityTypeAndEntityMapper, (EntityTypeAndEntity currentResult) -> resultConsumer.accept(currentResult));
+    }
+
     /**
      * @inheritDoc
      * @exception RuntimeException If a non-success response status was received.
@@ -1083,18 +1225,36 @@ public class AccessManagerClient<TUser, TGroup, TComponent, TAccess>
     @Override
     public Set<String> getEntitiesAccessibleByUser(TUser user, String entityType) throws IOException, InterruptedException {
 
-        var url = appendPathToBaseUrl(String.format("userToEntityMappings/user/%s/entityType/%s?includeIndirectMappings=true",
-                encodeUrlComponent(userStringifier.toString(user)), 
-                encodeUrlComponent(entityType)
-            )
-        );
-        ArrayList<net.alastairwyse.applicationaccessclient.models.datatransferobjects.UserAndEntity> rawResults = sendGetRequest(url, new TypeReference<ArrayList<net.alastairwyse.applicationaccessclient.models.datatransferobjects.UserAndEntity>>(){});
-        var results = new HashSet<String>();
-        for (var currentRawResult : rawResults) {
-            results.add(currentRawResult.Entity);
-        }
+        boolean compactEntitySets = compactEntitySetsEnabled;
+        var results = createEntityCollection(compactEntitySets);
+        getEntitiesAccessibleByUser(user, entityType, (String currentResult) -> results.add(currentResult));
 
-        return results;
+        return toEntitySet(results, compactEntitySets);
+    }
+
+    /**
+     * Retrieves all entities of a given type that the specified user (or a group that the user is a member of) has access to, passing each to the specified consumer as it is read from the response.  An entity may be passed more than once if the user has access to it via multiple paths.
+     * <p>
+     * Results are converted as they are read from the response body, so they can be processed without holding the full collection in memory.
+     * </p>
+     * 
+     * @param user The user to retrieve the entities for.
+     * @param entityType The type of entities to retrieve.
+     * @param resultConsumer Accepts each result.
+     * @exception RuntimeException If a non-success response status was received.
+     * @exception RuntimeException If the response could not be deserialized to an object.
+     * @exception IOException If an I/O error occurs when sending or receiving, or the client has shut down.
+     * @exception InterruptedException If the operation is interrupted.
+     */
+    public void getEntitiesAccessibleByUser(TUser user, String entityType, Consumer<String> resultConsumer) throws IOException, InterruptedException {
+
+        var url = createUrl(userToEntityMappingsByUserAndEntityTypeIncludingIndirectRoute, 
+            encodeUser(user), 
+            encodeUrlComponent(entityType)
+        );
+        sendGetRequestForArray(url, net.alastairwyse.applicationaccessclient.models.datatransferobjects.UserAndEntity.class, (net.alastairwyse.applicationaccessclient.models.datatransferobjects.UserAndEntity currentRawResult) -> {
+            resultConsumer.accept(currentRawResult.Entity);
+        });
     }
 
     /**
@@ -1107,18 +1267,9 @@ public class AccessManagerClient<TUser, TGroup, TComponent, TAccess>
     @Override
     public Set<EntityTypeAndEntity> getEntitiesAccessibleByGroup(TGroup group) throws IOException, InterruptedException {
 
-        var url = appendPathToBaseUrl(String.format("groupToEntityMappings/group/%s?includeIndirectMappings=true",
-                encodeUrlComponent(groupStringifier.toString(group))
-            )
-        );
-        ArrayList<net.alastairwyse.applicationaccessclient.models.datatransferobjects.GroupAndEntity> rawResults = sendGetRequest(url, new TypeReference<ArrayList<net.alastairwyse.applicationaccessclient.models.datatransferobjects.GroupAndEntity>>(){});
+        var url = createUrl(groupToEntityMappingsByGroupIncludingIndirectRoute, encodeGroup(group));
         var results = new HashSet<EntityTypeAndEntity>();
-        for (var currentRawResult : rawResults) {
-            results.add(new EntityTypeAndEntity(
-                currentRawResult.EntityType, 
-                currentRawResult.Entity
-            ));
-        }
+        sendGetRequestForArray(url, entityTypeAndEntityMapper, (EntityTypeAndEntity currentResult) -> results.add(currentResult));
 
         return results;
     }
@@ -1133,17 +1284,16 @@ public class AccessManagerClient<TUser, TGroup, TComponent, TAccess>
     @Override
     public Set<String> getEntitiesAccessibleByGroup(TGroup group, String entityType) throws IOException, InterruptedException {
 
-        var url = appendPathToBaseUrl(String.format("groupToEntityMappings/group/%s/entityType/%s?includeIndirectMappings=true",
-                encodeUrlComponent(groupStringifier.toString(group)),  
-                encodeUrlComponent(entityType)
-            )
+        var url = createUrl(groupToEntityMappingsByGroupAndEntityTypeIncludingIndirectRoute, 
+            encodeGroup(group), 
+            encodeUrlComponent(entityType)
         );
-        ArrayList<net.alastairwyse.applicationaccessclient.models.datatransferobjects.GroupAndEntity> rawResults = sendGetRequest(url, new TypeReference<ArrayList<net.alastairwyse.applicationaccessclient.models.datatransferobjects.GroupAndEntity>>(){});
-        var results = new HashSet<String>();
-        for (var currentRawResult : rawResults) {
+        boolean compactEntitySets = compactEntitySetsEnabled;
+        var results = createEntityCollection(compactEntitySets);
+        sendGetRequestForArray(url, net.alastairwyse.applicationaccessclient.models.datatransferobjects.GroupAndEntity.class, (net.alastairwyse.applicationaccessclient.models.datatransferobjects.GroupAndEntity currentRawResult) -> {
             results.add(currentRawResult.Entity);
-        }
+        });
 
-        return results;
+        return toEntitySet(results, compactEntitySets);
     }
 }
\ No newline at end of file
@@ -1,30 +1,71 @@
 package net.alastairwyse.applicationaccessclient;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpRequest.Builder;
 import java.net.http.HttpResponse;
-import java.net.URLEncoder;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
+import java.util.stream.IntStream;
 
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 
 import net.alastairwyse.applicationaccessclient.exceptions.DeserializationException;
 import net.alastairwyse.applicationaccessclient.exceptions.ElementNotFoundException;
 import net.alastairwyse.applicationaccessclient.exceptions.NotFoundException;
+import net.alastairwyse.applicationaccessclient.models.ApplicationComponentAndAccessLevel;
+import net.alastairwyse.applicationaccessclient.models.EntityTypeAndEntity;
 import net.alastairwyse.applicationaccessclient.models.HttpErrorResponse;
+import net.alastairwyse.applicationaccessclient.models.datatransferobjects.FromGroupAndToGroup;
+import net.alastairwyse.applicationaccessclient.models.datatransferobjects.GroupAndApplicationComponentAndAccessLevel;
+import net.alastairwyse.applicationaccessclient.models.datatransferobjects.GroupAndEntity;
+import net.alastairwyse.applicationaccessclient.models.datatransferobjects.UserAndApplicationComponentAndAccessLevel;
+import net.alastairwyse.applicationaccessclient.models.datatransferobjects.UserAndEntity;
+import net.alastairwyse.applicationaccessclient.models.datatransferobjects.UserAndGroup;
 
 /**
  * Base for client classes which interface to AccessManager instances hosted as REST web APIs.
@@ -36,16 +77,135 @@ import net.alastairwyse.applicationaccessclient.models.HttpErrorResponse;
  */
 public abstract class AccessManagerClientBase<TUser, TGroup, TComponent, TAccess> implements AutoCloseable {
     
+    /** Route template for 'dataElementAccess/applicationComponent/user/{user}/applicationComponent/{applicationComponent}/accessLevel/{accessLevel}'. */
+    protected static final UriTemplate hasAccessToApplicationComponentRoute = new UriTemplate("dataElementAccess/applicationComponent/user/{user}/applicationComponent/{applicationComponent}/accessLevel/{accessLevel}");
+    /** Route template for 'dataElementAccess/entity/user/{user}/entityType/{entityType}/entity/{entity}'. */
+    protected static final UriTemplate hasAccessToEntityRoute = new UriTemplate("dataElementAccess/entity/user/{user}/entityType/{entityType}/entity/{entity}");
+    /** Route template for 'entityTypes'. */
+    protected static final UriTemplate entityTypesRoute = new UriTemplate("entityTypes");
+    /** Route template for 'entityTypes/{entityType}'. */
+    protected static final UriTemplate entityTypeRoute = new UriTemplate("entityTypes/{entityType}");
+    /** Route template for 'entityTypes/{entityType}/entities'. */
+    protected static final UriTemplate entitiesRoute = new UriTemplate("entityTypes/{entityType}/entities");
+    /** Route template for 'entityTypes/{entityType}/entities/{entity}'. */
+    protected static final UriTemplate entityRoute = new UriTemplate("entityTypes/{entityType}/entities/{entity}");
+    /** Route template for 'groupToApplicationComponentAndAccessLevelMappings/applicationComponent/{applicationComponent}/accessLevel/{accessLevel}?includeIndirectMappings={includeIndirectMappings}'. */
+    protected static final UriTemplate groupToApplicationComponentAndAccessLevelMappingsByApplicationComponentAndAccessLevelRoute = new UriTemplate("groupToApplicationComponentAndAccessLevelMappings/applicationComponent/{applicationComponent}/accessLevel/{accessLevel}?includeIndirectMappings={includeIndirectMappings}");
+    /** Route template for 'groupToApplicationComponentAndAccessLevelMappings/group/{group}/applicationComponent/{applicationComponent}/accessLevel/{accessLevel}'. */
+    protected static final UriTemplate groupToApplicationComponentAndAccessLevelMappingRoute = new UriTemplate("groupToApplicationComponentAndAccessLevelMappings/group/{group}/applicationComponent/{applicationComponent}/accessLevel/{accessLevel}");
+    /** Route template for 'groupToApplicationComponentAndAccessLevelMappings/group/{group}?includeIndirectMappings=false'. */
+    protected static final UriTemplate groupToApplicationComponentAndAccessLevelMappingsByGroupRoute = new UriTemplate("groupToApplicationComponentAndAccessLevelMappings/group/{group}?includeIndirectMappings=false");
+    /** Route template for 'groupToApplicationComponentAndAccessLevelMappings/group/{group}?includeIndirectMappings=true'. */
+    protected static final UriTemplate groupToApplicationComponentAndAccessLevelMappingsByGroupIncludingIndirectRoute = new UriTemplate("groupToApplicationComponentAndAccessLevelMappings/group/{group}?includeIndirectMappings=true");
+    /** Route template for 'groupToEntityMappings/entityType/{entityType}/entity/{entity}?includeIndirectMappings={includeIndirectMappings}'. */
+    protected static final UriTemplate groupToEntityMappingsByEntityTypeAndEntityRoute = new UriTemplate("groupToEntityMappings/entityType/{entityType}/entity/{entity}?includeIndirectMappings={includeIndirectMappings}");
+    /** Route template for 'groupToEntityMappings/group/{group}/entityType/{entityType}/entity/{entity}'. */
+    protected static final UriTemplate groupToEntityMappingRoute = new UriTemplate("groupToEntityMappings/group/{group}/entityType/{entityType}/entity/{entity}");
+    /** Route template for 'groupToEntityMappings/group/{group}/entityType/{entityType}?includeIndirectMappings=false'. */
+    protected static final UriTemplate groupToEntityMappingsByGroupAndEntityTypeRoute = new UriTemplate("groupToEntityMappings/group/{group}/entityType/{entityType}?includeIndirectMappings=false");
+    /** Route template for 'groupToEntityMappings/group/{group}/entityType/{entityType}?includeIndirectMappings=true'. */
+    protected static final UriTemplate groupToEntityMappingsByGroupAndEntityTypeIncludingIndirectRoute = new UriTemplate("groupToEntityMappings/group/{group}/entityType/{entityType}?includeIndirectMappings=true");
+    /** Route template for 'groupToEntityMappings/group/{group}?includeIndirectMappings=false'. */
+    protected static final UriTemplate groupToEntityMappingsByGroupRoute = new UriTemplate("groupToEntityMappings/group/{group}?includeIndirectMappings=false");
+    /** Route template for 'groupToEntityMappings/group/{group}?includeIndirectMappings=true'. */
+    protected static final UriTemplate groupToEntityMappingsByGroupIncludingIndirectRoute = new UriTemplate("groupToEntityMappings/group/{group}?includeIndirectMappings=true");
+    /** Route template for 'groupToGroupMappings/fromGroup/{fromGroup}/toGroup/{toGroup}'. */
+    protected static final UriTemplate groupToGroupMappingRoute = new UriTemplate("groupToGroupMappings/fromGroup/{fromGroup}/toGroup/{toGroup}");
+    /** Route template for 'groupToGroupMappings/group/{group}?includeIndirectMappings={includeIndirectMappings}'. */
+    protected static final UriTemplate groupToGroupMappingsByGroupRoute = new UriTemplate("groupToGroupMappings/group/{group}?includeIndirectMappings={includeIndirectMappings}");
+    /** Route template for 'groupToGroupReverseMappings/group/{group}?includeIndirectMappings={includeIndirectMappings}'. */
+    protected static final UriTemplate groupToGroupReverseMappingsByGroupRoute = new UriTemplate("groupToGroupReverseMappings/group/{group}?includeIndirectMappings={includeIndirectMappings}");
+    /** Route template for 'groups'. */
+    protected static final UriTemplate groupsRoute = new UriTemplate("groups");
+    /** Route template for 'groups/{group}'. */
+    protected static final UriTemplate groupRoute = new UriTemplate("groups/{group}");
+    /** Route template for 'userToApplicationComponentAndAccessLevelMappings/applicationComponent/{applicationComponent}/accessLevel/{accessLevel}?includeIndirectMappings={includeIndirectMappings}'. */
+    protected static final UriTemplate userToApplicationComponentAndAccessLevelMappingsByApplicationComponentAndAccessLevelRoute = new UriTemplate("userToApplicationComponentAndAccessLevelMappings/applicationComponent/{applicationComponent}/accessLevel/{accessLevel}?includeIndirectMappings={includeIndirectMappings}");
+    /** Route template for 'userToApplicationComponentAndAccessLevelMappings/user/{user}/applicationComponent/{applicationComponent}/accessLevel/{accessLevel}'. */
+    protected static final UriTemplate userToApplicationComponentAndAccessLevelMappingRoute = new UriTemplate("userToApplicationComponentAndAccessLevelMappings/user/{user}/applicationComponent/{applicationComponent}/accessLevel/{accessLevel}");
+    /** Route template for 'userToApplicationComponentAndAccessLevelMappings/user/{user}?includeIndirectMappings=false'. */
+    protected static final UriTemplate userToApplicationComponentAndAccessLevelMappingsByUserRoute = new UriTemplate("userToApplicationComponentAndAccessLevelMappings/user/{user}?includeIndirectMappings=false");
+    /** Route template for 'userToApplicationComponentAndAccessLevelMappings/user/{user}?includeIndirectMappings=true'. */
+    protected static final UriTemplate userToApplicationComponentAndAccessLevelMappingsByUserIncludingIndirectRoute = new UriTemplate("userToApplicationComponentAndAccessLevelMappings/user/{user}?includeIndirectMappings=true");
+    /** Route template for 'userToEntityMappings/entityType/{entityType}/entity/{entity}?includeIndirectMappings={includeIndirectMappings}'. */
+    protected static final UriTemplate userToEntityMappingsByEntityTypeAndEntityRoute = new UriTemplate("userToEntityMappings/entityType/{entityType}/entity/{entity}?includeIndirectMappings={includeIndirectMappings}");
+    /** Route template for 'userToEntityMappings/user/{user}/entityType/{entityType}/entity/{entity}'. */
+    protected static final UriTemplate userToEntityMappingRoute = new UriTemplate("userToEntityMappings/user/{user}/entityType/{entityType}/entity/{entity}");
+    /** Route template for 'userToEntityMappings/user/{user}/entityType/{entityType}?includeIndirectMappings=false'. */
+    protected static final UriTemplate userToEntityMappingsByUserAndEntityTypeRoute = new UriTemplate("userToEntityMappings/user/{user}/entityType/{entityType}?includeIndirectMappings=false");
+    /** Route template for 'userToEntityMappings/user/{user}/entityType/{entityType}?includeIndirectMappings=true'. */
+    protected static final UriTemplate userToEntityMappingsByUserAndEntityTypeIncludingIndirectRoute = new UriTemplate("userToEntityMappings/user/{user}/entityType/{entityType}?includeIndirectMappings=true");
+    /** Route template for 'userToEntityMappings/user/{user}?includeIndirectMappings=false'. */
+    protected static final UriTemplate userToEntityMappingsByUserRoute = new UriTemplate("userToEntityMappings/user/{user}?includeIndirectMappings=false");
+    /** Route template for 'userToEntityMappings/user/{user}?includeIndirectMappings=true'. */
+    protected static final UriTemplate userToEntityMappingsByUserIncludingIndirectRoute = new UriTemplate("userToEntityMappings/user/{user}?includeIndirectMappings=true");
+    /** Route template for 'userToGroupMappings/group/{group}?includeIndirectMappings={includeIndirectMappings}'. */
+    protected static final UriTemplate userToGroupMappingsByGroupRoute = new UriTemplate("userToGroupMappings/group/{group}?includeIndirectMappings={includeIndirectMappings}");
+    /** Route template for 'userToGroupMappings/user/{user}/group/{group}'. */
+    protected static final UriTemplate userToGroupMappingRoute = new UriTemplate("userToGroupMappings/user/{user}/group/{group}");
+    /** Route template for 'userToGroupMappings/user/{user}?includeIndirectMappings={includeIndirectMappings}'. */
+    protected static final UriTemplate userToGroupMappingsByUserRoute = new UriTemplate("userToGroupMappings/user/{user}?includeIndirectMappings={includeIndirectMappings}");
+    /** Route template for 'users'. */
+    protected static final UriTemplate usersRoute = new UriTemplate("users");
+    /** Route template for 'users/{user}'. */
+    protected static final UriTemplate userRoute = new UriTemplate("users/{user}");
+
+    /** The maximum number of elements of each type to cache the encoded URL path segments of. */
+    protected static final int encodedSegmentCacheMaxSize = 10000;
+
+    /** Response type of endpoints which return a list of strings. */
+    protected static final TypeReference<ArrayList<String>> stringListType = new TypeReference<ArrayList<String>>(){};
+    /** Response type of endpoints which return a list of user to group mappings. */
+    protected static final TypeReference<ArrayList<UserAndGroup>> userAndGroupListType = new TypeReference<ArrayList<UserAndGroup>>(){};
+    /** Response type of endpoints which return a list of group to group mappings. */
+    protected static final TypeReference<ArrayList<FromGroupAndToGroup>> fromGroupAndToGroupListType = new TypeReference<ArrayList<FromGroupAndToGroup>>(){};
+    /** Response type of endpoints which return a list of user to application component and access level mappings. */
+    protected static final TypeReference<ArrayList<UserAndApplicationComponentAndAccessLevel>> userAndApplicationComponentAndAccessLevelListType = new TypeReference<ArrayList<UserAndApplicationComponentAndAccessLevel>>(){};
+    /** Response type of endpoints which return a list of group to application component and access level mappings. */
+    protected static final TypeReference<ArrayList<GroupAndApplicationComponentAndAccessLevel>> groupAndApplicationComponentAndAccessLevelListType = new TypeReference<ArrayList<GroupAndApplicationComponentAndAccessLevel>>(){};
+    /** Response type of endpoints which return a list of entity types and entities. */
+    protected static final TypeReference<ArrayList<net.alastairwyse.applicationaccessclient.models.datatransferobjects.EntityTypeAndEntity>> entityTypeAndEntityListType = new TypeReference<ArrayList<net.alastairwyse.applicationaccessclient.models.datatransferobjects.EntityTypeAndEntity>>(){};
+    /** Response type of endpoints which return a list of user to entity mappings. */
+    protected static final TypeReference<ArrayList<UserAndEntity>> userAndEntityListType = new TypeReference<ArrayList<UserAndEntity>>(){};
+    /** Response type of endpoints which return a list of group to entity mappings. */
+    protected static final TypeReference<ArrayList<GroupAndEntity>> groupAndEntityListType = new TypeReference<ArrayList<GroupAndEntity>>(){};
+    /** Response type of endpoints which return a boolean. */
+    protected static final TypeReference<Boolean> booleanType = new TypeReference<Boolean>(){};
+    /** The names of the fields of JSON objects containing an application component and access level. */
+    protected static final String[] applicationComponentAndAccessLevelFieldNames = new String[] { "applicationComponent", "accessLevel" };
+    /** The names of the fields of JSON objects containing an entity type and entity. */
+    protected static final String[] entityTypeAndEntityFieldNames = new String[] { "entityType", "entity" };
+    /** The bytes of the JSON 'true' literal. */
+    protected static final byte[] trueLiteral = "true".getBytes(StandardCharsets.US_ASCII);
+    /** The bytes of the JSON 'false' literal. */
+    protected static final byte[] falseLiteral = "false".getBytes(StandardCharsets.US_ASCII);
+
     /** The client to use to connect. */
     protected HttpClient httpClient;
     /** The base URL for the hosted Web API. */
     protected URI baseUrl;
+    /** The base URL for the hosted Web API as a string, which route templates are appended to. */
+    protected String baseUrlString;
     /** Deserializer for HttpErrorResponse objects. */
     protected HttpErrorResponseJsonSerializer errorResponseDeserializer;
     /** Maps an HTTP status code to an Consumer which throws a matching Exception to the status code.  The Consumer accepts 1 parameter: the {@link HttpErrorResponse} representing the exception. */
     protected Map<Integer, Consumer<HttpErrorResponse>> statusCodeToExceptionThrowingActionMap;
     /** Used to deserialize DTO objects returned from the web API. */
     protected ObjectMapper objectMapper;
+    /** Readers for the response types returned by the web API, keyed by (identity of) the response type.  Populated on construction and not subsequently modified. */
+    protected Map<TypeReference<?>, ObjectReader> responseTypeReaders;
+    /** Readers for the types of the elements of JSON arrays returned by the web API.  Populated on construction and not subsequently modified. */
+    protected Map<Class<?>, ObjectReader> elementTypeReaders;
+    /** Maps JSON objects containing an application component and access level (e.g. elements of user or group to application component mapping responses) directly to ApplicationComponentAndAccessLevel instances. */
+    protected JsonElementMapper<ApplicationComponentAndAccessLevel<TComponent, TAccess>> applicationComponentAndAccessLevelMapper;
+    /** Maps JSON objects containing an entity type and entity (e.g. elements of user or group to entity mapping responses) directly to EntityTypeAndEntity instances. */
+    protected JsonElementMapper<EntityTypeAndEntity> entityTypeAndEntityMapper;
+    /** Pool of canonical ApplicationComponentAndAccessLevel instances returned from queries, or null if model interning is disabled. */
+    protected volatile WeakInterner<ApplicationComponentAndAccessLevel<TComponent, TAccess>> applicationComponentAndAccessLevelInterner;
+    /** Pool of canonical EntityTypeAndEntity instances returned from queries, or null if model interning is disabled. */
+    protected volatile WeakInterner<EntityTypeAndEntity> entityTypeAndEntityInterner;
+    /** Whether sets of entities returned from queries are {@link CompactStringSet CompactStringSets}. */
+    protected volatile boolean compactEntitySetsEnabled;
     /** A string converter for users.  Used to convert strings sent to and received from the web API from/to TUser instances. */
     protected UniqueStringifier<TUser> userStringifier;
     /** A string converter for groups.  Used to convert strings sent to and received from the web API from/to TGroup instances. */
@@ -54,12 +214,42 @@ public abstract class AccessManagerClientBase<TUser, TGroup, TComponent, TAccess
     protected UniqueStringifier<TComponent> applicationComponentStringifier;
     /** A string converter for access levels.  Used to convert strings sent to and received from the web API from/to TAccess instances. */
     protected UniqueStringifier<TAccess> accessLevelStringifier;
+    /** The application component enum class if the application component stringifier is an {@link EnumUniqueStringifier}, otherwise null. */
+    protected Class<TComponent> applicationComponentEnumClass;
+    /** The access level enum class if the access level stringifier is an {@link EnumUniqueStringifier}, otherwise null. */
+    protected Class<TAccess> accessLevelEnumClass;
+    /** Caches the encoded URL path segments of users. */
+    protected EncodedSegmentCache<TUser> userSegmentCache;
+    /** Caches the encoded URL path segments of groups. */
+    protected EncodedSegmentCache<TGroup> groupSegmentCache;
+    /** Caches the encoded URL path segments of application components. */
+    protected EncodedSegmentCache<TComponent> applicationComponentSegmentCache;
+    /** Caches the encoded URL path segments of access levels. */
+    protected EncodedSegmentCache<TAccess> accessLevelSegmentCache;
     /** The character encoding used when interpreting/reading HTTP responses. */
     protected Charset defaultCharset;
+    /** Body handler for responses to POST requests, which discards the body of success (201) responses. */
+    protected HttpResponse.BodyHandler<String> postResponseBodyHandler;
+    /** Body handler for responses to DELETE requests, which discards the body of success (200) responses. */
+    protected HttpResponse.BodyHandler<String> deleteResponseBodyHandler;
+    /** Body handler for responses to GET requests for 'contains' methods, which discards the body of 200 and 404 responses. */
+    protected HttpResponse.BodyHandler<String> containsMethodResponseBodyHandler;
     /** HTTP headers to send with each request. */
     protected Map<String, String> requestHeaders;
     /** Whether the HttpClient member was instantiated within the class constructor */
     protected Boolean httpClientInstantiatedInConstructor;
+    /** Whether concurrent identical GET requests should share a single in-flight HTTP request. */
+    protected volatile boolean getRequestCoalescingEnabled;
+    /** Results of the GET requests currently in-flight, keyed by request URL and the kind of result.  Used to coalesce concurrent identical GET requests. */
+    protected ConcurrentHashMap<InFlightGetRequestKey, CompletableFuture<Object>> inFlightGetRequests;
+    /** The maximum number of requests sent concurrently by bulk methods. */
+    protected volatile int bulkRequestParallelism;
+    /** The minimum number of results for which stringifier conversion of results is performed in parallel, or 0 if conversion is always performed sequentially. */
+    protected volatile int parallelConversionThreshold;
+    /** The pool which stringifier conversion of results is performed in parallel on, or null if parallel conversion has not been enabled. */
+    protected volatile ForkJoinPool parallelConversionPool;
+    /** Whether the parallel conversion pool was created by the client (and hence is shut down when the client is closed). */
+    protected boolean parallelConversionPoolCreatedByClient;
 
     /**
      * Constructs an AccessManagerClientBase.
@@ -128,9 +318,154 @@ public abstract class AccessManagerClientBase<TUser, TGroup, TComponent, TAccess
         this(httpClient, baseUrl, userStringifier, groupStringifier, applicationComponentStringifier, accessLevelStringifier);
         this.requestHeaders = requestHeaders;
     }
+
+    /**
+     * Sets whether concurrent identical GET requests (i.e. with the same URL) share a single in-flight HTTP request, with the result of that request returned to all callers.
+     * Enabled by default.
+     * <p>
+     * A GET request is never coalesced with a request which was in-flight when a POST or DELETE request made through this client completed, so changes made through this client
+     * are visible to subsequent queries made through it.
+     * </p>
+     *
+     * @param getRequestCoalescingEnabled Whether GET requests should be coalesced.
+     */
+    public void setGetRequestCoalescingEnabled(boolean getRequestCoalescingEnabled) {
+        this.getRequestCoalescingEnabled = getRequestCoalescingEnabled;
+    }
+
+    /**
+     * Sets the maximum number of requests sent concurrently by bulk methods (e.g. hasAccessToApplicationComponents()).  Defaults to 8.
+     *
+     * @param bulkRequestParallelism The maximum number of requests.
+     */
+    public void setBulkRequestParallelism(int bulkRequestParallelism) {
+        if (bulkRequestParallelism < 1) {
+            throw new IllegalArgumentException(String.format("Parameter 'bulkRequestParallelism' with value %d must be greater than 0.", bulkRequestParallelism));
+        }
+        this.bulkRequestParallelism = bulkRequestParallelism;
+    }
+
+    /**
+     * Sets the minimum number of results returned by a query for which the results are converted by the user or group stringifier in parallel, rather than sequentially.  The
+     * order of returned lists is preserved.  Set to 0 (the default) to always convert sequentially.
+     * <p>
+     * Parallel conversion is only of benefit when queries return very large numbers of results, or stringifier conversion is expensive, and requires that the stringifiers
+     * are thread-safe.  When enabled, results are converted after the full response has been read, rather than as each is read from the response, and lists converted in
+     * parallel are fixed-size.  Conversion is performed on a fork-join pool created by the client (with parallelism equal to the number of available processors), which is
+     * shut down when the client is closed.  Use {@link #setParallelConversionThreshold(int, ForkJoinPool)} to perform conversion on another pool.
+     * </p>
+     *
+     * @param parallelConversionThreshold The minimum number of results.
+     */
+    public void setParallelConversionThreshold(int parallelConversionThreshold) {
+        setParallelConversionThreshold(parallelConversionThreshold, null);
+    }
+
+    /**
+     * Sets the minimum number of results returned by a query for which the results are converted by the user or group stringifier in parallel on the specified fork-join
+     * pool, rather than sequentially.  See {@link #setParallelConversionThreshold(int)} for details.
+     * <p>
+     * Stringifiers which block (e.g. stringifiers which look up domain objects from a database) should not be used with the common fork-join pool, as they would stall
+     * unrelated parallel streams and tasks in the JVM.
+     * </p>
+     *
+     * @param parallelConversionThreshold The minimum number of results.
+     * @param parallelConversionPool The pool to perform parallel conversion on, or null to use a pool created by the client.  A pool passed to this method is not shut down
+     *   when the client is closed.
+     */
+    public synchronized void setParallelConversionThreshold(int parallelConversionThreshold, ForkJoinPool parallelConversionPool) {
+
+        if (parallelConversionThreshold < 0) {
+            throw new IllegalArgumentException(String.format("Parameter 'parallelConversionThreshold' with value %d must be greater than or equal to 0.", parallelConversionThreshold));
+        }
+        if (parallelConversionPool != null) {
+            if (parallelConversionPoolCreatedByClient == true) {
+                this.parallelConversionPool.shutdown();
+            }
+            this.parallelConversionPool = parallelConversionPool;
+            parallelConversionPoolCreatedByClient = false;
+        }
+        else if (parallelConversionThreshold > 0 && this.parallelConversionPool == null) {
+            this.parallelConversionPool = new ForkJoinPool();
+            parallelConversionPoolCreatedByClient = true;
+        }
+        // The pool is set before the threshold, so that a conversion which reads a non-zero threshold always reads a pool
+        this.parallelConversionThreshold = parallelConversionThreshold;
+    }
+
+    /**
+     * Sets whether equal ApplicationComponentAndAccessLevel and EntityTypeAndEntity instances returned from queries share a single (weakly referenced) instance, reducing 
+     * memory use when the same components and entities are returned for many users or groups.  Disabled by default.
+     *
+     * @param modelInterningEnabled Whether returned instances should be interned.
+     */
+    public void setModelInterningEnabled(boolean modelInterningEnabled) {
+
+        if (modelInterningEnabled == true) {
+            applicationComponentAndAccessLevelInterner = new WeakInterner<ApplicationComponentAndAccessLevel<TComponent, TAccess>>();
+            entityTypeAndEntityInterner = new WeakInterner<EntityTypeAndEntity>();
+        }
+        else {
+            applicationComponentAndAccessLevelInterner = null;
+            entityTypeAndEntityInterner = null;
+        }
+    }
     
+    /**
+     * Sets whether sets of entities of a given type returned from queries (e.g. by getEntitiesAccessibleByUser()) are immutable {@link CompactStringSet CompactStringSets}
+     * rather than {@link HashSet HashSets}, reducing the memory used by sets which are cached by the caller.  Disabled by default.
+     *
+     * @param compactEntitySetsEnabled Whether returned sets of entities should be CompactStringSets.
+     */
+    public void setCompactEntitySetsEnabled(boolean compactEntitySetsEnabled) {
+        this.compactEntitySetsEnabled = compactEntitySetsEnabled;
+    }
+
     //#region Private/Protected Methods
 
+    /**
+     * Converts the specified raw results into a list, preserving their order, converting in parallel on the parallel conversion pool if the number of results is at least the
+     * parallel conversion threshold.  Results converted in parallel are returned in a fixed-size list wrapping the array they were converted into, so are not copied.
+     *
+     * @param <S> The type of the raw results.
+     * @param <R> The type of the converted results.
+     * @param rawResults The raw results.
+     * @param converter Converts a raw result.
+     * @return The converted results.
+     */
+    @SuppressWarnings("unchecked")
+    protected <S, R> List<R> convertResults(List<S> rawResults, Function<S, R> converter) {
+
+        int threshold = parallelConversionThreshold;
+        int resultCount = rawResults.size();
+        if (threshold > 0 && resultCount >= threshold) {
+            // Each result is written to its own slot of a pre-sized array, so order is preserved without any synchronization between conversions
+            var convertedResults = new Object[resultCount];
+            ForkJoinTask<?> conversionTask = null;
+            try {
+                // The parallel stream is run within a task submitted to the pool, so its subtasks are forked to the pool's threads rather than the common pool's
+                conversionTask = parallelConversionPool.submit(() -> {
+                    IntStream.range(0, resultCount).parallel().forEach((int index) -> {
+                        convertedResults[index] = converter.apply(rawResults.get(index));
+                    });
+                });
+            }
+            catch (RejectedExecutionException e) {
+                // The pool was shut down by a concurrent change of pool or close of the client, so the results are converted sequentially
+            }
+            if (conversionTask != null) {
+                conversionTask.join();
+                return (List<R>)Arrays.asList(convertedResults);
+            }
+        }
+        var results = new ArrayList<R>(resultCount);
+        for (S currentRawResult : rawResults) {
+            results.add(converter.apply(currentRawResult));
+        }
+
+        return results;
+    }
+
     /**
      * Sends an HTTP GET request, expecting a 200 status returned to indicate success, and attempting to deserialize the response body to the specified type.
      * 
@@ -145,6 +480,24 @@ public abstract class AccessManagerClientBase<TUser, TGroup, TComponent, TAccess
      * @exception InterruptedException If the operation is interrupted.
      */
     protected <T> T sendGetRequest(URI requestUrl, TypeReference<T> returnType) throws IOException, InterruptedException {
+        return sendCoalescedGetRequest(requestUrl, returnType.getType(), () -> sendUncoalescedGetRequest(requestUrl, returnType));
+    }
+
+    /**
+     * Sends an HTTP GET request without coalescing it with other identical requests, expecting a 200 status returned to indicate success, and attempting to deserialize the
+     * response body to the specified type.
+     * 
+     * @param <T> The type to deserialize the response body to. 
+     * @param requestUrl The URL of the request.
+     * @param returnType The type to deserialize the response to and return.
+     * @return The response body deserialized to the specified type.
+     * 
+     * @exception RuntimeException If a non-success response status was received.
+     * @exception RuntimeException If the response could not be deserialized to an object.
+     * @exception IOException If an I/O error occurs when sending or receiving, or the client has shut down.
+     * @exception InterruptedException If the operation is interrupted.
+     */
+    protected <T> T sendUncoalescedGetRequest(URI requestUrl, TypeReference<T> returnType) throws IOException, InterruptedException {
 
         Builder requestBuilder = HttpRequest.newBuilder(requestUrl).GET();
         setHttpRequestAcceptHeader(requestBuilder);
@@ -152,19 +505,311 @@ public abstract class AccessManagerClientBase<TUser, TGroup, TComponent, TAccess
         if (response.statusCode() != 200) {
             handleNonSuccessResponseStatus(HttpMethod.GET, requestUrl, response.statusCode(), response.body());
         }
-        try {
-            return objectMapper.readValue(response.body(), returnType);
+
+        return deserializeResponseBody(requestUrl, response.body(), returnType);
+    }
+
+    /**
+     * Sends an HTTP GET request which returns a JSON array, expecting a 200 status returned to indicate success, and deserializing each element of the array as it is read 
+     * from the response body.
+     * <p>
+     * The response body is parsed directly from the underlying stream rather than first being read into a string and deserialized to a list, so only a single element of the 
+     * array is held in memory at a time.  Requests are not coalesced with other identical requests.
+     * </p>
+     * 
+     * @param <T> The type to deserialize each element of the array to. 
+     * @param requestUrl The URL of the request.
+     * @param elementType The type to deserialize each element of the array to.
+     * @param elementConsumer Accepts each element as it is deserialized.
+     * 
+     * @exception RuntimeException If a non-success response status was received.
+     * @exception RuntimeException If the response could not be deserialized to an array of objects.
+     * @exception IOException If an I/O error occurs when sending or receiving, or the client has shut down.
+     * @exception InterruptedException If the operation is interrupted.
+     */
+    protected <T> void sendGetRequestForArray(URI requestUrl, Class<T> elementType, Consumer<T> elementConsumer) throws IOException, InterruptedException {
+
+        ObjectReader elementReader = getElementTypeReader(elementType);
+        sendGetRequestForArray(requestUrl, (JsonParser parser) -> elementReader.readValue(parser), elementConsumer);
+    }
+
+    /**
+     * Sends an HTTP GET request, expecting a 200 status returned to indicate success and a JSON array in the response body, and passing each element of the array to the 
+     * specified consumer after converting it with the specified mapper.
+     * <p>
+     * Elements are mapped directly from the JSON token stream, so no intermediate objects (e.g. DTOs) are created for the elements.  Requests are not coalesced with other 
+     * identical requests.
+     * </p>
+     * 
+     * @param <T> The type to convert each element of the array to. 
+     * @param requestUrl The URL of the request.
+     * @param elementMapper Converts each element of the array.
+     * @param elementConsumer Accepts each element as it is converted.
+     * 
+     * @exception RuntimeException If a non-success response status was received.
+     * @exception RuntimeException If the response could not be deserialized to an array of objects.
+     * @exception IOException If an I/O error occurs when sending or receiving, or the client has shut down.
+     * @exception InterruptedException If the operation is interrupted.
+     */
+    protected <T> void sendGetRequestForArray(URI requestUrl, JsonElementMapper<T> elementMapper, Consumer<T> elementConsumer) throws IOException, InterruptedException {
+
+        Builder requestBuilder = HttpRequest.newBuilder(requestUrl).GET();
+        setHttpRequestAcceptHeader(requestBuilder);
+        HttpResponse<InputStream> response = httpClient.send(requestBuilder.build(), HttpResponse.BodyHandlers.ofInputStream());
+        try (InputStream responseBody = response.body()) {
+            if (response.statusCode() != 200) {
+                handleNonSuccessResponseStatus(HttpMethod.GET, requestUrl, response.statusCode(), new String(responseBody.readAllBytes(), defaultCharset));
+            }
+            try (JsonParser parser = objectMapper.getFactory().createParser(responseBody)) {
+                parseJsonArray(parser, elementMapper, elementConsumer);
+            }
+            catch (JsonProcessingException e) {
+                throw createDeserializationException(requestUrl, HttpMethod.GET, e);
+            }
         }
-        catch (JsonProcessingException e) {
-            throw new RuntimeException(
-                String.format(
-                    "Failed to call URL '%s' with '%s' method.  Error deserializing response body from JSON to type.", 
-                    requestUrl.toString(), 
-                    HttpMethod.GET
-                ), 
-                e
-            );
+    }
+
+    /**
+     * Asynchronously sends an HTTP GET request, expecting a 200 status returned to indicate success and a JSON array in the response body, and converting each element of the 
+     * array with the specified mapper.
+     * <p>
+     * Elements are mapped directly from the JSON token stream, so no intermediate objects (e.g. DTOs) are created for the elements.  When coalescing is enabled, the response 
+     * body of an identical in-flight request is shared, but each caller receives its own collection.
+     * </p>
+     * 
+     * @param <T> The type to convert each element of the array to. 
+     * @param <C> The type of collection to return the elements in.
+     * @param requestUrl The URL of the request.
+     * @param elementMapper Converts each element of the array.
+     * @param collectionFactory Creates the collection to return the elements in.
+     * @return A future which completes with the converted elements, or completes exceptionally with the same exceptions thrown by 
+     *   {@link #sendGetRequestForArray(URI, JsonElementMapper, Consumer)}.
+     */
+    protected <T, C extends Collection<T>> CompletableFuture<C> sendGetRequestForArrayAsync(URI requestUrl, JsonElementMapper<T> elementMapper, Supplier<C> collectionFactory) {
+
+        CompletableFuture<byte[]> responseBodyFuture = sendCoalescedGetRequestAsync(requestUrl, CoalescedResultKind.RESPONSE_BODY, () -> {
+            Builder requestBuilder = HttpRequest.newBuilder(requestUrl).GET();
+            setHttpRequestAcceptHeader(requestBuilder);
+
+            return httpClient.sendAsync(requestBuilder.build(), HttpResponse.BodyHandlers.ofByteArray()).thenApply((HttpResponse<byte[]> response) -> {
+                if (response.statusCode() != 200) {
+                    handleNonSuccessResponseStatus(HttpMethod.GET, requestUrl, response.statusCode(), new String(response.body(), defaultCharset));
+                }
+
+                return response.body();
+            });
+        });
+
+        return responseBodyFuture.thenApply((byte[] responseBody) -> {
+            C results = collectionFactory.get();
+            parseJsonArrayResponseBody(requestUrl, responseBody, elementMapper, (T currentElement) -> results.add(currentElement));
+
+            return results;
+        });
+    }
+
+    /**
+     * Sends an HTTP GET request which returns a JSON array, expecting a 200 status returned to indicate success, and deserializing each element of the array and passing it
+     * to the specified consumer.
+     * <p>
+     * When coalescing is enabled, the response body of an identical in-flight request is shared, and each caller parses its own elements from it.  Hence the full response
+     * body is held in memory, unlike {@link #sendGetRequestForArray(URI, Class, Consumer)}, so this should be used for requests which are likely to be sent concurrently
+     * (e.g. for a user's permissions during a login storm) rather than those which return very large arrays.
+     * </p>
+     * 
+     * @param <T> The type to deserialize each element of the array to. 
+     * @param requestUrl The URL of the request.
+     * @param elementType The type to deserialize each element of the array to.
+     * @param elementConsumer Accepts each element as it is deserialized.
+     * 
+     * @exception RuntimeException If a non-success response status was received.
+     * @exception RuntimeException If the response could not be deserialized to an array of objects.
+     * @exception IOException If an I/O error occurs when sending or receiving, or the client has shut down.
+     * @exception InterruptedException If the operation is interrupted.
+     */
+    protected <T> void sendCoalescedGetRequestForArray(URI requestUrl, Class<T> elementType, Consumer<T> elementConsumer) throws IOException, InterruptedException {
+
+        ObjectReader elementReader = getElementTypeReader(elementType);
+        sendCoalescedGetRequestForArray(requestUrl, (JsonParser parser) -> elementReader.readValue(parser), elementConsumer);
+    }
+
+    /**
+     * Sends an HTTP GET request which returns a JSON array, expecting a 200 status returned to indicate success, and passing each element of the array to the specified 
+     * consumer after converting it with the specified mapper.
+     * <p>
+     * When coalescing is enabled, the response body of an identical in-flight request is shared, and each caller parses its own elements from it (see 
+     * {@link #sendCoalescedGetRequestForArray(URI, Class, Consumer)}).
+     * </p>
+     * 
+     * @param <T> The type to convert each element of the array to. 
+     * @param requestUrl The URL of the request.
+     * @param elementMapper Converts each element of the array.
+     * @param elementConsumer Accepts each element as it is converted.
+     * 
+     * @exception RuntimeException If a non-success response status was received.
+     * @exception RuntimeException If the response could not be deserialized to an array of objects.
+     * @exception IOException If an I/O error occurs when sending or receiving, or the client has shut down.
+     * @exception InterruptedException If the operation is interrupted.
+     */
+    protected <T> void sendCoalescedGetRequestForArray(URI requestUrl, JsonElementMapper<T> elementMapper, Consumer<T> elementConsumer) throws IOException, InterruptedException {
+
+        if (getRequestCoalescingEnabled == false) {
+            sendGetRequestForArray(requestUrl, elementMapper, elementConsumer);
+            return;
+        }
+        byte[] responseBody = sendCoalescedGetRequest(requestUrl, CoalescedResultKind.RESPONSE_BODY, () -> {
+            Builder requestBuilder = HttpRequest.newBuilder(requestUrl).GET();
+            setHttpRequestAcceptHeader(requestBuilder);
+            HttpResponse<byte[]> response = httpClient.send(requestBuilder.build(), HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() != 200) {
+                handleNonSuccessResponseStatus(HttpMethod.GET, requestUrl, response.statusCode(), new String(response.body(), defaultCharset));
+            }
+
+            return response.body();
+        });
+        parseJsonArrayResponseBody(requestUrl, responseBody, elementMapper, elementConsumer);
+    }
+
+    /**
+     * Parses a JSON array from the specified response body, passing each element to the specified consumer after converting it with the specified mapper.
+     * 
+     * @param <T> The type to convert each element of the array to. 
+     * @param requestUrl The URL of the request the response body was received from.
+     * @param responseBody The response body.
+     * @param elementMapper Converts each element of the array.
+     * @param elementConsumer Accepts each element as it is converted.
+     * 
+     * @exception RuntimeException If the response body could not be deserialized to an array of objects.
+     */
+    protected <T> void parseJsonArrayResponseBody(URI requestUrl, byte[] responseBody, JsonElementMapper<T> elementMapper, Consumer<T> elementConsumer) {
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(responseBody)) {
+            parseJsonArray(parser, elementMapper, elementConsumer);
         }
+        catch (IOException e) {
+            throw createDeserializationException(requestUrl, HttpMethod.GET, e);
+        }
+    }
+
+    /**
+     * Parses a JSON array from the specified parser, passing each element to the specified consumer after converting it with the specified mapper.
+     * 
+     * @param <T> The type to convert each element of the array to. 
+     * @param parser The parser, positioned before the start of the array.
+     * @param elementMapper Converts each element of the array.
+     * @param elementConsumer Accepts each element as it is converted.
+     * 
+     * @exception IOException If the array could not be parsed.
+     */
+    protected <T> void parseJsonArray(JsonParser parser, JsonElementMapper<T> elementMapper, Consumer<T> elementConsumer) throws IOException {
+
+        if (parser.nextToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expected response body to contain a JSON array.");
+        }
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() == null) {
+                throw new JsonParseException(parser, "Unexpected end of response body while reading JSON array.");
+            }
+            elementConsumer.accept(elementMapper.map(parser));
+        }
+    }
+
+    /**
+     * Creates a {@link Flow.Publisher} which sends an HTTP GET request returning a JSON array each time it is subscribed to, and publishes the elements of the array as they 
+     * are incrementally parsed from the response body.  Subscribers receive the same exceptions thrown by {@link #sendGetRequestForArray(URI, Class, Consumer)} via onError().
+     * 
+     * @param <TRaw> The type to deserialize each element of the array to. 
+     * @param <T> The type of the published elements. 
+     * @param requestUrl The URL of the request.
+     * @param rawElementType The type to deserialize each element of the array to.
+     * @param elementConverter Converts each deserialized element to a published element.
+     * @return The publisher.
+     */
+    protected <TRaw, T> Flow.Publisher<T> createGetRequestForArrayPublisher(URI requestUrl, Class<TRaw> rawElementType, Function<TRaw, T> elementConverter) {
+        return new JsonArrayPublisher<TRaw, T>(requestUrl, rawElementType, elementConverter);
+    }
+
+    /**
+     * Asynchronously sends an HTTP GET request, expecting a 200 status returned to indicate success, and attempting to deserialize the response body to the specified type.
+     * 
+     * @param <T> The type to deserialize the response body to. 
+     * @param requestUrl The URL of the request.
+     * @param returnType The type to deserialize the response to and return.
+     * @return A future which completes with the response body deserialized to the specified type, or completes exceptionally with the same exceptions thrown by 
+     *   {@link #sendGetRequest(URI, TypeReference)}.
+     */
+    protected <T> CompletableFuture<T> sendGetRequestAsync(URI requestUrl, TypeReference<T> returnType) {
+
+        return sendCoalescedGetRequestAsync(requestUrl, returnType.getType(), () -> {
+            Builder requestBuilder = HttpRequest.newBuilder(requestUrl).GET();
+            setHttpRequestAcceptHeader(requestBuilder);
+
+            return httpClient.sendAsync(requestBuilder.build(), HttpResponse.BodyHandlers.ofString(defaultCharset)).thenApply((HttpResponse<String> response) -> {
+                if (response.statusCode() != 200) {
+                    handleNonSuccessResponseStatus(HttpMethod.GET, requestUrl, response.statusCode(), response.body());
+                }
+
+                return deserializeResponseBody(requestUrl, response.body(), returnType);
+            });
+        });
+    }
+
+    /**
+     * Sends an HTTP GET request, expecting a 200 status returned to indicate success, and a response body containing a JSON boolean literal.
+     * <p>
+     * The response body is read as raw bytes, and the literal parsed directly from them, with full JSON deserialization used only if the body is not a plain 'true' or 'false'.
+     * </p>
+     * 
+     * @param requestUrl The URL of the request.
+     * @return The boolean contained in the response body.
+     * 
+     * @exception RuntimeException If a non-success response status was received.
+     * @exception RuntimeException If the response could not be deserialized to a boolean.
+     * @exception IOException If an I/O error occurs when sending or receiving, or the client has shut down.
+     * @exception InterruptedException If the operation is interrupted.
+     */
+    protected boolean sendGetRequestForBoolean(URI requestUrl) throws IOException, InterruptedException {
+        return sendCoalescedGetRequest(requestUrl, CoalescedResultKind.BOOLEAN_LITERAL, () -> sendUncoalescedGetRequestForBoolean(requestUrl));
+    }
+
+    /**
+     * Sends an HTTP GET request without coalescing it with other identical requests, expecting a 200 status returned to indicate success, and a response body containing a JSON 
+     * boolean literal.
+     * 
+     * @param requestUrl The URL of the request.
+     * @return The boolean contained in the response body.
+     * 
+     * @exception RuntimeException If a non-success response status was received.
+     * @exception RuntimeException If the response could not be deserialized to a boolean.
+     * @exception IOException If an I/O error occurs when sending or receiving, or the client has shut down.
+     * @exception InterruptedException If the operation is interrupted.
+     */
+    protected boolean sendUncoalescedGetRequestForBoolean(URI requestUrl) throws IOException, InterruptedException {
+
+        Builder requestBuilder = HttpRequest.newBuilder(requestUrl).GET();
+        setHttpRequestAcceptHeader(requestBuilder);
+        HttpResponse<byte[]> response = httpClient.send(requestBuilder.build(), HttpResponse.BodyHandlers.ofByteArray());
+
+        return convertBooleanResponse(requestUrl, response);
+    }
+
+    /**
+     * Asynchronously sends an HTTP GET request, expecting a 200 status returned to indicate success, and a response body containing a JSON boolean literal.
+     * 
+     * @param requestUrl The URL of the request.
+     * @return A future which completes with the boolean contained in the response body, or completes exceptionally with the same exceptions thrown by 
+     *   {@link #sendGetRequestForBoolean(URI)}.
+     */
+    protected CompletableFuture<Boolean> sendGetRequestForBooleanAsync(URI requestUrl) {
+
+        return sendCoalescedGetRequestAsync(requestUrl, CoalescedResultKind.BOOLEAN_LITERAL, () -> {
+            Builder requestBuilder = HttpRequest.newBuilder(requestUrl).GET();
+            setHttpRequestAcceptHeader(requestBuilder);
+
+            return httpClient.sendAsync(requestBuilder.build(), HttpResponse.BodyHandlers.ofByteArray()).thenApply((HttpResponse<byte[]> response) -> {
+                return convertBooleanResponse(requestUrl, response);
+            });
+        });
     }
 
     /**
@@ -178,19 +823,46 @@ public abstract class AccessManagerClientBase<TUser, TGroup, TComponent, TAccess
      * @exception InterruptedException If the operation is interrupted.
      */
     protected boolean sendGetRequestForContainsMethod(URI requestUrl) throws IOException, InterruptedException {
+        return sendCoalescedGetRequest(requestUrl, CoalescedResultKind.CONTAINS_STATUS, () -> sendUncoalescedGetRequestForContainsMethod(requestUrl));
+    }
+
+    /**
+     * Sends an HTTP GET request without coalescing it with other identical requests, expecting either a 200 or 404 status returned, and converting the status to an equivalent
+     * boolean value.
+     * 
+     * @param requestUrl The URL of the request.
+     * @return True in the case a 200 response status is received, or false in the case a 404 status is received.
+     *
+     * @exception RuntimeException If an unexpected response status was received.
+     * @exception IOException If an I/O error occurs when sending or receiving, or the client has shut down.
+     * @exception InterruptedException If the operation is interrupted.
+     */
+    protected boolean sendUncoalescedGetRequestForContainsMethod(URI requestUrl) throws IOException, InterruptedException {
 
-        boolean returnValue = false;
         Builder requestBuilder = HttpRequest.newBuilder(requestUrl).GET();
         setHttpRequestAcceptHeader(requestBuilder);
-        HttpResponse<String> response = httpClient.send(requestBuilder.build(), HttpResponse.BodyHandlers.ofString(defaultCharset));
-        if (!((response.statusCode() != 200) || (response.statusCode() != 404))) {
-            handleNonSuccessResponseStatus(HttpMethod.GET, requestUrl, response.statusCode(), response.body());
-        }
-        if (response.statusCode() == 200) {
-            returnValue = true;
-        }
+        HttpResponse<String> response = httpClient.send(requestBuilder.build(), containsMethodResponseBodyHandler);
 
-        return returnValue;
+        return convertContainsMethodResponse(requestUrl, response);
+    }
+
+    /**
+     * Asynchronously sends an HTTP GET request, expecting either a 200 or 404 status returned, and converting the status to an equivalent boolean value.
+     * 
+     * @param requestUrl The URL of the request.
+     * @return A future which completes with true in the case a 200 response status is received, or false in the case a 404 status is received, or completes exceptionally 
+     *   with the same exceptions thrown by {@link #sendGetRequestForContainsMethod(URI)}.
+     */
+    protected CompletableFuture<Boolean> sendGetRequestForContainsMethodAsync(URI requestUrl) {
+
+        return sendCoalescedGetRequestAsync(requestUrl, CoalescedResultKind.CONTAINS_STATUS, () -> {
+            Builder requestBuilder = HttpRequest.newBuilder(requestUrl).GET();
+            setHttpRequestAcceptHeader(requestBuilder);
+
+            return httpClient.sendAsync(requestBuilder.build(), containsMethodResponseBodyHandler).thenApply((HttpResponse<String> response) -> {
+                return convertContainsMethodResponse(requestUrl, response);
+            });
+        });
     }
 
     /**
@@ -206,12 +878,32 @@ public abstract class AccessManagerClientBase<TUser, TGroup, TComponent, TAccess
 
         Builder requestBuilder = HttpRequest.newBuilder(requestUrl).POST(HttpRequest.BodyPublishers.noBody());
         setHttpRequestAcceptHeader(requestBuilder);
-        HttpResponse<String> response = httpClient.send(requestBuilder.build(), HttpResponse.BodyHandlers.ofString(defaultCharset));
+        HttpResponse<String> response = httpClient.send(requestBuilder.build(), postResponseBodyHandler);
+        inFlightGetRequests.clear();
         if (response.statusCode() != 201) {
             handleNonSuccessResponseStatus(HttpMethod.POST, requestUrl, response.statusCode(), response.body());
         }
     }
 
+    /**
+     * Asynchronously sends an HTTP POST request, expecting a 201 status returned to indicate success.
+     * 
+     * @param requestUrl The URL of the request.
+     * @return A future which completes when a success response is received, or completes exceptionally with the same exceptions thrown by {@link #sendPostRequest(URI)}.
+     */
+    protected CompletableFuture<Void> sendPostRequestAsync(URI requestUrl) {
+
+        Builder requestBuilder = HttpRequest.newBuilder(requestUrl).POST(HttpRequest.BodyPublishers.noBody());
+        setHttpRequestAcceptHeader(requestBuilder);
+
+        return httpClient.sendAsync(requestBuilder.build(), postResponseBodyHandler).thenAccept((HttpResponse<String> response) -> {
+            inFlightGetRequests.clear();
+            if (response.statusCode() != 201) {
+                handleNonSuccessResponseStatus(HttpMethod.POST, requestUrl, response.statusCode(), response.body());
+            }
+        });
+    }
+
     /**
      * Sends an HTTP DELETE request, expecting a 200 status returned to indicate success.
      * 
@@ -225,12 +917,448 @@ public abstract class AccessManagerClientBase<TUser, TGroup, TComponent, TAccess
 
         Builder requestBuilder = HttpRequest.newBuilder(requestUrl).DELETE();
         setHttpRequestAcceptHeader(requestBuilder);
-        HttpResponse<String> response = httpClient.send(requestBuilder.build(), HttpResponse.BodyHandlers.ofString(defaultCharset));
+        HttpResponse<String> response = httpClient.send(requestBuilder.build(), deleteResponseBodyHandler);
+        inFlightGetRequests.clear();
         if (response.statusCode() != 200) {
             handleNonSuccessResponseStatus(HttpMethod.DELETE, requestUrl, response.statusCode(), response.body());
         }
     }
 
+    /**
+     * Asynchronously sends an HTTP DELETE request, expecting a 200 status returned to indicate success.
+     * 
+     * @param requestUrl The URL of the request.
+     * @return A future which completes when a success response is received, or completes exceptionally with the same exceptions thrown by {@link #sendDeleteRequest(URI)}.
+     */
+    protected CompletableFuture<Void> sendDeleteRequestAsync(URI requestUrl) {
+
+        Builder requestBuilder = HttpRequest.newBuilder(requestUrl).DELETE();
+        setHttpRequestAcceptHeader(requestBuilder);
+
+        return httpClient.sendAsync(requestBuilder.build(), deleteResponseBodyHandler).thenAccept((HttpResponse<String> response) -> {
+            inFlightGetRequests.clear();
+            if (response.statusCode() != 200) {
+                handleNonSuccessResponseStatus(HttpMethod.DELETE, requestUrl, response.statusCode(), response.body());
+            }
+        });
+    }
+
+    /**
+     * Executes a function which sends a GET request, or if coalescing is enabled and an identical request is already in-flight, waits for and returns the result of the in-flight
+     * request.
+     * <p>
+     * If the thread sending an in-flight request is interrupted, threads waiting for its result are not, so they retry the request rather than throwing the interruption as
+     * their own.
+     * </p>
+     * 
+     * @param <T> The type of the result of the request.
+     * @param requestUrl The URL of the request.
+     * @param resultKind Identifies the kind of result the request function returns (either a {@link CoalescedResultKind}, or the {@link java.lang.reflect.Type} the response body
+     *   is deserialized to).  Requests are only coalesced with in-flight requests for the same URL and kind of result, so that each caller receives a result of the type it expects.
+     * @param requestFunction The function which sends the request and returns its result.
+     * @return The result of the request.
+     * 
+     * @exception RuntimeException If the request failed with a RuntimeException.
+     * @exception IOException If an I/O error occurs when sending or receiving, or the client has shut down.
+     * @exception InterruptedException If the operation is interrupted.
+     */
+    @SuppressWarnings("unchecked")
+    protected <T> T sendCoalescedGetRequest(URI requestUrl, Object resultKind, RequestFunction<T> requestFunction) throws IOException, InterruptedException {
+
+        if (getRequestCoalescingEnabled == false) {
+            return requestFunction.apply();
+        }
+        var requestKey = new InFlightGetRequestKey(requestUrl, resultKind);
+        while (true) {
+            var request = new CompletableFuture<Object>();
+            CompletableFuture<Object> inFlightRequest = inFlightGetRequests.putIfAbsent(requestKey, request);
+            if (inFlightRequest == null) {
+                try {
+                    T result = requestFunction.apply();
+                    request.complete(result);
+
+                    return result;
+                }
+                catch (InterruptedException e) {
+                    // Removed before completing, so that waiting threads which retry don't find the interrupted request still in-flight
+                    inFlightGetRequests.remove(requestKey, request);
+                    request.completeExceptionally(e);
+                    throw e;
+                }
+                catch (IOException | RuntimeException | Error e) {
+                    request.completeExceptionally(e);
+                    throw e;
+                }
+                finally {
+                    inFlightGetRequests.remove(requestKey, request);
+                }
+            }
+            try {
+                return (T)inFlightRequest.get();
+            }
+            catch (ExecutionException e) {
+                Throwable cause = unwrapCompletionException(e.getCause());
+                if (cause instanceof InterruptedException) {
+                    inFlightGetRequests.remove(requestKey, inFlightRequest);
+                    continue;
+                }
+                throw convertExecutionCause(cause);
+            }
+        }
+    }
+
+    /**
+     * Converts the cause of a failed future, which was completed by another thread, to an exception to throw on the current thread.  IOExceptions are thrown wrapped in a new
+     * IOException so that the stack trace includes the current thread, and InterruptedExceptions (i.e. where the thread completing the future was interrupted, rather than
+     * the current thread) are wrapped in a RuntimeException, so that the current thread does not appear to have been interrupted.
+     * 
+     * @param cause The cause.
+     * @return The RuntimeException to throw.
+     * 
+     * @exception IOException If the cause is an IOException.
+     */
+    protected RuntimeException convertExecutionCause(Throwable cause) throws IOException {
+
+        if (cause instanceof IOException) {
+            throw new IOException(cause.getMessage(), cause);
+        }
+        else if (cause instanceof InterruptedException) {
+            return new RuntimeException("The operation was interrupted on another thread.", cause);
+        }
+        else if (cause instanceof RuntimeException) {
+            return (RuntimeException)cause;
+        }
+        else if (cause instanceof Error) {
+            throw (Error)cause;
+        }
+        else {
+            return new RuntimeException(cause);
+        }
+    }
+
+    /**
+     * Starts a GET request asynchronously, or if coalescing is enabled and an identical request is already in-flight, returns a future which completes with the result of the 
+     * in-flight request.
+     * 
+     * @param <T> The type of the result of the request.
+     * @param requestUrl The URL of the request.
+     * @param resultKind Identifies the kind of result the request function returns (see {@link #sendCoalescedGetRequest(URI, Object, RequestFunction)}).
+     * @param requestFunction The function which starts the request and returns a future for its result.
+     * @return A future which completes with the result of the request, or completes exceptionally if the request function throws an exception.
+     */
+    @SuppressWarnings("unchecked")
+    protected <T> CompletableFuture<T> sendCoalescedGetRequestAsync(URI requestUrl, Object resultKind, Supplier<CompletableFuture<T>> requestFunction) {
+
+        if (getRequestCoalescingEnabled == false) {
+            try {
+                return requestFunction.get();
+            }
+            catch (RuntimeException | Error e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+        var requestKey = new InFlightGetRequestKey(requestUrl, resultKind);
+        var request = new CompletableFuture<Object>();
+        CompletableFuture<Object> inFlightRequest = inFlightGetRequests.putIfAbsent(requestKey, request);
+        if (inFlightRequest != null) {
+            // Return a dependent future, so that callers can't complete or cancel the shared future
+            return inFlightRequest.thenApply((Object result) -> (T)result);
+        }
+        CompletableFuture<T> requestFuture;
+        try {
+            requestFuture = requestFunction.get();
+        }
+        catch (RuntimeException | Error e) {
+            // The request failed before being started (e.g. due to an invalid request header), so fail any callers already waiting on it, and stop coalescing with it
+            request.completeExceptionally(e);
+            inFlightGetRequests.remove(requestKey, request);
+
+            return request.thenApply((Object result) -> (T)result);
+        }
+        requestFuture.whenComplete((T result, Throwable exception) -> {
+            if (exception == null) {
+                request.complete(result);
+            }
+            else {
+                request.completeExceptionally(unwrapCompletionException(exception));
+            }
+            inFlightGetRequests.remove(requestKey, request);
+        });
+
+        return request.thenApply((Object result) -> (T)result);
+    }
+
+    /**
+     * Executes an asynchronous function for each of the specified keys, with at most 'bulkRequestParallelism' executions in-flight at any time.
+     * <p>
+     * If an execution fails, or the returned future is cancelled (e.g. by {@link #awaitResult(Future)} when the waiting thread is interrupted), no further executions are
+     * started, and the futures of executions still in-flight are cancelled.  Executions are started iteratively, so executions which complete synchronously don't cause
+     * recursion.
+     * </p>
+     * 
+     * @param <K> The type of the keys.
+     * @param <V> The type of the results of the function.
+     * @param keys The keys to execute the function for.
+     * @param function The function, which accepts a key and returns a future for the result.
+     * @return A future which completes with a map from each key to its result (in the iteration order of the keys), or completes exceptionally with the first exception 
+     *   raised by an execution of the function.
+     */
+    protected <K, V> CompletableFuture<Map<K, V>> executeWithBoundedParallelism(Collection<K> keys, Function<K, CompletableFuture<V>> function) {
+
+        var keyList = new ArrayList<K>(keys);
+        var values = new ArrayList<V>(Collections.nCopies(keyList.size(), (V)null));
+        var result = new CompletableFuture<Map<K, V>>();
+        if (keyList.size() == 0) {
+            result.complete(new LinkedHashMap<K, V>());
+            return result;
+        }
+        var inFlightExecutions = new ConcurrentHashMap<Integer, CompletableFuture<V>>();
+        result.whenComplete((Map<K, V> results, Throwable exception) -> {
+            if (exception != null) {
+                for (CompletableFuture<V> currentExecution : inFlightExecutions.values()) {
+                    currentExecution.cancel(true);
+                }
+            }
+        });
+        var nextIndex = new AtomicInteger(0);
+        var remainingCount = new AtomicInteger(keyList.size());
+        var availablePermits = new AtomicInteger(Math.min(bulkRequestParallelism, keyList.size()));
+        var pendingScheduleCount = new AtomicInteger(0);
+        var scheduleExecutions = new Runnable() {
+            @Override
+            public void run() {
+                // Only one thread starts executions at a time.  A call made while another thread (or an outer call on the same thread, when an execution completes 
+                // synchronously) is starting executions increments the pending count, causing that thread to check again for executions to start, rather than recursing.
+                if (pendingScheduleCount.getAndIncrement() != 0) {
+                    return;
+                }
+                do {
+                    while (result.isDone() == false && availablePermits.get() > 0 && nextIndex.get() < keyList.size()) {
+                        availablePermits.decrementAndGet();
+                        startExecution(nextIndex.getAndIncrement());
+                    }
+                } while (pendingScheduleCount.decrementAndGet() != 0);
+            }
+
+            private void startExecution(int index) {
+
+                CompletableFuture<V> execution;
+                try {
+                    execution = function.apply(keyList.get(index));
+                }
+                catch (RuntimeException e) {
+                    result.completeExceptionally(e);
+                    return;
+                }
+                inFlightExecutions.put(index, execution);
+                if (result.isDone() == true) {
+                    // The result failed or was cancelled while the execution was being started, after in-flight executions were cancelled
+                    execution.cancel(true);
+                }
+                execution.whenComplete((V value, Throwable exception) -> {
+                    inFlightExecutions.remove(index);
+                    if (exception != null) {
+                        result.completeExceptionally(unwrapCompletionException(exception));
+                        return;
+                    }
+                    synchronized (values) {
+                        values.set(index, value);
+                    }
+                    if (remainingCount.decrementAndGet() == 0) {
+                        var results = new LinkedHashMap<K, V>();
+                        synchronized (values) {
+                            for (int i = 0; i < keyList.size(); i++) {
+                                results.put(keyList.get(i), values.get(i));
+                            }
+                        }
+                        result.complete(results);
+                    }
+                    else {
+                        availablePermits.incrementAndGet();
+                        run();
+                    }
+                });
+            }
+        };
+        scheduleExecutions.run();
+
+        return result;
+    }
+
+    /**
+     * Waits for the specified future to complete and returns its result, rethrowing the exception it completed with if it completed exceptionally.
+     * 
+     * @param <T> The type of the result.
+     * @param future The future to wait for.
+     * @return The result of the future.
+     * 
+     * @exception RuntimeException If the future completed with a RuntimeException.
+     * @exception IOException If the future completed with an IOException.
+     * @exception InterruptedException If the wait is interrupted (in which case the future is cancelled).
+     */
+    protected <T> T awaitResult(Future<T> future) throws IOException, InterruptedException {
+
+        try {
+            return future.get();
+        }
+        catch (ExecutionException e) {
+            throw convertExecutionCause(unwrapCompletionException(e.getCause()));
+        }
+        catch (InterruptedException e) {
+            future.cancel(true);
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the cause of the specified exception if it is a {@link CompletionException}, or the exception itself otherwise.
+     * 
+     * @param exception The exception.
+     * @return The unwrapped exception.
+     */
+    protected Throwable unwrapCompletionException(Throwable exception) {
+
+        if (exception instanceof CompletionException && exception.getCause() != null) {
+            return exception.getCause();
+        }
+
+        return exception;
+    }
+
+    /**
+     * Creates the exception thrown when the body of a response could not be deserialized.
+     * 
+     * @param requestUrl The URL of the request which generated the response.
+     * @param method The HTTP method of the request.
+     * @param cause The exception thrown when deserializing, or null if deserialization returned no result.
+     * @return The exception.
+     */
+    protected RuntimeException createDeserializationException(URI requestUrl, HttpMethod method, Throwable cause) {
+        return new RuntimeException(
+            String.format(
+                "Failed to call URL '%s' with '%s' method.  Error deserializing response body from JSON to type.", 
+                requestUrl.toString(), 
+                method
+            ), 
+            cause
+        );
+    }
+
+    /**
+     * Deserializes the body of a successful HTTP response to the specified type.
+     * 
+     * @param <T> The type to deserialize the response body to. 
+     * @param requestUrl The URL of the request which generated the response.
+     * @param responseBody The received response body.
+     * @param returnType The type to deserialize the response to.
+     * @return The response body deserialized to the specified type.
+     * 
+     * @exception RuntimeException If the response could not be deserialized to an object.
+     */
+    protected <T> T deserializeResponseBody(URI requestUrl, String responseBody, TypeReference<T> returnType) {
+
+        try {
+            return getResponseTypeReader(returnType).readValue(responseBody);
+        }
+        catch (JsonProcessingException e) {
+            throw createDeserializationException(requestUrl, HttpMethod.GET, e);
+        }
+    }
+
+    /**
+     * Converts the response to a GET request sent for a method returning a boolean to the boolean contained in the response body.
+     * 
+     * @param requestUrl The URL of the request which generated the response.
+     * @param response The response.
+     * @return The boolean contained in the response body.
+     * 
+     * @exception RuntimeException If a non-success response status was received.
+     * @exception RuntimeException If the response could not be deserialized to a boolean.
+     */
+    protected boolean convertBooleanResponse(URI requestUrl, HttpResponse<byte[]> response) {
+
+        byte[] responseBody = response.body();
+        if (response.statusCode() != 200) {
+            handleNonSuccessResponseStatus(HttpMethod.GET, requestUrl, response.statusCode(), new String(responseBody, defaultCharset));
+        }
+        int startIndex = 0;
+        int endIndex = responseBody.length;
+        while (startIndex < endIndex && isJsonWhitespace(responseBody[startIndex]) == true) {
+            startIndex++;
+        }
+        while (endIndex > startIndex && isJsonWhitespace(responseBody[endIndex - 1]) == true) {
+            endIndex--;
+        }
+        if (matchesLiteral(responseBody, startIndex, endIndex, trueLiteral) == true) {
+            return true;
+        }
+        if (matchesLiteral(responseBody, startIndex, endIndex, falseLiteral) == true) {
+            return false;
+        }
+        // Fall back to full deserialization (which will also generate an appropriate exception for a malformed body)
+        Boolean result = deserializeResponseBody(requestUrl, new String(responseBody, defaultCharset), booleanType);
+        if (result == null) {
+            throw createDeserializationException(requestUrl, HttpMethod.GET, null);
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks whether the specified byte is a JSON whitespace character.
+     * 
+     * @param value The byte to check.
+     * @return True if the byte is whitespace.
+     */
+    protected static boolean isJsonWhitespace(byte value) {
+        return value == ' ' || value == '\t' || value == '\n' || value == '\r';
+    }
+
+    /**
+     * Checks whether the specified range of a byte array exactly matches the specified literal.
+     * 
+     * @param bytes The byte array.
+     * @param startIndex The (inclusive) start index of the range.
+     * @param endIndex The (exclusive) end index of the range.
+     * @param literal The literal.
+     * @return True if the range matches the literal.
+     */
+    protected static boolean matchesLiteral(byte[] bytes, int startIndex, int endIndex, byte[] literal) {
+
+        if (endIndex - startIndex != literal.length) {
+            return false;
+        }
+        for (int i = 0; i < literal.length; i++) {
+            if (bytes[startIndex + i] != literal[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Converts the response to a GET request sent for a 'contains' method to an equivalent boolean value.
+     * 
+     * @param requestUrl The URL of the request which generated the response.
+     * @param response The received response.
+     * @return True in the case of a 200 response status, or false in the case of a 404 status.
+     * 
+     * @exception RuntimeException If an unexpected response status was received.
+     */
+    protected boolean convertContainsMethodResponse(URI requestUrl, HttpResponse<String> response) {
+
+        boolean returnValue = false;
+        if (response.statusCode() != 200 && response.statusCode() != 404) {
+            handleNonSuccessResponseStatus(HttpMethod.GET, requestUrl, response.statusCode(), response.body());
+        }
+        if (response.statusCode() == 200) {
+            returnValue = true;
+        }
+
+        return returnValue;
+    }
+
     /**
      * Performs setup for a minimal/common set of constructor parameters.
      * 
@@ -251,12 +1379,235 @@ public abstract class AccessManagerClientBase<TUser, TGroup, TComponent, TAccess
         errorResponseDeserializer = new HttpErrorResponseJsonSerializer();
         initializeStatusCodeToExceptionThrowingActionMap();
         objectMapper = new ObjectMapper();
+        initializeObjectReaders();
         this.userStringifier = userStringifier;
         this.groupStringifier = groupStringifier;
         this.applicationComponentStringifier = applicationComponentStringifier;
         this.accessLevelStringifier = accessLevelStringifier;
+        applicationComponentEnumClass = getEnumClass(applicationComponentStringifier);
+        accessLevelEnumClass = getEnumClass(accessLevelStringifier);
+        userSegmentCache = new EncodedSegmentCache<TUser>(userStringifier, encodedSegmentCacheMaxSize);
+        groupSegmentCache = new EncodedSegmentCache<TGroup>(groupStringifier, encodedSegmentCacheMaxSize);
+        applicationComponentSegmentCache = new EncodedSegmentCache<TComponent>(applicationComponentStringifier, encodedSegmentCacheMaxSize);
+        accessLevelSegmentCache = new EncodedSegmentCache<TAccess>(accessLevelStringifier, encodedSegmentCacheMaxSize);
+        initializeElementMappers();
         defaultCharset = Charset.forName(StandardCharsets.UTF_8.toString());
+        postResponseBodyHandler = new StatusFirstBodyHandler(201);
+        deleteResponseBodyHandler = new StatusFirstBodyHandler(200);
+        containsMethodResponseBodyHandler = new StatusFirstBodyHandler(200, 404);
         requestHeaders = new HashMap<String, String>();
+        getRequestCoalescingEnabled = true;
+        bulkRequestParallelism = 8;
+        parallelConversionThreshold = 0;
+        parallelConversionPool = null;
+        parallelConversionPoolCreatedByClient = false;
+        compactEntitySetsEnabled = false;
+        applicationComponentAndAccessLevelInterner = null;
+        entityTypeAndEntityInterner = null;
+        inFlightGetRequests = new ConcurrentHashMap<InFlightGetRequestKey, CompletableFuture<Object>>();
+    }
+
+    /**
+     * Creates the readers for the response types and JSON array element types returned by the web API.
+     */
+    protected void initializeObjectReaders() {
+
+        responseTypeReaders = new IdentityHashMap<TypeReference<?>, ObjectReader>();
+        for (TypeReference<?> currentResponseType : List.of(
+            stringListType, 
+            userAndGroupListType, 
+            fromGroupAndToGroupListType, 
+            userAndApplicationComponentAndAccessLevelListType, 
+            groupAndApplicationComponentAndAccessLevelListType, 
+            entityTypeAndEntityListType, 
+            userAndEntityListType, 
+            groupAndEntityListType, 
+            booleanType
+        )) {
+            responseTypeReaders.put(currentResponseType, objectMapper.readerFor(currentResponseType));
+        }
+        elementTypeReaders = new HashMap<Class<?>, ObjectReader>();
+        for (Class<?> currentElementType : List.of(
+            String.class, 
+            UserAndGroup.class, 
+            FromGroupAndToGroup.class, 
+            UserAndApplicationComponentAndAccessLevel.class, 
+            GroupAndApplicationComponentAndAccessLevel.class, 
+            net.alastairwyse.applicationaccessclient.models.datatransferobjects.EntityTypeAndEntity.class, 
+            UserAndEntity.class, 
+            GroupAndEntity.class
+        )) {
+            elementTypeReaders.put(currentElementType, objectMapper.readerFor(currentElementType));
+        }
+    }
+
+    /**
+     * Returns the enum class converted by the specified stringifier, if it is an {@link EnumUniqueStringifier}.
+     * 
+     * @param <T> The type converted by the stringifier.
+     * @param stringifier The stringifier.
+     * @return The enum class, or null if the stringifier is not an {@link EnumUniqueStringifier}.
+     */
+    @SuppressWarnings("unchecked")
+    protected static <T> Class<T> getEnumClass(UniqueStringifier<T> stringifier) {
+
+        if (stringifier instanceof EnumUniqueStringifier<?>) {
+            return (Class<T>)((EnumUniqueStringifier<?>)stringifier).getEnumClass();
+        }
+
+        return null;
+    }
+
+    /**
+     * Creates a collection to hold entities returned from queries, which is converted to the returned set by {@link #toEntitySet(Collection, boolean)}.
+     *
+     * @param compactEntitySets Whether the returned set will be a {@link CompactStringSet}.
+     * @return The collection.
+     */
+    protected Collection<String> createEntityCollection(boolean compactEntitySets) {
+
+        if (compactEntitySets == true) {
+            return new ArrayList<String>();
+        }
+
+        return new HashSet<String>();
+    }
+
+    /**
+     * Converts a collection created by {@link #createEntityCollection(boolean)} to the set of entities returned from a query.
+     *
+     * @param entities The collection of entities.
+     * @param compactEntitySets Whether the returned set should be a {@link CompactStringSet}.  A {@link HashSet} is returned if any entity can't be stored in a
+     *   CompactStringSet (i.e. contains unpaired surrogate characters).
+     * @return The set of entities.
+     */
+    protected Set<String> toEntitySet(Collection<String> entities, boolean compactEntitySets) {
+
+        if (compactEntitySets == true) {
+            try {
+                return new CompactStringSet(entities);
+            }
+            catch (IllegalArgumentException e) {
+                return new HashSet<String>(entities);
+            }
+        }
+
+        return (Set<String>)entities;
+    }
+
+    /**
+     * Creates a set to hold application components and access levels returned from queries.  If both the application component and access level stringifiers are 
+     * {@link EnumUniqueStringifier EnumUniqueStringifiers}, the set is an {@link ApplicationComponentAndAccessLevelBitSet}.
+     * 
+     * @return The set.
+     */
+    protected Set<ApplicationComponentAndAccessLevel<TComponent, TAccess>> createApplicationComponentAndAccessLevelSet() {
+
+        if (applicationComponentEnumClass != null && accessLevelEnumClass != null) {
+            return new ApplicationComponentAndAccessLevelBitSet<TComponent, TAccess>(applicationComponentEnumClass, accessLevelEnumClass);
+        }
+
+        return new HashSet<ApplicationComponentAndAccessLevel<TComponent, TAccess>>();
+    }
+
+    /**
+     * Creates the mappers which convert elements of JSON arrays returned by the web API directly to model instances.
+     */
+    protected void initializeElementMappers() {
+
+        applicationComponentAndAccessLevelMapper = (JsonParser parser) -> {
+            String[] fieldValues = readStringFields(parser, applicationComponentAndAccessLevelFieldNames);
+            var result = new ApplicationComponentAndAccessLevel<TComponent, TAccess>(
+                applicationComponentStringifier.fromString(fieldValues[0]), 
+                accessLevelStringifier.fromString(fieldValues[1])
+            );
+            WeakInterner<ApplicationComponentAndAccessLevel<TComponent, TAccess>> interner = applicationComponentAndAccessLevelInterner;
+
+            return (interner == null) ? result : interner.intern(result);
+        };
+        entityTypeAndEntityMapper = (JsonParser parser) -> {
+            String[] fieldValues = readStringFields(parser, entityTypeAndEntityFieldNames);
+            var result = new EntityTypeAndEntity(fieldValues[0], fieldValues[1]);
+            WeakInterner<EntityTypeAndEntity> interner = entityTypeAndEntityInterner;
+
+            return (interner == null) ? result : interner.intern(result);
+        };
+    }
+
+    /**
+     * Reads the values of the specified string fields from the JSON object at the current position of the specified parser, skipping any other fields.
+     * <p>
+     * Field names are matched ignoring case (consistent with the aliases defined on the DTO classes), and the parser is left positioned at the end of the object.  Fields with
+     * object or array values are skipped, and have null value if matched.
+     * </p>
+     * 
+     * @param parser The parser, positioned at the start of the object.
+     * @param fieldNames The names of the fields to read.
+     * @return The values of the fields, in the same order as the 'fieldNames' parameter (with null for any fields not present in the object).
+     * 
+     * @exception IOException If the object could not be parsed.
+     */
+    protected static String[] readStringFields(JsonParser parser, String[] fieldNames) throws IOException {
+
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected array element to be a JSON object.");
+        }
+        var fieldValues = new String[fieldNames.length];
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String currentFieldName = parser.currentName();
+            parser.nextToken();
+            int fieldIndex = -1;
+            for (int i = 0; i < fieldNames.length; i++) {
+                if (fieldNames[i].equalsIgnoreCase(currentFieldName) == true) {
+                    fieldIndex = i;
+                    break;
+                }
+            }
+            if (fieldIndex != -1 && parser.currentToken().isStructStart() == false) {
+                fieldValues[fieldIndex] = parser.getValueAsString();
+            }
+            // Skip nested objects and arrays whether or not the field matched, so the parser doesn't read their fields as those of the object
+            if (parser.currentToken().isStructStart() == true) {
+                parser.skipChildren();
+            }
+        }
+        if (parser.currentToken() != JsonToken.END_OBJECT) {
+            throw new JsonParseException(parser, "Expected array element to be a JSON object.");
+        }
+
+        return fieldValues;
+    }
+
+    /**
+     * Returns the reader for the specified response type, creating a new reader if the type is not one of those created on construction.
+     * 
+     * @param responseType The response type.
+     * @return The reader.
+     */
+    protected ObjectReader getResponseTypeReader(TypeReference<?> responseType) {
+
+        ObjectReader reader = responseTypeReaders.get(responseType);
+        if (reader == null) {
+            reader = objectMapper.readerFor(responseType);
+        }
+
+        return reader;
+    }
+
+    /**
+     * Returns the reader for the specified JSON array element type, creating a new reader if the type is not one of those created on construction.
+     * 
+     * @param elementType The element type.
+     * @return The reader.
+     */
+    protected ObjectReader getElementTypeReader(Class<?> elementType) {
+
+        ObjectReader reader = elementTypeReaders.get(elementType);
+        if (reader == null) {
+            reader = objectMapper.readerFor(elementType);
+        }
+
+        return reader;
     }
 
     /**
@@ -267,12 +1618,47 @@ public abstract class AccessManagerClientBase<TUser, TGroup, TComponent, TAccess
         
         try {
             this.baseUrl = new URI(baseUrl.toString() + "api/v1/");
+            this.baseUrlString = this.baseUrl.toString();
         }
         catch (URISyntaxException e) {
             throw new IllegalArgumentException(String.format("Failed to append API suffix to base URL '%s'.", baseUrl.toString()), e);
         }
     }
 
+    /**
+     * Creates the URL for a request to check whether a user has access to an application component at a given access level.
+     * 
+     * @param user The user.
+     * @param applicationComponent The application component.
+     * @param accessLevel The level of access to the component.
+     * @return The URL.
+     */
+    protected URI createHasAccessToApplicationComponentUrl(TUser user, TComponent applicationComponent, TAccess accessLevel) {
+
+        return createUrl(hasAccessToApplicationComponentRoute, 
+            encodeUser(user), 
+            encodeApplicationComponent(applicationComponent), 
+            encodeAccessLevel(accessLevel)
+        );
+    }
+
+    /**
+     * Creates the URL for a request to check whether a user has access to a given entity.
+     * 
+     * @param user The user.
+     * @param entityType The type of the entity.
+     * @param entity The entity.
+     * @return The URL.
+     */
+    protected URI createHasAccessToEntityUrl(TUser user, String entityType, String entity) {
+
+        return createUrl(hasAccessToEntityRoute, 
+            encodeUser(user), 
+            encodeUrlComponent(entityType), 
+            encodeUrlComponent(entity)
+        );
+    }
+
     /**
      * Concatenates the specified path (with no leading forward slash) to the 'baseUrl' property and returns it as a new {@link URI} 
      * 
@@ -283,6 +1669,57 @@ public abstract class AccessManagerClientBase<TUser, TGroup, TComponent, TAccess
         return baseUrl.resolve(path);
     }
 
+    /**
+     * Expands the specified route template with the specified parameter values, and appends it to the 'baseUrl' property.
+     * 
+     * @param route The route template.
+     * @param encodedParameterValues The percent-encoded values of the template parameters, in the order the parameters appear in the template.
+     * @return The expanded URL.
+     */
+    protected URI createUrl(UriTemplate route, String... encodedParameterValues) {
+        return route.expandEncoded(baseUrlString, encodedParameterValues);
+    }
+
+    /**
+     * Converts the specified user to a string, and encodes it for use in a URL.
+     * 
+     * @param user The user to encode.
+     * @return The encoded user.
+     */
+    protected String encodeUser(TUser user) {
+        return userSegmentCache.get(user);
+    }
+
+    /**
+     * Converts the specified group to a string, and encodes it for use in a URL.
+     * 
+     * @param group The group to encode.
+     * @return The encoded group.
+     */
+    protected String encodeGroup(TGroup group) {
+        return groupSegmentCache.get(group);
+    }
+
+    /**
+     * Converts the specified application component to a string, and encodes it for use in a URL.
+     * 
+     * @param applicationComponent The application component to encode.
+     * @return The encoded application component.
+     */
+    protected String encodeApplicationComponent(TComponent applicationComponent) {
+        return applicationComponentSegmentCache.get(applicationComponent);
+    }
+
+    /**
+     * Converts the specified access level to a string, and encodes it for use in a URL.
+     * 
+     * @param accessLevel The access level to encode.
+     * @return The encoded access level.
+     */
+    protected String encodeAccessLevel(TAccess accessLevel) {
+        return accessLevelSegmentCache.get(accessLevel);
+    }
+
     /**
      * Sets appropriate 'Accept' headers on the specified HTTP request builder.
      * 
@@ -309,7 +1746,7 @@ public abstract class AccessManagerClientBase<TUser, TGroup, TComponent, TAccess
      * @return The encoded string.
      */
     protected String encodeUrlComponent(String component) {
-        return URLEncoder.encode(component, defaultCharset).replace("+", "%20");
+        return UriTemplate.encode(component);
     }
 
     /**
@@ -464,15 +1901,112 @@ public abstract class AccessManagerClientBase<TUser, TGroup, TComponent, TAccess
 
     @Override
     public void close() throws IOException {
+
         if (httpClientInstantiatedInConstructor == true) {
             httpClient.close();
         }
+        synchronized (this) {
+            if (parallelConversionPoolCreatedByClient == true) {
+                parallelConversionPool.shutdown();
+            }
+        }
     }
 
     //#endregion
 
     //#region Nested Classes
 
+    /**
+     * A function which sends an HTTP request and returns its result.
+     *
+     * @param <T> The type of the result.
+     */
+    @FunctionalInterface
+    protected interface RequestFunction<T> {
+
+        /**
+         * Sends the request.
+         *
+         * @return The result of the request.
+         */
+        T apply() throws IOException, InterruptedException;
+    }
+
+    /**
+     * Kinds of result of coalesced GET requests, other than response bodies deserialized to a specific type.
+     */
+    protected enum CoalescedResultKind {
+        /** The raw bytes of the response body. */
+        RESPONSE_BODY,
+        /** A boolean parsed from a JSON boolean literal response body. */
+        BOOLEAN_LITERAL,
+        /** A boolean converted from a 200 or 404 response status. */
+        CONTAINS_STATUS
+    }
+
+    /**
+     * Container class holding the URL of a GET request and the kind of result it returns.  Used as the key for in-flight requests.
+     */
+    protected static class InFlightGetRequestKey {
+
+        protected static final int prime1 = 7;
+        protected static final int prime2 = 11;
+
+        /** The URL of the request. */
+        protected final URI requestUrl;
+        /** The kind of result the request returns. */
+        protected final Object resultKind;
+
+        /**
+         * Constructs an InFlightGetRequestKey.
+         *
+         * @param requestUrl The URL of the request.
+         * @param resultKind The kind of result the request returns.
+         */
+        public InFlightGetRequestKey(URI requestUrl, Object resultKind) {
+            this.requestUrl = requestUrl;
+            this.resultKind = resultKind;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (other == null) {
+                return false;
+            }
+            if (this.getClass() != other.getClass()) {
+                return false;
+            }
+            var typedOther = (InFlightGetRequestKey)other;
+
+            return (this.requestUrl.equals(typedOther.requestUrl) && this.resultKind.equals(typedOther.resultKind));
+        }
+
+        @Override
+        public int hashCode() {
+            return (this.requestUrl.hashCode() * prime1 + this.resultKind.hashCode() * prime2);
+        }
+    }
+
+    /**
+     * Converts an element of a JSON array to an object, reading it directly from a {@link JsonParser}.
+     *
+     * @param <T> The type to convert the element to.
+     */
+    @FunctionalInterface
+    protected interface JsonElementMapper<T> {
+
+        /**
+         * Converts the element at the current position of the specified parser.
+         *
+         * @param parser The parser, positioned at the first token of the element.  Must be left positioned at the last token of the element.
+         * @return The converted element.
+         */
+        T map(JsonParser parser) throws IOException;
+    }
+
     /**
      * Container/model class holding parameters passed to a routine which handles a {@link HttpResponse}.
      */
@@ -532,5 +2066,360 @@ public abstract class AccessManagerClientBase<TUser, TGroup, TComponent, TAccess
         }
     }
 
+    /**
+     * A {@link HttpResponse.BodyHandler} which inspects the response status before the body is received, discarding the body if the status is one of a set of expected success 
+     * statuses, and otherwise buffering it as a string (so that it can be passed to {@link #handleNonSuccessResponseStatus(HttpMethod, URI, int, String)}).
+     */
+    protected class StatusFirstBodyHandler implements HttpResponse.BodyHandler<String> {
+
+        /** The response statuses for which the body is discarded. */
+        protected int[] successStatuses;
+
+        /**
+         * Constructs a StatusFirstBodyHandler.
+         *
+         * @param successStatuses The response statuses for which the body is discarded.
+         */
+        public StatusFirstBodyHandler(int... successStatuses) {
+            this.successStatuses = successStatuses;
+        }
+
+        @Override
+        public HttpResponse.BodySubscriber<String> apply(HttpResponse.ResponseInfo responseInfo) {
+
+            for (int currentSuccessStatus : successStatuses) {
+                if (responseInfo.statusCode() == currentSuccessStatus) {
+                    return HttpResponse.BodySubscribers.replacing(null);
+                }
+            }
+
+            return HttpResponse.BodySubscribers.ofString(defaultCharset);
+        }
+    }
+
+    /**
+     * A {@link Flow.Publisher} which sends an HTTP GET request returning a JSON array each time a subscriber subscribes, and publishes the elements of the array as they are 
+     * incrementally parsed from the response body.
+     * <p>
+     * Chunks of the response body are only requested from the {@link HttpClient} while the subscriber has outstanding demand and no parsed elements are waiting to be 
+     * delivered, so a slow subscriber throttles reading from the connection.
+     * </p>
+     *
+     * @param <TRaw> The type to deserialize each element of the array to.
+     * @param <T> The type of the published elements.
+     */
+    protected class JsonArrayPublisher<TRaw, T> implements Flow.Publisher<T> {
+
+        /** The URL of the request. */
+        protected URI requestUrl;
+        /** The type to deserialize each element of the array to. */
+        protected Class<TRaw> rawElementType;
+        /** Reads each element of the array. */
+        protected ObjectReader elementReader;
+        /** Converts each deserialized element to a published element. */
+        protected Function<TRaw, T> elementConverter;
+
+        /**
+         * Constructs a JsonArrayPublisher.
+         *
+         * @param requestUrl The URL of the request.
+         * @param rawElementType The type to deserialize each element of the array to.
+         * @param elementConverter Converts each deserialized element to a published element.
+         */
+        public JsonArrayPublisher(URI requestUrl, Class<TRaw> rawElementType, Function<TRaw, T> elementConverter) {
+            this.requestUrl = requestUrl;
+            this.rawElementType = rawElementType;
+            elementReader = getElementTypeReader(rawElementType);
+            this.elementConverter = elementConverter;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super T> subscriber) {
+
+            var subscription = new JsonArraySubscription(subscriber);
+            subscriber.onSubscribe(subscription);
+            Builder requestBuilder = HttpRequest.newBuilder(requestUrl).GET();
+            setHttpRequestAcceptHeader(requestBuilder);
+            CompletableFuture<HttpResponse<String>> responseFuture = httpClient.sendAsync(requestBuilder.build(), subscription::createBodySubscriber);
+            subscription.setResponseFuture(responseFuture);
+            responseFuture.whenComplete((HttpResponse<String> response, Throwable exception) -> {
+                if (exception != null) {
+                    subscription.fail(unwrapCompletionException(exception));
+                }
+                else if (response.statusCode() != 200) {
+                    try {
+                        handleNonSuccessResponseStatus(HttpMethod.GET, requestUrl, response.statusCode(), response.body());
+                    }
+                    catch (RuntimeException e) {
+                        subscription.fail(e);
+                    }
+                }
+            });
+        }
+
+        /**
+         * Subscription to a {@link JsonArrayPublisher}, which also subscribes to the chunks of the response body and parses them.
+         */
+        protected class JsonArraySubscription implements Flow.Subscription, Flow.Subscriber<List<ByteBuffer>> {
+
+            /** The subscriber to publish elements to. */
+            protected Flow.Subscriber<? super T> subscriber;
+            /** Parses the chunks of the response body as they are received. */
+            protected JsonParser parser;
+            /** Holds the tokens of the element currently being parsed, or null if no element is being parsed. */
+            protected TokenBuffer elementTokens;
+            /** The nesting depth of the current token, where 1 is the depth of the elements of the array. */
+            protected int depth;
+            /** Elements which have been parsed but not yet published. */
+            protected ConcurrentLinkedQueue<T> parsedElements;
+            /** The number of elements requested by the subscriber which have not yet been published. */
+            protected AtomicLong demand;
+            /** Counts calls to drain() which are pending, so that only a single thread publishes at a time. */
+            protected AtomicInteger drainCount;
+            /** Subscription to the chunks of the response body, or null if the body has not yet been received. */
+            protected volatile Flow.Subscription bodySubscription;
+            /** Whether a chunk of the response body has been requested and not yet received. */
+            protected AtomicBoolean chunkRequested;
+            /** Whether the whole of the response body has been received and parsed. */
+            protected volatile boolean bodyComplete;
+            /** The exception which caused the request to fail, or null if it has not failed. */
+            protected AtomicReference<Throwable> failure;
+            /** Whether the subscription has been cancelled, or the subscriber has been sent a completion or error signal. */
+            protected volatile boolean finished;
+            /** The future for the response to the request, or null if the request has not yet been sent. */
+            protected volatile CompletableFuture<HttpResponse<String>> responseFuture;
+
+            /**
+             * Constructs a JsonArraySubscription.
+             *
+             * @param subscriber The subscriber to publish elements to.
+             */
+            public JsonArraySubscription(Flow.Subscriber<? super T> subscriber) {
+                this.subscriber = subscriber;
+                elementTokens = null;
+                depth = 0;
+                parsedElements = new ConcurrentLinkedQueue<T>();
+                demand = new AtomicLong(0);
+                drainCount = new AtomicInteger(0);
+                bodySubscription = null;
+                chunkRequested = new AtomicBoolean(false);
+                bodyComplete = false;
+                failure = new AtomicReference<Throwable>(null);
+                finished = false;
+                responseFuture = null;
+            }
+
+            @Override
+            public void request(long n) {
+
+                if (n <= 0) {
+                    fail(new IllegalArgumentException(String.format("Parameter 'n' with value %d must be greater than 0.", n)));
+                    return;
+                }
+                demand.accumulateAndGet(n, (long current, long requested) -> {
+                    long total = current + requested;
+                    return total < 0 ? Long.MAX_VALUE : total;
+                });
+                drain();
+            }
+
+            @Override
+            public void cancel() {
+
+                finished = true;
+                Flow.Subscription currentBodySubscription = bodySubscription;
+                if (currentBodySubscription != null) {
+                    currentBodySubscription.cancel();
+                }
+                // Cancelling the body subscription alone leaves the exchange open (which would block closing of the HttpClient), so also abort the exchange
+                CompletableFuture<HttpResponse<String>> currentResponseFuture = responseFuture;
+                if (currentResponseFuture != null) {
+                    currentResponseFuture.cancel(true);
+                }
+            }
+
+            /**
+             * Sets the future for the response to the request, aborting the request if the subscription has already been cancelled.
+             *
+             * @param responseFuture The future for the response.
+             */
+            protected void setResponseFuture(CompletableFuture<HttpResponse<String>> responseFuture) {
+
+                this.responseFuture = responseFuture;
+                if (finished == true) {
+                    responseFuture.cancel(true);
+                }
+            }
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+
+                try {
+                    parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+                }
+                catch (IOException e) {
+                    subscription.cancel();
+                    fail(e);
+                    return;
+                }
+                bodySubscription = subscription;
+                if (finished == true) {
+                    subscription.cancel();
+                }
+                drain();
+            }
+
+            @Override
+            public void onNext(List<ByteBuffer> chunk) {
+
+                try {
+                    for (ByteBuffer currentBuffer : chunk) {
+                        var bytes = new byte[currentBuffer.remaining()];
+                        currentBuffer.get(bytes);
+                        ((ByteArrayFeeder)parser.getNonBlockingInputFeeder()).feedInput(bytes, 0, bytes.length);
+                        parseAvailableTokens();
+                    }
+                }
+                catch (IOException | RuntimeException e) {
+                    bodySubscription.cancel();
+                    fail(createDeserializationException(requestUrl, HttpMethod.GET, e));
+                    return;
+                }
+                chunkRequested.set(false);
+                drain();
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                fail(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+
+                try {
+                    ((ByteArrayFeeder)parser.getNonBlockingInputFeeder()).endOfInput();
+                    parseAvailableTokens();
+                    if (depth != 0 || elementTokens != null) {
+                        throw new JsonParseException(parser, "Response body ended before the end of the JSON array.");
+                    }
+                }
+                catch (IOException | RuntimeException e) {
+                    fail(createDeserializationException(requestUrl, HttpMethod.GET, e));
+                    return;
+                }
+                bodyComplete = true;
+                drain();
+            }
+
+            /**
+             * Creates the subscriber for the body of the response, parsing the body incrementally if the response status indicates success, or reading it to a string otherwise.
+             *
+             * @param responseInfo The status and headers of the response.
+             * @return The body subscriber.
+             */
+            protected HttpResponse.BodySubscriber<String> createBodySubscriber(HttpResponse.ResponseInfo responseInfo) {
+
+                if (responseInfo.statusCode() == 200) {
+                    return HttpResponse.BodySubscribers.fromSubscriber(this, (JsonArraySubscription subscription) -> null);
+                }
+                else {
+                    return HttpResponse.BodySubscribers.ofString(defaultCharset);
+                }
+            }
+
+            /**
+             * Fails the subscription with the specified exception, if it has not already failed.
+             *
+             * @param exception The exception.
+             */
+            protected void fail(Throwable exception) {
+
+                failure.compareAndSet(null, exception);
+                drain();
+            }
+
+            /**
+             * Reads the tokens available from the parser, adding each array element to the parsed elements once all of its tokens have been read.
+             */
+            protected void parseAvailableTokens() throws IOException {
+
+                JsonToken currentToken;
+                while ((currentToken = parser.nextToken()) != null && currentToken != JsonToken.NOT_AVAILABLE) {
+                    if (depth == 0) {
+                        if (currentToken != JsonToken.START_ARRAY) {
+                            throw new JsonParseException(parser, "Expected response body to contain a JSON array.");
+                        }
+                        depth = 1;
+                    }
+                    else if (depth == 1 && currentToken == JsonToken.END_ARRAY) {
+                        depth = 0;
+                    }
+                    else {
+                        if (elementTokens == null) {
+                            elementTokens = new TokenBuffer(parser);
+                        }
+                        elementTokens.copyCurrentEvent(parser);
+                        if (currentToken.isStructStart() == true) {
+                            depth++;
+                        }
+                        else if (currentToken.isStructEnd() == true) {
+                            depth--;
+                        }
+                        if (depth == 1) {
+                            try (JsonParser elementParser = elementTokens.asParser()) {
+                                parsedElements.add(elementConverter.apply(elementReader.readValue(elementParser)));
+                            }
+                            elementTokens = null;
+                        }
+                    }
+                }
+            }
+
+            /**
+             * Publishes parsed elements to the subscriber while it has outstanding demand, requests further chunks of the response body when all parsed elements have been 
+             * published, and signals completion or failure to the subscriber.
+             */
+            protected void drain() {
+
+                if (drainCount.getAndIncrement() != 0) {
+                    return;
+                }
+                int missedCount = 1;
+                while (true) {
+                    while (finished == false && demand.get() > 0 && parsedElements.isEmpty() == false) {
+                        subscriber.onNext(parsedElements.poll());
+                        if (demand.get() != Long.MAX_VALUE) {
+                            demand.decrementAndGet();
+                        }
+                    }
+                    if (finished == false) {
+                        if (failure.get() != null) {
+                            finished = true;
+                            Flow.Subscription currentBodySubscription = bodySubscription;
+                            if (currentBodySubscription != null) {
+                                currentBodySubscription.cancel();
+                            }
+                            subscriber.onError(failure.get());
+                        }
+                        else if (parsedElements.isEmpty() == true) {
+                            if (bodyComplete == true) {
+                                finished = true;
+                                subscriber.onComplete();
+                            }
+                            else if (demand.get() > 0 && bodySubscription != null && chunkRequested.compareAndSet(false, true) == true) {
+                                bodySubscription.request(1);
+                            }
+                        }
+                    }
+                    missedCount = drainCount.addAndGet(-missedCount);
+                    if (missedCount == 0) {
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
     //#endregion
 }
@@ -0,0 +1,162 @@
+package net.alastairwyse.applicationaccessclient;
+
+/**
+ * A set of {@link ElementDictionary} instances, one for each type of element in an AccessManager, which can be shared between local caches and indexes so that they agree on
+ * element ids.  Also packs the tuple-valued elements (application component and access level pairs, and entity type and entity pairs) into long keys.
+ *
+ * @param <TUser> The type of users in the AccessManager.
+ * @param <TGroup> The type of groups in the AccessManager.
+ * @param <TComponent> The type of components in the AccessManager.
+ * @param <TAccess> The type of levels of access which can be assigned to an application component.
+ */
+public class AccessManagerElementDictionaries<TUser, TGroup, TComponent, TAccess> {
+
+    /** Dictionary of users. */
+    protected ElementDictionary<TUser> users;
+    /** Dictionary of groups. */
+    protected ElementDictionary<TGroup> groups;
+    /** Dictionary of application components. */
+    protected ElementDictionary<TComponent> applicationComponents;
+    /** Dictionary of access levels. */
+    protected ElementDictionary<TAccess> accessLevels;
+    /** Dictionary of entity types. */
+    protected ElementDictionary<String> entityTypes;
+    /** Dictionary of entities (shared across all entity types). */
+    protected ElementDictionary<String> entities;
+
+    /**
+     * Constructs an AccessManagerElementDictionaries which keys elements by their stringified form (entity types and entities are keyed by their string values).  Keying by the
+     * stringified form ensures that equal elements are assigned the same id even if their type doesn't implement equals() and hashCode() consistently with the AccessManager.
+     *
+     * @param userStringifier A string converter for users.
+     * @param groupStringifier A string converter for groups.
+     * @param applicationComponentStringifier A string converter for application components.
+     * @param accessLevelStringifier A string converter for access levels.
+     */
+    public AccessManagerElementDictionaries(
+        UniqueStringifier<TUser> userStringifier,
+        UniqueStringifier<TGroup> groupStringifier,
+        UniqueStringifier<TComponent> applicationComponentStringifier,
+        UniqueStringifier<TAccess> accessLevelStringifier
+    ) {
+
+        if (userStringifier == null) {
+            throw new IllegalArgumentException("Parameter 'userStringifier' cannot be null.");
+        }
+        if (groupStringifier == null) {
+            throw new IllegalArgumentException("Parameter 'groupStringifier' cannot be null.");
+        }
+        if (applicationComponentStringifier == null) {
+            throw new IllegalArgumentException("Parameter 'applicationComponentStringifier' cannot be null.");
+        }
+        if (accessLevelStringifier == null) {
+            throw new IllegalArgumentException("Parameter 'accessLevelStringifier' cannot be null.");
+        }
+        users = new ElementDictionary<TUser>(userStringifier);
+        groups = new ElementDictionary<TGroup>(groupStringifier);
+        applicationComponents = new ElementDictionary<TComponent>(applicationComponentStringifier);
+        accessLevels = new ElementDictionary<TAccess>(accessLevelStringifier);
+        entityTypes = new ElementDictionary<String>();
+        entities = new ElementDictionary<String>();
+    }
+
+    /**
+     * @return Dictionary of users.
+     */
+    public ElementDictionary<TUser> getUsers() {
+        return users;
+    }
+
+    /**
+     * @return Dictionary of groups.
+     */
+    public ElementDictionary<TGroup> getGroups() {
+        return groups;
+    }
+
+    /**
+     * @return Dictionary of application components.
+     */
+    public ElementDictionary<TComponent> getApplicationComponents() {
+        return applicationComponents;
+    }
+
+    /**
+     * @return Dictionary of access levels.
+     */
+    public ElementDictionary<TAccess> getAccessLevels() {
+        return accessLevels;
+    }
+
+    /**
+     * @return Dictionary of entity types.
+     */
+    public ElementDictionary<String> getEntityTypes() {
+        return entityTypes;
+    }
+
+    /**
+     * @return Dictionary of entities.
+     */
+    public ElementDictionary<String> getEntities() {
+        return entities;
+    }
+
+    /**
+     * Gets the packed key for the specified application component and access level, interning either if it hasn't been interned.
+     *
+     * @param applicationComponent The application component.
+     * @param accessLevel The level of access to the component.
+     * @return The packed key.
+     */
+    public long getOrAddApplicationComponentAndAccessLevelKey(TComponent applicationComponent, TAccess accessLevel) {
+        return ElementDictionary.packIds(applicationComponents.getOrAddId(applicationComponent), accessLevels.getOrAddId(accessLevel));
+    }
+
+    /**
+     * Gets the packed key for the specified application component and access level.
+     *
+     * @param applicationComponent The application component.
+     * @param accessLevel The level of access to the component.
+     * @return The packed key, or -1 if either the application component or access level hasn't been interned.
+     */
+    public long getApplicationComponentAndAccessLevelKey(TComponent applicationComponent, TAccess accessLevel) {
+
+        int applicationComponentId = applicationComponents.getId(applicationComponent);
+        int accessLevelId = accessLevels.getId(accessLevel);
+        if (applicationComponentId == -1 || accessLevelId == -1) {
+            return -1;
+        }
+
+        return ElementDictionary.packIds(applicationComponentId, accessLevelId);
+    }
+
+    /**
+     * Gets the packed key for the specified entity type and entity, interning either if it hasn't been interned.
+     *
+     * @param entityType The type of the entity.
+     * @param entity The entity.
+     * @return The packed key.
+     */
+    public long getOrAddEntityKey(String entityType, String entity) {
+        return ElementDictionary.packIds(entityTypes.getOrAddId(entityType), entities.getOrAddId(entity));
+    }
+
+    /**
+     * Gets the packed key for the specified entity type and entity.
+     *
+     * @param entityType The type of the entity.
+     * @param entity The entity.
+     * @return The packed key, or -1 if either the entity type or entity hasn't been interned.
+     */
+    public long getEntityKey(String entityType, String entity) {
+
+        int entityTypeId = entityTypes.getId(entityType);
+        int entityId = entities.getId(entity);
+        if (entityTypeId == -1 || entityId == -1) {
+            return -1;
+        }
+
+        return ElementDictionary.packIds(entityTypeId, entityId);
+    }
+}
@@ -0,0 +1,181 @@
+package net.alastairwyse.applicationaccessclient;
+
+import java.util.List;
+import java.util.Set;
+
+import net.alastairwyse.applicationaccessclient.models.ApplicationComponentAndAccessLevel;
+import net.alastairwyse.applicationaccessclient.models.EntityTypeAndEntity;
+
+/**
+ * Base for classes which decorate an {@link AccessManagerQueryProcessor}, and by default pass all queries through to the decorated instance.
+ * 
+ * @param <TUser> The type of users in the AccessManager.
+ * @param <TGroup> The type of groups in the AccessManager.
+ * @param <TComponent> The type of components in the AccessManager.
+ * @param <TAccess> The type of levels of access which can be assigned to an application component.
+ */
+public abstract class AccessManagerQueryProcessorDecoratorBase<TUser, TGroup, TComponent, TAccess> 
+    implements AccessManagerQueryProcessor<TUser, TGroup, TComponent, TAccess> {
+
+    /** The query processor to pass queries through to. */
+    protected AccessManagerQueryProcessor<TUser, TGroup, TComponent, TAccess> queryProcessor;
+
+    /**
+     * Constructs an AccessManagerQueryProcessorDecoratorBase.
+     * 
+     * @param queryProcessor The query processor to pass queries through to.
+     */
+    public AccessManagerQueryProcessorDecoratorBase(AccessManagerQueryProcessor<TUser, TGroup, TComponent, TAccess> queryProcessor) {
+        this.queryProcessor = queryProcessor;
+    }
+
+    @Override
+    public List<TUser> getUsers() throws Exception {
+        return queryProcessor.getUsers();
+    }
+
+    @Override
+    public List<TGroup> getGroups() throws Exception {
+        return queryProcessor.getGroups();
+    }
+
+    @Override
+    public List<String> getEntityTypes() throws Exception {
+        return queryProcessor.getEntityTypes();
+    }
+
+    @Override
+    public boolean containsUser(TUser user) throws Exception {
+        return queryProcessor.containsUser(user);
+    }
+
+    @Override
+    public boolean containsGroup(TGroup group) throws Exception {
+        return queryProcessor.containsGroup(group);
+    }
+
+    @Override
+    public List<TGroup> getUserToGroupMappings(TUser user, boolean includeIndirectMappings) throws Exception {
+        return queryProcessor.getUserToGroupMappings(user, includeIndirectMappings);
+    }
+
+    @Override
+    public List<TUser> getGroupToUserMappings(TGroup group, Boolean includeIndirectMappings) throws Exception {
+        return queryProcessor.getGroupToUserMappings(group, includeIndirectMappings);
+    }
+
+    @Override
+    public List<TGroup> getGroupToGroupMappings(TGroup group, boolean includeIndirectMappings) throws Exception {
+        return queryProcessor.getGroupToGroupMappings(group, includeIndirectMappings);
+    }
+
+    @Override
+    public List<TGroup> getGroupToGroupReverseMappings(TGroup group, Boolean includeIndirectMappings) throws Exception {
+        return queryProcessor.getGroupToGroupReverseMappings(group, includeIndirectMappings);
+    }
+
+    @Override
+    public List<ApplicationComponentAndAccessLevel<TComponent, TAccess>> getUserToApplicationComponentAndAccessLevelMappings(TUser user) throws Exception {
+        return queryProcessor.getUserToApplicationComponentAndAccessLevelMappings(user);
+    }
+
+    @Override
+    public List<TUser> getApplicationComponentAndAccessLevelToUserMappings(TComponent applicationComponent, TAccess accessLevel, Boolean includeIndirectMappings) throws Exception {
+        return queryProcessor.getApplicationComponentAndAccessLevelToUserMappings(applicationComponent, accessLevel, includeIndirectMappings);
+    }
+
+    @Override
+    public List<ApplicationComponentAndAccessLevel<TComponent, TAccess>> getGroupToApplicationComponentAndAccessLevelMappings(TGroup group) throws Exception {
+        return queryProcessor.getGroupToApplicationComponentAndAccessLevelMappings(group);
+    }
+
+    @Override
+    public List<TGroup> getApplicationComponentAndAccessLevelToGroupMappings(TComponent applicationComponent, TAccess accessLevel, Boolean includeIndirectMappings) throws Exception {
+        return queryProcessor.getApplicationComponentAndAccessLevelToGroupMappings(applicationComponent, accessLevel, includeIndirectMappings);
+    }
+
+    @Override
+    public boolean containsEntityType(String entityType) throws Exception {
+        return queryProcessor.containsEntityType(entityType);
+    }
+
+    @Override
+    public List<String> getEntities(String entityType) throws Exception {
+        return queryProcessor.getEntities(entityType);
+    }
+
+    @Override
+    public boolean containsEntity(String entityType, String entity) throws Exception {
+        return queryProcessor.containsEntity(entityType, entity);
+    }
+
+    @Override
+    public List<EntityTypeAndEntity> getUserToEntityMappings(TUser user) throws Exception {
+        return queryProcessor.getUserToEntityMappings(user);
+    }
+
+    @Override
+    public List<String> getUserToEntityMappings(TUser user, String entityType) throws Exception {
+        return queryProcessor.getUserToEntityMappings(user, entityType);
+    }
+
+    @Override
+    public List<TUser> getEntityToUserMappings(String entityType, String entity, Boolean includeIndirectMappings) throws Exception {
+        return queryProcessor.getEntityToUserMappings(entityType, entity, includeIndirectMappings);
+    }
+
+    @Override
+    public List<EntityTypeAndEntity> getGroupToEntityMappings(TGroup group) throws Exception {
+        return queryProcessor.getGroupToEntityMappings(group);
+    }
+
+    @Override
+    public List<String> getGroupToEntityMappings(TGroup group, String entityType) throws Exception {
+        return queryProcessor.getGroupToEntityMappings(group, entityType);
+    }
+
+    @Override
+    public List<TGroup> getEntityToGroupMappings(String entityType, String entity, Boolean includeIndirectMappings) throws Exception {
+        return queryProcessor.getEntityToGroupMappings(entityType, entity, includeIndirectMappings);
+    }
+
+    @Override
+    public boolean hasAccessToApplicationComponent(TUser user, TComponent applicationComponent, TAccess accessLevel) throws Exception {
+        return queryProcessor.hasAccessToApplicationComponent(user, applicationComponent, accessLevel);
+    }
+
+    @Override
+    public boolean hasAccessToEntity(TUser user, String entityType, String entity) throws Exception {
+        return queryProcessor.hasAccessToEntity(user, entityType, entity);
+    }
+
+    @Override
+    public Set<ApplicationComponentAndAccessLevel<TComponent, TAccess>> getApplicationComponentsAccessibleByUser(TUser user) throws Exception {
+        return queryProcessor.getApplicationComponentsAccessibleByUser(user);
+    }
+
+    @Override
+    public Set<ApplicationComponentAndAccessLevel<TComponent, TAccess>> getApplicationComponentsAccessibleByGroup(TGroup group) throws Exception {
+        return queryProcessor.getApplicationComponentsAccessibleByGroup(group);
+    }
+
+    @Override
+    public Set<EntityTypeAndEntity> getEntitiesAccessibleByUser(TUser user) throws Exception {
+        return queryProcessor.getEntitiesAccessibleByUser(user);
+    }
+
+    @Override
+    public Set<String> getEntitiesAccessibleByUser(TUser user, String entityType) throws Exception {
+        return queryProcessor.getEntitiesAccessibleByUser(user, entityType);
+    }
+
+    @Override
+    public Set<EntityTypeAndEntity> getEntitiesAccessibleByGroup(TGroup group) throws Exception {
+        return queryProcessor.getEntitiesAccessibleByGroup(group);
+    }
+
+    @Override
+    public Set<String> getEntitiesAccessibleByGroup(TGroup group, String entityType) throws Exception {
+        return queryProcessor.getEntitiesAccessibleByGroup(group, entityType);
+    }
+}
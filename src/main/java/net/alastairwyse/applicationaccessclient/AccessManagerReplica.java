@@ -0,0 +1,739 @@
+package net.alastairwyse.applicationaccessclient;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+
+import net.alastairwyse.applicationaccessclient.exceptions.ElementNotFoundException;
+import net.alastairwyse.applicationaccessclient.models.ApplicationComponentAndAccessLevel;
+import net.alastairwyse.applicationaccessclient.models.EntityTypeAndEntity;
+
+/**
+ * An immutable, in-memory copy of the complete contents of an AccessManager, which evaluates all queries locally.
+ * <p>
+ * Instances are created via the {@link #load(AccessManagerQueryProcessor)} method, which bulk-loads all elements and direct mappings from another {@link AccessManagerQueryProcessor}.
+ * Indirect mappings (i.e. those which occur via group to group mappings) are evaluated using a {@link GroupHierarchyIndex} built when the replica is loaded.
+ * </p>
+ *
+ * @param <TUser> The type of users in the AccessManager.
+ * @param <TGroup> The type of groups in the AccessManager.
+ * @param <TComponent> The type of components in the AccessManager.
+ * @param <TAccess> The type of levels of access which can be assigned to an application component.
+ */
+public class AccessManagerReplica<TUser, TGroup, TComponent, TAccess> implements AccessManagerQueryProcessor<TUser, TGroup, TComponent, TAccess> {
+
+    /** All users. */
+    protected LinkedHashSet<TUser> users;
+    /** All groups. */
+    protected LinkedHashSet<TGroup> groups;
+    /** All entity types, and the entities of each type. */
+    protected LinkedHashMap<String, LinkedHashSet<String>> entities;
+    /** The groups each user is directly mapped to. */
+    protected Map<TUser, Set<TGroup>> userToGroupMap;
+    /** The users directly mapped to each group. */
+    protected Map<TGroup, Set<TUser>> groupToUserMap;
+    /** The groups each group is directly mapped to. */
+    protected Map<TGroup, Set<TGroup>> groupToGroupMap;
+    /** The groups directly mapped to each group. */
+    protected Map<TGroup, Set<TGroup>> groupToGroupReverseMap;
+    /** The transitive closure of the group to group mappings. */
+    protected GroupHierarchyIndex<TGroup> groupHierarchyIndex;
+    /** The application component and access level pairs each user is directly mapped to. */
+    protected Map<TUser, Set<ApplicationComponentAndAccessLevel<TComponent, TAccess>>> userToApplicationComponentAndAccessLevelMap;
+    /** The users directly mapped to each application component and access level pair. */
+    protected Map<ApplicationComponentAndAccessLevel<TComponent, TAccess>, Set<TUser>> applicationComponentAndAccessLevelToUserMap;
+    /** The application component and access level pairs each group is directly mapped to. */
+    protected Map<TGroup, Set<ApplicationComponentAndAccessLevel<TComponent, TAccess>>> groupToApplicationComponentAndAccessLevelMap;
+    /** The groups directly mapped to each application component and access level pair. */
+    protected Map<ApplicationComponentAndAccessLevel<TComponent, TAccess>, Set<TGroup>> applicationComponentAndAccessLevelToGroupMap;
+    /** The entities each user is directly mapped to. */
+    protected Map<TUser, Set<EntityTypeAndEntity>> userToEntityMap;
+    /** The users directly mapped to each entity. */
+    protected Map<EntityTypeAndEntity, Set<TUser>> entityToUserMap;
+    /** The entities each group is directly mapped to. */
+    protected Map<TGroup, Set<EntityTypeAndEntity>> groupToEntityMap;
+    /** The groups directly mapped to each entity. */
+    protected Map<EntityTypeAndEntity, Set<TGroup>> entityToGroupMap;
+
+    /**
+     * Constructs an empty AccessManagerReplica.
+     */
+    protected AccessManagerReplica() {
+        users = new LinkedHashSet<TUser>();
+        groups = new LinkedHashSet<TGroup>();
+        entities = new LinkedHashMap<String, LinkedHashSet<String>>();
+        userToGroupMap = new HashMap<TUser, Set<TGroup>>();
+        groupToUserMap = new HashMap<TGroup, Set<TUser>>();
+        groupToGroupMap = new HashMap<TGroup, Set<TGroup>>();
+        groupToGroupReverseMap = new HashMap<TGroup, Set<TGroup>>();
+        groupHierarchyIndex = new GroupHierarchyIndex<TGroup>();
+        userToApplicationComponentAndAccessLevelMap = new HashMap<TUser, Set<ApplicationComponentAndAccessLevel<TComponent, TAccess>>>();
+        applicationComponentAndAccessLevelToUserMap = new HashMap<ApplicationComponentAndAccessLevel<TComponent, TAccess>, Set<TUser>>();
+        groupToApplicationComponentAndAccessLevelMap = new HashMap<TGroup, Set<ApplicationComponentAndAccessLevel<TComponent, TAccess>>>();
+        applicationComponentAndAccessLevelToGroupMap = new HashMap<ApplicationComponentAndAccessLevel<TComponent, TAccess>, Set<TGroup>>();
+        userToEntityMap = new HashMap<TUser, Set<EntityTypeAndEntity>>();
+        entityToUserMap = new HashMap<EntityTypeAndEntity, Set<TUser>>();
+        groupToEntityMap = new HashMap<TGroup, Set<EntityTypeAndEntity>>();
+        entityToGroupMap = new HashMap<EntityTypeAndEntity, Set<TGroup>>();
+    }
+
+    /**
+     * Creates an AccessManagerReplica containing all elements and mappings in the specified query processor, making all queries on the calling thread.
+     * <p>
+     * Loading requires one query per element type, three queries per user, three queries per group, and one query per entity type.  See
+     * {@link #load(AccessManagerQueryProcessor, Executor)} for the consistency of the loaded replica.
+     * </p>
+     *
+     * @param <TUser> The type of users in the AccessManager.
+     * @param <TGroup> The type of groups in the AccessManager.
+     * @param <TComponent> The type of components in the AccessManager.
+     * @param <TAccess> The type of levels of access which can be assigned to an application component.
+     * @param source The query processor to load the elements and mappings from.
+     * @return The replica.
+     */
+    public static <TUser, TGroup, TComponent, TAccess> AccessManagerReplica<TUser, TGroup, TComponent, TAccess> load(
+        AccessManagerQueryProcessor<TUser, TGroup, TComponent, TAccess> source
+    ) throws Exception {
+        return load(source, (Runnable runnable) -> runnable.run());
+    }
+
+    /**
+     * Creates an AccessManagerReplica containing all elements and mappings in the specified query processor, making the queries for the mappings of each user and group
+     * as tasks on the specified executor, so that the mappings of multiple users and groups can be loaded in parallel.
+     * <p>
+     * Loading requires one query per element type, three queries per user, three queries per group, and one query per entity type.  The users, groups, and entities are read
+     * first, followed by the mappings of each user and group.
+     * </p>
+     * <p>
+     * The replica is not a point-in-time snapshot of the source, as the source may change while the replica is being loaded.  Each set of mappings reflects the source at
+     * the time its query was made, so the replica may contain a change made during the load while not containing another change made before it.  However the replica is
+     * always internally consistent, in that every mapping in the replica refers to a user, group, and entity which is in the replica:
+     * </p>
+     * <ul>
+     *   <li>Mappings to groups or entities which were added to the source after the groups or entities were read (and hence are not in the replica) are excluded.</li>
+     *   <li>Users and groups which were removed from the source after the users or groups were read (i.e. for which a mapping query throws an
+     *     {@link ElementNotFoundException}) are excluded, along with their mappings.</li>
+     * </ul>
+     * <p>
+     * Excluded changes are included by the next load.  If any query fails, queries which have not yet started are cancelled, and the exception is rethrown.
+     * </p>
+     *
+     * @param <TUser> The type of users in the AccessManager.
+     * @param <TGroup> The type of groups in the AccessManager.
+     * @param <TComponent> The type of components in the AccessManager.
+     * @param <TAccess> The type of levels of access which can be assigned to an application component.
+     * @param source The query processor to load the elements and mappings from.  Must be safe to call concurrently from the threads of the executor.
+     * @param executor The executor to run the queries for the mappings of each user and group on.  The size of its thread pool bounds the number of concurrent queries.
+     * @return The replica.
+     */
+    public static <TUser, TGroup, TComponent, TAccess> AccessManagerReplica<TUser, TGroup, TComponent, TAccess> load(
+        AccessManagerQueryProcessor<TUser, TGroup, TComponent, TAccess> source,
+        Executor executor
+    ) throws Exception {
+
+        var replica = new AccessManagerReplica<TUser, TGroup, TComponent, TAccess>();
+        replica.users.addAll(source.getUsers());
+        replica.groups.addAll(source.getGroups());
+        for (String currentEntityType : source.getEntityTypes()) {
+            try {
+                replica.entities.put(currentEntityType, new LinkedHashSet<String>(source.getEntities(currentEntityType)));
+            }
+            catch (ElementNotFoundException e) {
+                // The entity type was removed after the entity types were read
+            }
+        }
+        var userMappings = new LinkedHashMap<TUser, CompletableFuture<ElementMappings<TGroup, TComponent, TAccess>>>();
+        for (TUser currentUser : replica.users) {
+            userMappings.put(currentUser, loadMappingsAsync(() -> {
+                return new ElementMappings<TGroup, TComponent, TAccess>(
+                    source.getUserToGroupMappings(currentUser, false),
+                    source.getUserToApplicationComponentAndAccessLevelMappings(currentUser),
+                    source.getUserToEntityMappings(currentUser)
+                );
+            }, executor));
+        }
+        var groupMappings = new LinkedHashMap<TGroup, CompletableFuture<ElementMappings<TGroup, TComponent, TAccess>>>();
+        for (TGroup currentGroup : replica.groups) {
+            groupMappings.put(currentGroup, loadMappingsAsync(() -> {
+                return new ElementMappings<TGroup, TComponent, TAccess>(
+                    source.getGroupToGroupMappings(currentGroup, false),
+                    source.getGroupToApplicationComponentAndAccessLevelMappings(currentGroup),
+                    source.getGroupToEntityMappings(currentGroup)
+                );
+            }, executor));
+        }
+        var allMappings = new ArrayList<CompletableFuture<ElementMappings<TGroup, TComponent, TAccess>>>(userMappings.values());
+        allMappings.addAll(groupMappings.values());
+        awaitAll(allMappings);
+
+        // Remove users and groups which were removed from the source during the load, before adding any mappings so that mappings to them are excluded
+        for (Map.Entry<TUser, CompletableFuture<ElementMappings<TGroup, TComponent, TAccess>>> currentEntry : userMappings.entrySet()) {
+            if (currentEntry.getValue().join() == null) {
+                replica.users.remove(currentEntry.getKey());
+            }
+        }
+        for (Map.Entry<TGroup, CompletableFuture<ElementMappings<TGroup, TComponent, TAccess>>> currentEntry : groupMappings.entrySet()) {
+            if (currentEntry.getValue().join() == null) {
+                replica.groups.remove(currentEntry.getKey());
+            }
+        }
+        for (TUser currentUser : replica.users) {
+            ElementMappings<TGroup, TComponent, TAccess> currentMappings = userMappings.get(currentUser).join();
+            for (TGroup currentGroup : currentMappings.groups) {
+                if (replica.groups.contains(currentGroup) == true) {
+                    addToMapOfSets(replica.userToGroupMap, currentUser, currentGroup);
+                    addToMapOfSets(replica.groupToUserMap, currentGroup, currentUser);
+                }
+            }
+            for (ApplicationComponentAndAccessLevel<TComponent, TAccess> currentMapping : currentMappings.applicationComponentsAndAccessLevels) {
+                addToMapOfSets(replica.userToApplicationComponentAndAccessLevelMap, currentUser, currentMapping);
+                addToMapOfSets(replica.applicationComponentAndAccessLevelToUserMap, currentMapping, currentUser);
+            }
+            for (EntityTypeAndEntity currentMapping : currentMappings.entities) {
+                if (replica.containsEntity(currentMapping.getEntityType(), currentMapping.getEntity()) == true) {
+                    addToMapOfSets(replica.userToEntityMap, currentUser, currentMapping);
+                    addToMapOfSets(replica.entityToUserMap, currentMapping, currentUser);
+                }
+            }
+        }
+        for (TGroup currentGroup : replica.groups) {
+            ElementMappings<TGroup, TComponent, TAccess> currentMappings = groupMappings.get(currentGroup).join();
+            for (TGroup currentToGroup : currentMappings.groups) {
+                if (replica.groups.contains(currentToGroup) == true) {
+                    addToMapOfSets(replica.groupToGroupMap, currentGroup, currentToGroup);
+                    addToMapOfSets(replica.groupToGroupReverseMap, currentToGroup, currentGroup);
+                }
+            }
+            for (ApplicationComponentAndAccessLevel<TComponent, TAccess> currentMapping : currentMappings.applicationComponentsAndAccessLevels) {
+                addToMapOfSets(replica.groupToApplicationComponentAndAccessLevelMap, currentGroup, currentMapping);
+                addToMapOfSets(replica.applicationComponentAndAccessLevelToGroupMap, currentMapping, currentGroup);
+            }
+            for (EntityTypeAndEntity currentMapping : currentMappings.entities) {
+                if (replica.containsEntity(currentMapping.getEntityType(), currentMapping.getEntity()) == true) {
+                    addToMapOfSets(replica.groupToEntityMap, currentGroup, currentMapping);
+                    addToMapOfSets(replica.entityToGroupMap, currentMapping, currentGroup);
+                }
+            }
+        }
+        replica.groupHierarchyIndex = new GroupHierarchyIndex<TGroup>(replica.groups, replica.groupToGroupMap);
+
+        return replica;
+    }
+
+    @Override
+    public List<TUser> getUsers() {
+        return new ArrayList<TUser>(users);
+    }
+
+    @Override
+    public List<TGroup> getGroups() {
+        return new ArrayList<TGroup>(groups);
+    }
+
+    @Override
+    public List<String> getEntityTypes() {
+        return new ArrayList<String>(entities.keySet());
+    }
+
+    @Override
+    public boolean containsUser(TUser user) {
+        return users.contains(user);
+    }
+
+    @Override
+    public boolean containsGroup(TGroup group) {
+        return groups.contains(group);
+    }
+
+    @Override
+    public List<TGroup> getUserToGroupMappings(TUser user, boolean includeIndirectMappings) {
+
+        throwIfUserDoesntExist(user);
+        Set<TGroup> directGroups = getOrEmpty(userToGroupMap, user);
+        if (includeIndirectMappings == false) {
+            return new ArrayList<TGroup>(directGroups);
+        }
+
+        return groupHierarchyIndex.getGroupsAndMappedGroups(directGroups);
+    }
+
+    @Override
+    public List<TUser> getGroupToUserMappings(TGroup group, Boolean includeIndirectMappings) {
+
+        throwIfGroupDoesntExist(group);
+        if (includeIndirectMappings == false) {
+            return new ArrayList<TUser>(getOrEmpty(groupToUserMap, group));
+        }
+        var results = new LinkedHashSet<TUser>();
+        for (TGroup currentGroup : groupHierarchyIndex.getGroupsAndReverseMappedGroups(Collections.singleton(group))) {
+            results.addAll(getOrEmpty(groupToUserMap, currentGroup));
+        }
+
+        return new ArrayList<TUser>(results);
+    }
+
+    @Override
+    public List<TGroup> getGroupToGroupMappings(TGroup group, boolean includeIndirectMappings) {
+
+        throwIfGroupDoesntExist(group);
+        Set<TGroup> directGroups = getOrEmpty(groupToGroupMap, group);
+        if (includeIndirectMappings == false) {
+            return new ArrayList<TGroup>(directGroups);
+        }
+
+        return groupHierarchyIndex.getGroupToGroupMappings(group, true);
+    }
+
+    @Override
+    public List<TGroup> getGroupToGroupReverseMappings(TGroup group, Boolean includeIndirectMappings) {
+
+        throwIfGroupDoesntExist(group);
+        Set<TGroup> directGroups = getOrEmpty(groupToGroupReverseMap, group);
+        if (includeIndirectMappings == false) {
+            return new ArrayList<TGroup>(directGroups);
+        }
+
+        return groupHierarchyIndex.getGroupToGroupReverseMappings(group, true);
+    }
+
+    @Override
+    public List<ApplicationComponentAndAccessLevel<TComponent, TAccess>> getUserToApplicationComponentAndAccessLevelMappings(TUser user) {
+
+        throwIfUserDoesntExist(user);
+
+        return new ArrayList<ApplicationComponentAndAccessLevel<TComponent, TAccess>>(getOrEmpty(userToApplicationComponentAndAccessLevelMap, user));
+    }
+
+    @Override
+    public List<TUser> getApplicationComponentAndAccessLevelToUserMappings(TComponent applicationComponent, TAccess accessLevel, Boolean includeIndirectMappings) {
+
+        var applicationComponentAndAccessLevel = new ApplicationComponentAndAccessLevel<TComponent, TAccess>(applicationComponent, accessLevel);
+        var results = new LinkedHashSet<TUser>(getOrEmpty(applicationComponentAndAccessLevelToUserMap, applicationComponentAndAccessLevel));
+        if (includeIndirectMappings == true) {
+            Set<TGroup> directGroups = getOrEmpty(applicationComponentAndAccessLevelToGroupMap, applicationComponentAndAccessLevel);
+            for (TGroup currentGroup : groupHierarchyIndex.getGroupsAndReverseMappedGroups(directGroups)) {
+                results.addAll(getOrEmpty(groupToUserMap, currentGroup));
+            }
+        }
+
+        return new ArrayList<TUser>(results);
+    }
+
+    @Override
+    public List<ApplicationComponentAndAccessLevel<TComponent, TAccess>> getGroupToApplicationComponentAndAccessLevelMappings(TGroup group) {
+
+        throwIfGroupDoesntExist(group);
+
+        return new ArrayList<ApplicationComponentAndAccessLevel<TComponent, TAccess>>(getOrEmpty(groupToApplicationComponentAndAccessLevelMap, group));
+    }
+
+    @Override
+    public List<TGroup> getApplicationComponentAndAccessLevelToGroupMappings(TComponent applicationComponent, TAccess accessLevel, Boolean includeIndirectMappings) {
+
+        var applicationComponentAndAccessLevel = new ApplicationComponentAndAccessLevel<TComponent, TAccess>(applicationComponent, accessLevel);
+        Set<TGroup> directGroups = getOrEmpty(applicationComponentAndAccessLevelToGroupMap, applicationComponentAndAccessLevel);
+        if (includeIndirectMappings == false) {
+            return new ArrayList<TGroup>(directGroups);
+        }
+
+        return groupHierarchyIndex.getGroupsAndReverseMappedGroups(directGroups);
+    }
+
+    @Override
+    public boolean containsEntityType(String entityType) {
+        return entities.containsKey(entityType);
+    }
+
+    @Override
+    public List<String> getEntities(String entityType) {
+
+        throwIfEntityTypeDoesntExist(entityType);
+
+        return new ArrayList<String>(entities.get(entityType));
+    }
+
+    @Override
+    public boolean containsEntity(String entityType, String entity) {
+
+        Set<String> entitiesOfType = entities.get(entityType);
+
+        return (entitiesOfType != null && entitiesOfType.contains(entity));
+    }
+
+    @Override
+    public List<EntityTypeAndEntity> getUserToEntityMappings(TUser user) {
+
+        throwIfUserDoesntExist(user);
+
+        return new ArrayList<EntityTypeAndEntity>(getOrEmpty(userToEntityMap, user));
+    }
+
+    @Override
+    public List<String> getUserToEntityMappings(TUser user, String entityType) {
+
+        throwIfUserDoesntExist(user);
+        throwIfEntityTypeDoesntExist(entityType);
+
+        return filterEntitiesByType(getOrEmpty(userToEntityMap, user), entityType);
+    }
+
+    @Override
+    public List<TUser> getEntityToUserMappings(String entityType, String entity, Boolean includeIndirectMappings) {
+
+        throwIfEntityDoesntExist(entityType, entity);
+        var entityTypeAndEntity = new EntityTypeAndEntity(entityType, entity);
+        var results = new LinkedHashSet<TUser>(getOrEmpty(entityToUserMap, entityTypeAndEntity));
+        if (includeIndirectMappings == true) {
+            Set<TGroup> directGroups = getOrEmpty(entityToGroupMap, entityTypeAndEntity);
+            for (TGroup currentGroup : groupHierarchyIndex.getGroupsAndReverseMappedGroups(directGroups)) {
+                results.addAll(getOrEmpty(groupToUserMap, currentGroup));
+            }
+        }
+
+        return new ArrayList<TUser>(results);
+    }
+
+    @Override
+    public List<EntityTypeAndEntity> getGroupToEntityMappings(TGroup group) {
+
+        throwIfGroupDoesntExist(group);
+
+        return new ArrayList<EntityTypeAndEntity>(getOrEmpty(groupToEntityMap, group));
+    }
+
+    @Override
+    public List<String> getGroupToEntityMappings(TGroup group, String entityType) {
+
+        throwIfGroupDoesntExist(group);
+        throwIfEntityTypeDoesntExist(entityType);
+
+        return filterEntitiesByType(getOrEmpty(groupToEntityMap, group), entityType);
+    }
+
+    @Override
+    public List<TGroup> getEntityToGroupMappings(String entityType, String entity, Boolean includeIndirectMappings) {
+
+        throwIfEntityDoesntExist(entityType, entity);
+        Set<TGroup> directGroups = getOrEmpty(entityToGroupMap, new EntityTypeAndEntity(entityType, entity));
+        if (includeIndirectMappings == false) {
+            return new ArrayList<TGroup>(directGroups);
+        }
+
+        return groupHierarchyIndex.getGroupsAndReverseMappedGroups(directGroups);
+    }
+
+    @Override
+    public boolean hasAccessToApplicationComponent(TUser user, TComponent applicationComponent, TAccess accessLevel) {
+
+        throwIfUserDoesntExist(user);
+        var applicationComponentAndAccessLevel = new ApplicationComponentAndAccessLevel<TComponent, TAccess>(applicationComponent, accessLevel);
+        if (getOrEmpty(userToApplicationComponentAndAccessLevelMap, user).contains(applicationComponentAndAccessLevel) == true) {
+            return true;
+        }
+        for (TGroup currentGroup : groupHierarchyIndex.getGroupsAndMappedGroups(getOrEmpty(userToGroupMap, user))) {
+            if (getOrEmpty(groupToApplicationComponentAndAccessLevelMap, currentGroup).contains(applicationComponentAndAccessLevel) == true) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public boolean hasAccessToEntity(TUser user, String entityType, String entity) {
+
+        throwIfUserDoesntExist(user);
+        throwIfEntityDoesntExist(entityType, entity);
+        var entityTypeAndEntity = new EntityTypeAndEntity(entityType, entity);
+        if (getOrEmpty(userToEntityMap, user).contains(entityTypeAndEntity) == true) {
+            return true;
+        }
+        for (TGroup currentGroup : groupHierarchyIndex.getGroupsAndMappedGroups(getOrEmpty(userToGroupMap, user))) {
+            if (getOrEmpty(groupToEntityMap, currentGroup).contains(entityTypeAndEntity) == true) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public Set<ApplicationComponentAndAccessLevel<TComponent, TAccess>> getApplicationComponentsAccessibleByUser(TUser user) {
+
+        throwIfUserDoesntExist(user);
+        var results = new HashSet<ApplicationComponentAndAccessLevel<TComponent, TAccess>>(getOrEmpty(userToApplicationComponentAndAccessLevelMap, user));
+        for (TGroup currentGroup : groupHierarchyIndex.getGroupsAndMappedGroups(getOrEmpty(userToGroupMap, user))) {
+            results.addAll(getOrEmpty(groupToApplicationComponentAndAccessLevelMap, currentGroup));
+        }
+
+        return results;
+    }
+
+    @Override
+    public Set<ApplicationComponentAndAccessLevel<TComponent, TAccess>> getApplicationComponentsAccessibleByGroup(TGroup group) {
+
+        throwIfGroupDoesntExist(group);
+        var results = new HashSet<ApplicationComponentAndAccessLevel<TComponent, TAccess>>();
+        for (TGroup currentGroup : groupHierarchyIndex.getGroupsAndMappedGroups(Collections.singleton(group))) {
+            results.addAll(getOrEmpty(groupToApplicationComponentAndAccessLevelMap, currentGroup));
+        }
+
+        return results;
+    }
+
+    @Override
+    public Set<EntityTypeAndEntity> getEntitiesAccessibleByUser(TUser user) {
+
+        throwIfUserDoesntExist(user);
+        var results = new HashSet<EntityTypeAndEntity>(getOrEmpty(userToEntityMap, user));
+        for (TGroup currentGroup : groupHierarchyIndex.getGroupsAndMappedGroups(getOrEmpty(userToGroupMap, user))) {
+            results.addAll(getOrEmpty(groupToEntityMap, currentGroup));
+        }
+
+        return results;
+    }
+
+    @Override
+    public Set<String> getEntitiesAccessibleByUser(TUser user, String entityType) {
+
+        throwIfEntityTypeDoesntExist(entityType);
+
+        return new HashSet<String>(filterEntitiesByType(getEntitiesAccessibleByUser(user), entityType));
+    }
+
+    @Override
+    public Set<EntityTypeAndEntity> getEntitiesAccessibleByGroup(TGroup group) {
+
+        throwIfGroupDoesntExist(group);
+        var results = new HashSet<EntityTypeAndEntity>();
+        for (TGroup currentGroup : groupHierarchyIndex.getGroupsAndMappedGroups(Collections.singleton(group))) {
+            results.addAll(getOrEmpty(groupToEntityMap, currentGroup));
+        }
+
+        return results;
+    }
+
+    @Override
+    public Set<String> getEntitiesAccessibleByGroup(TGroup group, String entityType) {
+
+        throwIfEntityTypeDoesntExist(entityType);
+
+        return new HashSet<String>(filterEntitiesByType(getEntitiesAccessibleByGroup(group), entityType));
+    }
+
+    //#region Private/Protected Methods
+
+    /**
+     * Runs a function which queries the mappings of a user or group as a task on the specified executor.
+     *
+     * @param <TGroup> The type of groups in the AccessManager.
+     * @param <TComponent> The type of components in the AccessManager.
+     * @param <TAccess> The type of levels of access which can be assigned to an application component.
+     * @param mappingsQuery The function which queries the mappings.
+     * @param executor The executor to run the function on.
+     * @return A future containing the mappings, or null if the user or group no longer exists.
+     */
+    protected static <TGroup, TComponent, TAccess> CompletableFuture<ElementMappings<TGroup, TComponent, TAccess>> loadMappingsAsync(
+        Callable<ElementMappings<TGroup, TComponent, TAccess>> mappingsQuery,
+        Executor executor
+    ) {
+
+        var result = new CompletableFuture<ElementMappings<TGroup, TComponent, TAccess>>();
+        executor.execute(() -> {
+            // Skip the query if the load has already failed
+            if (result.isDone() == true) {
+                return;
+            }
+            try {
+                result.complete(mappingsQuery.call());
+            }
+            catch (ElementNotFoundException e) {
+                result.complete(null);
+            }
+            catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        });
+
+        return result;
+    }
+
+    /**
+     * Waits for all of the specified futures to complete, cancelling any which have not completed if any completes exceptionally or the calling thread is interrupted.
+     *
+     * @param futures The futures to wait for.
+     */
+    protected static void awaitAll(List<? extends CompletableFuture<?>> futures) throws Exception {
+
+        try {
+            for (CompletableFuture<?> currentFuture : futures) {
+                currentFuture.get();
+            }
+        }
+        catch (ExecutionException e) {
+            cancelAll(futures);
+            if (e.getCause() instanceof Exception) {
+                throw (Exception)e.getCause();
+            }
+            throw e;
+        }
+        catch (InterruptedException e) {
+            cancelAll(futures);
+            throw e;
+        }
+    }
+
+    /**
+     * Cancels all of the specified futures.
+     *
+     * @param futures The futures to cancel.
+     */
+    protected static void cancelAll(List<? extends CompletableFuture<?>> futures) {
+        for (CompletableFuture<?> currentFuture : futures) {
+            currentFuture.cancel(false);
+        }
+    }
+
+    /**
+     * Adds a value to the set stored against the specified key in a map of sets, creating the set if it doesn't exist.
+     *
+     * @param <K> The type of keys in the map.
+     * @param <V> The type of values in the sets.
+     * @param map The map to add to.
+     * @param key The key to add the value against.
+     * @param value The value to add.
+     */
+    protected static <K, V> void addToMapOfSets(Map<K, Set<V>> map, K key, V value) {
+        map.computeIfAbsent(key, (K newKey) -> new LinkedHashSet<V>()).add(value);
+    }
+
+    /**
+     * Retrieves the set stored against the specified key in a map of sets.
+     *
+     * @param <K> The type of keys in the map.
+     * @param <V> The type of values in the sets.
+     * @param map The map to retrieve from.
+     * @param key The key to retrieve the set for.
+     * @return The set, or an empty set if the key doesn't exist in the map.
+     */
+    protected static <K, V> Set<V> getOrEmpty(Map<K, Set<V>> map, K key) {
+
+        Set<V> result = map.get(key);
+        if (result == null) {
+            return Collections.emptySet();
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the entities of the specified type from a collection of entities.
+     *
+     * @param entityTypesAndEntities The entities to filter.
+     * @param entityType The type of entities to return.
+     * @return The entities of the specified type.
+     */
+    protected List<String> filterEntitiesByType(Set<EntityTypeAndEntity> entityTypesAndEntities, String entityType) {
+
+        var results = new ArrayList<String>();
+        for (EntityTypeAndEntity currentEntityTypeAndEntity : entityTypesAndEntities) {
+            if (currentEntityTypeAndEntity.getEntityType().equals(entityType)) {
+                results.add(currentEntityTypeAndEntity.getEntity());
+            }
+        }
+
+        return results;
+    }
+
+    /**
+     * Throws an {@link ElementNotFoundException} if the specified user doesn't exist.
+     *
+     * @param user The user to check for.
+     */
+    protected void throwIfUserDoesntExist(TUser user) {
+        if (users.contains(user) == false) {
+            throw new ElementNotFoundException(String.format("User '%s' does not exist.", user), "User", user.toString());
+        }
+    }
+
+    /**
+     * Throws an {@link ElementNotFoundException} if the specified group doesn't exist.
+     *
+     * @param group The group to check for.
+     */
+    protected void throwIfGroupDoesntExist(TGroup group) {
+        if (groups.contains(group) == false) {
+            throw new ElementNotFoundException(String.format("Group '%s' does not exist.", group), "Group", group.toString());
+        }
+    }
+
+    /**
+     * Throws an {@link ElementNotFoundException} if the specified entity type doesn't exist.
+     *
+     * @param entityType The entity type to check for.
+     */
+    protected void throwIfEntityTypeDoesntExist(String entityType) {
+        if (entities.containsKey(entityType) == false) {
+            throw new ElementNotFoundException(String.format("Entity type '%s' does not exist.", entityType), "EntityType", entityType);
+        }
+    }
+
+    /**
+     * Throws an {@link ElementNotFoundException} if the specified entity type or entity doesn't exist.
+     *
+     * @param entityType The type of the entity.
+     * @param entity The entity to check for.
+     */
+    protected void throwIfEntityDoesntExist(String entityType, String entity) {
+        throwIfEntityTypeDoesntExist(entityType);
+        if (entities.get(entityType).contains(entity) == false) {
+            throw new ElementNotFoundException(String.format("Entity '%s' does not exist.", entity), "Entity", entity);
+        }
+    }
+
+    //#endregion
+
+    //#region Nested Classes
+
+    /**
+     * The direct mappings of a user or group, as retrieved from the source of an AccessManagerReplica.
+     *
+     * @param <TGroup> The type of groups in the AccessManager.
+     * @param <TComponent> The type of components in the AccessManager.
+     * @param <TAccess> The type of levels of access which can be assigned to an application component.
+     */
+    protected static class ElementMappings<TGroup, TComponent, TAccess> {
+
+        /** The groups the user or group is directly mapped to. */
+        protected final List<TGroup> groups;
+        /** The application component and access level pairs the user or group is directly mapped to. */
+        protected final List<ApplicationComponentAndAccessLevel<TComponent, TAccess>> applicationComponentsAndAccessLevels;
+        /** The entities the user or group is directly mapped to. */
+        protected final List<EntityTypeAndEntity> entities;
+
+        /**
+         * Constructs an ElementMappings.
+         *
+         * @param groups The groups the user or group is directly mapped to.
+         * @param applicationComponentsAndAccessLevels The application component and access level pairs the user or group is directly mapped to.
+         * @param entities The entities the user or group is directly mapped to.
+         */
+        public ElementMappings(List<TGroup> groups, List<ApplicationComponentAndAccessLevel<TComponent, TAccess>> applicationComponentsAndAccessLevels, List<EntityTypeAndEntity> entities) {
+            this.groups = groups;
+            this.applicationComponentsAndAccessLevels = applicationComponentsAndAccessLevels;
+            this.entities = entities;
+        }
+    }
+
+    //#endregion
+}
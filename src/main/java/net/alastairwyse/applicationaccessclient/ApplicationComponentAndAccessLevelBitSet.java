@@ -0,0 +1,294 @@
+package net.alastairwyse.applicationaccessclient;
+
+import java.util.AbstractSet;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import net.alastairwyse.applicationaccessclient.models.ApplicationComponentAndAccessLevel;
+
+/**
+ * A {@link java.util.Set} of application components and access levels where both the component and access level types are enums, which stores each possible (component,
+ * access level) pair as a single bit in a long array, indexed by the ordinals of the component and access level.
+ * <p>
+ * Membership checks are a single bit test, and a full set of the pairs accessible by a user or group occupies a few words, so sets can be cached for large numbers of users
+ * and groups.  Elements returned by the iterator are created on demand, so are equal to, but not necessarily the same instances as, the elements which were added.
+ * </p>
+ *
+ * @param <TComponent> The type of components in the application to manage access to.  Must be an enum.
+ * @param <TAccess> The type of levels of access which can be assigned to an application component.  Must be an enum.
+ */
+public class ApplicationComponentAndAccessLevelBitSet<TComponent, TAccess> extends AbstractSet<ApplicationComponentAndAccessLevel<TComponent, TAccess>> {
+
+    /** The constants of each enum class used by sets, indexed by ordinal (cached since {@link Class#getEnumConstants()} returns a new copy on each call). */
+    protected static final ClassValue<Object[]> enumConstantsCache = new ClassValue<Object[]>() {
+        @Override
+        protected Object[] computeValue(Class<?> type) {
+            return type.getEnumConstants();
+        }
+    };
+
+    /** The constants of the application component enum, indexed by ordinal (shared between all sets for the enum, and not modified). */
+    protected final TComponent[] applicationComponents;
+    /** The constants of the access level enum, indexed by ordinal (shared between all sets for the enum, and not modified). */
+    protected final TAccess[] accessLevels;
+    /** The bits representing each (component, access level) pair, where the bit for a pair is at index (component ordinal * number of access levels + access level ordinal). */
+    protected final long[] words;
+    /** The number of elements in the set. */
+    protected int size;
+    /** The number of structural modifications made to the set, used to detect concurrent modification during iteration. */
+    protected int modificationCount;
+
+    /**
+     * Constructs an ApplicationComponentAndAccessLevelBitSet.
+     *
+     * @param applicationComponentClass The application component enum class.
+     * @param accessLevelClass The access level enum class.
+     */
+    @SuppressWarnings("unchecked")
+    public ApplicationComponentAndAccessLevelBitSet(Class<TComponent> applicationComponentClass, Class<TAccess> accessLevelClass) {
+
+        if (applicationComponentClass.isEnum() == false) {
+            throw new IllegalArgumentException(String.format("Parameter 'applicationComponentClass' with value '%s' must be an enum.", applicationComponentClass.getName()));
+        }
+        if (accessLevelClass.isEnum() == false) {
+            throw new IllegalArgumentException(String.format("Parameter 'accessLevelClass' with value '%s' must be an enum.", accessLevelClass.getName()));
+        }
+        applicationComponents = (TComponent[])enumConstantsCache.get(applicationComponentClass);
+        accessLevels = (TAccess[])enumConstantsCache.get(accessLevelClass);
+        words = new long[(applicationComponents.length * accessLevels.length + 63) / 64];
+        size = 0;
+        modificationCount = 0;
+    }
+
+    /**
+     * Checks whether the set contains the specified application component and access level, without creating an {@link ApplicationComponentAndAccessLevel}.
+     *
+     * @param applicationComponent The application component.
+     * @param accessLevel The access level.
+     * @return True if the set contains the application component and access level.
+     */
+    public boolean contains(TComponent applicationComponent, TAccess accessLevel) {
+
+        int bitIndex = getBitIndex(applicationComponent, accessLevel);
+        if (bitIndex == -1) {
+            return false;
+        }
+
+        return (words[bitIndex >>> 6] & (1L << bitIndex)) != 0;
+    }
+
+    /**
+     * Adds the specified application component and access level to the set, without creating an {@link ApplicationComponentAndAccessLevel}.
+     *
+     * @param applicationComponent The application component.
+     * @param accessLevel The access level.
+     * @return True if the set did not already contain the application component and access level.
+     */
+    public boolean add(TComponent applicationComponent, TAccess accessLevel) {
+
+        int bitIndex = getBitIndex(applicationComponent, accessLevel);
+        if (bitIndex == -1) {
+            throw new IllegalArgumentException(String.format("Application component '%s' and access level '%s' are not constants of the enums of the set.", applicationComponent, accessLevel));
+        }
+        long mask = 1L << bitIndex;
+        if ((words[bitIndex >>> 6] & mask) != 0) {
+            return false;
+        }
+        words[bitIndex >>> 6] |= mask;
+        size++;
+        modificationCount++;
+
+        return true;
+    }
+
+    @Override
+    public boolean add(ApplicationComponentAndAccessLevel<TComponent, TAccess> element) {
+        return add(element.getApplicationComponent(), element.getAccessLevel());
+    }
+
+    @Override
+    public boolean contains(Object element) {
+
+        if (element instanceof ApplicationComponentAndAccessLevel<?, ?> == false) {
+            return false;
+        }
+        var typedElement = (ApplicationComponentAndAccessLevel<?, ?>)element;
+        int bitIndex = getBitIndex(typedElement.getApplicationComponent(), typedElement.getAccessLevel());
+        if (bitIndex == -1) {
+            return false;
+        }
+
+        return (words[bitIndex >>> 6] & (1L << bitIndex)) != 0;
+    }
+
+    @Override
+    public boolean remove(Object element) {
+
+        if (element instanceof ApplicationComponentAndAccessLevel<?, ?> == false) {
+            return false;
+        }
+        var typedElement = (ApplicationComponentAndAccessLevel<?, ?>)element;
+        int bitIndex = getBitIndex(typedElement.getApplicationComponent(), typedElement.getAccessLevel());
+        if (bitIndex == -1) {
+            return false;
+        }
+
+        return clearBit(bitIndex);
+    }
+
+    @Override
+    public void clear() {
+
+        for (int i = 0; i < words.length; i++) {
+            words[i] = 0;
+        }
+        size = 0;
+        modificationCount++;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<ApplicationComponentAndAccessLevel<TComponent, TAccess>> iterator() {
+        return new BitIterator();
+    }
+
+    //#region Private/Protected Methods
+
+    /**
+     * Returns the index of the bit representing the specified application component and access level.
+     *
+     * @param applicationComponent The application component.
+     * @param accessLevel The access level.
+     * @return The index of the bit, or -1 if the application component or access level are not constants of the enums of the set.
+     */
+    protected int getBitIndex(Object applicationComponent, Object accessLevel) {
+
+        if (applicationComponent instanceof Enum<?> == false || accessLevel instanceof Enum<?> == false) {
+            return -1;
+        }
+        int applicationComponentOrdinal = ((Enum<?>)applicationComponent).ordinal();
+        int accessLevelOrdinal = ((Enum<?>)accessLevel).ordinal();
+        if (applicationComponentOrdinal >= applicationComponents.length || applicationComponents[applicationComponentOrdinal] != applicationComponent) {
+            return -1;
+        }
+        if (accessLevelOrdinal >= accessLevels.length || accessLevels[accessLevelOrdinal] != accessLevel) {
+            return -1;
+        }
+
+        return applicationComponentOrdinal * accessLevels.length + accessLevelOrdinal;
+    }
+
+    /**
+     * Clears the bit at the specified index.
+     *
+     * @param bitIndex The index of the bit.
+     * @return True if the bit was set.
+     */
+    protected boolean clearBit(int bitIndex) {
+
+        long mask = 1L << bitIndex;
+        if ((words[bitIndex >>> 6] & mask) == 0) {
+            return false;
+        }
+        words[bitIndex >>> 6] &= ~mask;
+        size--;
+        modificationCount++;
+
+        return true;
+    }
+
+    //#endregion
+
+    //#region Nested Classes
+
+    /**
+     * Iterates over the set bits of the set in index order.
+     */
+    protected class BitIterator implements Iterator<ApplicationComponentAndAccessLevel<TComponent, TAccess>> {
+
+        /** The index of the next set bit, or -1 if there are no further set bits. */
+        protected int nextBitIndex;
+        /** The index of the bit of the element last returned by next(), or -1 if next() has not been called or remove() has been called since. */
+        protected int lastBitIndex;
+        /** The modification count of the set which the iterator expects. */
+        protected int expectedModificationCount;
+
+        /**
+         * Constructs a BitIterator.
+         */
+        public BitIterator() {
+            nextBitIndex = findNextSetBit(0);
+            lastBitIndex = -1;
+            expectedModificationCount = modificationCount;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextBitIndex != -1;
+        }
+
+        @Override
+        public ApplicationComponentAndAccessLevel<TComponent, TAccess> next() {
+
+            if (modificationCount != expectedModificationCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (nextBitIndex == -1) {
+                throw new NoSuchElementException();
+            }
+            lastBitIndex = nextBitIndex;
+            nextBitIndex = findNextSetBit(lastBitIndex + 1);
+
+            return new ApplicationComponentAndAccessLevel<TComponent, TAccess>(
+                applicationComponents[lastBitIndex / accessLevels.length],
+                accessLevels[lastBitIndex % accessLevels.length]
+            );
+        }
+
+        @Override
+        public void remove() {
+
+            if (lastBitIndex == -1) {
+                throw new IllegalStateException();
+            }
+            if (modificationCount != expectedModificationCount) {
+                throw new ConcurrentModificationException();
+            }
+            clearBit(lastBitIndex);
+            lastBitIndex = -1;
+            expectedModificationCount = modificationCount;
+        }
+
+        /**
+         * Finds the index of the next set bit at or after the specified index.
+         *
+         * @param fromBitIndex The index to search from.
+         * @return The index of the next set bit, or -1 if there are no further set bits.
+         */
+        protected int findNextSetBit(int fromBitIndex) {
+
+            int wordIndex = fromBitIndex >>> 6;
+            if (wordIndex >= words.length) {
+                return -1;
+            }
+            long currentWord = words[wordIndex] & (-1L << fromBitIndex);
+            while (true) {
+                if (currentWord != 0) {
+                    return wordIndex * 64 + Long.numberOfTrailingZeros(currentWord);
+                }
+                wordIndex++;
+                if (wordIndex == words.length) {
+                    return -1;
+                }
+                currentWord = words[wordIndex];
+            }
+        }
+    }
+
+    //#endregion
+}
@@ -0,0 +1,965 @@
+package net.alastairwyse.applicationaccessclient;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+
+import net.alastairwyse.applicationaccessclient.models.ApplicationComponentAndAccessLevel;
+import net.alastairwyse.applicationaccessclient.models.EntityTypeAndEntity;
+import net.alastairwyse.applicationaccessclient.models.datatransferobjects.UserAndGroup;
+import net.alastairwyse.applicationaccessclient.models.datatransferobjects.FromGroupAndToGroup;
+
+/**
+ * Client class which interfaces to an AccessManager instance hosted as a REST web API, sending requests asynchronously via {@link HttpClient#sendAsync}, so that no thread is
+ * blocked while a request is in-flight.
+ * <p>
+ * Returned {@link CompletableFuture}s complete exceptionally with the exceptions thrown by the equivalent {@link AccessManagerClient} methods (wrapped in a
+ * {@link java.util.concurrent.CompletionException} where the future is joined).
+ * </p>
+ * 
+ * @param <TUser> The type of users in the AccessManager.
+ * @param <TGroup> The type of groups in the AccessManager.
+ * @param <TComponent> The type of components in the AccessManager.
+ * @param <TAccess> The type of levels of access which can be assigned to an application component.
+ */
+public class AsyncAccessManagerClient<TUser, TGroup, TComponent, TAccess> 
+    extends AccessManagerClientBase<TUser, TGroup, TComponent, TAccess> 
+    implements AsyncAccessManagerEventProcessor<TUser, TGroup, TComponent, TAccess>, 
+    AsyncAccessManagerQueryProcessor<TUser, TGroup, TComponent, TAccess> {
+
+    /**
+     * Constructs an AsyncAccessManagerClient.
+     * 
+     * @param baseUrl The base URL for the hosted Web API.
+     * @param userStringifier A string converter for users.  Used to convert strings sent to and received from the web API from/to TUser instances.
+     * @param groupStringifier A string converter for groups.  Used to convert strings sent to and received from the web API from/to TGroup instances.
+     * @param applicationComponentStringifier A string converter for access levels.  Used to convert strings sent to and received from the web API from/to TAccess instances.
+     * @param accessLevelStringifier A string converter for access levels.  Used to convert strings sent to and received from the web API from/to TAccess instances.
+     */
+    public AsyncAccessManagerClient(
+        URI baseUrl, 
+        UniqueStringifier<TUser> userStringifier, 
+        UniqueStringifier<TGroup> groupStringifier, 
+        UniqueStringifier<TComponent> applicationComponentStringifier, 
+        UniqueStringifier<TAccess> accessLevelStringifier
+    ) {
+        super(baseUrl, userStringifier, groupStringifier, applicationComponentStringifier, accessLevelStringifier);
+    }
+
+    /**
+     * Constructs an AsyncAccessManagerClient.
+     * 
+     * @param httpClient The client to use to connect.
+     * @param baseUrl The base URL for the hosted Web API.
+     * @param userStringifier A string converter for users.  Used to convert strings sent to and received from the web API from/to TUser instances.
+     * @param groupStringifier A string converter for groups.  Used to convert strings sent to and received from the web API from/to TGroup instances.
+     * @param applicationComponentStringifier A string converter for access levels.  Used to convert strings sent to and received from the web API from/to TAccess instances.
+     * @param accessLevelStringifier A string converter for access levels.  Used to convert strings sent to and received from the web API from/to TAccess instances.
+     */
+    public AsyncAccessManagerClient(
+        HttpClient httpClient, 
+        URI baseUrl, 
+        UniqueStringifier<TUser> userStringifier, 
+        UniqueStringifier<TGroup> groupStringifier, 
+        UniqueStringifier<TComponent> applicationComponentStringifier, 
+        UniqueStringifier<TAccess> accessLevelStringifier
+    ) {
+        super(httpClient, baseUrl, userStringifier, groupStringifier, applicationComponentStringifier, accessLevelStringifier);
+    }
+
+    /**
+     * Constructs an AsyncAccessManagerClient.
+     * 
+     * @param httpClient The client to use to connect.
+     * @param baseUrl The base URL for the hosted Web API.
+     * @param userStringifier A string converter for users.  Used to convert strings sent to and received from the web API from/to TUser instances.
+     * @param groupStringifier A string converter for groups.  Used to convert strings sent to and received from the web API from/to TGroup instances.
+     * @param applicationComponentStringifier A string converter for access levels.  Used to convert strings sent to and received from the web API from/to TAccess instances.
+     * @param accessLevelStringifier A string converter for access levels.  Used to convert strings sent to and received from the web API from/to TAccess instances.
+     * @param requestHeaders HTTP headers to send with each request.
+     */
+    public AsyncAccessManagerClient(
+        HttpClient httpClient, 
+        URI baseUrl, 
+        UniqueStringifier<TUser> userStringifier, 
+        UniqueStringifier<TGroup> groupStringifier, 
+        UniqueStringifier<TComponent> applicationComponentStringifier, 
+        UniqueStringifier<TAccess> accessLevelStringifier, 
+        Map<String, String> requestHeaders
+    ) {
+        super(httpClient, baseUrl, userStringifier, groupStringifier, applicationComponentStringifier, accessLevelStringifier, requestHeaders);
+    }
+    
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public CompletableFuture<List<TUser>> getUsers() {
+
+        var url = createUrl(usersRoute);
+
+        return sendGetRequestAsync(url, stringListType).thenApply((ArrayList<String> rawResults) -> {
+            var results = new ArrayList<TUser>();
+            for (String currentRawResult : rawResults) {
+                results.add(userStringifier.fromString(currentRawResult));
+            }
+
+            return results;
+        });
+    }
+
+    /**
+     * Creates a publisher of all users in the access manager.  Each subscription sends a new request, and users are published as they are parsed from the response body, 
+     * with the body read no faster than the subscriber requests users.
+     * 
+     * @return The publisher.
+     */
+    public Flow.Publisher<TUser> publishUsers() {
+
+        var url = createUrl(usersRoute);
+
+        return createGetRequestForArrayPublisher(url, String.class, (String currentRawResult) -> userStringifier.fromString(currentRawResult));
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public CompletableFuture<List<TGroup>> getGroups() {
+
+        var url = createUrl(groupsRoute);
+
+        return sendGetRequestAsync(url, stringListType).thenApply((ArrayList<String> rawResults) -> {
+            var results = new ArrayList<TGroup>();
+            for (String currentRawResult : rawResults) {
+                results.add(groupStringifier.fromString(currentRawResult));
+            }
+
+            return results;
+        });
+    }
+
+    /**
+     * Creates a publisher of all groups in the access manager.  Each subscription sends a new request, and groups are published as they are parsed from the response body, 
+     * with the body read no faster than the subscriber requests groups.
+     * 
+     * @return The publisher.
+     */
+    public Flow.Publisher<TGroup> publishGroups() {
+
+        var url = createUrl(groupsRoute);
+
+        return createGetRequestForArrayPublisher(url, String.class, (String currentRawResult) -> groupStringifier.fromString(currentRawResult));
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public CompletableFuture<List<String>> getEntityTypes() {
+
+        var url = createUrl(entityTypesRoute);
+
+        return sendGetRequestAsync(url, stringListType).thenApply((ArrayList<String> rawResults) -> new ArrayList<String>(rawResults));
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public CompletableFuture<Void> addUser(TUser user) {
+
+        var url = createUrl(userRoute, encodeUser(user));
+
+        return sendPostRequestAsync(url);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public CompletableFuture<Boolean> containsUser(TUser user) {
+        
+        var url = createUrl(userRoute, encodeUser(user));
+
+        return sendGetRequestForContainsMethodAsync(url);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public CompletableFuture<Void> removeUser(TUser user) {
+
+        var url = createUrl(userRoute, encodeUser(user));
+
+        return sendDeleteRequestAsync(url);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public CompletableFuture<Void> addGroup(TGroup group) {
+
+        var url = createUrl(groupRoute, encodeGroup(group));
+
+        return sendPostRequestAsync(url);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public CompletableFuture<Boolean> containsGroup(TGroup group) {
+        
+        var url = createUrl(groupRoute, encodeGroup(group));
+
+        return sendGetRequestForContainsMethodAsync(url);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public CompletableFuture<Void> removeGroup(TGroup group) {
+
+        var url = createUrl(groupRoute, encodeGroup(group));
+
+        return sendDeleteRequestAsync(url);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public CompletableFuture<Void> addUserToGroupMapping(TUser user, TGroup group) {
+
+        var url = createUrl(userToGroupMappingRoute, 
+            encodeUser(user), 
+            encodeGroup(group)
+        );
+
+        return sendPostRequestAsync(url);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public CompletableFuture<List<TGroup>> getUserToGroupMappings(TUser user, boolean includeIndirectMappings) {
+
+        var url = createUrl(userToGroupMappingsByUserRoute, 
+            encodeUser(user), 
+            String.valueOf(includeIndirectMappings)
+        );
+
+        return sendGetRequestAsync(url, userAndGroupListType).thenApply((ArrayList<UserAndGroup> rawResults) -> {
+            var results = new ArrayList<TGroup>();
+            for (UserAndGroup currentRawResult : rawResults) {
+                results.add(groupStringifier.fromString(currentRawResult.Group));
+            }
+
+            return results;
+        });
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public CompletableFuture<List<TUser>> getGroupToUserMappings(TGroup group, Boolean includeIndirectMappings) {
+
+        var url = createUrl(userToGroupMappingsByGroupRoute, 
+            encodeGroup(group), 
+            String.valueOf(includeIndirectMappings)
+        );
+
+        return sendGetRequestAsync(url, userAndGroupListType).thenApply((ArrayList<UserAndGroup> rawResults) -> {
+            var results = new ArrayList<TUser>();
+            for (UserAndGroup currentRawResult : rawResults) {
+                results.add(userStringifier.fromString(currentRawResult.User));
+            }
+
+            return results;
+        });
+    }
+
+    /**
+     * Creates a publisher of the users that are mapped to the specified group.  Each subscription sends a new request, and users are published as they are parsed from the 
+     * response body, with the body read no faster than the subscriber requests users.
+     * 
+     * @param group The group to retrieve the users for.
+     * @param includeIndirectMappings Whether to include indirect mappings (i.e. those where a user is mapped to the group via other groups).
+     * @return The publisher.
+     */
+    public Flow.Publisher<TUser> publishGroupToUserMappings(TGroup group, Boolean includeIndirectMappings) {
+
+        var url = createUrl(userToGroupMappingsByGroupRoute, 
+            encodeGroup(group), 
+            String.valueOf(includeIndirectMappings)
+        );
+
+        return createGetRequestForArrayPublisher(url, UserAndGroup.class, (UserAndGroup currentRawResult) -> userStringifier.fromString(currentRawResult.User));
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public CompletableFuture<Void> removeUserToGroupMapping(TUser user, TGroup group) {
+
+        var url = createUrl(userToGroupMappingRoute, 
+            encodeUser(user), 
+            encodeGroup(group)
+        );
+
+        return sendDeleteRequestAsync(url);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public CompletableFuture<Void> addGroupToGroupMapping(TGroup fromGroup, TGroup toGroup) {
+
+        var url = createUrl(groupToGroupMappingRoute, 
+            encodeGroup(fromGroup), 
+            encodeGroup(toGroup)
+        );
+
+        return sendPostRequestAsync(url);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public CompletableFuture<List<TGroup>> getGroupToGroupMappings(TGroup group, boolean includeIndirectMappings) {
+
+        var url = createUrl(groupToGroupMappingsByGroupRoute, 
+            encodeGroup(group), 
+            String.valueOf(includeIndirectMappings)
+        );
+
+        return sendGetRequestAsync(url, fromGroupAndToGroupListType).thenApply((ArrayList<FromGroupAndToGroup> rawResults) -> {
+            var results = new ArrayList<TGroup>();
+            for (FromGroupAndToGroup currentRawResult : rawResults) {
+                results.add(groupStringifier.fromString(currentRawResult.ToGroup));
+            }
+
+            return results;
+        });
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public CompletableFuture<List<TGroup>> getGroupToGroupReverseMappings(TGroup group, Boolean includeIndirectMappings) {
+
+        var url = createUrl(groupToGroupReverseMappingsByGroupRoute, 
+            encodeGroup(group), 
+            String.valueOf(includeIndirectMappings)
+        );
+
+        return sendGetRequestAsync(url, fromGroupAndToGroupListType).thenApply((ArrayList<FromGroupAndToGroup> rawResults) -> {
+            var results = new ArrayList<TGroup>();
+            for (FromGroupAndToGroup currentRawResult : rawResults) {
+                results.add(groupStringifier.fromString(currentRawResult.FromGroup));
+            }
+
+            return results;
+        });
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public CompletableFuture<Void> removeGroupToGroupMapping(TGroup fromGroup, TGroup toGroup) {
+
+        var url = createUrl(groupToGroupMappingRoute, 
+            encodeGroup(fromGroup), 
+            encodeGroup(toGroup)
+        );
+
+        return sendDeleteRequestAsync(url);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public CompletableFuture<Void> addUserToApplicationComponentAndAccessLevelMapping(TUser user, TComponent applicationComponent, TAccess accessLevel) {
+
+        var url = createUrl(userToApplicationComponentAndAccessLevelMappingRoute, 
+            encodeUser(user), 
+            encodeApplicationComponent(applicationComponent), 
+            encodeAccessLevel(accessLevel)
+        );
+
+        return sendPostRequestAsync(url);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public CompletableFuture<List<ApplicationComponentAndAccessLevel<TComponent, TAccess>>> getUserToApplicationComponentAndAccessLevelMappings(TUser user) {
+
+        var url = createUrl(userToApplicationComponentAndAccessLevelMappingsByUserRoute, encodeUser(user));
+
+        return sendGetRequestForArrayAsync(url, applicationComponentAndAccessLevelMapper, () -> new ArrayList<ApplicationComponentAndAccessLevel<TComponent, TAccess>>());
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public CompletableFuture<List<TUser>> getApplicationComponentAndAccessLevelToUserMappings(TComponent applicationComponent, TAccess accessLevel, Boolean includeIndirectMappings) {
+
+        var url = createUrl(userToApplicationComponentAndAccessLevelMappingsByApplicationComponentAndAccessLevelRoute, 
+            encodeApplicationComponent(applicationComponent), 
+            encodeAccessLevel(accessLevel), 
+            String.valueOf(includeIndirectMappings)
+        );
+
+        return sendGetRequestAsync(url, userAndApplicationComponentAndAccessLevelListType).thenApply((ArrayList<net.alastairwyse.applicationaccessclient.models.datatransferobjects.UserAndApplicationComponentAndAccessLevel> rawResults) -> {
+            var results = new ArrayList<TUser>();
+            for (var currentRawResult : rawResults) {
+                results.add(userStringifier.fromString(currentRawResult.User));
+            }
+
+            return results;
+        });
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public CompletableFuture<Void> removeUserToApplicationComponentAndAccessLevelMapping(TUser user, TComponent applicationComponent, TAccess accessLevel) {
+        
+        var url = createUrl(userToApplicationComponentAndAccessLevelMappingRoute, 
+            encodeUser(user), 
+            encodeApplicationComponent(applicationComponent), 
+            encodeAccessLevel(accessLevel)
+        );
+
+        return sendDeleteRequestAsync(url);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public CompletableFuture<Void> addGroupToApplicationComponentAndAccessLevelMapping(TGroup group, TComponent applicationComponent, TAccess accessLevel) {
+
+        var url = createUrl(groupToApplicationComponentAndAccessLevelMappingRoute, 
+            encodeGroup(group), 
+            encodeApplicationComponent(applicationComponent), 
+            encodeAccessLevel(accessLevel)
+        );
+
+        return sendPostRequestAsync(url);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public CompletableFuture<List<ApplicationComponentAndAccessLevel<TComponent, TAccess>>> getGroupToApplicationComponentAndAccessLevelMappings(TGroup group) {
+        
+        var url = createUrl(groupToApplicationComponentAndAccessLevelMappingsByGroupRoute, encodeGroup(group));
+
+        return sendGetRequestForArrayAsync(url, applicationComponentAndAccessLevelMapper, () -> new ArrayList<ApplicationComponentAndAccessLevel<TComponent, TAccess>>());
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public CompletableFuture<List<TGroup>> getApplicationComponentAndAccessLevelToGroupMappings(TComponent applicationComponent, TAccess accessLevel, Boolean includeIndirectMappings) {
+
+        var url = createUrl(groupToApplicationComponentAndAccessLevelMappingsByApplicationComponentAndAccessLevelRoute, 
+            encodeApplicationComponent(applicationComponent), 
+            encodeAccessLevel(accessLevel), 
+            String.valueOf(includeIndirectMappings)
+        );
+
+        return sendGetRequestAsync(url, groupAndApplicationComponentAndAccessLevelListType).thenApply((ArrayList<net.alastairwyse.applicationaccessclient.models.datatransferobjects.GroupAndApplicationComponentAndAccessLevel> rawResults) -> {
+            var results = new ArrayList<TGroup>();
+            for (var currentRawResult : rawResults) {
+                results.add(groupStringifier.fromString(currentRawResult.Group));
+            }
+
+            return results;
+        });
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public CompletableFuture<Void> removeGroupToApplicationComponentAndAccessLevelMapping(TGroup group, TComponent applicationComponent, TAccess accessLevel) {
+
+        var url = createUrl(groupToApplicationComponentAndAccessLevelMappingRoute, 
+            encodeGroup(group), 
+            encodeApplicationComponent(applicationComponent), 
+            encodeAccessLevel(accessLevel)
+        );
+
+        return sendDeleteRequestAsync(url);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public CompletableFuture<Void> addEntityType(String entityType) {
+
+        var url = createUrl(entityTypeRoute, encodeUrlComponent(entityType));
+
+        return sendPostRequestAsync(url);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public CompletableFuture<Boolean> containsEntityType(String entityType) {
+        
+        var url = createUrl(entityTypeRoute, encodeUrlComponent(entityType));
+
+        return sendGetRequestForContainsMethodAsync(url);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public CompletableFuture<Void> removeEntityType(String entityType) {
+
+        var url = createUrl(entityTypeRoute, encodeUrlComponent(entityType));
+
+        return sendDeleteRequestAsync(url);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public CompletableFuture<Void> addEntity(String entityType, String entity) {
+
+        var url = createUrl(entityRoute, 
+            encodeUrlComponent(entityType), 
+            encodeUrlComponent(entity)
+        );
+
+        return sendPostRequestAsync(url);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public CompletableFuture<List<String>> getEntities(String entityType) {
+
+        var url = createUrl(entitiesRoute, encodeUrlComponent(entityType));
+
+        return sendGetRequestAsync(url, entityTypeAndEntityListType).thenApply((ArrayList<net.alastairwyse.applicationaccessclient.models.datatransferobjects.EntityTypeAndEntity> rawResults) -> {
+            var results = new ArrayList<String>();
+            for (var currentRawResult : rawResults) {
+                results.add(currentRawResult.Entity);
+            }
+
+            return results;
+        });
+    }
+
+    /**
+     * Creates a publisher of all entities of the specified type.  Each subscription sends a new request, and entities are published as they are parsed from the response body, 
+     * with the body read no faster than the subscriber requests entities.
+     * 
+     * @param entityType The type of the entity.
+     * @return The publisher.
+     */
+    public Flow.Publisher<String> publishEntities(String entityType) {
+
+        var url = createUrl(entitiesRoute, encodeUrlComponent(entityType));
+
+        return createGetRequestForArrayPublisher(url, net.alastairwyse.applicationaccessclient.models.datatransferobjects.EntityTypeAndEntity.class, (net.alastairwyse.applicationaccessclient.models.datatransferobjects.EntityTypeAndEntity currentRawResult) -> currentRawResult.Entity);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public CompletableFuture<Boolean> containsEntity(String entityType, String entity) {
+        
+        var url = createUrl(entityRoute, 
+            encodeUrlComponent(entityType), 
+            encodeUrlComponent(entity)
+        );
+
+        return sendGetRequestForContainsMethodAsync(url);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public CompletableFuture<Void> removeEntity(String entityType, String entity) {
+
+        var url = createUrl(entityRoute, 
+            encodeUrlComponent(entityType), 
+            encodeUrlComponent(entity)
+        );
+
+        return sendDeleteRequestAsync(url);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public CompletableFuture<Void> addUserToEntityMapping(TUser user, String entityType, String entity) {
+
+        var url = createUrl(userToEntityMappingRoute, 
+            encodeUser(user), 
+            encodeUrlComponent(entityType), 
+            encodeUrlComponent(entity)
+        );
+
+        return sendPostRequestAsync(url);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public CompletableFuture<List<EntityTypeAndEntity>> getUserToEntityMappings(TUser user) {
+
+        var url = createUrl(userToEntityMappingsByUserRoute, encodeUser(user));
+
+        return sendGetRequestForArrayAsync(url, entityTypeAndEntityMapper, () -> new ArrayList<EntityTypeAndEntity>());
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public CompletableFuture<List<String>> getUserToEntityMappings(TUser user, String entityType) {
+
+        var url = createUrl(userToEntityMappingsByUserAndEntityTypeRoute, 
+            encodeUser(user), 
+            encodeUrlComponent(entityType)
+        );
+
+        return sendGetRequestAsync(url, userAndEntityListType).thenApply((ArrayList<net.alastairwyse.applicationaccessclient.models.datatransferobjects.UserAndEntity> rawResults) -> {
+            var results = new ArrayList<String>();
+            for (var currentRawResult : rawResults) {
+                results.add(currentRawResult.Entity);
+            }
+
+            return results;
+        });
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public CompletableFuture<List<TUser>> getEntityToUserMappings(String entityType, String entity, Boolean includeIndirectMappings) {
+
+        var url = createUrl(userToEntityMappingsByEntityTypeAndEntityRoute, 
+            encodeUrlComponent(entityType), 
+            encodeUrlComponent(entity), 
+            String.valueOf(includeIndirectMappings)
+        );
+
+        return sendGetRequestAsync(url, userAndEntityListType).thenApply((ArrayList<net.alastairwyse.applicationaccessclient.models.datatransferobjects.UserAndEntity> rawResults) -> {
+            var results = new ArrayList<TUser>();
+            for (var currentRawResult : rawResults) {
+                results.add(userStringifier.fromString(currentRawResult.User));
+            }
+
+            return results;
+        });
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public CompletableFuture<Void> removeUserToEntityMapping(TUser user, String entityType, String entity) {
+
+        var url = createUrl(userToEntityMappingRoute, 
+            encodeUser(user), 
+            encodeUrlComponent(entityType), 
+            encodeUrlComponent(entity)
+        );
+
+        return sendDeleteRequestAsync(url);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public CompletableFuture<Void> addGroupToEntityMapping(TGroup group, String entityType, String entity) {
+
+        var url = createUrl(groupToEntityMappingRoute, 
+            encodeGroup(group), 
+            encodeUrlComponent(entityType), 
+            encodeUrlComponent(entity)
+        );
+
+        return sendPostRequestAsync(url);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public CompletableFuture<List<EntityTypeAndEntity>> getGroupToEntityMappings(TGroup group) {
+
+        var url = createUrl(groupToEntityMappingsByGroupRoute, encodeGroup(group));
+
+        return sendGetRequestForArrayAsync(url, entityTypeAndEntityMapper, () -> new ArrayList<EntityTypeAndEntity>());
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public CompletableFuture<List<String>> getGroupToEntityMappings(TGroup group, String entityType) {
+
+        var url = createUrl(groupToEntityMappingsByGroupAndEntityTypeRoute, 
+            encodeGroup(group), 
+            encodeUrlComponent(entityType)
+        );
+
+        return sendGetRequestAsync(url, groupAndEntityListType).thenApply((ArrayList<net.alastairwyse.applicationaccessclient.models.datatransferobjects.GroupAndEntity> rawResults) -> {
+            var results = new ArrayList<String>();
+            for (var currentRawResult : rawResults) {
+                results.add(currentRawResult.Entity);
+            }
+
+            return results;
+        });
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public CompletableFuture<List<TGroup>> getEntityToGroupMappings(String entityType, String entity, Boolean includeIndirectMappings) {
+
+        var url = createUrl(groupToEntityMappingsByEntityTypeAndEntityRoute, 
+            encodeUrlComponent(entityType), 
+            encodeUrlComponent(entity), 
+            String.valueOf(includeIndirectMappings)
+        );
+
+        return sendGetRequestAsync(url, groupAndEntityListType).thenApply((ArrayList<net.alastairwyse.applicationaccessclient.models.datatransferobjects.GroupAndEntity> rawResults) -> {
+            var results = new ArrayList<TGroup>();
+            for (var currentRawResult : rawResults) {
+                results.add(groupStringifier.fromString(currentRawResult.Group));
+            }
+
+            return results;
+        });
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public CompletableFuture<Void> removeGroupToEntityMapping(TGroup group, String entityType, String entity) {
+
+        var url = createUrl(groupToEntityMappingRoute, 
+            encodeGroup(group), 
+            encodeUrlComponent(entityType), 
+            encodeUrlComponent(entity)
+        );
+
+        return sendDeleteRequestAsync(url);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public CompletableFuture<Boolean> hasAccessToApplicationComponent(TUser user, TComponent applicationComponent, TAccess accessLevel) {
+
+        var url = createHasAccessToApplicationComponentUrl(user, applicationComponent, accessLevel);
+
+        return sendGetRequestForBooleanAsync(url);
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public CompletableFuture<Boolean> hasAccessToEntity(TUser user, String entityType, String entity) {
+
+        var url = createHasAccessToEntityUrl(user, entityType, entity);
+
+        return sendGetRequestForBooleanAsync(url);
+    }
+
+    /**
+     * Checks whether the specified user has access to each of the specified application components at the specified access levels.
+     * <p>
+     * The individual checks are sent to the web API concurrently, with at most 'bulkRequestParallelism' checks in-flight at any time.
+     * </p>
+     * 
+     * @param user The user.
+     * @param applicationComponentsAndAccessLevels The application components and levels of access to check.
+     * @return A future which completes with a map from each of the specified application components and access levels to whether the user has access.
+     */
+    public CompletableFuture<Map<ApplicationComponentAndAccessLevel<TComponent, TAccess>, Boolean>> hasAccessToApplicationComponents(
+        TUser user, 
+        Collection<ApplicationComponentAndAccessLevel<TComponent, TAccess>> applicationComponentsAndAccessLevels
+    ) {
+
+        return executeWithBoundedParallelism(applicationComponentsAndAccessLevels, (ApplicationComponentAndAccessLevel<TComponent, TAccess> currentApplicationComponent) -> {
+            return hasAccessToApplicationComponent(user, currentApplicationComponent.getApplicationComponent(), currentApplicationComponent.getAccessLevel());
+        });
+    }
+
+    /**
+     * Checks whether the specified user has access to each of the specified entities of a given type.
+     * <p>
+     * The individual checks are sent to the web API concurrently, with at most 'bulkRequestParallelism' checks in-flight at any time.
+     * </p>
+     * 
+     * @param user The user.
+     * @param entityType The type of the entities.
+     * @param entities The entities to check.
+     * @return A future which completes with a map from each of the specified entities to whether the user has access.
+     */
+    public CompletableFuture<Map<String, Boolean>> hasAccessToEntities(TUser user, String entityType, Collection<String> entities) {
+
+        return executeWithBoundedParallelism(entities, (String currentEntity) -> {
+            return hasAccessToEntity(user, entityType, currentEntity);
+        });
+    }
+
+    /**
+     * Checks whether each of the specified users has access to a given entity.
+     * <p>
+     * The individual checks are sent to the web API concurrently, with at most 'bulkRequestParallelism' checks in-flight at any time.
+     * </p>
+     * 
+     * @param users The users to check.
+     * @param entityType The type of the entity.
+     * @param entity The entity.
+     * @return A future which completes with a map from each of the specified users to whether the user has access.
+     */
+    public CompletableFuture<Map<TUser, Boolean>> usersHaveAccessToEntity(Collection<TUser> users, String entityType, String entity) {
+
+        return executeWithBoundedParallelism(users, (TUser currentUser) -> {
+            return hasAccessToEntity(currentUser, entityType, entity);
+        });
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public CompletableFuture<Set<ApplicationComponentAndAccessLevel<TComponent, TAccess>>> getApplicationComponentsAccessibleByUser(TUser user) {
+
+        var url = createUrl(userToApplicationComponentAndAccessLevelMappingsByUserIncludingIndirectRoute, encodeUser(user));
+
+        return sendGetRequestForArrayAsync(url, applicationComponentAndAccessLevelMapper, () -> createApplicationComponentAndAccessLevelSet());
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public CompletableFuture<Set<ApplicationComponentAndAccessLevel<TComponent, TAccess>>> getApplicationComponentsAccessibleByGroup(TGroup group) {
+
+        var url = createUrl(groupToApplicationComponentAndAccessLevelMappingsByGroupIncludingIndirectRoute, encodeGroup(group));
+
+        return sendGetRequestForArrayAsync(url, applicationComponentAndAccessLevelMapper, () -> createApplicationComponentAndAccessLevelSet());
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public CompletableFuture<Set<EntityTypeAndEntity>> getEntitiesAccessibleByUser(TUser user) {
+
+        var url = createUrl(userToEntityMappingsByUserIncludingIndirectRoute, encodeUser(user));
+
+        return sendGetRequestForArrayAsync(url, entityTypeAndEntityMapper, () -> new HashSet<EntityTypeAndEntity>());
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public CompletableFuture<Set<String>> getEntitiesAccessibleByUser(TUser user, String entityType) {
+
+        var url = createUrl(userToEntityMappingsByUserAndEntityTypeIncludingIndirectRoute, 
+            encodeUser(user), 
+            encodeUrlComponent(entityType)
+        );
+
+        boolean compactEntitySets = compactEntitySetsEnabled;
+
+        return sendGetRequestAsync(url, userAndEntityListType).thenApply((ArrayList<net.alastairwyse.applicationaccessclient.models.datatransferobjects.UserAndEntity> rawResults) -> {
+            var results = createEntityCollection(compactEntitySets);
+            for (var currentRawResult : rawResults) {
+                results.add(currentRawResult.Entity);
+            }
+
+            return toEntitySet(results, compactEntitySets);
+        });
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public CompletableFuture<Set<EntityTypeAndEntity>> getEntitiesAccessibleByGroup(TGroup group) {
+
+        var url = createUrl(groupToEntityMappingsByGroupIncludingIndirectRoute, encodeGroup(group));
+
+        return sendGetRequestForArrayAsync(url, entityTypeAndEntityMapper, () -> new HashSet<EntityTypeAndEntity>());
+    }
+
+    /**
+     * @inheritDoc
+     */
+    @Override
+    public CompletableFuture<Set<String>> getEntitiesAccessibleByGroup(TGroup group, String entityType) {
+
+        var url = createUrl(groupToEntityMappingsByGroupAndEntityTypeIncludingIndirectRoute, 
+            encodeGroup(group), 
+            encodeUrlComponent(entityType)
+        );
+
+        boolean compactEntitySets = compactEntitySetsEnabled;
+
+        return sendGetRequestAsync(url, groupAndEntityListType).thenApply((ArrayList<net.alastairwyse.applicationaccessclient.models.datatransferobjects.GroupAndEntity> rawResults) -> {
+            var results = createEntityCollection(compactEntitySets);
+            for (var currentRawResult : rawResults) {
+                results.add(currentRawResult.Entity);
+            }
+
+            return toEntitySet(results, compactEntitySets);
+        });
+    }
+}
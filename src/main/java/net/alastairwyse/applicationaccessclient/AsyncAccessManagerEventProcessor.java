@@ -0,0 +1,180 @@
+package net.alastairwyse.applicationaccessclient;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Defines methods to asynchronously process events which change the structure of an AccessManager implementation.
+ * <p>
+ * Each method returns a {@link CompletableFuture} which completes when the event has been processed, or completes exceptionally with the exception which would be thrown by
+ * the equivalent {@link AccessManagerEventProcessor} method.
+ * </p>
+ *
+ * @param <TUser> The type of users in the application.
+ * @param <TGroup> The type of groups in the application.
+ * @param <TComponent> The type of components in the application to manage access to.
+ * @param <TAccess> The type of levels of access which can be assigned to an application component.
+ */
+public interface AsyncAccessManagerEventProcessor<TUser, TGroup, TComponent, TAccess> {
+    
+    /**
+     * Adds a user.
+     * 
+     * @param user The user to add.
+     */
+    public CompletableFuture<Void> addUser(TUser user);
+
+    /**
+     * Removes a user.
+     * 
+     * @param user The user to remove.
+     */
+    public CompletableFuture<Void> removeUser(TUser user);
+
+    /**
+     * Adds a group.
+     * 
+     * @param group The group to add.
+     */
+    public CompletableFuture<Void> addGroup(TGroup group);
+
+    /**
+     * Removes a group.
+     * 
+     * @param group The group to remove.
+     */
+    public CompletableFuture<Void> removeGroup(TGroup group);
+
+    /**
+     * Adds a mapping between the specified user and group.
+     * 
+     * @param user The user in the mapping.
+     * @param group The group in the mapping.
+     */
+    public CompletableFuture<Void> addUserToGroupMapping(TUser user, TGroup group);
+
+    /**
+     * Removes the mapping between the specified user and group.
+     * 
+     * @param user The user in the mapping.
+     * @param group The group in the mapping.
+     */
+    public CompletableFuture<Void> removeUserToGroupMapping(TUser user, TGroup group);
+
+    /**
+     * Adds a mapping between the specified groups.
+     * 
+     * @param fromGroup The 'from' group in the mapping.
+     * @param toGroup The 'to' group in the mapping.
+     */
+    public CompletableFuture<Void> addGroupToGroupMapping(TGroup fromGroup, TGroup toGroup);
+
+    /**
+     * Removes the mapping between the specified groups.
+     * 
+     * @param fromGroup The 'from' group in the mapping.
+     * @param toGroup The 'to' group in the mapping.
+     */
+    public CompletableFuture<Void> removeGroupToGroupMapping(TGroup fromGroup, TGroup toGroup);
+
+    /**
+     * Adds a mapping between the specified user, application component, and level of access to that component.
+     * 
+     * @param user The user in the mapping.
+     * @param applicationComponent The application component in the mapping.
+     * @param accessLevel The level of access to the component.
+     */
+    public CompletableFuture<Void> addUserToApplicationComponentAndAccessLevelMapping(TUser user, TComponent applicationComponent, TAccess accessLevel);
+
+    /**
+     * Removes a mapping between the specified user, application component, and level of access to that component.
+     * 
+     * @param user The user in the mapping.
+     * @param applicationComponent The application component in the mapping.
+     * @param accessLevel The level of access to the component.
+     */
+    public CompletableFuture<Void> removeUserToApplicationComponentAndAccessLevelMapping(TUser user, TComponent applicationComponent, TAccess accessLevel);
+
+    /**
+     * Adds a mapping between the specified group, application component, and level of access to that component.
+     * 
+     * @param group The group in the mapping.
+     * @param applicationComponent The application component in the mapping.
+     * @param accessLevel The level of access to the component.
+     */
+    public CompletableFuture<Void> addGroupToApplicationComponentAndAccessLevelMapping(TGroup group, TComponent applicationComponent, TAccess accessLevel);
+
+    /**
+     * Removes a mapping between the specified group, application component, and level of access to that component.
+     * 
+     * @param group The group in the mapping.
+     * @param applicationComponent The application component in the mapping.
+     * @param accessLevel The level of access to the component.
+     */
+    public CompletableFuture<Void> removeGroupToApplicationComponentAndAccessLevelMapping(TGroup group, TComponent applicationComponent, TAccess accessLevel);
+
+    /**
+     * Adds an entity type.
+     * 
+     * @param entityType The entity type to add.
+     */
+    public CompletableFuture<Void> addEntityType(String entityType);
+
+    /**
+     * Removes an entity type.
+     * 
+     * @param entityType The entity type to remove.
+     */
+    public CompletableFuture<Void> removeEntityType(String entityType);
+
+    /**
+     * Adds an entity.
+     * 
+     * @param entityType The type of the entity.
+     * @param entity The entity to add.
+     */
+    public CompletableFuture<Void> addEntity(String entityType, String entity);
+
+    /**
+     * Removes an entity.
+     * 
+     * @param entityType The type of the entity.
+     * @param entity The entity to remove.
+     */
+    public CompletableFuture<Void> removeEntity(String entityType, String entity);
+
+    /**
+     * Removes a mapping between the specified user, and entity.
+     * 
+     * @param user The user in the mapping.
+     * @param entityType The type of the entity.
+     * @param entity The entity in the mapping.
+     */
+    public CompletableFuture<Void> addUserToEntityMapping(TUser user, String entityType, String entity);
+
+    /**
+     * Removes a mapping between the specified user, and entity.
+     * 
+     * @param user The user in the mapping.
+     * @param entityType The type of the entity.
+     * @param entity The entity in the mapping.
+     */
+    public CompletableFuture<Void> removeUserToEntityMapping(TUser user, String entityType, String entity);
+
+    /**
+     * Removes a mapping between the specified group, and entity.
+     * 
+     * @param group The group in the mapping.
+     * @param entityType The type of the entity.
+     * @param entity The entity in the mapping.
+     */
+    public CompletableFuture<Void> addGroupToEntityMapping(TGroup group, String entityType, String entity);
+
+    /**
+     * Removes a mapping between the specified group, and entity.
+     * 
+     * @param group The group in the mapping.
+     * @param entityType The type of the entity.
+     * @param entity The entity in the mapping.
+     */
+    public CompletableFuture<Void> removeGroupToEntityMapping(TGroup group, String entityType, String entity);
+}
@@ -0,0 +1,58 @@
+package net.alastairwyse.applicationaccessclient;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Describes an event buffered by a {@link BufferingAccessManagerEventProcessor}, so that an event which failed when passed to the decorated event processor can be identified
+ * (e.g. for logging or retrying).
+ */
+public class BufferedEventDescription {
+
+    /** The name of the {@link AccessManagerEventProcessor} method which the event was passed to (e.g. 'addUserToGroupMapping'). */
+    protected final String eventName;
+    /** The arguments of the event, in the order of the method parameters. */
+    protected final List<Object> arguments;
+
+    /**
+     * Constructs a BufferedEventDescription.
+     *
+     * @param eventName The name of the {@link AccessManagerEventProcessor} method which the event was passed to.
+     * @param arguments The arguments of the event, in the order of the method parameters.
+     */
+    public BufferedEventDescription(String eventName, Object... arguments) {
+        this.eventName = eventName;
+        this.arguments = Collections.unmodifiableList(Arrays.asList(arguments));
+    }
+
+    /**
+     * @return The name of the {@link AccessManagerEventProcessor} method which the event was passed to (e.g. 'addUserToGroupMapping').
+     */
+    public String getEventName() {
+        return eventName;
+    }
+
+    /**
+     * @return The arguments of the event, in the order of the method parameters.
+     */
+    public List<Object> getArguments() {
+        return arguments;
+    }
+
+    @Override
+    public String toString() {
+
+        var stringBuilder = new StringBuilder(eventName);
+        stringBuilder.append('(');
+        for (int i = 0; i < arguments.size(); i++) {
+            if (i > 0) {
+                stringBuilder.append(", ");
+            }
+            stringBuilder.append(arguments.get(i));
+        }
+        stringBuilder.append(')');
+
+        return stringBuilder.toString();
+    }
+}
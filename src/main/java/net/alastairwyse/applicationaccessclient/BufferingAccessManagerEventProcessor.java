@@ -0,0 +1,672 @@
+package net.alastairwyse.applicationaccessclient;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+
+/**
+ * Decorates an {@link AccessManagerEventProcessor}, buffering events and returning immediately, and passing the buffered events to the decorated event processor from a set of
+ * background worker threads.
+ * <p>
+ * Events are held in a single queue in the order they were buffered.  Each event declares the elements it depends on, either exclusively (the element it adds, removes or
+ * maps from, e.g. the user in a user to group mapping) or shared (an element it refers to, e.g. the group in a user to group mapping).  A worker only takes an event from the
+ * queue if none of its elements are held exclusively (or for exclusive elements, held at all) by events being processed by other workers or by earlier events still in the
+ * queue.  Hence events which touch a common element (e.g. adding a group and then mapping a user to it) are processed in the order they were buffered, while independent events
+ * (e.g. mapping different users to the same group) are processed concurrently.
+ * </p>
+ * <p>
+ * Workers process buffered events once the number of events reaches the configured batch size, or once the oldest event has been buffered for the configured flush interval.
+ * Exceptions thrown by the decorated event processor are passed to the configured exception handler along with a description of the failed event, and do not prevent
+ * subsequent events from being processed.
+ * </p>
+ * <p>
+ * The number of events waiting to be taken by a worker is bounded by the configured capacity.  Once the capacity is reached, buffered events are processed immediately, and
+ * threads buffering further events block until space is available.
+ * </p>
+ *
+ * @param <TUser> The type of users in the AccessManager.
+ * @param <TGroup> The type of groups in the AccessManager.
+ * @param <TComponent> The type of components in the AccessManager.
+ * @param <TAccess> The type of levels of access which can be assigned to an application component.
+ */
+public class BufferingAccessManagerEventProcessor<TUser, TGroup, TComponent, TAccess> implements AccessManagerEventProcessor<TUser, TGroup, TComponent, TAccess>, Closeable {
+
+    /** Element type for users. */
+    protected static final String userElementType = "User";
+    /** Element type for groups. */
+    protected static final String groupElementType = "Group";
+    /** Element type for entity types. */
+    protected static final String entityTypeElementType = "EntityType";
+    /** Element type for entities. */
+    protected static final String entityElementType = "Entity";
+
+    /** The event processor to pass buffered events to. */
+    protected AccessManagerEventProcessor<TUser, TGroup, TComponent, TAccess> eventProcessor;
+    /** The maximum number of events processed by a worker at a time, and the number of buffered events which causes events to be processed. */
+    protected int batchSize;
+    /** The time in nanoseconds after which buffered events are processed, regardless of the number of events buffered. */
+    protected long flushIntervalNanoseconds;
+    /** The maximum number of events which have been buffered but not yet taken by a worker. */
+    protected int capacity;
+    /** Handles exceptions thrown by the decorated event processor, given a description of the event which failed and the exception. */
+    protected BiConsumer<BufferedEventDescription, Exception> exceptionHandler;
+    /** The events which have been buffered but not yet taken by a worker, in the order they were buffered. */
+    protected LinkedList<BufferedEvent> bufferedEvents;
+    /** The number of events being processed by workers which hold each element exclusively. */
+    protected HashMap<ElementKey, Integer> inFlightExclusiveElements;
+    /** The number of events being processed by workers which hold each element shared. */
+    protected HashMap<ElementKey, Integer> inFlightSharedElements;
+    /** The worker threads. */
+    protected List<Thread> workerThreads;
+    /** The number of events which have been buffered but not yet processed. */
+    protected int unprocessedEventCount;
+    /** The number of calls to flush() currently waiting for buffered events to be processed. */
+    protected int flushRequestCount;
+    /** Whether the processor has been closed. */
+    protected boolean closed;
+    /** Lock object for the buffered events, in-flight elements and counts. */
+    protected ReentrantLock lock;
+    /** Signalled when events are buffered, a worker finishes processing events, a flush is requested, or the processor is closed. */
+    protected Condition workerCondition;
+    /** Signalled when all buffered events have been processed. */
+    protected Condition eventsProcessedCondition;
+    /** Signalled when events are taken from the buffer by a worker, or the processor is closed. */
+    protected Condition bufferNotFullCondition;
+
+    /**
+     * Constructs a BufferingAccessManagerEventProcessor.
+     *
+     * @param eventProcessor The event processor to pass buffered events to.
+     * @param batchSize The maximum number of events processed by a worker at a time, and the number of buffered events which causes events to be processed.
+     * @param flushInterval The time after which buffered events are processed, regardless of the number of events buffered.
+     * @param concurrency The number of worker threads.
+     * @param capacity The maximum number of events which have been buffered but not yet taken by a worker, after which buffering an event blocks until space is available.
+     * @param exceptionHandler Handles exceptions thrown by the decorated event processor, given a description of the event which failed and the exception.
+     */
+    public BufferingAccessManagerEventProcessor(
+        AccessManagerEventProcessor<TUser, TGroup, TComponent, TAccess> eventProcessor,
+        int batchSize,
+        Duration flushInterval,
+        int concurrency,
+        int capacity,
+        BiConsumer<BufferedEventDescription, Exception> exceptionHandler
+    ) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException(String.format("Parameter 'batchSize' with value %d must be greater than 0.", batchSize));
+        }
+        if (flushInterval.isNegative() == true || flushInterval.isZero() == true) {
+            throw new IllegalArgumentException(String.format("Parameter 'flushInterval' with value '%s' must be greater than 0.", flushInterval.toString()));
+        }
+        if (concurrency < 1) {
+            throw new IllegalArgumentException(String.format("Parameter 'concurrency' with value %d must be greater than 0.", concurrency));
+        }
+        if (capacity < 1) {
+            throw new IllegalArgumentException(String.format("Parameter 'capacity' with value %d must be greater than 0.", capacity));
+        }
+        if (exceptionHandler == null) {
+            throw new IllegalArgumentException("Parameter 'exceptionHandler' cannot be null.");
+        }
+        this.eventProcessor = eventProcessor;
+        this.batchSize = batchSize;
+        this.flushIntervalNanoseconds = flushInterval.toNanos();
+        this.capacity = capacity;
+        this.exceptionHandler = exceptionHandler;
+        bufferedEvents = new LinkedList<BufferedEvent>();
+        inFlightExclusiveElements = new HashMap<ElementKey, Integer>();
+        inFlightSharedElements = new HashMap<ElementKey, Integer>();
+        workerThreads = new ArrayList<Thread>(concurrency);
+        unprocessedEventCount = 0;
+        flushRequestCount = 0;
+        closed = false;
+        lock = new ReentrantLock();
+        workerCondition = lock.newCondition();
+        eventsProcessedCondition = lock.newCondition();
+        bufferNotFullCondition = lock.newCondition();
+        for (int i = 0; i < concurrency; i++) {
+            var currentWorkerThread = new Thread(() -> processEvents(), String.format("BufferingAccessManagerEventProcessor-worker-%d", i));
+            currentWorkerThread.setDaemon(true);
+            workerThreads.add(currentWorkerThread);
+        }
+        for (Thread currentWorkerThread : workerThreads) {
+            currentWorkerThread.start();
+        }
+    }
+
+    @Override
+    public void addUser(TUser user) {
+        bufferEvent(() -> eventProcessor.addUser(user), new BufferedEventDescription("addUser", user), exclusive(userElementType, user));
+    }
+
+    @Override
+    public void removeUser(TUser user) {
+        bufferEvent(() -> eventProcessor.removeUser(user), new BufferedEventDescription("removeUser", user), exclusive(userElementType, user));
+    }
+
+    @Override
+    public void addGroup(TGroup group) {
+        bufferEvent(() -> eventProcessor.addGroup(group), new BufferedEventDescription("addGroup", group), exclusive(groupElementType, group));
+    }
+
+    @Override
+    public void removeGroup(TGroup group) {
+        bufferEvent(() -> eventProcessor.removeGroup(group), new BufferedEventDescription("removeGroup", group), exclusive(groupElementType, group));
+    }
+
+    @Override
+    public void addUserToGroupMapping(TUser user, TGroup group) {
+        bufferEvent(() -> eventProcessor.addUserToGroupMapping(user, group), new BufferedEventDescription("addUserToGroupMapping", user, group), exclusive(userElementType, user), shared(groupElementType, group));
+    }
+
+    @Override
+    public void removeUserToGroupMapping(TUser user, TGroup group) {
+        bufferEvent(() -> eventProcessor.removeUserToGroupMapping(user, group), new BufferedEventDescription("removeUserToGroupMapping", user, group), exclusive(userElementType, user), shared(groupElementType, group));
+    }
+
+    @Override
+    public void addGroupToGroupMapping(TGroup fromGroup, TGroup toGroup) {
+        bufferEvent(() -> eventProcessor.addGroupToGroupMapping(fromGroup, toGroup), new BufferedEventDescription("addGroupToGroupMapping", fromGroup, toGroup), exclusive(groupElementType, fromGroup), shared(groupElementType, toGroup));
+    }
+
+    @Override
+    public void removeGroupToGroupMapping(TGroup fromGroup, TGroup toGroup) {
+        bufferEvent(() -> eventProcessor.removeGroupToGroupMapping(fromGroup, toGroup), new BufferedEventDescription("removeGroupToGroupMapping", fromGroup, toGroup), exclusive(groupElementType, fromGroup), shared(groupElementType, toGroup));
+    }
+
+    @Override
+    public void addUserToApplicationComponentAndAccessLevelMapping(TUser user, TComponent applicationComponent, TAccess accessLevel) {
+        bufferEvent(() -> eventProcessor.addUserToApplicationComponentAndAccessLevelMapping(user, applicationComponent, accessLevel), new BufferedEventDescription("addUserToApplicationComponentAndAccessLevelMapping", user, applicationComponent, accessLevel), exclusive(userElementType, user));
+    }
+
+    @Override
+    public void removeUserToApplicationComponentAndAccessLevelMapping(TUser user, TComponent applicationComponent, TAccess accessLevel) {
+        bufferEvent(() -> eventProcessor.removeUserToApplicationComponentAndAccessLevelMapping(user, applicationComponent, accessLevel), new BufferedEventDescription("removeUserToApplicationComponentAndAccessLevelMapping", user, applicationComponent, accessLevel), exclusive(userElementType, user));
+    }
+
+    @Override
+    public void addGroupToApplicationComponentAndAccessLevelMapping(TGroup group, TComponent applicationComponent, TAccess accessLevel) {
+        bufferEvent(() -> eventProcessor.addGroupToApplicationComponentAndAccessLevelMapping(group, applicationComponent, accessLevel), new BufferedEventDescription("addGroupToApplicationComponentAndAccessLevelMapping", group, applicationComponent, accessLevel), exclusive(groupElementType, group));
+    }
+
+    @Override
+    public void removeGroupToApplicationComponentAndAccessLevelMapping(TGroup group, TComponent applicationComponent, TAccess accessLevel) {
+        bufferEvent(() -> eventProcessor.removeGroupToApplicationComponentAndAccessLevelMapping(group, applicationComponent, accessLevel), new BufferedEventDescription("removeGroupToApplicationComponentAndAccessLevelMapping", group, applicationComponent, accessLevel), exclusive(groupElementType, group));
+    }
+
+    @Override
+    public void addEntityType(String entityType) {
+        bufferEvent(() -> eventProcessor.addEntityType(entityType), new BufferedEventDescription("addEntityType", entityType), exclusive(entityTypeElementType, entityType));
+    }
+
+    @Override
+    public void removeEntityType(String entityType) {
+        bufferEvent(() -> eventProcessor.removeEntityType(entityType), new BufferedEventDescription("removeEntityType", entityType), exclusive(entityTypeElementType, entityType));
+    }
+
+    @Override
+    public void addEntity(String entityType, String entity) {
+        bufferEvent(() -> eventProcessor.addEntity(entityType, entity), new BufferedEventDescription("addEntity", entityType, entity), shared(entityTypeElementType, entityType), exclusive(entityElementType, entityType, entity));
+    }
+
+    @Override
+    public void removeEntity(String entityType, String entity) {
+        bufferEvent(() -> eventProcessor.removeEntity(entityType, entity), new BufferedEventDescription("removeEntity", entityType, entity), shared(entityTypeElementType, entityType), exclusive(entityElementType, entityType, entity));
+    }
+
+    @Override
+    public void addUserToEntityMapping(TUser user, String entityType, String entity) {
+        bufferEvent(() -> eventProcessor.addUserToEntityMapping(user, entityType, entity), new BufferedEventDescription("addUserToEntityMapping", user, entityType, entity), exclusive(userElementType, user), shared(entityTypeElementType, entityType), shared(entityElementType, entityType, entity));
+    }
+
+    @Override
+    public void removeUserToEntityMapping(TUser user, String entityType, String entity) {
+        bufferEvent(() -> eventProcessor.removeUserToEntityMapping(user, entityType, entity), new BufferedEventDescription("removeUserToEntityMapping", user, entityType, entity), exclusive(userElementType, user), shared(entityTypeElementType, entityType), shared(entityElementType, entityType, entity));
+    }
+
+    @Override
+    public void addGroupToEntityMapping(TGroup group, String entityType, String entity) {
+        bufferEvent(() -> eventProcessor.addGroupToEntityMapping(group, entityType, entity), new BufferedEventDescription("addGroupToEntityMapping", group, entityType, entity), exclusive(groupElementType, group), shared(entityTypeElementType, entityType), shared(entityElementType, entityType, entity));
+    }
+
+    @Override
+    public void removeGroupToEntityMapping(TGroup group, String entityType, String entity) {
+        bufferEvent(() -> eventProcessor.removeGroupToEntityMapping(group, entityType, entity), new BufferedEventDescription("removeGroupToEntityMapping", group, entityType, entity), exclusive(groupElementType, group), shared(entityTypeElementType, entityType), shared(entityElementType, entityType, entity));
+    }
+
+    /**
+     * Processes all buffered events, blocking until they have been passed to the decorated event processor.
+     *
+     * @exception InterruptedException If the calling thread is interrupted while waiting.
+     */
+    public void flush() throws InterruptedException {
+
+        lock.lock();
+        try {
+            flushRequestCount++;
+            workerCondition.signalAll();
+            while (unprocessedEventCount > 0) {
+                eventsProcessedCondition.await();
+            }
+        }
+        finally {
+            flushRequestCount--;
+            lock.unlock();
+        }
+    }
+
+    //#region Private/Protected Methods
+
+    /**
+     * Buffers an event, blocking until space is available if the buffer is at capacity.
+     *
+     * @param action Passes the event to the decorated event processor.
+     * @param description Describes the event.
+     * @param elementAccesses The elements the event depends on.
+     * @exception RejectedExecutionException If the calling thread is interrupted while waiting for space in the buffer.
+     */
+    protected void bufferEvent(EventAction action, BufferedEventDescription description, ElementAccess... elementAccesses) {
+
+        lock.lock();
+        try {
+            while (closed == false && bufferedEvents.size() >= capacity) {
+                try {
+                    bufferNotFullCondition.await();
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RejectedExecutionException(String.format("Interrupted while waiting for space to buffer event '%s'.", description), e);
+                }
+            }
+            if (closed == true) {
+                throw new IllegalStateException("The event processor has been closed.");
+            }
+            bufferedEvents.addLast(new BufferedEvent(action, description, elementAccesses, System.nanoTime()));
+            unprocessedEventCount++;
+            workerCondition.signalAll();
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Creates an exclusive dependency of an event on an element.
+     *
+     * @param elementType The type of the element.
+     * @param elementComponents The values which identify the element.
+     * @return The dependency.
+     */
+    protected ElementAccess exclusive(String elementType, Object... elementComponents) {
+        return new ElementAccess(new ElementKey(elementType, elementComponents), true);
+    }
+
+    /**
+     * Creates a shared dependency of an event on an element.
+     *
+     * @param elementType The type of the element.
+     * @param elementComponents The values which identify the element.
+     * @return The dependency.
+     */
+    protected ElementAccess shared(String elementType, Object... elementComponents) {
+        return new ElementAccess(new ElementKey(elementType, elementComponents), false);
+    }
+
+    /**
+     * Repeatedly waits until buffered events are due to be processed, takes those which don't depend on elements held by other workers or earlier buffered events, and passes
+     * them to the decorated event processor.  Executed by each worker thread.
+     */
+    protected void processEvents() {
+
+        var batch = new ArrayList<BufferedEvent>(batchSize);
+        while (true) {
+            lock.lock();
+            try {
+                while (batch.size() == 0) {
+                    if (bufferedEvents.size() == 0) {
+                        if (closed == true) {
+                            return;
+                        }
+                        workerCondition.awaitUninterruptibly();
+                        continue;
+                    }
+                    long waitNanoseconds = 0;
+                    if (bufferedEvents.size() < batchSize && bufferedEvents.size() < capacity && flushRequestCount == 0 && closed == false) {
+                        waitNanoseconds = bufferedEvents.getFirst().getBufferedTime() + flushIntervalNanoseconds - System.nanoTime();
+                    }
+                    if (waitNanoseconds > 0) {
+                        try {
+                            workerCondition.awaitNanos(waitNanoseconds);
+                        }
+                        catch (InterruptedException e) {
+                            // Worker threads are only stopped by close(), so the interrupt is ignored and the wait is retried
+                        }
+                    }
+                    else {
+                        takeEligibleEvents(batch);
+                        if (batch.size() == 0) {
+                            // All buffered events depend on elements held by events being processed by other workers, which signal when they finish
+                            workerCondition.awaitUninterruptibly();
+                        }
+                        else {
+                            bufferNotFullCondition.signalAll();
+                        }
+                    }
+                }
+            }
+            finally {
+                lock.unlock();
+            }
+
+            try {
+                for (BufferedEvent currentEvent : batch) {
+                    try {
+                        currentEvent.getAction().invoke();
+                    }
+                    catch (Throwable t) {
+                        handleException(currentEvent.getDescription(), t);
+                    }
+                }
+            }
+            finally {
+                lock.lock();
+                try {
+                    for (BufferedEvent currentEvent : batch) {
+                        for (ElementAccess currentAccess : currentEvent.getElementAccesses()) {
+                            HashMap<ElementKey, Integer> inFlightElements = currentAccess.isExclusive() == true ? inFlightExclusiveElements : inFlightSharedElements;
+                            inFlightElements.computeIfPresent(currentAccess.getElementKey(), (ElementKey key, Integer count) -> count == 1 ? null : count - 1);
+                        }
+                    }
+                    unprocessedEventCount -= batch.size();
+                    if (unprocessedEventCount == 0) {
+                        eventsProcessedCondition.signalAll();
+                    }
+                    workerCondition.signalAll();
+                }
+                finally {
+                    lock.unlock();
+                }
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Removes from the buffer (in buffered order) up to 'batchSize' events which don't depend on elements held by events being processed by other workers, or by earlier
+     * events remaining in the buffer, adds them to the specified batch, and marks their elements as held.  Must be called while holding the lock.
+     *
+     * @param batch The batch to add the events to.
+     */
+    protected void takeEligibleEvents(List<BufferedEvent> batch) {
+
+        var skippedExclusiveElements = new HashSet<ElementKey>();
+        var skippedSharedElements = new HashSet<ElementKey>();
+        Iterator<BufferedEvent> bufferedEventIterator = bufferedEvents.iterator();
+        while (bufferedEventIterator.hasNext() == true && batch.size() < batchSize) {
+            BufferedEvent currentEvent = bufferedEventIterator.next();
+            if (isEligible(currentEvent, skippedExclusiveElements, skippedSharedElements) == true) {
+                batch.add(currentEvent);
+                bufferedEventIterator.remove();
+            }
+            else {
+                for (ElementAccess currentAccess : currentEvent.getElementAccesses()) {
+                    (currentAccess.isExclusive() == true ? skippedExclusiveElements : skippedSharedElements).add(currentAccess.getElementKey());
+                }
+            }
+        }
+        // Elements are marked as held after selecting the batch, as events in the same batch are processed in order by the same worker, so don't conflict with each other
+        for (BufferedEvent currentEvent : batch) {
+            for (ElementAccess currentAccess : currentEvent.getElementAccesses()) {
+                HashMap<ElementKey, Integer> inFlightElements = currentAccess.isExclusive() == true ? inFlightExclusiveElements : inFlightSharedElements;
+                inFlightElements.merge(currentAccess.getElementKey(), 1, Integer::sum);
+            }
+        }
+    }
+
+    /**
+     * Checks whether a buffered event can be taken by a worker.
+     *
+     * @param event The event.
+     * @param skippedExclusiveElements The elements held exclusively by earlier events remaining in the buffer.
+     * @param skippedSharedElements The elements held shared by earlier events remaining in the buffer.
+     * @return True if the event can be taken.
+     */
+    protected boolean isEligible(BufferedEvent event, Set<ElementKey> skippedExclusiveElements, Set<ElementKey> skippedSharedElements) {
+
+        for (ElementAccess currentAccess : event.getElementAccesses()) {
+            ElementKey currentKey = currentAccess.getElementKey();
+            if (inFlightExclusiveElements.containsKey(currentKey) == true || skippedExclusiveElements.contains(currentKey) == true) {
+                return false;
+            }
+            if (currentAccess.isExclusive() == true && (inFlightSharedElements.containsKey(currentKey) == true || skippedSharedElements.contains(currentKey) == true)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Passes an exception thrown while processing an event to the exception handler.  Throwables which are not exceptions (i.e. errors) are wrapped in a RuntimeException,
+     * and any exception thrown by the handler is discarded, so that the worker continues processing events.
+     *
+     * @param description Describes the event which failed.
+     * @param throwable The exception.
+     */
+    protected void handleException(BufferedEventDescription description, Throwable throwable) {
+
+        Exception exception;
+        if (throwable instanceof Exception) {
+            exception = (Exception)throwable;
+        }
+        else {
+            exception = new RuntimeException(String.format("Error occurred processing buffered event '%s'.", description), throwable);
+        }
+        try {
+            exceptionHandler.accept(description, exception);
+        }
+        catch (Throwable t) {
+            // Discarded, as there is nowhere further to report the failure, and the worker must continue in order to process remaining events
+        }
+    }
+
+    //#endregion
+
+    //#region Close Method
+
+    /**
+     * Stops accepting events, and blocks until all buffered events have been passed to the decorated event processor and the worker threads have stopped.
+     */
+    @Override
+    public void close() {
+
+        lock.lock();
+        try {
+            closed = true;
+            workerCondition.signalAll();
+            bufferNotFullCondition.signalAll();
+        }
+        finally {
+            lock.unlock();
+        }
+        boolean interrupted = false;
+        for (Thread currentWorkerThread : workerThreads) {
+            while (currentWorkerThread.isAlive() == true) {
+                try {
+                    currentWorkerThread.join();
+                }
+                catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted == true) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    //#endregion
+
+    //#region Nested Classes
+
+    /**
+     * Passes a buffered event to the decorated event processor.
+     */
+    @FunctionalInterface
+    protected interface EventAction {
+
+        /**
+         * Passes the event to the decorated event processor.
+         */
+        void invoke() throws Exception;
+    }
+
+    /**
+     * Identifies an element which an event depends on.
+     */
+    protected static class ElementKey {
+
+        /** The type of the element. */
+        protected final String elementType;
+        /** The values which identify the element (e.g. the entity type and entity for an entity). */
+        protected final Object[] elementComponents;
+        /** The hash code of the key. */
+        protected final int hashCode;
+
+        /**
+         * Constructs an ElementKey.
+         *
+         * @param elementType The type of the element.
+         * @param elementComponents The values which identify the element.
+         */
+        public ElementKey(String elementType, Object[] elementComponents) {
+            this.elementType = elementType;
+            this.elementComponents = elementComponents;
+            this.hashCode = 31 * elementType.hashCode() + Arrays.hashCode(elementComponents);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+
+            if (this == obj) {
+                return true;
+            }
+            if (obj instanceof ElementKey == false) {
+                return false;
+            }
+            var other = (ElementKey)obj;
+
+            return hashCode == other.hashCode && elementType.equals(other.elementType) == true && Arrays.equals(elementComponents, other.elementComponents) == true;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    /**
+     * A dependency of an event on an element.
+     */
+    protected static class ElementAccess {
+
+        /** The element. */
+        protected final ElementKey elementKey;
+        /** Whether the event depends on the element exclusively (i.e. no other event touching the element may be processed concurrently). */
+        protected final boolean exclusive;
+
+        /**
+         * Constructs an ElementAccess.
+         *
+         * @param elementKey The element.
+         * @param exclusive Whether the event depends on the element exclusively.
+         */
+        public ElementAccess(ElementKey elementKey, boolean exclusive) {
+            this.elementKey = elementKey;
+            this.exclusive = exclusive;
+        }
+
+        /**
+         * @return The element.
+         */
+        public ElementKey getElementKey() {
+            return elementKey;
+        }
+
+        /**
+         * @return Whether the event depends on the element exclusively.
+         */
+        public boolean isExclusive() {
+            return exclusive;
+        }
+    }
+
+    /**
+     * An event held in the buffer.
+     */
+    protected class BufferedEvent {
+
+        /** Passes the event to the decorated event processor. */
+        protected EventAction action;
+        /** Describes the event. */
+        protected BufferedEventDescription description;
+        /** The elements the event depends on. */
+        protected ElementAccess[] elementAccesses;
+        /** The value of {@link System#nanoTime()} when the event was buffered. */
+        protected long bufferedTime;
+
+        /**
+         * Constructs a BufferedEvent.
+         *
+         * @param action Passes the event to the decorated event processor.
+         * @param description Describes the event.
+         * @param elementAccesses The elements the event depends on.
+         * @param bufferedTime The value of {@link System#nanoTime()} when the event was buffered.
+         */
+        public BufferedEvent(EventAction action, BufferedEventDescription description, ElementAccess[] elementAccesses, long bufferedTime) {
+            this.action = action;
+            this.description = description;
+            this.elementAccesses = elementAccesses;
+            this.bufferedTime = bufferedTime;
+        }
+
+        /**
+         * @return Passes the event to the decorated event processor.
+         */
+        public EventAction getAction() {
+            return action;
+        }
+
+        /**
+         * @return Describes the event.
+         */
+        public BufferedEventDescription getDescription() {
+            return description;
+        }
+
+        /**
+         * @return The elements the event depends on.
+         */
+        public ElementAccess[] getElementAccesses() {
+            return elementAccesses;
+        }
+
+        /**
+         * @return The value of {@link System#nanoTime()} when the event was buffered.
+         */
+        public long getBufferedTime() {
+            return bufferedTime;
+        }
+    }
+
+    //#endregion
+}
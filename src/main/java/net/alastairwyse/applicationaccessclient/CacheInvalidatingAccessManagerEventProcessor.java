@@ -0,0 +1,290 @@
+package net.alastairwyse.applicationaccessclient;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Decorates an {@link AccessManagerEventProcessor}, invalidating the entries in a set of {@link AccessDecisionCache} instances which are made stale by each event, once the
+ * event has been successfully processed.
+ * <p>
+ * Events which change the mappings of a group (or remove a group) affect all users who are directly or indirectly mapped to that group.  If an {@link AccessManagerQueryProcessor}
+ * is provided, it is used to retrieve those users before the event is processed, so that only their cached decisions are invalidated.  Otherwise (or if the users can't be
+ * retrieved) cached decisions for all users are invalidated.
+ * </p>
+ *
+ * @param <TUser> The type of users in the AccessManager.
+ * @param <TGroup> The type of groups in the AccessManager.
+ * @param <TComponent> The type of components in the AccessManager.
+ * @param <TAccess> The type of levels of access which can be assigned to an application component.
+ */
+public class CacheInvalidatingAccessManagerEventProcessor<TUser, TGroup, TComponent, TAccess> implements AccessManagerEventProcessor<TUser, TGroup, TComponent, TAccess> {
+
+    /** The event processor to pass events through to. */
+    protected AccessManagerEventProcessor<TUser, TGroup, TComponent, TAccess> eventProcessor;
+    /** Used to retrieve the users mapped to a group, or null if users mapped to groups should not be retrieved. */
+    protected AccessManagerQueryProcessor<TUser, TGroup, TComponent, TAccess> queryProcessor;
+    /** The caches to invalidate. */
+    protected List<AccessDecisionCache<TUser, TComponent, TAccess>> caches;
+
+    /**
+     * Constructs a CacheInvalidatingAccessManagerEventProcessor.
+     *
+     * @param eventProcessor The event processor to pass events through to.
+     * @param caches The caches to invalidate.
+     */
+    public CacheInvalidatingAccessManagerEventProcessor(
+        AccessManagerEventProcessor<TUser, TGroup, TComponent, TAccess> eventProcessor,
+        List<AccessDecisionCache<TUser, TComponent, TAccess>> caches
+    ) {
+        this(eventProcessor, null, caches);
+    }
+
+    /**
+     * Constructs a CacheInvalidatingAccessManagerEventProcessor.
+     *
+     * @param eventProcessor The event processor to pass events through to.
+     * @param queryProcessor Used to retrieve the users mapped to a group, when processing events which change the mappings of a group.
+     * @param caches The caches to invalidate.
+     */
+    public CacheInvalidatingAccessManagerEventProcessor(
+        AccessManagerEventProcessor<TUser, TGroup, TComponent, TAccess> eventProcessor,
+        AccessManagerQueryProcessor<TUser, TGroup, TComponent, TAccess> queryProcessor,
+        List<AccessDecisionCache<TUser, TComponent, TAccess>> caches
+    ) {
+        this.eventProcessor = eventProcessor;
+        this.queryProcessor = queryProcessor;
+        this.caches = caches;
+    }
+
+    @Override
+    public void addUser(TUser user) throws Exception {
+        eventProcessor.addUser(user);
+    }
+
+    @Override
+    public void removeUser(TUser user) throws Exception {
+
+        eventProcessor.removeUser(user);
+        invalidate((AccessDecisionCache<TUser, TComponent, TAccess> cache) -> cache.invalidateUser(user));
+    }
+
+    @Override
+    public void addGroup(TGroup group) throws Exception {
+        eventProcessor.addGroup(group);
+    }
+
+    @Override
+    public void removeGroup(TGroup group) throws Exception {
+
+        Set<TUser> affectedUsers = getUsersMappedToGroup(group);
+        eventProcessor.removeGroup(group);
+        invalidateUsers(affectedUsers);
+    }
+
+    @Override
+    public void addUserToGroupMapping(TUser user, TGroup group) throws Exception {
+
+        eventProcessor.addUserToGroupMapping(user, group);
+        invalidate((AccessDecisionCache<TUser, TComponent, TAccess> cache) -> cache.invalidateUser(user));
+    }
+
+    @Override
+    public void removeUserToGroupMapping(TUser user, TGroup group) throws Exception {
+
+        eventProcessor.removeUserToGroupMapping(user, group);
+        invalidate((AccessDecisionCache<TUser, TComponent, TAccess> cache) -> cache.invalidateUser(user));
+    }
+
+    @Override
+    public void addGroupToGroupMapping(TGroup fromGroup, TGroup toGroup) throws Exception {
+
+        Set<TUser> affectedUsers = getUsersMappedToGroup(fromGroup);
+        eventProcessor.addGroupToGroupMapping(fromGroup, toGroup);
+        invalidateUsers(affectedUsers);
+    }
+
+    @Override
+    public void removeGroupToGroupMapping(TGroup fromGroup, TGroup toGroup) throws Exception {
+
+        Set<TUser> affectedUsers = getUsersMappedToGroup(fromGroup);
+        eventProcessor.removeGroupToGroupMapping(fromGroup, toGroup);
+        invalidateUsers(affectedUsers);
+    }
+
+    @Override
+    public void addUserToApplicationComponentAndAccessLevelMapping(TUser user, TComponent applicationComponent, TAccess accessLevel) throws Exception {
+
+        eventProcessor.addUserToApplicationComponentAndAccessLevelMapping(user, applicationComponent, accessLevel);
+        invalidate((AccessDecisionCache<TUser, TComponent, TAccess> cache) -> cache.invalidateApplicationComponent(user, applicationComponent, accessLevel));
+    }
+
+    @Override
+    public void removeUserToApplicationComponentAndAccessLevelMapping(TUser user, TComponent applicationComponent, TAccess accessLevel) throws Exception {
+
+        eventProcessor.removeUserToApplicationComponentAndAccessLevelMapping(user, applicationComponent, accessLevel);
+        invalidate((AccessDecisionCache<TUser, TComponent, TAccess> cache) -> cache.invalidateApplicationComponent(user, applicationComponent, accessLevel));
+    }
+
+    @Override
+    public void addGroupToApplicationComponentAndAccessLevelMapping(TGroup group, TComponent applicationComponent, TAccess accessLevel) throws Exception {
+
+        Set<TUser> affectedUsers = getUsersMappedToGroup(group);
+        eventProcessor.addGroupToApplicationComponentAndAccessLevelMapping(group, applicationComponent, accessLevel);
+        invalidateApplicationComponent(affectedUsers, applicationComponent, accessLevel);
+    }
+
+    @Override
+    public void removeGroupToApplicationComponentAndAccessLevelMapping(TGroup group, TComponent applicationComponent, TAccess accessLevel) throws Exception {
+
+        Set<TUser> affectedUsers = getUsersMappedToGroup(group);
+        eventProcessor.removeGroupToApplicationComponentAndAccessLevelMapping(group, applicationComponent, accessLevel);
+        invalidateApplicationComponent(affectedUsers, applicationComponent, accessLevel);
+    }
+
+    @Override
+    public void addEntityType(String entityType) throws Exception {
+        eventProcessor.addEntityType(entityType);
+    }
+
+    @Override
+    public void removeEntityType(String entityType) throws Exception {
+
+        eventProcessor.removeEntityType(entityType);
+        invalidate((AccessDecisionCache<TUser, TComponent, TAccess> cache) -> cache.invalidateEntityType(entityType));
+    }
+
+    @Override
+    public void addEntity(String entityType, String entity) throws Exception {
+        eventProcessor.addEntity(entityType, entity);
+    }
+
+    @Override
+    public void removeEntity(String entityType, String entity) throws Exception {
+
+        eventProcessor.removeEntity(entityType, entity);
+        invalidate((AccessDecisionCache<TUser, TComponent, TAccess> cache) -> cache.invalidateEntity(entityType, entity));
+    }
+
+    @Override
+    public void addUserToEntityMapping(TUser user, String entityType, String entity) throws Exception {
+
+        eventProcessor.addUserToEntityMapping(user, entityType, entity);
+        invalidate((AccessDecisionCache<TUser, TComponent, TAccess> cache) -> cache.invalidateEntity(user, entityType, entity));
+    }
+
+    @Override
+    public void removeUserToEntityMapping(TUser user, String entityType, String entity) throws Exception {
+
+        eventProcessor.removeUserToEntityMapping(user, entityType, entity);
+        invalidate((AccessDecisionCache<TUser, TComponent, TAccess> cache) -> cache.invalidateEntity(user, entityType, entity));
+    }
+
+    @Override
+    public void addGroupToEntityMapping(TGroup group, String entityType, String entity) throws Exception {
+
+        Set<TUser> affectedUsers = getUsersMappedToGroup(group);
+        eventProcessor.addGroupToEntityMapping(group, entityType, entity);
+        invalidateEntity(affectedUsers, entityType, entity);
+    }
+
+    @Override
+    public void removeGroupToEntityMapping(TGroup group, String entityType, String entity) throws Exception {
+
+        Set<TUser> affectedUsers = getUsersMappedToGroup(group);
+        eventProcessor.removeGroupToEntityMapping(group, entityType, entity);
+        invalidateEntity(affectedUsers, entityType, entity);
+    }
+
+    //#region Private/Protected Methods
+
+    /**
+     * Retrieves the users which are directly or indirectly mapped to the specified group.
+     * <p>
+     * Failures retrieving the users (e.g. if the group does not yet exist, and will be created implicitly by the event) don't prevent the event from being processed, and
+     * instead cause the cached decisions for all users to be invalidated.  Users are not retrieved if there are no caches to invalidate.
+     * </p>
+     *
+     * @param group The group to retrieve the users for.
+     * @return The users mapped to the group, or null if no {@link AccessManagerQueryProcessor} was provided or the users could not be retrieved.
+     * @exception InterruptedException If the thread is interrupted while retrieving the users.
+     */
+    protected Set<TUser> getUsersMappedToGroup(TGroup group) throws InterruptedException {
+
+        if (queryProcessor == null || caches.isEmpty() == true) {
+            return null;
+        }
+        try {
+            return new HashSet<TUser>(queryProcessor.getGroupToUserMappings(group, true));
+        }
+        catch (InterruptedException e) {
+            throw e;
+        }
+        catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Invalidates all cached decisions for the specified users.
+     *
+     * @param users The users to invalidate the decisions for, or null to invalidate the decisions for all users.
+     */
+    protected void invalidateUsers(Set<TUser> users) {
+
+        if (users == null) {
+            invalidate((AccessDecisionCache<TUser, TComponent, TAccess> cache) -> cache.invalidateAllUsers());
+        }
+        else {
+            invalidate((AccessDecisionCache<TUser, TComponent, TAccess> cache) -> cache.invalidateUsers(users));
+        }
+    }
+
+    /**
+     * Invalidates the cached decisions for the specified users' access to an application component at the specified level of access.
+     *
+     * @param users The users to invalidate the decisions for, or null to invalidate the decisions for all users.
+     * @param applicationComponent The application component.
+     * @param accessLevel The level of access to the component.
+     */
+    protected void invalidateApplicationComponent(Set<TUser> users, TComponent applicationComponent, TAccess accessLevel) {
+
+        if (users == null) {
+            invalidate((AccessDecisionCache<TUser, TComponent, TAccess> cache) -> cache.invalidateApplicationComponent(applicationComponent, accessLevel));
+        }
+        else {
+            invalidate((AccessDecisionCache<TUser, TComponent, TAccess> cache) -> cache.invalidateApplicationComponent(users, applicationComponent, accessLevel));
+        }
+    }
+
+    /**
+     * Invalidates the cached decisions for the specified users' access to an entity.
+     *
+     * @param users The users to invalidate the decisions for, or null to invalidate the decisions for all users.
+     * @param entityType The type of the entity.
+     * @param entity The entity.
+     */
+    protected void invalidateEntity(Set<TUser> users, String entityType, String entity) {
+
+        if (users == null) {
+            invalidate((AccessDecisionCache<TUser, TComponent, TAccess> cache) -> cache.invalidateEntity(entityType, entity));
+        }
+        else {
+            invalidate((AccessDecisionCache<TUser, TComponent, TAccess> cache) -> cache.invalidateEntity(users, entityType, entity));
+        }
+    }
+
+    /**
+     * Performs the specified invalidation action on each cache.
+     *
+     * @param invalidationAction The action to perform.
+     */
+    protected void invalidate(Consumer<AccessDecisionCache<TUser, TComponent, TAccess>> invalidationAction) {
+        for (AccessDecisionCache<TUser, TComponent, TAccess> currentCache : caches) {
+            invalidationAction.accept(currentCache);
+        }
+    }
+
+    //#endregion
+}
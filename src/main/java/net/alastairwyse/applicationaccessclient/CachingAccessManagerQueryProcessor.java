@@ -0,0 +1,205 @@
+package net.alastairwyse.applicationaccessclient;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decorates an {@link AccessManagerQueryProcessor}, caching the results of calls to method hasAccessToApplicationComponent() in a size-bounded cache whose entries expire after a fixed period.
+ * <p>
+ * Each invalidation increments a generation counter, and a result retrieved from the decorated query processor is only cached if no invalidation occurred while it was being
+ * retrieved, so a result made stale by a concurrent write is never cached.
+ * </p>
+ *
+ * @param <TUser> The type of users in the AccessManager.
+ * @param <TGroup> The type of groups in the AccessManager.
+ * @param <TComponent> The type of components in the AccessManager.
+ * @param <TAccess> The type of levels of access which can be assigned to an application component.
+ */
+public class CachingAccessManagerQueryProcessor<TUser, TGroup, TComponent, TAccess>
+    extends AccessManagerQueryProcessorDecoratorBase<TUser, TGroup, TComponent, TAccess>
+    implements AccessDecisionCache<TUser, TComponent, TAccess> {
+
+    /** Cache holding the results of calls to hasAccessToApplicationComponent(), keyed by user, application component, and access level. */
+    protected ExpiringLruCache<UserAndApplicationComponentAndAccessLevel<TUser, TComponent, TAccess>, Boolean> applicationComponentAccessCache;
+    /** Incremented on each invalidation of the cache. */
+    protected AtomicLong invalidationGeneration;
+
+    /**
+     * @return The number of calls to hasAccessToApplicationComponent() which were answered from the cache.
+     */
+    public long getCacheHitCount() {
+        return applicationComponentAccessCache.getHitCount();
+    }
+
+    /**
+     * @return The number of calls to hasAccessToApplicationComponent() which were passed through to the decorated query processor.
+     */
+    public long getCacheMissCount() {
+        return applicationComponentAccessCache.getMissCount();
+    }
+
+    /**
+     * @return The number of cached results removed because the cache was full, or because the result had expired.
+     */
+    public long getCacheEvictionCount() {
+        return applicationComponentAccessCache.getEvictionCount();
+    }
+
+    /**
+     * Constructs a CachingAccessManagerQueryProcessor.
+     *
+     * @param queryProcessor The query processor to decorate.
+     * @param maxCacheSize The maximum number of results to hold in the cache.
+     * @param cacheTimeToLive The time after which a cached result expires.
+     */
+    public CachingAccessManagerQueryProcessor(
+        AccessManagerQueryProcessor<TUser, TGroup, TComponent, TAccess> queryProcessor,
+        int maxCacheSize,
+        Duration cacheTimeToLive
+    ) {
+        super(queryProcessor);
+        applicationComponentAccessCache = new ExpiringLruCache<UserAndApplicationComponentAndAccessLevel<TUser, TComponent, TAccess>, Boolean>(maxCacheSize, cacheTimeToLive);
+        invalidationGeneration = new AtomicLong(0);
+    }
+
+    @Override
+    public boolean hasAccessToApplicationComponent(TUser user, TComponent applicationComponent, TAccess accessLevel) throws Exception {
+
+        var cacheKey = new UserAndApplicationComponentAndAccessLevel<TUser, TComponent, TAccess>(user, applicationComponent, accessLevel);
+        Boolean cachedResult = applicationComponentAccessCache.get(cacheKey);
+        if (cachedResult != null) {
+            return cachedResult;
+        }
+        long generation = invalidationGeneration.get();
+        boolean result = queryProcessor.hasAccessToApplicationComponent(user, applicationComponent, accessLevel);
+        applicationComponentAccessCache.putIf(cacheKey, result, () -> invalidationGeneration.get() == generation);
+
+        return result;
+    }
+
+    @Override
+    public void invalidateUser(TUser user) {
+
+        invalidationGeneration.incrementAndGet();
+        applicationComponentAccessCache.removeIf((UserAndApplicationComponentAndAccessLevel<TUser, TComponent, TAccess> key) -> key.user.equals(user));
+    }
+
+    @Override
+    public void invalidateUsers(Set<TUser> users) {
+
+        invalidationGeneration.incrementAndGet();
+        applicationComponentAccessCache.removeIf((UserAndApplicationComponentAndAccessLevel<TUser, TComponent, TAccess> key) -> users.contains(key.user));
+    }
+
+    @Override
+    public void invalidateAllUsers() {
+
+        invalidationGeneration.incrementAndGet();
+        applicationComponentAccessCache.clear();
+    }
+
+    @Override
+    public void invalidateApplicationComponent(TUser user, TComponent applicationComponent, TAccess accessLevel) {
+
+        invalidationGeneration.incrementAndGet();
+        applicationComponentAccessCache.remove(new UserAndApplicationComponentAndAccessLevel<TUser, TComponent, TAccess>(user, applicationComponent, accessLevel));
+    }
+
+    @Override
+    public void invalidateApplicationComponent(Set<TUser> users, TComponent applicationComponent, TAccess accessLevel) {
+
+        invalidationGeneration.incrementAndGet();
+        for (TUser currentUser : users) {
+            applicationComponentAccessCache.remove(new UserAndApplicationComponentAndAccessLevel<TUser, TComponent, TAccess>(currentUser, applicationComponent, accessLevel));
+        }
+    }
+
+    @Override
+    public void invalidateApplicationComponent(TComponent applicationComponent, TAccess accessLevel) {
+
+        invalidationGeneration.incrementAndGet();
+        applicationComponentAccessCache.removeIf((UserAndApplicationComponentAndAccessLevel<TUser, TComponent, TAccess> key) -> 
+            key.applicationComponent.equals(applicationComponent) && key.accessLevel.equals(accessLevel)
+        );
+    }
+
+    @Override
+    public void invalidateEntity(TUser user, String entityType, String entity) {
+        // Entity access decisions are not cached
+    }
+
+    @Override
+    public void invalidateEntity(Set<TUser> users, String entityType, String entity) {
+        // Entity access decisions are not cached
+    }
+
+    @Override
+    public void invalidateEntity(String entityType, String entity) {
+        // Entity access decisions are not cached
+    }
+
+    @Override
+    public void invalidateEntityType(String entityType) {
+        // Entity access decisions are not cached
+    }
+
+    //#region Nested Classes
+
+    /**
+     * Container class holding a user, an application component, and level of access to that component.  Used as the key for cached results.
+     *
+     * @param <TUser> The type of users in the AccessManager.
+     * @param <TComponent> The type of components in the AccessManager.
+     * @param <TAccess> The type of levels of access which can be assigned to an application component.
+     */
+    protected static class UserAndApplicationComponentAndAccessLevel<TUser, TComponent, TAccess> {
+
+        protected static final int prime1 = 7;
+        protected static final int prime2 = 11;
+        protected static final int prime3 = 13;
+
+        /** The user. */
+        protected final TUser user;
+        /** The application component. */
+        protected final TComponent applicationComponent;
+        /** The level of access to the application component. */
+        protected final TAccess accessLevel;
+
+        /**
+         * Constructs a UserAndApplicationComponentAndAccessLevel.
+         *
+         * @param user The user.
+         * @param applicationComponent The application component.
+         * @param accessLevel The level of access to the application component.
+         */
+        public UserAndApplicationComponentAndAccessLevel(TUser user, TComponent applicationComponent, TAccess accessLevel) {
+            this.user = user;
+            this.applicationComponent = applicationComponent;
+            this.accessLevel = accessLevel;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (other == null) {
+                return false;
+            }
+            if (this.getClass() != other.getClass()) {
+                return false;
+            }
+            var typedOther = (UserAndApplicationComponentAndAccessLevel<?, ?, ?>)other;
+
+            return (this.user.equals(typedOther.user) && this.applicationComponent.equals(typedOther.applicationComponent) && this.accessLevel.equals(typedOther.accessLevel));
+        }
+
+        @Override
+        public int hashCode() {
+            return (this.user.hashCode() * prime1 + this.applicationComponent.hashCode() * prime2 + this.accessLevel.hashCode() * prime3);
+        }
+    }
+
+    //#endregion
+}
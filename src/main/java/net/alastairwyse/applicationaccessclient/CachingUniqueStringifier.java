@@ -0,0 +1,165 @@
+package net.alastairwyse.applicationaccessclient;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToIntBiFunction;
+
+/**
+ * A {@link UniqueStringifier} decorator which caches the conversions made by another stringifier in both directions, so that repeated conversions of the same objects and
+ * strings don't repeat expensive conversion logic (e.g. lookups of domain objects).
+ * <p>
+ * Each conversion populates both the object to string and string to object caches.  Each cache is bounded by a maximum total weight (by default the number of entries), with
+ * entries evicted using the CLOCK (second-chance) algorithm (see {@link ClockCache}) when the weight is exceeded.  Lookups of cached conversions don't lock.  Converted objects are used as cache keys,
+ * so must implement equals() and hashCode() consistently with their string form.  Null objects and strings are passed directly to the decorated stringifier, and not cached.
+ * </p>
+ *
+ * @param <T> The type of objects to convert.
+ */
+public class CachingUniqueStringifier<T> implements UniqueStringifier<T> {
+
+    /** The stringifier to cache the conversions of. */
+    protected final UniqueStringifier<T> stringifier;
+    /** Returns the weight of a cached conversion, given its string and object. */
+    protected final ToIntBiFunction<String, T> weigher;
+    /** Cached object to string conversions. */
+    protected final ClockCache<T, String> toStringCache;
+    /** Cached string to object conversions. */
+    protected final ClockCache<String, T> fromStringCache;
+    /** The number of conversions found in the caches. */
+    protected final LongAdder hitCount;
+    /** The number of conversions not found in the caches. */
+    protected final LongAdder missCount;
+
+    /**
+     * Constructs a CachingUniqueStringifier, where each cached conversion has weight 1 (i.e. caches are bounded by number of entries).
+     *
+     * @param stringifier The stringifier to cache the conversions of.
+     * @param maxWeight The maximum number of conversions to cache in each direction.
+     */
+    public CachingUniqueStringifier(UniqueStringifier<T> stringifier, long maxWeight) {
+        this(stringifier, maxWeight, (String stringifiedObject, T inputObject) -> 1);
+    }
+
+    /**
+     * Constructs a CachingUniqueStringifier.
+     *
+     * @param stringifier The stringifier to cache the conversions of.
+     * @param maxWeight The maximum total weight of the conversions to cache in each direction.
+     * @param weigher Returns the weight of a cached conversion, given its string and object.  Must return a value greater than or equal to 0.
+     */
+    public CachingUniqueStringifier(UniqueStringifier<T> stringifier, long maxWeight, ToIntBiFunction<String, T> weigher) {
+
+        if (maxWeight < 1) {
+            throw new IllegalArgumentException(String.format("Parameter 'maxWeight' with value %d must be greater than 0.", maxWeight));
+        }
+        this.stringifier = stringifier;
+        this.weigher = weigher;
+        hitCount = new LongAdder();
+        missCount = new LongAdder();
+        toStringCache = new ClockCache<T, String>(maxWeight);
+        fromStringCache = new ClockCache<String, T>(maxWeight);
+    }
+
+    /**
+     * @return The number of conversions found in the caches.
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * @return The number of conversions not found in the caches.
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * @return The number of entries evicted from the caches.
+     */
+    public long getEvictionCount() {
+        return toStringCache.getEvictionCount() + fromStringCache.getEvictionCount();
+    }
+
+    /**
+     * @return The proportion of conversions found in the caches, or 0 if no conversions have been made.
+     */
+    public double getHitRate() {
+
+        long hits = hitCount.sum();
+        long total = hits + missCount.sum();
+        if (total == 0) {
+            return 0.0;
+        }
+
+        return (double)hits / total;
+    }
+
+    @Override
+    public String toString(T inputObject) {
+
+        if (inputObject == null) {
+            return stringifier.toString(inputObject);
+        }
+        String result = toStringCache.get(inputObject);
+        if (result != null) {
+            hitCount.increment();
+            return result;
+        }
+        missCount.increment();
+        result = stringifier.toString(inputObject);
+        if (result != null) {
+            cacheConversion(result, inputObject);
+        }
+
+        return result;
+    }
+
+    @Override
+    public T fromString(String stringifiedObject) {
+
+        if (stringifiedObject == null) {
+            return stringifier.fromString(stringifiedObject);
+        }
+        T result = fromStringCache.get(stringifiedObject);
+        if (result != null) {
+            hitCount.increment();
+            return result;
+        }
+        missCount.increment();
+        result = stringifier.fromString(stringifiedObject);
+        if (result != null) {
+            cacheConversion(stringifiedObject, result);
+        }
+
+        return result;
+    }
+
+    /**
+     * Removes all cached conversions.
+     */
+    public void clear() {
+
+        toStringCache.clear();
+        fromStringCache.clear();
+    }
+
+    //#region Private/Protected Methods
+
+    /**
+     * Adds the specified conversion to both caches.
+     *
+     * @param stringifiedObject The string form of the object.
+     * @param inputObject The object.
+     */
+    protected void cacheConversion(String stringifiedObject, T inputObject) {
+
+        int weight = weigher.applyAsInt(stringifiedObject, inputObject);
+        if (weight < 0) {
+            throw new IllegalStateException(String.format("Weigher returned negative weight %d for string '%s'.", weight, stringifiedObject));
+        }
+        toStringCache.put(inputObject, stringifiedObject, weight);
+        fromStringCache.put(stringifiedObject, inputObject, weight);
+    }
+
+    //#endregion
+}
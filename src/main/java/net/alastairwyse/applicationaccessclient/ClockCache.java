@@ -0,0 +1,183 @@
+package net.alastairwyse.applicationaccessclient;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A thread-safe, weight-bounded cache using the CLOCK (second-chance) eviction algorithm.  Entries are marked as referenced when read, and when the maximum weight is exceeded
+ * a 'hand' sweeps over the entries, evicting unreferenced entries and clearing the mark on referenced ones.
+ * <p>
+ * Lookups don't lock, and only evictions are serialized, so the cache is suited to frequently read entries on hot paths.  Keys are held strongly until evicted, so must
+ * implement equals() and hashCode().
+ * </p>
+ *
+ * @param <K> The type of keys in the cache.
+ * @param <V> The type of values in the cache.
+ */
+public class ClockCache<K, V> {
+
+    /** The maximum total weight of the entries in the cache. */
+    protected final long maxWeight;
+    /** The entries in the cache. */
+    protected final ConcurrentHashMap<K, ClockEntry<V>> entries;
+    /** The total weight of the entries in the cache. */
+    protected final AtomicLong totalWeight;
+    /** The number of entries evicted from the cache. */
+    protected final LongAdder evictionCount;
+    /** Lock object serializing evictions. */
+    protected final Object evictionLock;
+    /** The position of the clock hand, or null if a new sweep should start from the beginning of the entries. */
+    protected Iterator<Map.Entry<K, ClockEntry<V>>> clockHand;
+
+    /**
+     * Constructs a ClockCache.
+     *
+     * @param maxWeight The maximum total weight of the entries in the cache.
+     */
+    public ClockCache(long maxWeight) {
+        if (maxWeight < 1) {
+            throw new IllegalArgumentException(String.format("Parameter 'maxWeight' with value %d must be greater than 0.", maxWeight));
+        }
+        this.maxWeight = maxWeight;
+        entries = new ConcurrentHashMap<K, ClockEntry<V>>();
+        totalWeight = new AtomicLong(0);
+        evictionCount = new LongAdder();
+        evictionLock = new Object();
+        clockHand = null;
+    }
+
+    /**
+     * @return The number of entries evicted from the cache.
+     */
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * @return The number of entries in the cache.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the value cached for the specified key.
+     *
+     * @param key The key.
+     * @return The value, or null if no value is cached for the key.
+     */
+    public V get(K key) {
+
+        ClockEntry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.referenced == false) {
+            entry.referenced = true;
+        }
+
+        return entry.value;
+    }
+
+    /**
+     * Adds the specified value to the cache, if no value is already cached for the key, and the weight of the value does not exceed the maximum weight of the cache.
+     *
+     * @param key The key.
+     * @param value The value.
+     * @param weight The weight of the value.
+     */
+    public void put(K key, V value, int weight) {
+
+        if (weight > maxWeight) {
+            return;
+        }
+        if (entries.putIfAbsent(key, new ClockEntry<V>(value, weight)) == null) {
+            if (totalWeight.addAndGet(weight) > maxWeight) {
+                evict();
+            }
+        }
+    }
+
+    /**
+     * Removes all entries from the cache.
+     */
+    public void clear() {
+
+        synchronized (evictionLock) {
+            for (K currentKey : entries.keySet()) {
+                ClockEntry<V> removedEntry = entries.remove(currentKey);
+                if (removedEntry != null) {
+                    totalWeight.addAndGet(-removedEntry.weight);
+                }
+            }
+            clockHand = null;
+        }
+    }
+
+    //#region Private/Protected Methods
+
+    /**
+     * Sweeps the clock hand over the entries, evicting unreferenced entries until the total weight no longer exceeds the maximum.
+     */
+    protected void evict() {
+
+        synchronized (evictionLock) {
+            // Each entry is visited at most twice (once to clear its reference mark, and once to evict it), so bound the sweep to guarantee termination
+            long remainingSteps = 2L * entries.size() + 1;
+            while (totalWeight.get() > maxWeight && remainingSteps > 0) {
+                if (clockHand == null || clockHand.hasNext() == false) {
+                    clockHand = entries.entrySet().iterator();
+                    if (clockHand.hasNext() == false) {
+                        return;
+                    }
+                }
+                Map.Entry<K, ClockEntry<V>> currentEntry = clockHand.next();
+                ClockEntry<V> clockEntry = currentEntry.getValue();
+                if (clockEntry.referenced == true) {
+                    clockEntry.referenced = false;
+                }
+                else if (entries.remove(currentEntry.getKey(), clockEntry) == true) {
+                    totalWeight.addAndGet(-clockEntry.weight);
+                    evictionCount.increment();
+                }
+                remainingSteps--;
+            }
+        }
+    }
+
+    //#endregion
+
+    //#region Nested Classes
+
+    /**
+     * An entry in a {@link ClockCache}.
+     *
+     * @param <V> The type of the value.
+     */
+    protected static class ClockEntry<V> {
+
+        /** The value. */
+        protected final V value;
+        /** The weight of the entry. */
+        protected final int weight;
+        /** Whether the entry has been read since the clock hand last passed it. */
+        protected volatile boolean referenced;
+
+        /**
+         * Constructs a ClockEntry.
+         *
+         * @param value The value.
+         * @param weight The weight of the entry.
+         */
+        public ClockEntry(V value, int weight) {
+            this.value = value;
+            this.weight = weight;
+            referenced = false;
+        }
+    }
+
+    //#endregion
+}
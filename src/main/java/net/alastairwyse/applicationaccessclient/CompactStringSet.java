@@ -0,0 +1,167 @@
+package net.alastairwyse.applicationaccessclient;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable {@link java.util.Set} of strings, which stores the UTF-8 encoded strings sorted and packed end to end in a single byte array, with the start of each string
+ * held in an offsets array.
+ * <p>
+ * Compared to a {@link java.util.HashSet}, the set holds no per-element objects (entries, strings or their character arrays), so occupies a fraction of the memory for large
+ * sets of short strings (e.g. the entities accessible by a user), making it suitable for caching.  contains() performs a binary search over the packed strings, and elements
+ * returned by the iterator are decoded on demand, in UTF-8 byte order.
+ * </p>
+ * <p>
+ * Strings which can't be encoded as UTF-8 (i.e. which contain unpaired surrogate characters) can't be stored, as {@link String#getBytes(java.nio.charset.Charset)} would
+ * replace the unpaired surrogates with '?', making distinct strings equal.
+ * </p>
+ */
+public class CompactStringSet extends AbstractSet<String> {
+
+    /** UTF-8 encoder for each thread, which reports (rather than replaces) malformed input. */
+    protected static final ThreadLocal<CharsetEncoder> utf8Encoder = ThreadLocal.withInitial(() -> {
+        return StandardCharsets.UTF_8.newEncoder().onMalformedInput(CodingErrorAction.REPORT).onUnmappableCharacter(CodingErrorAction.REPORT);
+    });
+
+    /** The UTF-8 encoded strings in the set, in ascending unsigned byte order, packed end to end. */
+    protected final byte[] data;
+    /** The offset in the data of each string in the set, followed by the length of the data (so the string at index i occupies data from offsets[i] to offsets[i + 1]). */
+    protected final int[] offsets;
+
+    /**
+     * Constructs a CompactStringSet.
+     *
+     * @param values The strings to include in the set.  Duplicates are included once.
+     * @exception IllegalArgumentException If any of the strings is null or contains unpaired surrogate characters.
+     */
+    public CompactStringSet(Collection<String> values) {
+
+        var encodedValues = new byte[values.size()][];
+        int index = 0;
+        for (String currentValue : values) {
+            if (currentValue == null) {
+                throw new IllegalArgumentException("Parameter 'values' cannot contain null elements.");
+            }
+            encodedValues[index] = encode(currentValue);
+            if (encodedValues[index] == null) {
+                throw new IllegalArgumentException(String.format("Parameter 'values' contains string '%s' which cannot be encoded as UTF-8.", currentValue));
+            }
+            index++;
+        }
+        Arrays.sort(encodedValues, (byte[] first, byte[] second) -> Arrays.compareUnsigned(first, second));
+        int distinctCount = 0;
+        int dataLength = 0;
+        for (int i = 0; i < encodedValues.length; i++) {
+            if (i == 0 || Arrays.equals(encodedValues[i], encodedValues[i - 1]) == false) {
+                distinctCount++;
+                dataLength += encodedValues[i].length;
+            }
+        }
+        data = new byte[dataLength];
+        offsets = new int[distinctCount + 1];
+        int offset = 0;
+        int distinctIndex = 0;
+        for (int i = 0; i < encodedValues.length; i++) {
+            if (i == 0 || Arrays.equals(encodedValues[i], encodedValues[i - 1]) == false) {
+                offsets[distinctIndex] = offset;
+                System.arraycopy(encodedValues[i], 0, data, offset, encodedValues[i].length);
+                offset += encodedValues[i].length;
+                distinctIndex++;
+            }
+        }
+        offsets[distinctCount] = offset;
+    }
+
+    @Override
+    public boolean contains(Object element) {
+
+        if (element instanceof String == false) {
+            return false;
+        }
+        byte[] encodedElement = encode((String)element);
+        if (encodedElement == null) {
+            // The set can't contain strings which can't be encoded
+            return false;
+        }
+        int low = 0;
+        int high = offsets.length - 2;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int comparison = Arrays.compareUnsigned(data, offsets[middle], offsets[middle + 1], encodedElement, 0, encodedElement.length);
+            if (comparison < 0) {
+                low = middle + 1;
+            }
+            else if (comparison > 0) {
+                high = middle - 1;
+            }
+            else {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Encodes the specified string as UTF-8.
+     *
+     * @param value The string.
+     * @return The encoded string, or null if the string contains unpaired surrogate characters.
+     */
+    protected static byte[] encode(String value) {
+
+        ByteBuffer encodedBuffer;
+        try {
+            encodedBuffer = utf8Encoder.get().encode(CharBuffer.wrap(value));
+        }
+        catch (CharacterCodingException e) {
+            return null;
+        }
+        var encodedValue = new byte[encodedBuffer.remaining()];
+        encodedBuffer.get(encodedValue);
+
+        return encodedValue;
+    }
+
+    @Override
+    public int size() {
+        return offsets.length - 1;
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+
+        return new Iterator<String>() {
+
+            /** The index of the next string to return. */
+            protected int nextIndex = 0;
+
+            @Override
+            public boolean hasNext() {
+                return nextIndex < offsets.length - 1;
+            }
+
+            @Override
+            public String next() {
+
+                if (hasNext() == false) {
+                    throw new NoSuchElementException();
+                }
+                int offset = offsets[nextIndex];
+                int length = offsets[nextIndex + 1] - offset;
+                nextIndex++;
+
+                return new String(data, offset, length, StandardCharsets.UTF_8);
+            }
+        };
+    }
+}
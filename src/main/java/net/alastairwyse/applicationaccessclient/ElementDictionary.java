@@ -0,0 +1,195 @@
+package net.alastairwyse.applicationaccessclient;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Interns elements of an AccessManager (e.g. users, groups, application components, or access levels), assigning each distinct element a dense integer id starting at 0.  Local
+ * caches and indexes can then store the ids in primitive arrays, or pairs of ids packed into a long (see {@link #packIds(int, int)}), rather than holding the elements themselves.
+ * <p>
+ * When a {@link UniqueStringifier} is provided, the string it produces for an element is used as the element's canonical key, so separate instances which stringify identically
+ * receive the same id.  Otherwise elements are keyed by their equals() and hashCode() methods.  Ids are never reused, and elements are never removed.
+ * </p>
+ * <p>
+ * This class is thread-safe.
+ * </p>
+ *
+ * @param <T> The type of elements.
+ */
+public class ElementDictionary<T> {
+
+    /** Converts elements to their canonical key, or null if elements are their own key. */
+    protected UniqueStringifier<T> stringifier;
+    /** Maps the canonical key of each element to its id. */
+    protected Map<Object, Integer> keyToIdMap;
+    /** The (first interned instance of the) element with each id. */
+    protected ArrayList<T> idToElementMap;
+    /** Lock protecting all members. */
+    protected ReentrantReadWriteLock lock;
+
+    /**
+     * Constructs an ElementDictionary which keys elements by their equals() and hashCode() methods.
+     */
+    public ElementDictionary() {
+        this(null);
+    }
+
+    /**
+     * Constructs an ElementDictionary which keys elements by their stringified form.
+     *
+     * @param stringifier A string converter for elements.
+     */
+    public ElementDictionary(UniqueStringifier<T> stringifier) {
+        this.stringifier = stringifier;
+        keyToIdMap = new HashMap<Object, Integer>();
+        idToElementMap = new ArrayList<T>();
+        lock = new ReentrantReadWriteLock();
+    }
+
+    /**
+     * Gets the id of the specified element, assigning a new id if the element hasn't been interned.
+     *
+     * @param element The element.
+     * @return The id of the element.
+     */
+    public int getOrAddId(T element) {
+
+        Object key = getKey(element);
+        lock.readLock().lock();
+        try {
+            Integer id = keyToIdMap.get(key);
+            if (id != null) {
+                return id;
+            }
+        }
+        finally {
+            lock.readLock().unlock();
+        }
+        lock.writeLock().lock();
+        try {
+            Integer id = keyToIdMap.get(key);
+            if (id != null) {
+                return id;
+            }
+            int newId = idToElementMap.size();
+            keyToIdMap.put(key, newId);
+            idToElementMap.add(element);
+
+            return newId;
+        }
+        finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the id of the specified element.
+     *
+     * @param element The element.
+     * @return The id of the element, or -1 if the element hasn't been interned.
+     */
+    public int getId(T element) {
+
+        Object key = getKey(element);
+        lock.readLock().lock();
+        try {
+            Integer id = keyToIdMap.get(key);
+            if (id == null) {
+                return -1;
+            }
+
+            return id;
+        }
+        finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the element with the specified id.
+     *
+     * @param id The id of the element.
+     * @return The element.
+     */
+    public T getElement(int id) {
+        lock.readLock().lock();
+        try {
+            if (id < 0 || id >= idToElementMap.size()) {
+                throw new IllegalArgumentException(String.format("Parameter 'id' with value %d does not identify an element.", id));
+            }
+
+            return idToElementMap.get(id);
+        }
+        finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of elements interned.
+     *
+     * @return The number of elements interned (which is also the next id to be assigned).
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return idToElementMap.size();
+        }
+        finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Packs a pair of ids into a long, e.g. for use as a key for a tuple of elements.  The first id occupies the high 32 bits, so packed pairs sort by first id and then
+     * second id.
+     *
+     * @param firstId The first id.
+     * @param secondId The second id.
+     * @return The packed ids.
+     */
+    public static long packIds(int firstId, int secondId) {
+        return ((long)firstId << 32) | (secondId & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Returns the first id from a pair of ids packed by {@link #packIds(int, int)}.
+     *
+     * @param packedIds The packed ids.
+     * @return The first id.
+     */
+    public static int unpackFirstId(long packedIds) {
+        return (int)(packedIds >>> 32);
+    }
+
+    /**
+     * Returns the second id from a pair of ids packed by {@link #packIds(int, int)}.
+     *
+     * @param packedIds The packed ids.
+     * @return The second id.
+     */
+    public static int unpackSecondId(long packedIds) {
+        return (int)packedIds;
+    }
+
+    //#region Private/Protected Methods
+
+    /**
+     * Gets the canonical key for the specified element.
+     *
+     * @param element The element.
+     * @return The key.
+     */
+    protected Object getKey(T element) {
+
+        if (stringifier == null) {
+            return element;
+        }
+
+        return stringifier.toString(element);
+    }
+
+    //#endregion
+}
@@ -0,0 +1,123 @@
+package net.alastairwyse.applicationaccessclient;
+
+/**
+ * Caches the percent-encoded URL path segments of elements converted to strings by a {@link UniqueStringifier}, so that repeated requests for the same element don't repeat the
+ * string conversion and encoding.
+ * <p>
+ * Enum elements are held in an array indexed by ordinal, which is populated with the encoded segments of all constants of the enum the first time any constant is encoded.
+ * Other elements are held in a {@link ClockCache} bounded to the configured maximum size, so frequently used elements remain cached when the number of distinct elements
+ * exceeds the maximum.  Elements are held strongly until evicted, so the maximum size also bounds the number of elements whose lifetime the cache extends.
+ * </p>
+ *
+ * @param <T> The type of elements to cache the encoded segments of.  Elements are used as cache keys, so must implement equals() and hashCode() consistently with their
+ *   string form (i.e. elements which are equal must be converted to the same string).
+ */
+public class EncodedSegmentCache<T> {
+
+    /** Converts elements to strings. */
+    protected UniqueStringifier<T> stringifier;
+    /** The maximum number of non-enum elements to cache the encoded segments of. */
+    protected int maxSize;
+    /** The encoded segments of non-enum elements. */
+    protected ClockCache<T, String> encodedSegments;
+    /** The encoded segments of the constants of the most recently encoded enum, or null if no enum elements have been encoded. */
+    protected volatile EnumSegments enumSegments;
+
+    /**
+     * Constructs an EncodedSegmentCache.
+     *
+     * @param stringifier Converts elements to strings.
+     * @param maxSize The maximum number of non-enum elements to cache the encoded segments of.
+     */
+    public EncodedSegmentCache(UniqueStringifier<T> stringifier, int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException(String.format("Parameter 'maxSize' with value %d must be greater than 0.", maxSize));
+        }
+        this.stringifier = stringifier;
+        this.maxSize = maxSize;
+        encodedSegments = new ClockCache<T, String>(maxSize);
+        enumSegments = null;
+    }
+
+    /**
+     * Returns the percent-encoded URL path segment for the specified element.
+     *
+     * @param element The element.
+     * @return The encoded segment.
+     */
+    public String get(T element) {
+
+        if (element instanceof Enum<?>) {
+            return getEnumSegment((Enum<?>)element);
+        }
+        String encodedSegment = encodedSegments.get(element);
+        if (encodedSegment == null) {
+            encodedSegment = UriTemplate.encode(stringifier.toString(element));
+            encodedSegments.put(element, encodedSegment, 1);
+        }
+
+        return encodedSegment;
+    }
+
+    /**
+     * Removes all cached segments.
+     */
+    public void clear() {
+
+        encodedSegments.clear();
+        enumSegments = null;
+    }
+
+    //#region Private/Protected Methods
+
+    /**
+     * Returns the percent-encoded URL path segment for the specified enum element, encoding all constants of its enum if they have not already been encoded.
+     *
+     * @param element The element.
+     * @return The encoded segment.
+     */
+    @SuppressWarnings("unchecked")
+    protected String getEnumSegment(Enum<?> element) {
+
+        EnumSegments currentEnumSegments = enumSegments;
+        if (currentEnumSegments == null || currentEnumSegments.enumClass != element.getDeclaringClass()) {
+            Object[] enumConstants = element.getDeclaringClass().getEnumConstants();
+            var segments = new String[enumConstants.length];
+            for (int i = 0; i < enumConstants.length; i++) {
+                segments[i] = UriTemplate.encode(stringifier.toString((T)enumConstants[i]));
+            }
+            currentEnumSegments = new EnumSegments(element.getDeclaringClass(), segments);
+            enumSegments = currentEnumSegments;
+        }
+
+        return currentEnumSegments.segments[element.ordinal()];
+    }
+
+    //#endregion
+
+    //#region Nested Classes
+
+    /**
+     * The encoded segments of the constants of an enum.
+     */
+    protected static class EnumSegments {
+
+        /** The enum class. */
+        protected final Class<?> enumClass;
+        /** The encoded segments of each constant of the enum, indexed by ordinal. */
+        protected final String[] segments;
+
+        /**
+         * Constructs an EnumSegments.
+         *
+         * @param enumClass The enum class.
+         * @param segments The encoded segments of each constant of the enum, indexed by ordinal.
+         */
+        public EnumSegments(Class<?> enumClass, String[] segments) {
+            this.enumClass = enumClass;
+            this.segments = segments;
+        }
+    }
+
+    //#endregion
+}
@@ -0,0 +1,178 @@
+package net.alastairwyse.applicationaccessclient;
+
+import java.util.HashMap;
+
+/**
+ * An implementation of {@link UniqueStringifier} for enums, which converts constants to and from their names.
+ * <p>
+ * The names of the constants are computed once on construction and held in an array indexed by ordinal.  Names are converted back to constants through a perfect hash table
+ * (i.e. a table in which each name hashes to a distinct slot), built on construction, so conversion in either direction performs no allocation and at most one string
+ * comparison.  In the unlikely case that no such table can be built within a bounded size (e.g. if the names of two constants have the same hash code), names are converted
+ * through a {@link HashMap} instead.
+ * </p>
+ *
+ * @param <E> The type of the enum.
+ */
+public class EnumUniqueStringifier<E extends Enum<E>> implements UniqueStringifier<E> {
+
+    /** The maximum number of multipliers tried for each table size when building the hash table. */
+    protected static final int maximumMultiplierAttempts = 1024;
+    /** The maximum number of times the hash table size is doubled from its initial size when building the hash table. */
+    protected static final int maximumTableSizeDoublings = 4;
+
+    /** The enum class. */
+    protected final Class<E> enumClass;
+    /** The constants of the enum, indexed by ordinal. */
+    protected final E[] constants;
+    /** The names of the constants of the enum, indexed by ordinal. */
+    protected final String[] names;
+    /** The constants of the enum, indexed by the hash table slot of their name (with null for unused slots), or null if a perfect hash table could not be built. */
+    protected E[] hashTable;
+    /** The names of the constants in the hash table, indexed by hash table slot (with null for unused slots). */
+    protected String[] hashTableNames;
+    /** The constants of the enum keyed by name, used only if a perfect hash table could not be built (otherwise null). */
+    protected HashMap<String, E> nameToConstantMap;
+    /** The multiplier applied to the hash codes of names to find their hash table slot. */
+    protected int hashMultiplier;
+    /** The number of bits the multiplied hash code is shifted right by to find the hash table slot. */
+    protected int hashShift;
+
+    /**
+     * Constructs an EnumUniqueStringifier.
+     *
+     * @param enumClass The enum class.
+     */
+    public EnumUniqueStringifier(Class<E> enumClass) {
+
+        this.enumClass = enumClass;
+        constants = enumClass.getEnumConstants();
+        names = new String[constants.length];
+        for (E currentConstant : constants) {
+            names[currentConstant.ordinal()] = currentConstant.name();
+        }
+        buildHashTable();
+    }
+
+    /**
+     * @return The enum class.
+     */
+    public Class<E> getEnumClass() {
+        return enumClass;
+    }
+
+    @Override
+    public String toString(E inputObject) {
+        return names[inputObject.ordinal()];
+    }
+
+    @Override
+    public E fromString(String stringifiedObject) {
+
+        E result = tryFromString(stringifiedObject);
+        if (result == null) {
+            throw new IllegalArgumentException(String.format("Parameter 'stringifiedObject' with value '%s' is not a constant of enum '%s'.", stringifiedObject, enumClass.getName()));
+        }
+
+        return result;
+    }
+
+    /**
+     * Converts the name of a constant of the enum into the constant, returning null rather than throwing an exception if the name is not that of a constant.
+     *
+     * @param stringifiedObject The name of the constant.
+     * @return The constant, or null if the name is not that of a constant (or is null).
+     */
+    public E tryFromString(String stringifiedObject) {
+
+        if (stringifiedObject == null) {
+            return null;
+        }
+        if (hashTable == null) {
+            return nameToConstantMap.get(stringifiedObject);
+        }
+        int slot = getHashTableSlot(stringifiedObject.hashCode());
+        String candidateName = hashTableNames[slot];
+        if (candidateName != null && candidateName.equals(stringifiedObject) == true) {
+            return hashTable[slot];
+        }
+
+        return null;
+    }
+
+    //#region Private/Protected Methods
+
+    /**
+     * Returns the hash table slot for the specified hash code.
+     *
+     * @param hashCode The hash code.
+     * @return The slot.
+     */
+    protected int getHashTableSlot(int hashCode) {
+        return (hashCode * hashMultiplier) >>> hashShift;
+    }
+
+    /**
+     * Builds a hash table in which the names of all constants hash to distinct slots, starting with the smallest power of 2 table size which is at least twice the number of
+     * constants, and doubling the table size until a multiplier giving distinct slots is found.  Falls back to a {@link HashMap} if no such table is found.
+     */
+    @SuppressWarnings("unchecked")
+    protected void buildHashTable() {
+
+        int tableBits = 1;
+        while ((1 << tableBits) < constants.length * 2) {
+            tableBits++;
+        }
+        int maximumTableBits = Math.min(tableBits + maximumTableSizeDoublings, 30);
+        while (tableBits <= maximumTableBits) {
+            hashShift = 32 - tableBits;
+            var candidateTable = (E[])new Enum<?>[1 << tableBits];
+            // Odd multipliers derived from the golden ratio, which spread hash codes well across the upper bits
+            int candidateMultiplier = 0x9E3779B9;
+            for (int i = 0; i < maximumMultiplierAttempts; i++) {
+                hashMultiplier = candidateMultiplier;
+                if (tryPopulateHashTable(candidateTable) == true) {
+                    hashTable = candidateTable;
+                    hashTableNames = new String[candidateTable.length];
+                    for (int j = 0; j < candidateTable.length; j++) {
+                        if (candidateTable[j] != null) {
+                            hashTableNames[j] = names[candidateTable[j].ordinal()];
+                        }
+                    }
+                    return;
+                }
+                candidateMultiplier += 0x61C88646 * 2;
+            }
+            tableBits++;
+        }
+        hashTable = null;
+        hashTableNames = null;
+        nameToConstantMap = new HashMap<String, E>();
+        for (E currentConstant : constants) {
+            nameToConstantMap.put(names[currentConstant.ordinal()], currentConstant);
+        }
+    }
+
+    /**
+     * Attempts to populate the specified hash table with the constants of the enum using the current multiplier and shift.
+     *
+     * @param candidateTable The table to populate.
+     * @return True if all constants hashed to distinct slots.
+     */
+    protected boolean tryPopulateHashTable(E[] candidateTable) {
+
+        for (int i = 0; i < candidateTable.length; i++) {
+            candidateTable[i] = null;
+        }
+        for (E currentConstant : constants) {
+            int slot = getHashTableSlot(names[currentConstant.ordinal()].hashCode());
+            if (candidateTable[slot] != null) {
+                return false;
+            }
+            candidateTable[slot] = currentConstant;
+        }
+
+        return true;
+    }
+
+    //#endregion
+}
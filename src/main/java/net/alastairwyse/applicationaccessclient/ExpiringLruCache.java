@@ -0,0 +1,213 @@
+package net.alastairwyse.applicationaccessclient;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+
+/**
+ * A thread-safe, size-bounded cache which evicts the least recently used entry when full, and expires entries a fixed period after they were added.
+ *
+ * @param <K> The type of keys in the cache.
+ * @param <V> The type of values in the cache.
+ */
+public class ExpiringLruCache<K, V> {
+
+    /** The maximum number of entries the cache can hold. */
+    protected int maxSize;
+    /** The time in nanoseconds after which an entry expires. */
+    protected long timeToLiveNanoseconds;
+    /** The entries held in the cache, in least to most recently used order. */
+    protected LinkedHashMap<K, CacheEntry<V>> entries;
+    /** The number of requests for keys which were found in the cache. */
+    protected LongAdder hitCount;
+    /** The number of requests for keys which were not found in the cache (or had expired). */
+    protected LongAdder missCount;
+    /** The number of entries removed because the cache was full, or because the entry had expired. */
+    protected LongAdder evictionCount;
+
+    /**
+     * @return The number of requests for keys which were found in the cache.
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * @return The number of requests for keys which were not found in the cache (or had expired).
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * @return The number of entries removed because the cache was full, or because the entry had expired.
+     */
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * Constructs an ExpiringLruCache.
+     *
+     * @param maxSize The maximum number of entries the cache can hold.
+     * @param timeToLive The time after which an entry expires.
+     */
+    public ExpiringLruCache(int maxSize, Duration timeToLive) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException(String.format("Parameter 'maxSize' with value %d must be greater than 0.", maxSize));
+        }
+        if (timeToLive.isNegative() || timeToLive.isZero()) {
+            throw new IllegalArgumentException(String.format("Parameter 'timeToLive' with value '%s' must be greater than 0.", timeToLive.toString()));
+        }
+
+        this.maxSize = maxSize;
+        this.timeToLiveNanoseconds = timeToLive.toNanos();
+        hitCount = new LongAdder();
+        missCount = new LongAdder();
+        evictionCount = new LongAdder();
+        entries = new LinkedHashMap<K, CacheEntry<V>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, CacheEntry<V>> eldest) {
+                if (size() > ExpiringLruCache.this.maxSize) {
+                    evictionCount.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Retrieves the value stored against the specified key.
+     *
+     * @param key The key to retrieve the value for.
+     * @return The value, or null if the key is not in the cache or has expired.
+     */
+    public V get(K key) {
+        synchronized (entries) {
+            CacheEntry<V> entry = entries.get(key);
+            if (entry == null) {
+                missCount.increment();
+                return null;
+            }
+            if (System.nanoTime() - entry.createdTime >= timeToLiveNanoseconds) {
+                entries.remove(key);
+                evictionCount.increment();
+                missCount.increment();
+                return null;
+            }
+            hitCount.increment();
+
+            return entry.value;
+        }
+    }
+
+    /**
+     * Adds or replaces the value stored against the specified key.
+     *
+     * @param key The key to store the value against.
+     * @param value The value to store.
+     */
+    public void put(K key, V value) {
+        synchronized (entries) {
+            entries.put(key, new CacheEntry<V>(value, System.nanoTime()));
+        }
+    }
+
+    /**
+     * Adds or replaces the value stored against the specified key if the specified condition holds.  The condition is checked and the value stored atomically with respect to
+     * other operations on the cache, so a removal which starts after the condition stops holding is guaranteed not to be undone by the value being stored.
+     *
+     * @param key The key to store the value against.
+     * @param value The value to store.
+     * @param condition The condition.
+     * @return True if the value was stored.  False otherwise.
+     */
+    public boolean putIf(K key, V value, BooleanSupplier condition) {
+        synchronized (entries) {
+            if (condition.getAsBoolean() == false) {
+                return false;
+            }
+            entries.put(key, new CacheEntry<V>(value, System.nanoTime()));
+
+            return true;
+        }
+    }
+
+    /**
+     * Removes the value stored against the specified key.
+     *
+     * @param key The key to remove.
+     */
+    public void remove(K key) {
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    /**
+     * Removes all entries whose key matches the specified predicate.
+     *
+     * @param keyPredicate The predicate to test each key with.
+     */
+    public void removeIf(Predicate<K> keyPredicate) {
+        synchronized (entries) {
+            Iterator<K> keyIterator = entries.keySet().iterator();
+            while (keyIterator.hasNext()) {
+                if (keyPredicate.test(keyIterator.next()) == true) {
+                    keyIterator.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes all entries from the cache.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * @return The number of entries currently held in the cache (including any which have expired but not yet been removed).
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    //#region Nested Classes
+
+    /**
+     * Container class holding a cached value and the time it was added to the cache.
+     *
+     * @param <V> The type of the value.
+     */
+    protected static class CacheEntry<V> {
+
+        /** The cached value. */
+        protected final V value;
+        /** The value of {@link System#nanoTime()} when the entry was added. */
+        protected final long createdTime;
+
+        /**
+         * Constructs a CacheEntry.
+         *
+         * @param value The cached value.
+         * @param createdTime The value of {@link System#nanoTime()} when the entry was added.
+         */
+        public CacheEntry(V value, long createdTime) {
+            this.value = value;
+            this.createdTime = createdTime;
+        }
+    }
+
+    //#endregion
+}
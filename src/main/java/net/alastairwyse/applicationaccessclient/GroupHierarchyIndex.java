@@ -0,0 +1,487 @@
+package net.alastairwyse.applicationaccessclient;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import net.alastairwyse.applicationaccessclient.exceptions.ElementNotFoundException;
+
+/**
+ * Holds the group to group mappings of an AccessManager, with the transitive closure of the mappings (i.e. the set of groups reachable from each group, and the set of groups
+ * each group is reachable from) precomputed as bitsets over dense integer group ids (assigned by an {@link ElementDictionary}).  Indirect mappings and reachability are
+ * thereby answered by bitset lookups rather than graph traversals.
+ * <p>
+ * Closures are maintained incrementally as mappings are added and removed.  Circular mappings are not supported (they are rejected by the AccessManager).
+ * </p>
+ * <p>
+ * This class is thread-safe.
+ * </p>
+ *
+ * @param <TGroup> The type of groups in the AccessManager.
+ */
+public class GroupHierarchyIndex<TGroup> {
+
+    /** Assigns the ids of groups. */
+    protected ElementDictionary<TGroup> groupDictionary;
+    /** The ids of the groups currently in the index. */
+    protected BitSet groupIds;
+    /** The ids of the groups each group is directly mapped to, indexed by group id. */
+    protected ArrayList<BitSet> directMappings;
+    /** The ids of the groups directly mapped to each group, indexed by group id. */
+    protected ArrayList<BitSet> directReverseMappings;
+    /** The ids of the groups each group is directly or indirectly mapped to, indexed by group id. */
+    protected ArrayList<BitSet> closure;
+    /** The ids of the groups directly or indirectly mapped to each group, indexed by group id. */
+    protected ArrayList<BitSet> reverseClosure;
+    /** Lock protecting all members. */
+    protected ReentrantReadWriteLock lock;
+
+    /**
+     * Constructs an empty GroupHierarchyIndex.
+     */
+    public GroupHierarchyIndex() {
+        this(new ElementDictionary<TGroup>());
+    }
+
+    /**
+     * Constructs an empty GroupHierarchyIndex.
+     *
+     * @param groupDictionary Assigns the ids of groups.  May be shared with other caches and indexes.
+     */
+    public GroupHierarchyIndex(ElementDictionary<TGroup> groupDictionary) {
+        this.groupDictionary = groupDictionary;
+        groupIds = new BitSet();
+        directMappings = new ArrayList<BitSet>();
+        directReverseMappings = new ArrayList<BitSet>();
+        closure = new ArrayList<BitSet>();
+        reverseClosure = new ArrayList<BitSet>();
+        lock = new ReentrantReadWriteLock();
+    }
+
+    /**
+     * Constructs a GroupHierarchyIndex containing the specified groups and direct group to group mappings.
+     *
+     * @param groups The groups.
+     * @param groupToGroupMappings The groups each group is directly mapped to.
+     */
+    public GroupHierarchyIndex(Collection<TGroup> groups, Map<TGroup, ? extends Collection<TGroup>> groupToGroupMappings) {
+        this(new ElementDictionary<TGroup>(), groups, groupToGroupMappings);
+    }
+
+    /**
+     * Constructs a GroupHierarchyIndex containing the specified groups and direct group to group mappings.
+     *
+     * @param groupDictionary Assigns the ids of groups.  May be shared with other caches and indexes.
+     * @param groups The groups.
+     * @param groupToGroupMappings The groups each group is directly mapped to.
+     */
+    public GroupHierarchyIndex(ElementDictionary<TGroup> groupDictionary, Collection<TGroup> groups, Map<TGroup, ? extends Collection<TGroup>> groupToGroupMappings) {
+        this(groupDictionary);
+        for (TGroup currentGroup : groups) {
+            getOrAddGroupId(currentGroup);
+        }
+        for (Map.Entry<TGroup, ? extends Collection<TGroup>> currentMappings : groupToGroupMappings.entrySet()) {
+            int fromGroupId = getOrAddGroupId(currentMappings.getKey());
+            for (TGroup currentToGroup : currentMappings.getValue()) {
+                int toGroupId = getOrAddGroupId(currentToGroup);
+                directMappings.get(fromGroupId).set(toGroupId);
+                directReverseMappings.get(toGroupId).set(fromGroupId);
+            }
+        }
+        recomputeClosures(groupIds, directMappings, closure);
+        recomputeClosures(groupIds, directReverseMappings, reverseClosure);
+    }
+
+    /**
+     * Creates a GroupHierarchyIndex containing all groups and group to group mappings in the specified query processor.
+     *
+     * @param <TGroup> The type of groups in the AccessManager.
+     * @param source The query processor to retrieve the groups and mappings from.
+     * @return The index.
+     */
+    public static <TGroup> GroupHierarchyIndex<TGroup> load(AccessManagerQueryProcessor<?, TGroup, ?, ?> source) throws Exception {
+
+        List<TGroup> groups = source.getGroups();
+        var groupToGroupMappings = new HashMap<TGroup, List<TGroup>>();
+        for (TGroup currentGroup : groups) {
+            groupToGroupMappings.put(currentGroup, source.getGroupToGroupMappings(currentGroup, false));
+        }
+
+        return new GroupHierarchyIndex<TGroup>(groups, groupToGroupMappings);
+    }
+
+    /**
+     * Returns true if the specified group exists in the index.
+     *
+     * @param group The group to check for.
+     * @return True if the group exists.  False otherwise.
+     */
+    public boolean containsGroup(TGroup group) {
+        lock.readLock().lock();
+        try {
+            return findGroupId(group) != -1;
+        }
+        finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Adds a group.
+     *
+     * @param group The group to add.
+     */
+    public void addGroup(TGroup group) {
+        lock.writeLock().lock();
+        try {
+            getOrAddGroupId(group);
+        }
+        finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a group, and all mappings to and from it.
+     *
+     * @param group The group to remove.
+     */
+    public void removeGroup(TGroup group) {
+        lock.writeLock().lock();
+        try {
+            int groupId = findGroupId(group);
+            if (groupId == -1) {
+                return;
+            }
+            BitSet staleClosures = (BitSet)reverseClosure.get(groupId).clone();
+            BitSet staleReverseClosures = (BitSet)closure.get(groupId).clone();
+            BitSet toGroupIds = directMappings.get(groupId);
+            for (int i = toGroupIds.nextSetBit(0); i >= 0; i = toGroupIds.nextSetBit(i + 1)) {
+                directReverseMappings.get(i).clear(groupId);
+            }
+            BitSet fromGroupIds = directReverseMappings.get(groupId);
+            for (int i = fromGroupIds.nextSetBit(0); i >= 0; i = fromGroupIds.nextSetBit(i + 1)) {
+                directMappings.get(i).clear(groupId);
+            }
+            directMappings.set(groupId, new BitSet());
+            directReverseMappings.set(groupId, new BitSet());
+            closure.set(groupId, new BitSet());
+            reverseClosure.set(groupId, new BitSet());
+            groupIds.clear(groupId);
+            recomputeClosures(staleClosures, directMappings, closure);
+            recomputeClosures(staleReverseClosures, directReverseMappings, reverseClosure);
+        }
+        finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds a mapping between the specified groups, adding either group if it doesn't exist.
+     *
+     * @param fromGroup The 'from' group in the mapping.
+     * @param toGroup The 'to' group in the mapping.
+     */
+    public void addGroupToGroupMapping(TGroup fromGroup, TGroup toGroup) {
+        lock.writeLock().lock();
+        try {
+            int fromGroupId = getOrAddGroupId(fromGroup);
+            int toGroupId = getOrAddGroupId(toGroup);
+            directMappings.get(fromGroupId).set(toGroupId);
+            directReverseMappings.get(toGroupId).set(fromGroupId);
+            // Every group which reaches 'fromGroup' now also reaches 'toGroup' and every group 'toGroup' reaches, and vice versa
+            BitSet sources = (BitSet)reverseClosure.get(fromGroupId).clone();
+            sources.set(fromGroupId);
+            BitSet targets = (BitSet)closure.get(toGroupId).clone();
+            targets.set(toGroupId);
+            for (int i = sources.nextSetBit(0); i >= 0; i = sources.nextSetBit(i + 1)) {
+                closure.get(i).or(targets);
+            }
+            for (int i = targets.nextSetBit(0); i >= 0; i = targets.nextSetBit(i + 1)) {
+                reverseClosure.get(i).or(sources);
+            }
+        }
+        finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes the mapping between the specified groups.
+     *
+     * @param fromGroup The 'from' group in the mapping.
+     * @param toGroup The 'to' group in the mapping.
+     */
+    public void removeGroupToGroupMapping(TGroup fromGroup, TGroup toGroup) {
+        lock.writeLock().lock();
+        try {
+            int fromGroupId = findGroupId(fromGroup);
+            int toGroupId = findGroupId(toGroup);
+            if (fromGroupId == -1 || toGroupId == -1 || directMappings.get(fromGroupId).get(toGroupId) == false) {
+                return;
+            }
+            directMappings.get(fromGroupId).clear(toGroupId);
+            directReverseMappings.get(toGroupId).clear(fromGroupId);
+            // Only closures of groups which reach 'fromGroup', and reverse closures of groups reachable from 'toGroup' can change
+            BitSet staleClosures = (BitSet)reverseClosure.get(fromGroupId).clone();
+            staleClosures.set(fromGroupId);
+            BitSet staleReverseClosures = (BitSet)closure.get(toGroupId).clone();
+            staleReverseClosures.set(toGroupId);
+            recomputeClosures(staleClosures, directMappings, closure);
+            recomputeClosures(staleReverseClosures, directReverseMappings, reverseClosure);
+        }
+        finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the groups that the specified group is mapped to.
+     *
+     * @param group The group to retrieve the mapped groups for.
+     * @param includeIndirectMappings Whether to include indirect mappings (i.e. those where the 'mapped to' group is itself mapped to further groups).
+     * @return A collection of groups the specified group is mapped to.
+     */
+    public List<TGroup> getGroupToGroupMappings(TGroup group, boolean includeIndirectMappings) {
+        lock.readLock().lock();
+        try {
+            int groupId = getGroupId(group);
+            if (includeIndirectMappings == true) {
+                return convertToGroups(closure.get(groupId));
+            }
+            else {
+                return convertToGroups(directMappings.get(groupId));
+            }
+        }
+        finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the groups that are mapped to the specified group.
+     *
+     * @param group The group to retrieve the mapped groups for.
+     * @param includeIndirectMappings Whether to include indirect mappings (i.e. those where the 'mapped from' group is itself mapped from further groups).
+     * @return A collection of groups that are mapped to the specified group.
+     */
+    public List<TGroup> getGroupToGroupReverseMappings(TGroup group, boolean includeIndirectMappings) {
+        lock.readLock().lock();
+        try {
+            int groupId = getGroupId(group);
+            if (includeIndirectMappings == true) {
+                return convertToGroups(reverseClosure.get(groupId));
+            }
+            else {
+                return convertToGroups(directReverseMappings.get(groupId));
+            }
+        }
+        finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the specified groups plus all groups they are directly or indirectly mapped to.
+     *
+     * @param groups The groups.
+     * @return The specified groups and all groups they are mapped to.  Groups which don't exist in the index are ignored.
+     */
+    public List<TGroup> getGroupsAndMappedGroups(Collection<TGroup> groups) {
+        lock.readLock().lock();
+        try {
+            return convertToGroups(combineClosures(groups, closure));
+        }
+        finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the specified groups plus all groups directly or indirectly mapped to them.
+     *
+     * @param groups The groups.
+     * @return The specified groups and all groups mapped to them.  Groups which don't exist in the index are ignored.
+     */
+    public List<TGroup> getGroupsAndReverseMappedGroups(Collection<TGroup> groups) {
+        lock.readLock().lock();
+        try {
+            return convertToGroups(combineClosures(groups, reverseClosure));
+        }
+        finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns true if one of the specified groups is, or is directly or indirectly mapped to, another group.  E.g. passing the groups a user is directly mapped to returns
+     * whether the user is transitively a member of the other group.
+     *
+     * @param fromGroups The groups to check from.
+     * @param toGroup The group to check for.
+     * @return True if one of the groups is or is mapped to the group.  False otherwise.
+     */
+    public boolean isMappedToGroup(Collection<TGroup> fromGroups, TGroup toGroup) {
+        lock.readLock().lock();
+        try {
+            int toGroupId = findGroupId(toGroup);
+            if (toGroupId == -1) {
+                return false;
+            }
+            BitSet toGroupReverseClosure = reverseClosure.get(toGroupId);
+            for (TGroup currentFromGroup : fromGroups) {
+                int currentFromGroupId = findGroupId(currentFromGroup);
+                if (currentFromGroupId != -1 && (currentFromGroupId == toGroupId || toGroupReverseClosure.get(currentFromGroupId) == true)) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+        finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    //#region Private/Protected Methods
+
+    /**
+     * Gets the id of the specified group, adding the group if it doesn't exist.  Must be called while holding the write lock.
+     *
+     * @param group The group.
+     * @return The id of the group.
+     */
+    protected int getOrAddGroupId(TGroup group) {
+
+        int groupId = groupDictionary.getOrAddId(group);
+        while (directMappings.size() <= groupId) {
+            directMappings.add(new BitSet());
+            directReverseMappings.add(new BitSet());
+            closure.add(new BitSet());
+            reverseClosure.add(new BitSet());
+        }
+        groupIds.set(groupId);
+
+        return groupId;
+    }
+
+    /**
+     * Gets the id of the specified group if it exists in the index.
+     *
+     * @param group The group.
+     * @return The id of the group, or -1 if the group doesn't exist.
+     */
+    protected int findGroupId(TGroup group) {
+
+        int groupId = groupDictionary.getId(group);
+        if (groupId == -1 || groupIds.get(groupId) == false) {
+            return -1;
+        }
+
+        return groupId;
+    }
+
+    /**
+     * Gets the id of the specified group.
+     *
+     * @param group The group.
+     * @return The id of the group.
+     * @throws ElementNotFoundException If the group doesn't exist.
+     */
+    protected int getGroupId(TGroup group) {
+
+        int groupId = findGroupId(group);
+        if (groupId == -1) {
+            throw new ElementNotFoundException(String.format("Group '%s' does not exist.", group), "Group", group.toString());
+        }
+
+        return groupId;
+    }
+
+    /**
+     * Converts a set of group ids to the equivalent groups.
+     *
+     * @param groupIds The group ids.
+     * @return The groups.
+     */
+    protected List<TGroup> convertToGroups(BitSet groupIds) {
+
+        var results = new ArrayList<TGroup>(groupIds.cardinality());
+        for (int i = groupIds.nextSetBit(0); i >= 0; i = groupIds.nextSetBit(i + 1)) {
+            results.add(groupDictionary.getElement(i));
+        }
+
+        return results;
+    }
+
+    /**
+     * Combines the ids of the specified groups with their closures.
+     *
+     * @param groups The groups.
+     * @param closures The closures to combine (either 'to' or 'from' closures).
+     * @return The combined group ids.
+     */
+    protected BitSet combineClosures(Collection<TGroup> groups, ArrayList<BitSet> closures) {
+
+        var result = new BitSet();
+        for (TGroup currentGroup : groups) {
+            int currentGroupId = findGroupId(currentGroup);
+            if (currentGroupId != -1) {
+                result.set(currentGroupId);
+                result.or(closures.get(currentGroupId));
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Recomputes the closures of the specified groups from the direct mappings, reusing the existing closures of groups which are not stale.  Each stale closure is computed
+     * after the closures of the groups it is directly mapped to (via an iterative depth-first traversal), so that it can be formed by combining them.
+     *
+     * @param staleGroupIds The ids of the groups whose closures should be recomputed.
+     * @param mappings The direct mappings to compute the closures from (either 'to' or 'from' mappings).
+     * @param closures The closures to update (corresponding to the mappings).
+     */
+    protected void recomputeClosures(BitSet staleGroupIds, ArrayList<BitSet> mappings, ArrayList<BitSet> closures) {
+
+        BitSet pendingGroupIds = (BitSet)staleGroupIds.clone();
+        var inProgressGroupIds = new BitSet();
+        var stack = new ArrayDeque<Integer>();
+        for (int i = pendingGroupIds.nextSetBit(0); i >= 0; i = pendingGroupIds.nextSetBit(i + 1)) {
+            stack.push(i);
+            inProgressGroupIds.set(i);
+            while (stack.isEmpty() == false) {
+                int currentGroupId = stack.peek();
+                BitSet currentMappings = mappings.get(currentGroupId);
+                boolean mappedClosuresComputed = true;
+                for (int j = currentMappings.nextSetBit(0); j >= 0; j = currentMappings.nextSetBit(j + 1)) {
+                    if (pendingGroupIds.get(j) == true && inProgressGroupIds.get(j) == false) {
+                        stack.push(j);
+                        inProgressGroupIds.set(j);
+                        mappedClosuresComputed = false;
+                        break;
+                    }
+                }
+                if (mappedClosuresComputed == true) {
+                    stack.pop();
+                    var currentClosure = new BitSet();
+                    for (int j = currentMappings.nextSetBit(0); j >= 0; j = currentMappings.nextSetBit(j + 1)) {
+                        currentClosure.set(j);
+                        currentClosure.or(closures.get(j));
+                    }
+                    closures.set(currentGroupId, currentClosure);
+                    pendingGroupIds.clear(currentGroupId);
+                    inProgressGroupIds.clear(currentGroupId);
+                }
+            }
+        }
+    }
+
+    //#endregion
+}
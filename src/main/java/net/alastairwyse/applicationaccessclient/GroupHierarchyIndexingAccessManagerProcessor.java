@@ -0,0 +1,210 @@
+package net.alastairwyse.applicationaccessclient;
+
+import java.util.List;
+
+/**
+ * Decorates an {@link AccessManagerQueryProcessor} and {@link AccessManagerEventProcessor} (e.g. an {@link AccessManagerClient}), answering indirect group to group mapping
+ * queries locally from a {@link GroupHierarchyIndex} rather than having the AccessManager traverse the group hierarchy on each query.
+ * <p>
+ * The index is loaded from the query processor on construction, and is updated incrementally when groups and group to group mappings are added or removed through this class.
+ * Changes made to the group hierarchy by other clients are not reflected in the index until {@link #reloadIndex()} is called.  Queries for groups which don't exist in the index
+ * are passed through to the decorated query processor.
+ * </p>
+ *
+ * @param <TUser> The type of users in the AccessManager.
+ * @param <TGroup> The type of groups in the AccessManager.
+ * @param <TComponent> The type of components in the AccessManager.
+ * @param <TAccess> The type of levels of access which can be assigned to an application component.
+ */
+public class GroupHierarchyIndexingAccessManagerProcessor<TUser, TGroup, TComponent, TAccess>
+    extends AccessManagerQueryProcessorDecoratorBase<TUser, TGroup, TComponent, TAccess>
+    implements AccessManagerEventProcessor<TUser, TGroup, TComponent, TAccess> {
+
+    /** The event processor to pass events through to. */
+    protected AccessManagerEventProcessor<TUser, TGroup, TComponent, TAccess> eventProcessor;
+    /** The transitive closure of the group to group mappings. */
+    protected volatile GroupHierarchyIndex<TGroup> groupHierarchyIndex;
+
+    /**
+     * Constructs a GroupHierarchyIndexingAccessManagerProcessor, loading the index from the query processor.
+     *
+     * @param eventProcessor The event processor to pass events through to.
+     * @param queryProcessor The query processor to load the index from, and to pass queries which can't be answered from the index through to.
+     */
+    public GroupHierarchyIndexingAccessManagerProcessor(
+        AccessManagerEventProcessor<TUser, TGroup, TComponent, TAccess> eventProcessor,
+        AccessManagerQueryProcessor<TUser, TGroup, TComponent, TAccess> queryProcessor
+    ) throws Exception {
+        super(queryProcessor);
+        this.eventProcessor = eventProcessor;
+        groupHierarchyIndex = GroupHierarchyIndex.load(queryProcessor);
+    }
+
+    /**
+     * Reloads the index from the query processor.
+     */
+    public void reloadIndex() throws Exception {
+        groupHierarchyIndex = GroupHierarchyIndex.load(queryProcessor);
+    }
+
+    /**
+     * Returns true if the specified user is directly or indirectly mapped to the specified group.
+     * <p>
+     * Requires a single query to retrieve the groups the user is directly mapped to.
+     * </p>
+     *
+     * @param user The user.
+     * @param group The group.
+     * @return True if the user is mapped to the group.  False otherwise.
+     */
+    public boolean isUserMappedToGroup(TUser user, TGroup group) throws Exception {
+        return groupHierarchyIndex.isMappedToGroup(queryProcessor.getUserToGroupMappings(user, false), group);
+    }
+
+    @Override
+    public List<TGroup> getUserToGroupMappings(TUser user, boolean includeIndirectMappings) throws Exception {
+
+        List<TGroup> directGroups = queryProcessor.getUserToGroupMappings(user, false);
+        if (includeIndirectMappings == false) {
+            return directGroups;
+        }
+        GroupHierarchyIndex<TGroup> currentIndex = groupHierarchyIndex;
+        for (TGroup currentGroup : directGroups) {
+            if (currentIndex.containsGroup(currentGroup) == false) {
+                return queryProcessor.getUserToGroupMappings(user, true);
+            }
+        }
+
+        return currentIndex.getGroupsAndMappedGroups(directGroups);
+    }
+
+    @Override
+    public List<TGroup> getGroupToGroupMappings(TGroup group, boolean includeIndirectMappings) throws Exception {
+
+        GroupHierarchyIndex<TGroup> currentIndex = groupHierarchyIndex;
+        if (currentIndex.containsGroup(group) == false) {
+            return queryProcessor.getGroupToGroupMappings(group, includeIndirectMappings);
+        }
+
+        return currentIndex.getGroupToGroupMappings(group, includeIndirectMappings);
+    }
+
+    @Override
+    public List<TGroup> getGroupToGroupReverseMappings(TGroup group, Boolean includeIndirectMappings) throws Exception {
+
+        GroupHierarchyIndex<TGroup> currentIndex = groupHierarchyIndex;
+        if (currentIndex.containsGroup(group) == false) {
+            return queryProcessor.getGroupToGroupReverseMappings(group, includeIndirectMappings);
+        }
+
+        return currentIndex.getGroupToGroupReverseMappings(group, includeIndirectMappings);
+    }
+
+    @Override
+    public void addUser(TUser user) throws Exception {
+        eventProcessor.addUser(user);
+    }
+
+    @Override
+    public void removeUser(TUser user) throws Exception {
+        eventProcessor.removeUser(user);
+    }
+
+    @Override
+    public void addGroup(TGroup group) throws Exception {
+
+        eventProcessor.addGroup(group);
+        groupHierarchyIndex.addGroup(group);
+    }
+
+    @Override
+    public void removeGroup(TGroup group) throws Exception {
+
+        eventProcessor.removeGroup(group);
+        groupHierarchyIndex.removeGroup(group);
+    }
+
+    @Override
+    public void addUserToGroupMapping(TUser user, TGroup group) throws Exception {
+        eventProcessor.addUserToGroupMapping(user, group);
+    }
+
+    @Override
+    public void removeUserToGroupMapping(TUser user, TGroup group) throws Exception {
+        eventProcessor.removeUserToGroupMapping(user, group);
+    }
+
+    @Override
+    public void addGroupToGroupMapping(TGroup fromGroup, TGroup toGroup) throws Exception {
+
+        eventProcessor.addGroupToGroupMapping(fromGroup, toGroup);
+        groupHierarchyIndex.addGroupToGroupMapping(fromGroup, toGroup);
+    }
+
+    @Override
+    public void removeGroupToGroupMapping(TGroup fromGroup, TGroup toGroup) throws Exception {
+
+        eventProcessor.removeGroupToGroupMapping(fromGroup, toGroup);
+        groupHierarchyIndex.removeGroupToGroupMapping(fromGroup, toGroup);
+    }
+
+    @Override
+    public void addUserToApplicationComponentAndAccessLevelMapping(TUser user, TComponent applicationComponent, TAccess accessLevel) throws Exception {
+        eventProcessor.addUserToApplicationComponentAndAccessLevelMapping(user, applicationComponent, accessLevel);
+    }
+
+    @Override
+    public void removeUserToApplicationComponentAndAccessLevelMapping(TUser user, TComponent applicationComponent, TAccess accessLevel) throws Exception {
+        eventProcessor.removeUserToApplicationComponentAndAccessLevelMapping(user, applicationComponent, accessLevel);
+    }
+
+    @Override
+    public void addGroupToApplicationComponentAndAccessLevelMapping(TGroup group, TComponent applicationComponent, TAccess accessLevel) throws Exception {
+        eventProcessor.addGroupToApplicationComponentAndAccessLevelMapping(group, applicationComponent, accessLevel);
+    }
+
+    @Override
+    public void removeGroupToApplicationComponentAndAccessLevelMapping(TGroup group, TComponent applicationComponent, TAccess accessLevel) throws Exception {
+        eventProcessor.removeGroupToApplicationComponentAndAccessLevelMapping(group, applicationComponent, accessLevel);
+    }
+
+    @Override
+    public void addEntityType(String entityType) throws Exception {
+        eventProcessor.addEntityType(entityType);
+    }
+
+    @Override
+    public void removeEntityType(String entityType) throws Exception {
+        eventProcessor.removeEntityType(entityType);
+    }
+
+    @Override
+    public void addEntity(String entityType, String entity) throws Exception {
+        eventProcessor.addEntity(entityType, entity);
+    }
+
+    @Override
+    public void removeEntity(String entityType, String entity) throws Exception {
+        eventProcessor.removeEntity(entityType, entity);
+    }
+
+    @Override
+    public void addUserToEntityMapping(TUser user, String entityType, String entity) throws Exception {
+        eventProcessor.addUserToEntityMapping(user, entityType, entity);
+    }
+
+    @Override
+    public void removeUserToEntityMapping(TUser user, String entityType, String entity) throws Exception {
+        eventProcessor.removeUserToEntityMapping(user, entityType, entity);
+    }
+
+    @Override
+    public void addGroupToEntityMapping(TGroup group, String entityType, String entity) throws Exception {
+        eventProcessor.addGroupToEntityMapping(group, entityType, entity);
+    }
+
+    @Override
+    public void removeGroupToEntityMapping(TGroup group, String entityType, String entity) throws Exception {
+        eventProcessor.removeGroupToEntityMapping(group, entityType, entity);
+    }
+}
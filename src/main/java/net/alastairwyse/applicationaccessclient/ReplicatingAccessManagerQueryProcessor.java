@@ -0,0 +1,325 @@
+package net.alastairwyse.applicationaccessclient;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import net.alastairwyse.applicationaccessclient.models.ApplicationComponentAndAccessLevel;
+import net.alastairwyse.applicationaccessclient.models.EntityTypeAndEntity;
+
+/**
+ * An {@link AccessManagerQueryProcessor} which evaluates all queries locally against an {@link AccessManagerReplica} loaded from another query processor (e.g. an
+ * {@link AccessManagerClient}).
+ * <p>
+ * The replica can be refreshed periodically and/or on demand.  A refresh loads a complete new replica while queries continue to be answered by the current replica, and
+ * then swaps the reference to the new replica in atomically, so each query is evaluated entirely against either the old or new replica.  The mappings of each user and group
+ * are queried from the source in parallel.  Changes made to the source AccessManager are not visible until the next refresh completes.
+ * </p>
+ * <p>
+ * A replica is not a point-in-time snapshot of the source, as changes made to the source during a load may be only partially included.  Each replica is internally
+ * consistent (i.e. mappings only refer to users, groups, and entities in the replica).  See {@link AccessManagerReplica#load(AccessManagerQueryProcessor, Executor)} for
+ * details.
+ * </p>
+ *
+ * @param <TUser> The type of users in the AccessManager.
+ * @param <TGroup> The type of groups in the AccessManager.
+ * @param <TComponent> The type of components in the AccessManager.
+ * @param <TAccess> The type of levels of access which can be assigned to an application component.
+ */
+public class ReplicatingAccessManagerQueryProcessor<TUser, TGroup, TComponent, TAccess> implements AccessManagerQueryProcessor<TUser, TGroup, TComponent, TAccess>, AutoCloseable {
+
+    /** The default maximum number of concurrent queries made to the source when loading a replica. */
+    protected static final int defaultLoadParallelism = 8;
+
+    /** The query processor to load replicas from. */
+    protected AccessManagerQueryProcessor<TUser, TGroup, TComponent, TAccess> source;
+    /** The replica which queries are currently evaluated against. */
+    protected volatile AccessManagerReplica<TUser, TGroup, TComponent, TAccess> replica;
+    /** Runs the queries made to the source when loading a replica. */
+    protected ExecutorService loadExecutor;
+    /** Runs refreshes on a background thread. */
+    protected ScheduledExecutorService refreshExecutor;
+    /** Invoked with any exception which occurs during a periodic refresh. */
+    protected Consumer<Exception> refreshExceptionHandler;
+
+    /**
+     * Constructs a ReplicatingAccessManagerQueryProcessor, loading the initial replica synchronously.  The replica is only refreshed on demand.
+     *
+     * @param source The query processor to load replicas from.  Must be safe to call concurrently.
+     */
+    public ReplicatingAccessManagerQueryProcessor(AccessManagerQueryProcessor<TUser, TGroup, TComponent, TAccess> source) throws Exception {
+        this(source, defaultLoadParallelism);
+    }
+
+    /**
+     * Constructs a ReplicatingAccessManagerQueryProcessor, loading the initial replica synchronously.  The replica is only refreshed on demand.
+     *
+     * @param source The query processor to load replicas from.  Must be safe to call concurrently.
+     * @param loadParallelism The maximum number of concurrent queries made to the source when loading a replica.
+     */
+    public ReplicatingAccessManagerQueryProcessor(AccessManagerQueryProcessor<TUser, TGroup, TComponent, TAccess> source, int loadParallelism) throws Exception {
+        if (loadParallelism < 1) {
+            throw new IllegalArgumentException(String.format("Parameter 'loadParallelism' with value %d must be greater than 0.", loadParallelism));
+        }
+        this.source = source;
+        this.refreshExceptionHandler = (Exception e) -> { };
+        loadExecutor = Executors.newFixedThreadPool(loadParallelism, (Runnable runnable) -> {
+            var thread = new Thread(runnable, ReplicatingAccessManagerQueryProcessor.class.getSimpleName() + " load");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            replica = AccessManagerReplica.load(source, loadExecutor);
+        }
+        catch (Exception e) {
+            loadExecutor.shutdownNow();
+            throw e;
+        }
+        refreshExecutor = Executors.newSingleThreadScheduledExecutor((Runnable runnable) -> {
+            var thread = new Thread(runnable, ReplicatingAccessManagerQueryProcessor.class.getSimpleName() + " refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Constructs a ReplicatingAccessManagerQueryProcessor, loading the initial replica synchronously, and refreshing it periodically thereafter.
+     *
+     * @param source The query processor to load replicas from.  Must be safe to call concurrently.
+     * @param refreshInterval The time between the completion of one periodic refresh and the start of the next.
+     * @param refreshExceptionHandler Invoked with any exception which occurs during a periodic refresh.  The current replica continues to be used when a refresh fails.
+     */
+    public ReplicatingAccessManagerQueryProcessor(
+        AccessManagerQueryProcessor<TUser, TGroup, TComponent, TAccess> source,
+        Duration refreshInterval,
+        Consumer<Exception> refreshExceptionHandler
+    ) throws Exception {
+        this(source, refreshInterval, refreshExceptionHandler, defaultLoadParallelism);
+    }
+
+    /**
+     * Constructs a ReplicatingAccessManagerQueryProcessor, loading the initial replica synchronously, and refreshing it periodically thereafter.
+     *
+     * @param source The query processor to load replicas from.  Must be safe to call concurrently.
+     * @param refreshInterval The time between the completion of one periodic refresh and the start of the next.
+     * @param refreshExceptionHandler Invoked with any exception which occurs during a periodic refresh.  The current replica continues to be used when a refresh fails.
+     * @param loadParallelism The maximum number of concurrent queries made to the source when loading a replica.
+     */
+    public ReplicatingAccessManagerQueryProcessor(
+        AccessManagerQueryProcessor<TUser, TGroup, TComponent, TAccess> source,
+        Duration refreshInterval,
+        Consumer<Exception> refreshExceptionHandler,
+        int loadParallelism
+    ) throws Exception {
+        this(source, loadParallelism);
+        this.refreshExceptionHandler = refreshExceptionHandler;
+        refreshExecutor.scheduleWithFixedDelay(
+            () -> {
+                try {
+                    refresh();
+                }
+                catch (Exception e) {
+                    this.refreshExceptionHandler.accept(e);
+                }
+            },
+            refreshInterval.toNanos(),
+            refreshInterval.toNanos(),
+            TimeUnit.NANOSECONDS
+        );
+    }
+
+    /**
+     * Loads a new replica on the calling thread and swaps it in once loaded.
+     */
+    public void refresh() throws Exception {
+        replica = AccessManagerReplica.load(source, loadExecutor);
+    }
+
+    /**
+     * Loads a new replica on a background thread and swaps it in once loaded.
+     *
+     * @return A future which completes when the new replica has been swapped in, or completes exceptionally if the load failed.
+     */
+    public CompletableFuture<Void> refreshAsync() {
+
+        var result = new CompletableFuture<Void>();
+        refreshExecutor.execute(() -> {
+            try {
+                refresh();
+                result.complete(null);
+            }
+            catch (Exception e) {
+                result.completeExceptionally(e);
+            }
+        });
+
+        return result;
+    }
+
+    @Override
+    public List<TUser> getUsers() {
+        return replica.getUsers();
+    }
+
+    @Override
+    public List<TGroup> getGroups() {
+        return replica.getGroups();
+    }
+
+    @Override
+    public List<String> getEntityTypes() {
+        return replica.getEntityTypes();
+    }
+
+    @Override
+    public boolean containsUser(TUser user) {
+        return replica.containsUser(user);
+    }
+
+    @Override
+    public boolean containsGroup(TGroup group) {
+        return replica.containsGroup(group);
+    }
+
+    @Override
+    public List<TGroup> getUserToGroupMappings(TUser user, boolean includeIndirectMappings) {
+        return replica.getUserToGroupMappings(user, includeIndirectMappings);
+    }
+
+    @Override
+    public List<TUser> getGroupToUserMappings(TGroup group, Boolean includeIndirectMappings) {
+        return replica.getGroupToUserMappings(group, includeIndirectMappings);
+    }
+
+    @Override
+    public List<TGroup> getGroupToGroupMappings(TGroup group, boolean includeIndirectMappings) {
+        return replica.getGroupToGroupMappings(group, includeIndirectMappings);
+    }
+
+    @Override
+    public List<TGroup> getGroupToGroupReverseMappings(TGroup group, Boolean includeIndirectMappings) {
+        return replica.getGroupToGroupReverseMappings(group, includeIndirectMappings);
+    }
+
+    @Override
+    public List<ApplicationComponentAndAccessLevel<TComponent, TAccess>> getUserToApplicationComponentAndAccessLevelMappings(TUser user) {
+        return replica.getUserToApplicationComponentAndAccessLevelMappings(user);
+    }
+
+    @Override
+    public List<TUser> getApplicationComponentAndAccessLevelToUserMappings(TComponent applicationComponent, TAccess accessLevel, Boolean includeIndirectMappings) {
+        return replica.getApplicationComponentAndAccessLevelToUserMappings(applicationComponent, accessLevel, includeIndirectMappings);
+    }
+
+    @Override
+    public List<ApplicationComponentAndAccessLevel<TComponent, TAccess>> getGroupToApplicationComponentAndAccessLevelMappings(TGroup group) {
+        return replica.getGroupToApplicationComponentAndAccessLevelMappings(group);
+    }
+
+    @Override
+    public List<TGroup> getApplicationComponentAndAccessLevelToGroupMappings(TComponent applicationComponent, TAccess accessLevel, Boolean includeIndirectMappings) {
+        return replica.getApplicationComponentAndAccessLevelToGroupMappings(applicationComponent, accessLevel, includeIndirectMappings);
+    }
+
+    @Override
+    public boolean containsEntityType(String entityType) {
+        return replica.containsEntityType(entityType);
+    }
+
+    @Override
+    public List<String> getEntities(String entityType) {
+        return replica.getEntities(entityType);
+    }
+
+    @Override
+    public boolean containsEntity(String entityType, String entity) {
+        return replica.containsEntity(entityType, entity);
+    }
+
+    @Override
+    public List<EntityTypeAndEntity> getUserToEntityMappings(TUser user) {
+        return replica.getUserToEntityMappings(user);
+    }
+
+    @Override
+    public List<String> getUserToEntityMappings(TUser user, String entityType) {
+        return replica.getUserToEntityMappings(user, entityType);
+    }
+
+    @Override
+    public List<TUser> getEntityToUserMappings(String entityType, String entity, Boolean includeIndirectMappings) {
+        return replica.getEntityToUserMappings(entityType, entity, includeIndirectMappings);
+    }
+
+    @Override
+    public List<EntityTypeAndEntity> getGroupToEntityMappings(TGroup group) {
+        return replica.getGroupToEntityMappings(group);
+    }
+
+    @Override
+    public List<String> getGroupToEntityMappings(TGroup group, String entityType) {
+        return replica.getGroupToEntityMappings(group, entityType);
+    }
+
+    @Override
+    public List<TGroup> getEntityToGroupMappings(String entityType, String entity, Boolean includeIndirectMappings) {
+        return replica.getEntityToGroupMappings(entityType, entity, includeIndirectMappings);
+    }
+
+    @Override
+    public boolean hasAccessToApplicationComponent(TUser user, TComponent applicationComponent, TAccess accessLevel) {
+        return replica.hasAccessToApplicationComponent(user, applicationComponent, accessLevel);
+    }
+
+    @Override
+    public boolean hasAccessToEntity(TUser user, String entityType, String entity) {
+        return replica.hasAccessToEntity(user, entityType, entity);
+    }
+
+    @Override
+    public Set<ApplicationComponentAndAccessLevel<TComponent, TAccess>> getApplicationComponentsAccessibleByUser(TUser user) {
+        return replica.getApplicationComponentsAccessibleByUser(user);
+    }
+
+    @Override
+    public Set<ApplicationComponentAndAccessLevel<TComponent, TAccess>> getApplicationComponentsAccessibleByGroup(TGroup group) {
+        return replica.getApplicationComponentsAccessibleByGroup(group);
+    }
+
+    @Override
+    public Set<EntityTypeAndEntity> getEntitiesAccessibleByUser(TUser user) {
+        return replica.getEntitiesAccessibleByUser(user);
+    }
+
+    @Override
+    public Set<String> getEntitiesAccessibleByUser(TUser user, String entityType) {
+        return replica.getEntitiesAccessibleByUser(user, entityType);
+    }
+
+    @Override
+    public Set<EntityTypeAndEntity> getEntitiesAccessibleByGroup(TGroup group) {
+        return replica.getEntitiesAccessibleByGroup(group);
+    }
+
+    @Override
+    public Set<String> getEntitiesAccessibleByGroup(TGroup group, String entityType) {
+        return replica.getEntitiesAccessibleByGroup(group, entityType);
+    }
+
+    //#region Close Method
+
+    @Override
+    public void close() {
+        refreshExecutor.shutdownNow();
+        loadExecutor.shutdownNow();
+    }
+
+    //#endregion
+}
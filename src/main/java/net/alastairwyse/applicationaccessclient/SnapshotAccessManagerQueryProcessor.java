@@ -0,0 +1,215 @@
+package net.alastairwyse.applicationaccessclient;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import net.alastairwyse.applicationaccessclient.models.ApplicationComponentAndAccessLevel;
+import net.alastairwyse.applicationaccessclient.models.EntityTypeAndEntity;
+
+/**
+ * Decorates an {@link AccessManagerQueryProcessor}, answering calls to methods hasAccessToApplicationComponent() and hasAccessToEntity() from per-user snapshots of all
+ * application components and entities accessible by the user.  A snapshot is retrieved on the first check for a user (via methods getApplicationComponentsAccessibleByUser()
+ * and getEntitiesAccessibleByUser() respectively), and is retrieved again on the first check after the configured refresh interval has elapsed.  Unlike the decorated query
+ * processor, checks for entity types or entities which don't exist return false rather than throwing an exception.
+ * <p>
+ * To minimise the memory used by large numbers of snapshots, each snapshot is stored as a sorted array of keys, packed from the ids assigned to the snapshot's elements by a set of
+ * {@link AccessManagerElementDictionaries}.
+ * </p>
+ * <p>
+ * As with {@link CachingAccessManagerQueryProcessor}, a snapshot is only stored if no invalidation of the snapshots occurred while it was being retrieved.
+ * </p>
+ *
+ * @param <TUser> The type of users in the AccessManager.
+ * @param <TGroup> The type of groups in the AccessManager.
+ * @param <TComponent> The type of components in the AccessManager.
+ * @param <TAccess> The type of levels of access which can be assigned to an application component.
+ */
+public class SnapshotAccessManagerQueryProcessor<TUser, TGroup, TComponent, TAccess>
+    extends AccessManagerQueryProcessorDecoratorBase<TUser, TGroup, TComponent, TAccess>
+    implements AccessDecisionCache<TUser, TComponent, TAccess> {
+
+    /** Assigns the ids which snapshot keys are packed from. */
+    protected AccessManagerElementDictionaries<TUser, TGroup, TComponent, TAccess> dictionaries;
+    /** Snapshots of the application components and access levels accessible by each user, as sorted arrays of packed keys. */
+    protected ExpiringLruCache<TUser, long[]> applicationComponentSnapshots;
+    /** Snapshots of the entities accessible by each user, as sorted arrays of packed keys. */
+    protected ExpiringLruCache<TUser, long[]> entitySnapshots;
+    /** Incremented on each invalidation of the application component snapshots. */
+    protected AtomicLong applicationComponentInvalidationGeneration;
+    /** Incremented on each invalidation of the entity snapshots. */
+    protected AtomicLong entityInvalidationGeneration;
+
+    /**
+     * Constructs a SnapshotAccessManagerQueryProcessor.
+     *
+     * @param queryProcessor The query processor to decorate.
+     * @param userStringifier A string converter for users.
+     * @param groupStringifier A string converter for groups.
+     * @param applicationComponentStringifier A string converter for application components.
+     * @param accessLevelStringifier A string converter for access levels.
+     * @param maxSnapshotUsers The maximum number of users to hold snapshots for.  The snapshots of the least recently checked user are discarded when this limit is exceeded.
+     * @param snapshotRefreshInterval The time after which a user's snapshot is discarded and retrieved again.
+     */
+    public SnapshotAccessManagerQueryProcessor(
+        AccessManagerQueryProcessor<TUser, TGroup, TComponent, TAccess> queryProcessor,
+        UniqueStringifier<TUser> userStringifier,
+        UniqueStringifier<TGroup> groupStringifier,
+        UniqueStringifier<TComponent> applicationComponentStringifier,
+        UniqueStringifier<TAccess> accessLevelStringifier,
+        int maxSnapshotUsers,
+        Duration snapshotRefreshInterval
+    ) {
+        this(
+            queryProcessor,
+            new AccessManagerElementDictionaries<TUser, TGroup, TComponent, TAccess>(userStringifier, groupStringifier, applicationComponentStringifier, accessLevelStringifier),
+            maxSnapshotUsers,
+            snapshotRefreshInterval
+        );
+    }
+
+    /**
+     * Constructs a SnapshotAccessManagerQueryProcessor.
+     *
+     * @param queryProcessor The query processor to decorate.
+     * @param dictionaries Assigns the ids which snapshot keys are packed from.  May be shared with other caches and indexes.
+     * @param maxSnapshotUsers The maximum number of users to hold snapshots for.  The snapshots of the least recently checked user are discarded when this limit is exceeded.
+     * @param snapshotRefreshInterval The time after which a user's snapshot is discarded and retrieved again.
+     */
+    public SnapshotAccessManagerQueryProcessor(
+        AccessManagerQueryProcessor<TUser, TGroup, TComponent, TAccess> queryProcessor,
+        AccessManagerElementDictionaries<TUser, TGroup, TComponent, TAccess> dictionaries,
+        int maxSnapshotUsers,
+        Duration snapshotRefreshInterval
+    ) {
+        super(queryProcessor);
+        this.dictionaries = dictionaries;
+        applicationComponentSnapshots = new ExpiringLruCache<TUser, long[]>(maxSnapshotUsers, snapshotRefreshInterval);
+        entitySnapshots = new ExpiringLruCache<TUser, long[]>(maxSnapshotUsers, snapshotRefreshInterval);
+        applicationComponentInvalidationGeneration = new AtomicLong(0);
+        entityInvalidationGeneration = new AtomicLong(0);
+    }
+
+    @Override
+    public boolean hasAccessToApplicationComponent(TUser user, TComponent applicationComponent, TAccess accessLevel) throws Exception {
+
+        long[] snapshot = applicationComponentSnapshots.get(user);
+        if (snapshot == null) {
+            long generation = applicationComponentInvalidationGeneration.get();
+            Set<ApplicationComponentAndAccessLevel<TComponent, TAccess>> accessibleApplicationComponents = queryProcessor.getApplicationComponentsAccessibleByUser(user);
+            snapshot = new long[accessibleApplicationComponents.size()];
+            int index = 0;
+            for (ApplicationComponentAndAccessLevel<TComponent, TAccess> currentApplicationComponent : accessibleApplicationComponents) {
+                snapshot[index++] = dictionaries.getOrAddApplicationComponentAndAccessLevelKey(currentApplicationComponent.getApplicationComponent(), currentApplicationComponent.getAccessLevel());
+            }
+            Arrays.sort(snapshot);
+            applicationComponentSnapshots.putIf(user, snapshot, () -> applicationComponentInvalidationGeneration.get() == generation);
+        }
+        long key = dictionaries.getApplicationComponentAndAccessLevelKey(applicationComponent, accessLevel);
+
+        return key != -1 && Arrays.binarySearch(snapshot, key) >= 0;
+    }
+
+    @Override
+    public boolean hasAccessToEntity(TUser user, String entityType, String entity) throws Exception {
+
+        long[] snapshot = entitySnapshots.get(user);
+        if (snapshot == null) {
+            long generation = entityInvalidationGeneration.get();
+            Set<EntityTypeAndEntity> accessibleEntities = queryProcessor.getEntitiesAccessibleByUser(user);
+            snapshot = new long[accessibleEntities.size()];
+            int index = 0;
+            for (EntityTypeAndEntity currentEntity : accessibleEntities) {
+                snapshot[index++] = dictionaries.getOrAddEntityKey(currentEntity.getEntityType(), currentEntity.getEntity());
+            }
+            Arrays.sort(snapshot);
+            entitySnapshots.putIf(user, snapshot, () -> entityInvalidationGeneration.get() == generation);
+        }
+        long key = dictionaries.getEntityKey(entityType, entity);
+
+        return key != -1 && Arrays.binarySearch(snapshot, key) >= 0;
+    }
+
+    @Override
+    public void invalidateUser(TUser user) {
+
+        applicationComponentInvalidationGeneration.incrementAndGet();
+        entityInvalidationGeneration.incrementAndGet();
+        applicationComponentSnapshots.remove(user);
+        entitySnapshots.remove(user);
+    }
+
+    @Override
+    public void invalidateUsers(Set<TUser> users) {
+
+        applicationComponentInvalidationGeneration.incrementAndGet();
+        entityInvalidationGeneration.incrementAndGet();
+        for (TUser currentUser : users) {
+            applicationComponentSnapshots.remove(currentUser);
+            entitySnapshots.remove(currentUser);
+        }
+    }
+
+    @Override
+    public void invalidateAllUsers() {
+
+        applicationComponentInvalidationGeneration.incrementAndGet();
+        entityInvalidationGeneration.incrementAndGet();
+        applicationComponentSnapshots.clear();
+        entitySnapshots.clear();
+    }
+
+    @Override
+    public void invalidateApplicationComponent(TUser user, TComponent applicationComponent, TAccess accessLevel) {
+
+        applicationComponentInvalidationGeneration.incrementAndGet();
+        applicationComponentSnapshots.remove(user);
+    }
+
+    @Override
+    public void invalidateApplicationComponent(Set<TUser> users, TComponent applicationComponent, TAccess accessLevel) {
+
+        applicationComponentInvalidationGeneration.incrementAndGet();
+        for (TUser currentUser : users) {
+            applicationComponentSnapshots.remove(currentUser);
+        }
+    }
+
+    @Override
+    public void invalidateApplicationComponent(TComponent applicationComponent, TAccess accessLevel) {
+
+        applicationComponentInvalidationGeneration.incrementAndGet();
+        applicationComponentSnapshots.clear();
+    }
+
+    @Override
+    public void invalidateEntity(TUser user, String entityType, String entity) {
+
+        entityInvalidationGeneration.incrementAndGet();
+        entitySnapshots.remove(user);
+    }
+
+    @Override
+    public void invalidateEntity(Set<TUser> users, String entityType, String entity) {
+
+        entityInvalidationGeneration.incrementAndGet();
+        for (TUser currentUser : users) {
+            entitySnapshots.remove(currentUser);
+        }
+    }
+
+    @Override
+    public void invalidateEntity(String entityType, String entity) {
+
+        entityInvalidationGeneration.incrementAndGet();
+        entitySnapshots.clear();
+    }
+
+    @Override
+    public void invalidateEntityType(String entityType) {
+
+        entityInvalidationGeneration.incrementAndGet();
+        entitySnapshots.clear();
+    }
+}
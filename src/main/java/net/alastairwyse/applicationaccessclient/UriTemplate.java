@@ -0,0 +1,249 @@
+package net.alastairwyse.applicationaccessclient;
+
+import java.net.URI;
+import java.util.ArrayList;
+
+/**
+ * A precompiled URI path template (e.g. 'userToGroupMappings/user/{user}/group/{group}'), which is expanded by appending its literal text and the percent-encoded values of
+ * its parameters to a base URL.
+ * <p>
+ * Expansion writes into a per-thread reusable {@link StringBuilder}, and parameter values are percent-encoded per RFC 3986 (i.e. all characters other than the 'unreserved'
+ * characters are encoded), with values consisting only of unreserved characters appended without further processing.  A single {@link URI} is created per expansion.
+ * </p>
+ */
+public class UriTemplate {
+
+    /** Builders reused by expansions on each thread. */
+    protected static final ThreadLocal<StringBuilder> urlBuilders = ThreadLocal.withInitial(() -> new StringBuilder(256));
+    /** The capacity above which a thread's builder is discarded after an expansion rather than being retained for reuse. */
+    protected static final int maximumRetainedBuilderCapacity = 8192;
+    /** Upper case hexadecimal digits used when percent-encoding. */
+    protected static final char[] hexadecimalDigits = "0123456789ABCDEF".toCharArray();
+    /** Whether each ASCII character is an RFC 3986 'unreserved' character, indexed by character value. */
+    protected static final boolean[] unreservedCharacters = new boolean[128];
+
+    static {
+        for (char currentCharacter = 'a'; currentCharacter <= 'z'; currentCharacter++) {
+            unreservedCharacters[currentCharacter] = true;
+        }
+        for (char currentCharacter = 'A'; currentCharacter <= 'Z'; currentCharacter++) {
+            unreservedCharacters[currentCharacter] = true;
+        }
+        for (char currentCharacter = '0'; currentCharacter <= '9'; currentCharacter++) {
+            unreservedCharacters[currentCharacter] = true;
+        }
+        unreservedCharacters['-'] = true;
+        unreservedCharacters['.'] = true;
+        unreservedCharacters['_'] = true;
+        unreservedCharacters['~'] = true;
+    }
+
+    /** The template the instance was compiled from. */
+    protected String template;
+    /** The literal text of the template before, between, and after each parameter (hence containing one more item than the number of parameters). */
+    protected String[] literals;
+
+    /**
+     * Constructs a UriTemplate.
+     *
+     * @param template The template, with parameters enclosed in braces (e.g. 'users/{user}').  Parameter names are for readability only, and values are supplied by position.
+     */
+    public UriTemplate(String template) {
+
+        this.template = template;
+        var literalList = new ArrayList<String>();
+        int literalStartIndex = 0;
+        int parameterStartIndex;
+        while ((parameterStartIndex = template.indexOf('{', literalStartIndex)) != -1) {
+            int parameterEndIndex = template.indexOf('}', parameterStartIndex);
+            if (parameterEndIndex == -1) {
+                throw new IllegalArgumentException(String.format("Parameter 'template' with value '%s' contains an unterminated parameter.", template));
+            }
+            literalList.add(template.substring(literalStartIndex, parameterStartIndex));
+            literalStartIndex = parameterEndIndex + 1;
+        }
+        literalList.add(template.substring(literalStartIndex));
+        literals = literalList.toArray(new String[literalList.size()]);
+    }
+
+    /**
+     * @return The number of parameters in the template.
+     */
+    public int getParameterCount() {
+        return literals.length - 1;
+    }
+
+    /**
+     * Expands the template, appending it to the specified base URL.
+     *
+     * @param baseUrl The base URL, including any trailing forward slash.
+     * @param parameterValues The values of the template parameters, in the order the parameters appear in the template.
+     * @return The expanded URL.
+     */
+    public URI expand(String baseUrl, String... parameterValues) {
+        return expand(baseUrl, parameterValues, true);
+    }
+
+    /**
+     * Expands the template with parameter values which have already been percent-encoded, appending it to the specified base URL.
+     *
+     * @param baseUrl The base URL, including any trailing forward slash.
+     * @param encodedParameterValues The percent-encoded values of the template parameters, in the order the parameters appear in the template.
+     * @return The expanded URL.
+     */
+    public URI expandEncoded(String baseUrl, String... encodedParameterValues) {
+        return expand(baseUrl, encodedParameterValues, false);
+    }
+
+    /**
+     * Percent-encodes the specified string per RFC 3986.
+     *
+     * @param value The string to encode.
+     * @return The encoded string.
+     */
+    public static String encode(String value) {
+
+        int firstEncodedIndex = findFirstEncodedIndex(value);
+        if (firstEncodedIndex == -1) {
+            return value;
+        }
+        var builder = new StringBuilder(value.length() + 16);
+        appendEncoded(builder, value, firstEncodedIndex);
+
+        return builder.toString();
+    }
+
+    /**
+     * Percent-encodes the specified string per RFC 3986, and appends it to the specified builder.
+     *
+     * @param builder The builder to append to.
+     * @param value The string to encode.
+     */
+    public static void appendEncoded(StringBuilder builder, String value) {
+
+        int firstEncodedIndex = findFirstEncodedIndex(value);
+        if (firstEncodedIndex == -1) {
+            builder.append(value);
+        }
+        else {
+            appendEncoded(builder, value, firstEncodedIndex);
+        }
+    }
+
+    //#region Private/Protected Methods
+
+    /**
+     * Expands the template, appending it to the specified base URL.
+     *
+     * @param baseUrl The base URL, including any trailing forward slash.
+     * @param parameterValues The values of the template parameters, in the order the parameters appear in the template.
+     * @param encodeParameterValues Whether the parameter values should be percent-encoded.
+     * @return The expanded URL.
+     */
+    protected URI expand(String baseUrl, String[] parameterValues, boolean encodeParameterValues) {
+
+        if (parameterValues.length != getParameterCount()) {
+            throw new IllegalArgumentException(String.format("Parameter 'parameterValues' with length %d does not match the %d parameters in template '%s'.", parameterValues.length, getParameterCount(), template));
+        }
+        StringBuilder urlBuilder = urlBuilders.get();
+        urlBuilder.setLength(0);
+        urlBuilder.append(baseUrl);
+        for (int i = 0; i < parameterValues.length; i++) {
+            urlBuilder.append(literals[i]);
+            if (encodeParameterValues == true) {
+                appendEncoded(urlBuilder, parameterValues[i]);
+            }
+            else {
+                urlBuilder.append(parameterValues[i]);
+            }
+        }
+        urlBuilder.append(literals[literals.length - 1]);
+        String url = urlBuilder.toString();
+        if (urlBuilder.capacity() > maximumRetainedBuilderCapacity) {
+            urlBuilders.remove();
+        }
+
+        return URI.create(url);
+    }
+
+    /**
+     * Finds the index of the first character in the specified string which requires encoding.
+     *
+     * @param value The string.
+     * @return The index of the first character which requires encoding, or -1 if no characters require encoding.
+     */
+    protected static int findFirstEncodedIndex(String value) {
+
+        for (int i = 0; i < value.length(); i++) {
+            char currentCharacter = value.charAt(i);
+            if (currentCharacter >= 128 || unreservedCharacters[currentCharacter] == false) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Percent-encodes the specified string per RFC 3986, and appends it to the specified builder.
+     *
+     * @param builder The builder to append to.
+     * @param value The string to encode.
+     * @param firstEncodedIndex The index of the first character in the string which requires encoding.
+     */
+    protected static void appendEncoded(StringBuilder builder, String value, int firstEncodedIndex) {
+
+        builder.append(value, 0, firstEncodedIndex);
+        int i = firstEncodedIndex;
+        while (i < value.length()) {
+            char currentCharacter = value.charAt(i);
+            if (currentCharacter < 128) {
+                if (unreservedCharacters[currentCharacter] == true) {
+                    builder.append(currentCharacter);
+                }
+                else {
+                    appendEncodedByte(builder, currentCharacter);
+                }
+                i++;
+            }
+            else {
+                int codePoint = value.codePointAt(i);
+                if (Character.isSurrogate(currentCharacter) == true && Character.isSupplementaryCodePoint(codePoint) == false) {
+                    // Unpaired surrogates are encoded as '?', consistent with URLEncoder
+                    appendEncodedByte(builder, '?');
+                }
+                else if (codePoint < 0x800) {
+                    appendEncodedByte(builder, 0xC0 | (codePoint >> 6));
+                    appendEncodedByte(builder, 0x80 | (codePoint & 0x3F));
+                }
+                else if (codePoint < 0x10000) {
+                    appendEncodedByte(builder, 0xE0 | (codePoint >> 12));
+                    appendEncodedByte(builder, 0x80 | ((codePoint >> 6) & 0x3F));
+                    appendEncodedByte(builder, 0x80 | (codePoint & 0x3F));
+                }
+                else {
+                    appendEncodedByte(builder, 0xF0 | (codePoint >> 18));
+                    appendEncodedByte(builder, 0x80 | ((codePoint >> 12) & 0x3F));
+                    appendEncodedByte(builder, 0x80 | ((codePoint >> 6) & 0x3F));
+                    appendEncodedByte(builder, 0x80 | (codePoint & 0x3F));
+                }
+                i += Character.charCount(codePoint);
+            }
+        }
+    }
+
+    /**
+     * Appends the percent-encoded form of the specified byte to the specified builder.
+     *
+     * @param builder The builder to append to.
+     * @param value The byte to encode.
+     */
+    protected static void appendEncodedByte(StringBuilder builder, int value) {
+
+        builder.append('%');
+        builder.append(hexadecimalDigits[(value >> 4) & 0xF]);
+        builder.append(hexadecimalDigits[value & 0xF]);
+    }
+
+    //#endregion
+}
@@ -0,0 +1,192 @@
+package net.alastairwyse.applicationaccessclient;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pool of canonical instances of immutable values, so that equal values (e.g. the same application component and access level returned for many users) can share a single
+ * instance.
+ * <p>
+ * Instances are weakly referenced, so an instance is removed from the pool once it is no longer referenced outside of it.  Each instance is held by a single weak reference,
+ * which serves as both the key and value of its entry in a {@link ConcurrentHashMap}, so lookups of existing instances don't lock, and adding instances only locks the bin of
+ * the map being updated.
+ * </p>
+ * <p>
+ * This class is thread-safe.
+ * </p>
+ *
+ * @param <T> The type of values to intern.  Must be immutable, and implement equals() and hashCode().
+ */
+public class WeakInterner<T> {
+
+    /** The canonical instances, each mapped to itself. */
+    protected ConcurrentHashMap<Object, WeakKey<T>> instances;
+    /** Queue which the garbage collector adds cleared references to, so that their entries can be removed. */
+    protected ReferenceQueue<T> clearedReferences;
+
+    /**
+     * Constructs a WeakInterner.
+     */
+    public WeakInterner() {
+        instances = new ConcurrentHashMap<Object, WeakKey<T>>();
+        clearedReferences = new ReferenceQueue<T>();
+    }
+
+    /**
+     * Returns the canonical instance equal to the specified value, adding the value as the canonical instance if no equal instance exists in the pool.
+     *
+     * @param value The value.
+     * @return The canonical instance.
+     */
+    public T intern(T value) {
+
+        removeClearedEntries();
+        WeakKey<T> existingKey = instances.get(new LookupKey<T>(value));
+        if (existingKey != null) {
+            T canonicalInstance = existingKey.get();
+            if (canonicalInstance != null) {
+                return canonicalInstance;
+            }
+        }
+        var newKey = new WeakKey<T>(value, clearedReferences);
+        while (true) {
+            existingKey = instances.putIfAbsent(newKey, newKey);
+            if (existingKey == null) {
+                return value;
+            }
+            T canonicalInstance = existingKey.get();
+            if (canonicalInstance != null) {
+                return canonicalInstance;
+            }
+            // The existing instance was cleared after it was matched, so replace it
+            instances.remove(existingKey, existingKey);
+        }
+    }
+
+    /**
+     * @return The number of instances in the pool (including any which are no longer referenced but have not yet been removed).
+     */
+    public int size() {
+
+        removeClearedEntries();
+
+        return instances.size();
+    }
+
+    /**
+     * Removes all instances from the pool.
+     */
+    public void clear() {
+
+        instances.clear();
+        removeClearedEntries();
+    }
+
+    //#region Private/Protected Methods
+
+    /**
+     * Removes the entries of instances which the garbage collector has cleared.
+     */
+    @SuppressWarnings("unchecked")
+    protected void removeClearedEntries() {
+
+        Reference<? extends T> currentReference;
+        while ((currentReference = clearedReferences.poll()) != null) {
+            var clearedKey = (WeakKey<T>)currentReference;
+            instances.remove(clearedKey, clearedKey);
+        }
+    }
+
+    //#endregion
+
+    //#region Nested Classes
+
+    /**
+     * Weak reference to a canonical instance, which is equal to another key for an equal instance while the instance has not been cleared.
+     *
+     * @param <T> The type of the instance.
+     */
+    protected static class WeakKey<T> extends WeakReference<T> {
+
+        /** The hash code of the instance (retained so the entry can be found after the instance is cleared). */
+        protected final int hashCode;
+
+        /**
+         * Constructs a WeakKey.
+         *
+         * @param instance The instance.
+         * @param queue The queue to add the reference to when the instance is cleared.
+         */
+        public WeakKey(T instance, ReferenceQueue<T> queue) {
+            super(instance, queue);
+            hashCode = instance.hashCode();
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+
+            if (other == this) {
+                return true;
+            }
+            T instance = get();
+            if (instance == null) {
+                return false;
+            }
+            if (other instanceof WeakKey<?>) {
+                return instance.equals(((WeakKey<?>)other).get());
+            }
+            if (other instanceof LookupKey<?>) {
+                return instance.equals(((LookupKey<?>)other).value);
+            }
+
+            return false;
+        }
+    }
+
+    /**
+     * Strongly references a value being looked up, so that lookups don't need to create a {@link WeakReference}.
+     *
+     * @param <T> The type of the value.
+     */
+    protected static class LookupKey<T> {
+
+        /** The value. */
+        protected final T value;
+
+        /**
+         * Constructs a LookupKey.
+         *
+         * @param value The value.
+         */
+        public LookupKey(T value) {
+            this.value = value;
+        }
+
+        @Override
+        public int hashCode() {
+            return value.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+
+            if (other instanceof WeakKey<?>) {
+                return value.equals(((WeakKey<?>)other).get());
+            }
+            if (other instanceof LookupKey<?>) {
+                return value.equals(((LookupKey<?>)other).value);
+            }
+
+            return false;
+        }
+    }
+
+    //#endregion
+}
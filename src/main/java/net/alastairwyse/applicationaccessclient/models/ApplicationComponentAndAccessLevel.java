@@ -1,20 +1,27 @@
 package net.alastairwyse.applicationaccessclient.models;
 
+import java.util.Objects;
+
 /**
  * Container class holding an application component and level of access.
+ * <p>
+ * Instances are immutable, and the hash code is computed once on construction, so repeated set and map operations don't recompute it from the component and access level.
+ * </p>
  * 
  * @param <TComponent> The type of components in the application to manage access to.
  * @param <TAccess> The type of levels of access which can be assigned to an application component.
  */
 public class ApplicationComponentAndAccessLevel<TComponent, TAccess> {
     
-    protected int prime1 = 7;
-    protected int prime2 = 11;
+    protected static final int prime1 = 7;
+    protected static final int prime2 = 11;
 
     /** The application component. */
-    protected TComponent applicationComponent;
+    protected final TComponent applicationComponent;
     /** The level of access to the application component. */
-    protected TAccess accessLevel;
+    protected final TAccess accessLevel;
+    /** The hash code of the instance. */
+    protected final int hashCode;
 
     /** 
      * @return The application component. 
@@ -39,6 +46,7 @@ public class ApplicationComponentAndAccessLevel<TComponent, TAccess> {
     public ApplicationComponentAndAccessLevel(TComponent applicationComponent, TAccess accessLevel) {
         this.applicationComponent = applicationComponent;
         this.accessLevel = accessLevel;
+        hashCode = Objects.hashCode(applicationComponent) * prime1 + Objects.hashCode(accessLevel) * prime2;
     }
 
     @Override
@@ -52,13 +60,13 @@ public class ApplicationComponentAndAccessLevel<TComponent, TAccess> {
         if (this.getClass() != other.getClass()) {
             return false;
         }
-        ApplicationComponentAndAccessLevel<TComponent, TAccess> typedOther = (ApplicationComponentAndAccessLevel<TComponent, TAccess>)other;
+        var typedOther = (ApplicationComponentAndAccessLevel<?, ?>)other;
 
-        return (this.applicationComponent.equals(typedOther.applicationComponent) && this.accessLevel.equals(typedOther.accessLevel));
+        return (this.hashCode == typedOther.hashCode && Objects.equals(this.applicationComponent, typedOther.applicationComponent) && Objects.equals(this.accessLevel, typedOther.accessLevel));
     }
 
     @Override
     public int hashCode() {
-        return (this.applicationComponent.hashCode() * prime1 + this.accessLevel.hashCode() * prime2);
+        return hashCode;
     }
 }
@@ -1,17 +1,24 @@
 package net.alastairwyse.applicationaccessclient.models;
 
+import java.util.Objects;
+
 /**
  * Container class holding an entity type and entity of that type.
+ * <p>
+ * Instances are immutable, and the hash code is computed once on construction, so repeated set and map operations don't recompute it from the entity type and entity.
+ * </p>
  */
 public class EntityTypeAndEntity {
 
-    protected int prime1 = 7;
-    protected int prime2 = 11;
+    protected static final int prime1 = 7;
+    protected static final int prime2 = 11;
     
     /** The type of the entity. */
-    protected String entityType;
+    protected final String entityType;
     /** The entity. */
-    protected String entity;
+    protected final String entity;
+    /** The hash code of the instance. */
+    protected final int hashCode;
 
     /** 
      * @return The type of the entity.
@@ -36,6 +43,7 @@ public class EntityTypeAndEntity {
     public EntityTypeAndEntity(String entityType, String entity) {
         this.entityType = entityType;
         this.entity = entity;
+        hashCode = Objects.hashCode(entityType) * prime1 + Objects.hashCode(entity) * prime2;
     }
 
     @Override
@@ -51,11 +59,11 @@ public class EntityTypeAndEntity {
         }
         EntityTypeAndEntity typedOther = (EntityTypeAndEntity)other;
 
-        return (this.entityType.equals(typedOther.entityType) && this.entity.equals(typedOther.entity));
+        return (this.hashCode == typedOther.hashCode && Objects.equals(this.entityType, typedOther.entityType) && Objects.equals(this.entity, typedOther.entity));
     }
 
     @Override
     public int hashCode() {
-        return (this.entityType.hashCode() * prime1 + this.entity.hashCode() * prime2);
+        return hashCode;
     }
 }
@@ -0,0 +1,401 @@
+package net.alastairwyse.applicationaccessclient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.sun.net.httpserver.HttpServer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for the net.alastairwyse.applicationaccessclient.AccessManagerClientBase class.
+ *
+ * Requests are sent to a local {@link HttpServer}, and tests are performed through inner class AccessManagerClientBaseWithProtectedMethods.
+ */
+public class AccessManagerClientBaseTests {
+
+    private AtomicInteger requestCount;
+    private CountDownLatch responseLatch;
+    private HttpServer server;
+    private ExecutorService requestExecutor;
+    private AccessManagerClientBaseWithProtectedMethods testAccessManagerClientBase;
+
+    @Before
+    public void setUp() throws IOException {
+
+        requestCount = new AtomicInteger(0);
+        responseLatch = new CountDownLatch(1);
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/", (exchange) -> {
+            requestCount.incrementAndGet();
+            try {
+                responseLatch.await();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] responseBody = "[\"user1\", \"user2\"]".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, responseBody.length);
+            try (OutputStream responseStream = exchange.getResponseBody()) {
+                responseStream.write(responseBody);
+            }
+        });
+        server.start();
+        requestExecutor = Executors.newCachedThreadPool();
+        testAccessManagerClientBase = new AccessManagerClientBaseWithProtectedMethods(
+            URI.create(String.format("http://127.0.0.1:%d/", server.getAddress().getPort()))
+        );
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        responseLatch.countDown();
+        testAccessManagerClientBase.close();
+        requestExecutor.shutdownNow();
+        server.stop(0);
+    }
+
+    @Test
+    public void readStringFields_NestedValues() throws Exception {
+
+        String json = "[{\"EntityType\": \"ClientAccount\", \"entity\": {\"entity\": \"CompanyB\", \"Values\": [1, {\"entityType\": \"BusinessUnit\"}]}}, {\"entityType\": \"BusinessUnit\", \"Extra\": [{\"entity\": \"Marketing\"}], \"entity\": \"Sales\"}]";
+        try (JsonParser parser = new JsonFactory().createParser(json)) {
+            parser.nextToken();
+            parser.nextToken();
+
+            String[] result = AccessManagerClientBase.readStringFields(parser, new String[] { "entityType", "entity" });
+
+            assertArrayEquals(new String[] { "ClientAccount", null }, result);
+            assertEquals(JsonToken.END_OBJECT, parser.currentToken());
+            parser.nextToken();
+
+            result = AccessManagerClientBase.readStringFields(parser, new String[] { "entityType", "entity" });
+
+            assertArrayEquals(new String[] { "BusinessUnit", "Sales" }, result);
+            assertEquals(JsonToken.END_ARRAY, parser.nextToken());
+        }
+    }
+
+    @Test
+    public void sendGetRequest_ConcurrentIdenticalRequestsCoalesced() throws Exception {
+
+        List<Future<ArrayList<String>>> results = sendConcurrentGetRequests(5);
+
+        assertEquals(1, requestCount.get());
+        for (Future<ArrayList<String>> currentResult : results) {
+            assertEquals(List.of("user1", "user2"), currentResult.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(0, testAccessManagerClientBase.inFlightGetRequests.size());
+    }
+
+    @Test
+    public void sendGetRequest_CoalescingDisabled() throws Exception {
+
+        testAccessManagerClientBase.setGetRequestCoalescingEnabled(false);
+
+        List<Future<ArrayList<String>>> results = sendConcurrentGetRequests(3);
+
+        for (Future<ArrayList<String>> currentResult : results) {
+            currentResult.get(5, TimeUnit.SECONDS);
+        }
+        assertEquals(3, requestCount.get());
+    }
+
+    @Test
+    public void sendGetRequest_SendingThreadInterrupted() throws Exception {
+
+        URI requestUrl = testAccessManagerClientBase.appendPathToBaseUrl("users");
+        Future<ArrayList<String>> sendingRequest = requestExecutor.submit(() -> {
+            return testAccessManagerClientBase.sendGetRequest(requestUrl, new TypeReference<ArrayList<String>>(){});
+        });
+        while (requestCount.get() == 0) {
+            Thread.sleep(5);
+        }
+        var waitingThreadInterrupted = new AtomicBoolean(true);
+        Future<ArrayList<String>> waitingRequest = requestExecutor.submit(() -> {
+            ArrayList<String> result = testAccessManagerClientBase.sendGetRequest(requestUrl, new TypeReference<ArrayList<String>>(){});
+            waitingThreadInterrupted.set(Thread.currentThread().isInterrupted());
+            return result;
+        });
+        Thread.sleep(200);
+
+        sendingRequest.cancel(true);
+        // Wait until the waiting thread retries the request
+        while (requestCount.get() < 2) {
+            Thread.sleep(5);
+        }
+        responseLatch.countDown();
+
+        assertEquals(List.of("user1", "user2"), waitingRequest.get(5, TimeUnit.SECONDS));
+        assertFalse(waitingThreadInterrupted.get());
+        assertEquals(2, requestCount.get());
+        assertEquals(0, testAccessManagerClientBase.inFlightGetRequests.size());
+    }
+
+    @Test
+    public void sendGetRequestForArray() throws Exception {
+
+        responseLatch.countDown();
+        var results = new ArrayList<String>();
+
+        testAccessManagerClientBase.sendGetRequestForArray(testAccessManagerClientBase.appendPathToBaseUrl("users"), String.class, (String currentElement) -> {
+            results.add(currentElement);
+        });
+
+        assertEquals(List.of("user1", "user2"), results);
+        assertEquals(1, requestCount.get());
+    }
+
+    @Test
+    public void sendCoalescedGetRequest_DifferentResultKindsNotCoalesced() throws Exception {
+
+        URI requestUrl = testAccessManagerClientBase.appendPathToBaseUrl("users");
+        var sendingRequestLatch = new CountDownLatch(1);
+        Future<String> stringResult = requestExecutor.submit(() -> {
+            return testAccessManagerClientBase.sendCoalescedGetRequest(requestUrl, String.class, () -> {
+                sendingRequestLatch.await();
+                return "user1";
+            });
+        });
+        while (testAccessManagerClientBase.inFlightGetRequests.size() == 0) {
+            Thread.sleep(5);
+        }
+
+        boolean booleanResult = testAccessManagerClientBase.sendCoalescedGetRequest(requestUrl, AccessManagerClientBase.CoalescedResultKind.CONTAINS_STATUS, () -> true);
+
+        assertTrue(booleanResult);
+        assertFalse(stringResult.isDone());
+        sendingRequestLatch.countDown();
+        assertEquals("user1", stringResult.get(5, TimeUnit.SECONDS));
+        assertEquals(0, testAccessManagerClientBase.inFlightGetRequests.size());
+    }
+
+    @Test
+    public void sendCoalescedGetRequestAsync_RequestFunctionThrowsException() throws Exception {
+
+        URI requestUrl = testAccessManagerClientBase.appendPathToBaseUrl("users");
+
+        CompletableFuture<String> result = testAccessManagerClientBase.sendCoalescedGetRequestAsync(requestUrl, String.class, () -> {
+            throw new IllegalArgumentException("Invalid header name 'Host'.");
+        });
+
+        var e = assertThrows(ExecutionException.class, () -> {
+            result.get(5, TimeUnit.SECONDS);
+        });
+        assertTrue(e.getCause() instanceof IllegalArgumentException);
+        assertEquals(0, testAccessManagerClientBase.inFlightGetRequests.size());
+        // Subsequent identical requests are not coalesced with the failed request
+        CompletableFuture<String> secondResult = testAccessManagerClientBase.sendCoalescedGetRequestAsync(requestUrl, String.class, () -> CompletableFuture.completedFuture("user1"));
+        assertEquals("user1", secondResult.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void sendCoalescedGetRequestAsync_DifferentResultKindsNotCoalesced() throws Exception {
+
+        URI requestUrl = testAccessManagerClientBase.appendPathToBaseUrl("users");
+        var inFlightResponseBody = new CompletableFuture<byte[]>();
+
+        CompletableFuture<byte[]> responseBodyResult = testAccessManagerClientBase.sendCoalescedGetRequestAsync(requestUrl, AccessManagerClientBase.CoalescedResultKind.RESPONSE_BODY, () -> inFlightResponseBody);
+        CompletableFuture<Boolean> booleanResult = testAccessManagerClientBase.sendCoalescedGetRequestAsync(requestUrl, AccessManagerClientBase.CoalescedResultKind.CONTAINS_STATUS, () -> CompletableFuture.completedFuture(true));
+        CompletableFuture<byte[]> coalescedResponseBodyResult = testAccessManagerClientBase.sendCoalescedGetRequestAsync(requestUrl, AccessManagerClientBase.CoalescedResultKind.RESPONSE_BODY, () -> {
+            throw new IllegalStateException("Request should have been coalesced.");
+        });
+
+        assertTrue(booleanResult.get(5, TimeUnit.SECONDS));
+        assertFalse(responseBodyResult.isDone());
+        inFlightResponseBody.complete(new byte[] { 1 });
+        assertEquals(1, responseBodyResult.get(5, TimeUnit.SECONDS).length);
+        assertEquals(1, coalescedResponseBodyResult.get(5, TimeUnit.SECONDS).length);
+        assertEquals(0, testAccessManagerClientBase.inFlightGetRequests.size());
+    }
+
+    @Test
+    public void executeWithBoundedParallelism_SynchronousCompletionsDontRecurse() throws Exception {
+
+        testAccessManagerClientBase.setBulkRequestParallelism(1);
+        var keys = new ArrayList<Integer>();
+        for (int i = 0; i < 100000; i++) {
+            keys.add(i);
+        }
+
+        Map<Integer, Integer> result = testAccessManagerClientBase.executeWithBoundedParallelism(keys, (Integer currentKey) -> CompletableFuture.completedFuture(currentKey * 2)).get(5, TimeUnit.SECONDS);
+
+        assertEquals(100000, result.size());
+        assertEquals(Integer.valueOf(199998), result.get(99999));
+    }
+
+    @Test
+    public void executeWithBoundedParallelism_FailureCancelsInFlightExecutions() throws Exception {
+
+        testAccessManagerClientBase.setBulkRequestParallelism(3);
+        var executions = new ArrayList<CompletableFuture<Boolean>>();
+
+        CompletableFuture<Map<String, Boolean>> result = testAccessManagerClientBase.executeWithBoundedParallelism(List.of("Client1", "Client2", "Client3", "Client4"), (String currentKey) -> {
+            if (currentKey.equals("Client3")) {
+                return CompletableFuture.failedFuture(new IllegalStateException("Request failed."));
+            }
+            var execution = new CompletableFuture<Boolean>();
+            executions.add(execution);
+            return execution;
+        });
+
+        var e = assertThrows(ExecutionException.class, () -> {
+            result.get(5, TimeUnit.SECONDS);
+        });
+        assertTrue(e.getCause() instanceof IllegalStateException);
+        assertEquals(2, executions.size());
+        assertTrue(executions.get(0).isCancelled());
+        assertTrue(executions.get(1).isCancelled());
+    }
+
+    @Test
+    public void awaitResult_InterruptedCancelsInFlightExecutions() throws Exception {
+
+        var executions = Collections.synchronizedList(new ArrayList<CompletableFuture<Boolean>>());
+        var interrupted = new AtomicBoolean(false);
+        var awaitingThread = new Thread(() -> {
+            try {
+                testAccessManagerClientBase.awaitResult(testAccessManagerClientBase.executeWithBoundedParallelism(List.of("Client1", "Client2"), (String currentKey) -> {
+                    var execution = new CompletableFuture<Boolean>();
+                    executions.add(execution);
+                    return execution;
+                }));
+            }
+            catch (InterruptedException e) {
+                interrupted.set(true);
+            }
+            catch (IOException e) {
+                // Not expected, as the executions are never completed
+            }
+        });
+        awaitingThread.start();
+        while (executions.size() < 2) {
+            Thread.sleep(5);
+        }
+
+        awaitingThread.interrupt();
+        awaitingThread.join(5000);
+
+        assertTrue(interrupted.get());
+        assertTrue(executions.get(0).isCancelled());
+        assertTrue(executions.get(1).isCancelled());
+    }
+
+    //#region Private/Protected Methods
+
+    /**
+     * Sends the specified number of identical GET requests concurrently, releasing the server responses once all requests have been sent.
+     *
+     * @param numberOfRequests The number of requests to send.
+     * @return The results of the requests.
+     */
+    private List<Future<ArrayList<String>>> sendConcurrentGetRequests(int numberOfRequests) throws Exception {
+
+        URI requestUrl = testAccessManagerClientBase.appendPathToBaseUrl("users");
+        var results = new ArrayList<Future<ArrayList<String>>>();
+        for (int i = 0; i < numberOfRequests; i++) {
+            results.add(requestExecutor.submit(() -> {
+                return testAccessManagerClientBase.sendGetRequest(requestUrl, new TypeReference<ArrayList<String>>(){});
+            }));
+            if (i == 0) {
+                // Wait until the first request reaches the server
+                while (requestCount.get() == 0) {
+                    Thread.sleep(5);
+                }
+            }
+        }
+        Thread.sleep(200);
+        responseLatch.countDown();
+
+        return results;
+    }
+
+    //#endregion
+
+    //#region Inner Classes
+
+    /**
+     * Version of AccessManagerClientBase where protected members are exposed as public so that they can be unit tested.
+     */
+    private class AccessManagerClientBaseWithProtectedMethods extends AccessManagerClientBase<String, String, String, String> {
+
+        /**
+         * Constructs an AccessManagerClientBaseWithProtectedMethods.
+         *
+         * @param baseUrl The base URL for the hosted Web API.
+         */
+        public AccessManagerClientBaseWithProtectedMethods(URI baseUrl) {
+            super(baseUrl, new StringUniqueStringifier(), new StringUniqueStringifier(), new StringUniqueStringifier(), new StringUniqueStringifier());
+        }
+
+        @Override
+        public URI appendPathToBaseUrl(String path) {
+            return super.appendPathToBaseUrl(path);
+        }
+
+        @Override
+        public <T> T sendGetRequest(URI requestUrl, TypeReference<T> returnType) throws IOException, InterruptedException {
+            return super.sendGetRequest(requestUrl, returnType);
+        }
+
+        @Override
+        public <T> T sendCoalescedGetRequest(URI requestUrl, Object resultKind, RequestFunction<T> requestFunction) throws IOException, InterruptedException {
+            return super.sendCoalescedGetRequest(requestUrl, resultKind, requestFunction);
+        }
+
+        @Override
+        public <T> CompletableFuture<T> sendCoalescedGetRequestAsync(URI requestUrl, Object resultKind, Supplier<CompletableFuture<T>> requestFunction) {
+            return super.sendCoalescedGetRequestAsync(requestUrl, resultKind, requestFunction);
+        }
+
+        @Override
+        public <K, V> CompletableFuture<Map<K, V>> executeWithBoundedParallelism(Collection<K> keys, Function<K, CompletableFuture<V>> function) {
+            return super.executeWithBoundedParallelism(keys, function);
+        }
+
+        @Override
+        public <T> T awaitResult(Future<T> future) throws IOException, InterruptedException {
+            return super.awaitResult(future);
+        }
+
+        @Override
+        public <T> void sendGetRequestForArray(URI requestUrl, Class<T> elementType, Consumer<T> elementConsumer) throws IOException, InterruptedException {
+            super.sendGetRequestForArray(requestUrl, elementType, elementConsumer);
+        }
+    }
+
+    //#endregion
+}
@@ -0,0 +1,419 @@
+package net.alastairwyse.applicationaccessclient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import net.alastairwyse.applicationaccessclient.exceptions.ElementNotFoundException;
+import net.alastairwyse.applicationaccessclient.models.ApplicationComponentAndAccessLevel;
+import net.alastairwyse.applicationaccessclient.models.EntityTypeAndEntity;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for the net.alastairwyse.applicationaccessclient.AccessManagerClient class.
+ *
+ * Requests are sent to a local {@link HttpServer} which returns canned responses.
+ */
+public class AccessManagerClientTests {
+
+    private AtomicInteger userToGroupMappingsRequestCount;
+    private CountDownLatch userToGroupMappingsResponseLatch;
+    private HttpServer server;
+    private AccessManagerClient<String, String, String, String> testAccessManagerClient;
+
+    @Before
+    public void setUp() throws IOException {
+
+        userToGroupMappingsRequestCount = new AtomicInteger(0);
+        userToGroupMappingsResponseLatch = new CountDownLatch(1);
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/api/v1/userToGroupMappings/user/user1", (exchange) -> {
+            userToGroupMappingsRequestCount.incrementAndGet();
+            try {
+                userToGroupMappingsResponseLatch.await();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            sendResponse(exchange, 200, "[{\"user\": \"user1\", \"group\": \"group1\"}, {\"user\": \"user1\", \"group\": \"group2\"}]");
+        });
+        server.createContext("/api/v1/userToGroupMappings/group/group1", (exchange) -> {
+            sendResponse(exchange, 200, "[{\"user\": \"user1\", \"group\": \"group1\"}, {\"user\": \"user2\", \"group\": \"group1\"}, {\"user\": \"user3\", \"group\": \"group1\"}]");
+        });
+        server.createContext("/api/v1/users", (exchange) -> {
+            sendResponse(exchange, 200, "[\"user1\", \"user 2\", \"user3\"]");
+        });
+        server.createContext("/api/v1/groups", (exchange) -> {
+            var responseBody = new StringBuilder("[");
+            for (int i = 0; i < 1000; i++) {
+                responseBody.append(i == 0 ? "" : ", ").append(String.format("\"group%d\"", i));
+            }
+            sendResponse(exchange, 200, responseBody.append("]").toString());
+        });
+        server.createContext("/api/v1/userToEntityMappings/user/user1/entityType/ClientAccount", (exchange) -> {
+            sendResponse(exchange, 200, "[{\"user\": \"user1\", \"entityType\": \"ClientAccount\", \"entity\": \"CompanyB\"}, {\"user\": \"user1\", \"entityType\": \"ClientAccount\", \"entity\": \"CompanyA\"}, {\"user\": \"user1\", \"entityType\": \"ClientAccount\", \"entity\": \"CompanyB\"}]");
+        });
+        server.createContext("/api/v1/userToEntityMappings/user/user1", (exchange) -> {
+            sendResponse(exchange, 200, "[{\"user\": \"user1\", \"entityType\": \"ClientAccount\", \"entity\": \"CompanyA\"}, {\"user\": \"user1\", \"entityType\": \"BusinessUnit\", \"entity\": \"Sales\"}]");
+        });
+        server.createContext("/api/v1/userToEntityMappings/user/invalid", (exchange) -> {
+            sendResponse(exchange, 404, "{\"error\": {\"code\": \"UserNotFoundException\", \"message\": \"User 'invalid' does not exist.\", \"attributes\": [{\"name\": \"User\", \"value\": \"invalid\"}]}}");
+        });
+        server.createContext("/api/v1/groupToApplicationComponentAndAccessLevelMappings/group/group1", (exchange) -> {
+            sendResponse(exchange, 200, "[{\"group\": \"group1\", \"applicationComponent\": \"Order\", \"accessLevel\": \"View\"}, {\"Group\": \"group2\", \"Extra\": {\"Nested\": [1, 2]}, \"ApplicationComponent\": \"Summary\", \"AccessLevel\": \"Modify\"}]");
+        });
+        server.createContext("/api/v1/groupToApplicationComponentAndAccessLevelMappings/group/group3", (exchange) -> {
+            sendResponse(exchange, 200, "[{\"group\": \"group3\", \"applicationComponent\": \"ORDER\", \"accessLevel\": \"VIEW\"}, {\"group\": \"group3\", \"applicationComponent\": \"SUMMARY\", \"accessLevel\": \"MODIFY\"}]");
+        });
+        server.createContext("/api/v1/groupToApplicationComponentAndAccessLevelMappings/group/group2", (exchange) -> {
+            sendResponse(exchange, 200, "[\"Order\"]");
+        });
+        server.createContext("/api/v1/dataElementAccess/entity/user/user1/entityType/ClientAccount/entity/CompanyA", (exchange) -> {
+            sendResponse(exchange, 200, " true\n");
+        });
+        server.createContext("/api/v1/dataElementAccess/entity/user/user1/entityType/ClientAccount/entity/CompanyB", (exchange) -> {
+            sendResponse(exchange, 200, "false");
+        });
+        server.createContext("/api/v1/dataElementAccess/entity/user/user1/entityType/ClientAccount/entity/CompanyC", (exchange) -> {
+            sendResponse(exchange, 200, "\"true\"");
+        });
+        server.createContext("/api/v1/dataElementAccess/entity/user/user1/entityType/ClientAccount/entity/Invalid", (exchange) -> {
+            sendResponse(exchange, 200, "tru");
+        });
+        server.start();
+        testAccessManagerClient = new AccessManagerClient<String, String, String, String>(
+            URI.create(String.format("http://127.0.0.1:%d/", server.getAddress().getPort())),
+            new StringUniqueStringifier(),
+            new StringUniqueStringifier(),
+            new StringUniqueStringifier(),
+            new StringUniqueStringifier()
+        );
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        userToGroupMappingsResponseLatch.countDown();
+        testAccessManagerClient.close();
+        server.stop(0);
+    }
+
+    @Test
+    public void getUsers() throws Exception {
+
+        List<String> result = testAccessManagerClient.getUsers();
+
+        assertEquals(List.of("user1", "user 2", "user3"), result);
+    }
+
+    @Test
+    public void getUsers_Consumer() throws Exception {
+
+        var result = new ArrayList<String>();
+
+        testAccessManagerClient.getUsers((String currentUser) -> result.add(currentUser));
+
+        assertEquals(List.of("user1", "user 2", "user3"), result);
+    }
+
+    @Test
+    public void setParallelConversionThreshold_ThresholdLessThan0() {
+
+        var e = assertThrows(IllegalArgumentException.class, () -> {
+            testAccessManagerClient.setParallelConversionThreshold(-1);
+        });
+
+        assertTrue(e.getMessage().contains("Parameter 'parallelConversionThreshold' with value -1 must be greater than or equal to 0."));
+    }
+
+    @Test
+    public void getUsers_ParallelConversionThresholdNotReached() throws Exception {
+
+        testAccessManagerClient.setParallelConversionThreshold(4);
+
+        List<String> result = testAccessManagerClient.getUsers();
+
+        assertEquals(List.of("user1", "user 2", "user3"), result);
+    }
+
+    @Test
+    public void getGroups_ParallelConversion() throws Exception {
+
+        testAccessManagerClient.setParallelConversionThreshold(100);
+
+        List<String> result = testAccessManagerClient.getGroups();
+
+        assertEquals(1000, result.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(String.format("group%d", i), result.get(i));
+        }
+    }
+
+    @Test
+    public void getGroups_ParallelConversionOnSpecifiedPool() throws Exception {
+
+        var conversionPool = new ForkJoinPool(2);
+        var conversionPools = ConcurrentHashMap.<ForkJoinPool>newKeySet();
+        var nonPoolConversionCount = new AtomicInteger(0);
+        try (var recordingAccessManagerClient = new AccessManagerClient<String, String, String, String>(
+            URI.create(String.format("http://127.0.0.1:%d/", server.getAddress().getPort())),
+            new StringUniqueStringifier(),
+            new UniqueStringifier<String>() {
+                public String toString(String inputObject) {
+                    return inputObject;
+                }
+                public String fromString(String stringifiedObject) {
+                    ForkJoinPool currentPool = ForkJoinTask.getPool();
+                    if (currentPool == null) {
+                        nonPoolConversionCount.incrementAndGet();
+                    }
+                    else {
+                        conversionPools.add(currentPool);
+                    }
+                    return stringifiedObject;
+                }
+            },
+            new StringUniqueStringifier(),
+            new StringUniqueStringifier()
+        )) {
+            recordingAccessManagerClient.setParallelConversionThreshold(100, conversionPool);
+
+            List<String> result = recordingAccessManagerClient.getGroups();
+
+            assertEquals(1000, result.size());
+            assertEquals(Set.of(conversionPool), conversionPools);
+            assertEquals(0, nonPoolConversionCount.get());
+        }
+        finally {
+            conversionPool.shutdown();
+        }
+    }
+
+    @Test
+    public void getGroupToUserMappings_ParallelConversion() throws Exception {
+
+        testAccessManagerClient.setParallelConversionThreshold(2);
+
+        List<String> result = testAccessManagerClient.getGroupToUserMappings("group1", false);
+
+        assertEquals(List.of("user1", "user2", "user3"), result);
+    }
+
+    @Test
+    public void getUserToGroupMappings_ConcurrentIdenticalRequestsCoalesced() throws Exception {
+
+        var requestExecutor = Executors.newCachedThreadPool();
+        try {
+            var results = new ArrayList<Future<List<String>>>();
+            for (int i = 0; i < 5; i++) {
+                results.add(requestExecutor.submit(() -> testAccessManagerClient.getUserToGroupMappings("user1", false)));
+                if (i == 0) {
+                    // Wait until the first request reaches the server
+                    while (userToGroupMappingsRequestCount.get() == 0) {
+                        Thread.sleep(5);
+                    }
+                }
+            }
+            Thread.sleep(200);
+            userToGroupMappingsResponseLatch.countDown();
+
+            for (Future<List<String>> currentResult : results) {
+                assertEquals(List.of("group1", "group2"), currentResult.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, userToGroupMappingsRequestCount.get());
+        }
+        finally {
+            requestExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void getUserToGroupMappings_CoalescingDisabled() throws Exception {
+
+        testAccessManagerClient.setGetRequestCoalescingEnabled(false);
+        userToGroupMappingsResponseLatch.countDown();
+
+        List<String> result = testAccessManagerClient.getUserToGroupMappings("user1", false);
+
+        assertEquals(List.of("group1", "group2"), result);
+        assertEquals(1, userToGroupMappingsRequestCount.get());
+    }
+
+    @Test
+    public void getEntitiesAccessibleByUser() throws Exception {
+
+        Set<EntityTypeAndEntity> result = testAccessManagerClient.getEntitiesAccessibleByUser("user1");
+
+        assertEquals(Set.of(new EntityTypeAndEntity("ClientAccount", "CompanyA"), new EntityTypeAndEntity("BusinessUnit", "Sales")), result);
+    }
+
+    @Test
+    public void getEntitiesAccessibleByUser_EntityType() throws Exception {
+
+        Set<String> result = testAccessManagerClient.getEntitiesAccessibleByUser("user1", "ClientAccount");
+
+        assertTrue(result instanceof HashSet<?>);
+        assertEquals(Set.of("CompanyA", "CompanyB"), result);
+    }
+
+    @Test
+    public void getEntitiesAccessibleByUser_EntityType_CompactEntitySetsEnabled() throws Exception {
+
+        testAccessManagerClient.setCompactEntitySetsEnabled(true);
+
+        Set<String> result = testAccessManagerClient.getEntitiesAccessibleByUser("user1", "ClientAccount");
+
+        assertTrue(result instanceof CompactStringSet);
+        assertEquals(Set.of("CompanyA", "CompanyB"), result);
+        assertTrue(result.contains("CompanyA"));
+        assertFalse(result.contains("CompanyC"));
+    }
+
+    @Test
+    public void getUserToEntityMappings_ModelInterningEnabled() throws Exception {
+
+        testAccessManagerClient.setModelInterningEnabled(true);
+
+        List<EntityTypeAndEntity> firstResult = new ArrayList<EntityTypeAndEntity>(testAccessManagerClient.getUserToEntityMappings("user1"));
+        List<EntityTypeAndEntity> secondResult = new ArrayList<EntityTypeAndEntity>(testAccessManagerClient.getUserToEntityMappings("user1"));
+
+        assertEquals(2, firstResult.size());
+        assertSame(firstResult.get(0), secondResult.get(0));
+        assertSame(firstResult.get(1), secondResult.get(1));
+    }
+
+    @Test
+    public void getEntitiesAccessibleByUser_Consumer() throws Exception {
+
+        var result = new ArrayList<EntityTypeAndEntity>();
+
+        testAccessManagerClient.getEntitiesAccessibleByUser("user1", (EntityTypeAndEntity currentEntity) -> result.add(currentEntity));
+
+        assertEquals(List.of(new EntityTypeAndEntity("ClientAccount", "CompanyA"), new EntityTypeAndEntity("BusinessUnit", "Sales")), result);
+    }
+
+    @Test
+    public void getEntitiesAccessibleByUser_Consumer_ElementNotFoundException() {
+
+        var e = assertThrows(ElementNotFoundException.class, () -> {
+            testAccessManagerClient.getEntitiesAccessibleByUser("invalid", (EntityTypeAndEntity currentEntity) -> {});
+        });
+
+        assertEquals("User", e.getElementType());
+        assertEquals("invalid", e.getElementValue());
+    }
+
+    @Test
+    public void getApplicationComponentsAccessibleByGroup() throws Exception {
+
+        Set<ApplicationComponentAndAccessLevel<String, String>> result = testAccessManagerClient.getApplicationComponentsAccessibleByGroup("group1");
+
+        assertEquals(
+            Set.of(new ApplicationComponentAndAccessLevel<String, String>("Order", "View"), new ApplicationComponentAndAccessLevel<String, String>("Summary", "Modify")), 
+            result
+        );
+    }
+
+    @Test
+    public void getApplicationComponentsAccessibleByGroup_EnumStringifiers() throws Exception {
+
+        var enumAccessManagerClient = new AccessManagerClient<String, String, ApplicationScreen, AccessLevel>(
+            URI.create(String.format("http://127.0.0.1:%d/", server.getAddress().getPort())),
+            new StringUniqueStringifier(),
+            new StringUniqueStringifier(),
+            new EnumUniqueStringifier<ApplicationScreen>(ApplicationScreen.class),
+            new EnumUniqueStringifier<AccessLevel>(AccessLevel.class)
+        );
+
+        Set<ApplicationComponentAndAccessLevel<ApplicationScreen, AccessLevel>> result = enumAccessManagerClient.getApplicationComponentsAccessibleByGroup("group3");
+        enumAccessManagerClient.close();
+
+        assertTrue(result instanceof ApplicationComponentAndAccessLevelBitSet<?, ?>);
+        assertEquals(
+            Set.of(
+                new ApplicationComponentAndAccessLevel<ApplicationScreen, AccessLevel>(ApplicationScreen.ORDER, AccessLevel.VIEW), 
+                new ApplicationComponentAndAccessLevel<ApplicationScreen, AccessLevel>(ApplicationScreen.SUMMARY, AccessLevel.MODIFY)
+            ), 
+            result
+        );
+    }
+
+    @Test
+    public void getApplicationComponentsAccessibleByGroup_ElementNotJsonObject() {
+
+        var e = assertThrows(RuntimeException.class, () -> {
+            testAccessManagerClient.getApplicationComponentsAccessibleByGroup("group2");
+        });
+
+        assertTrue(e.getMessage().contains("Error deserializing response body from JSON to type."));
+    }
+
+    @Test
+    public void hasAccessToEntity() throws Exception {
+
+        assertTrue(testAccessManagerClient.hasAccessToEntity("user1", "ClientAccount", "CompanyA"));
+        assertFalse(testAccessManagerClient.hasAccessToEntity("user1", "ClientAccount", "CompanyB"));
+    }
+
+    @Test
+    public void hasAccessToEntity_NonLiteralResponseBody() throws Exception {
+
+        // Non-literal but valid JSON bodies should be handled by full deserialization
+        assertTrue(testAccessManagerClient.hasAccessToEntity("user1", "ClientAccount", "CompanyC"));
+    }
+
+    @Test
+    public void hasAccessToEntity_MalformedResponseBody() {
+
+        var e = assertThrows(RuntimeException.class, () -> {
+            testAccessManagerClient.hasAccessToEntity("user1", "ClientAccount", "Invalid");
+        });
+
+        assertTrue(e.getMessage().contains("Error deserializing response body from JSON to type."));
+    }
+
+    //#region Private/Protected Methods
+
+    /**
+     * Sends a response to a request received by the local server.
+     *
+     * @param exchange The exchange to send the response for.
+     * @param status The HTTP status of the response.
+     * @param body The body of the response.
+     */
+    private void sendResponse(HttpExchange exchange, int status, String body) throws IOException {
+
+        byte[] responseBody = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, responseBody.length == 0 ? -1 : responseBody.length);
+        try (OutputStream responseStream = exchange.getResponseBody()) {
+            responseStream.write(responseBody);
+        }
+    }
+
+    //#endregion
+}
@@ -0,0 +1,76 @@
+package net.alastairwyse.applicationaccessclient;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for the net.alastairwyse.applicationaccessclient.AccessManagerElementDictionaries class.
+ */
+public class AccessManagerElementDictionariesTests {
+
+    private AccessManagerElementDictionaries<String, String, ApplicationScreen, AccessLevel> testAccessManagerElementDictionaries;
+
+    @Before
+    public void setUp() {
+        testAccessManagerElementDictionaries = new AccessManagerElementDictionaries<String, String, ApplicationScreen, AccessLevel>(
+            new StringUniqueStringifier(),
+            new StringUniqueStringifier(),
+            new EnumUniqueStringifier<ApplicationScreen>(ApplicationScreen.class),
+            new EnumUniqueStringifier<AccessLevel>(AccessLevel.class)
+        );
+    }
+
+    @Test
+    public void constructor_UserStringifierNull() {
+
+        var e = assertThrows(IllegalArgumentException.class, () -> {
+            new AccessManagerElementDictionaries<String, String, ApplicationScreen, AccessLevel>(
+                null,
+                new StringUniqueStringifier(),
+                new EnumUniqueStringifier<ApplicationScreen>(ApplicationScreen.class),
+                new EnumUniqueStringifier<AccessLevel>(AccessLevel.class)
+            );
+        });
+
+        assertTrue(e.getMessage().contains("Parameter 'userStringifier' cannot be null."));
+    }
+
+    @Test
+    public void constructor_AccessLevelStringifierNull() {
+
+        var e = assertThrows(IllegalArgumentException.class, () -> {
+            new AccessManagerElementDictionaries<String, String, ApplicationScreen, AccessLevel>(
+                new StringUniqueStringifier(),
+                new StringUniqueStringifier(),
+                new EnumUniqueStringifier<ApplicationScreen>(ApplicationScreen.class),
+                null
+            );
+        });
+
+        assertTrue(e.getMessage().contains("Parameter 'accessLevelStringifier' cannot be null."));
+    }
+
+    @Test
+    public void getApplicationComponentAndAccessLevelKey() {
+
+        long key = testAccessManagerElementDictionaries.getOrAddApplicationComponentAndAccessLevelKey(ApplicationScreen.ORDER, AccessLevel.VIEW);
+
+        assertEquals(key, testAccessManagerElementDictionaries.getApplicationComponentAndAccessLevelKey(ApplicationScreen.ORDER, AccessLevel.VIEW));
+        assertEquals(-1, testAccessManagerElementDictionaries.getApplicationComponentAndAccessLevelKey(ApplicationScreen.ORDER, AccessLevel.MODIFY));
+        assertEquals(-1, testAccessManagerElementDictionaries.getApplicationComponentAndAccessLevelKey(ApplicationScreen.SUMMARY, AccessLevel.VIEW));
+    }
+
+    @Test
+    public void getEntityKey() {
+
+        long key = testAccessManagerElementDictionaries.getOrAddEntityKey("ClientAccount", "CompanyA");
+
+        assertEquals(key, testAccessManagerElementDictionaries.getEntityKey("ClientAccount", new String("CompanyA")));
+        assertEquals(-1, testAccessManagerElementDictionaries.getEntityKey("ClientAccount", "CompanyB"));
+        assertEquals(-1, testAccessManagerElementDictionaries.getEntityKey("BusinessUnit", "CompanyA"));
+    }
+}
@@ -0,0 +1,203 @@
+package net.alastairwyse.applicationaccessclient;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import net.alastairwyse.applicationaccessclient.exceptions.ElementNotFoundException;
+import net.alastairwyse.applicationaccessclient.models.ApplicationComponentAndAccessLevel;
+import net.alastairwyse.applicationaccessclient.models.EntityTypeAndEntity;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for the net.alastairwyse.applicationaccessclient.AccessManagerReplica class.
+ */
+public class AccessManagerReplicaTests {
+
+    private AccessManagerReplica<String, String, ApplicationScreen, AccessLevel> source;
+    private AccessManagerReplica<String, String, ApplicationScreen, AccessLevel> testAccessManagerReplica;
+
+    @Before
+    public void setUp() throws Exception {
+
+        // Build the source from the protected members of an empty replica
+        source = new AccessManagerReplica<String, String, ApplicationScreen, AccessLevel>();
+        source.users.addAll(List.of("user1", "user2", "user3"));
+        source.groups.addAll(List.of("group1", "group2", "group3", "group4"));
+        source.entities.put("ClientAccount", new LinkedHashSet<String>(List.of("Company1", "Company2")));
+        source.entities.put("ProductLine", new LinkedHashSet<String>(List.of("Line1")));
+        AccessManagerReplica.addToMapOfSets(source.userToGroupMap, "user1", "group1");
+        AccessManagerReplica.addToMapOfSets(source.userToGroupMap, "user2", "group4");
+        AccessManagerReplica.addToMapOfSets(source.groupToGroupMap, "group1", "group2");
+        AccessManagerReplica.addToMapOfSets(source.groupToGroupMap, "group2", "group3");
+        AccessManagerReplica.addToMapOfSets(source.groupToApplicationComponentAndAccessLevelMap, "group3", new ApplicationComponentAndAccessLevel<ApplicationScreen, AccessLevel>(ApplicationScreen.ORDER, AccessLevel.VIEW));
+        AccessManagerReplica.addToMapOfSets(source.userToApplicationComponentAndAccessLevelMap, "user2", new ApplicationComponentAndAccessLevel<ApplicationScreen, AccessLevel>(ApplicationScreen.SUMMARY, AccessLevel.MODIFY));
+        AccessManagerReplica.addToMapOfSets(source.groupToEntityMap, "group2", new EntityTypeAndEntity("ClientAccount", "Company1"));
+        AccessManagerReplica.addToMapOfSets(source.userToEntityMap, "user3", new EntityTypeAndEntity("ClientAccount", "Company2"));
+
+        testAccessManagerReplica = AccessManagerReplica.load(source);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void load_SourceChangedDuringLoad() throws Exception {
+
+        // Simulate group4 being added after the groups are read, and user3 being removed after the users are read
+        var changingSource = (AccessManagerQueryProcessor<String, String, ApplicationScreen, AccessLevel>)Proxy.newProxyInstance(
+            AccessManagerQueryProcessor.class.getClassLoader(),
+            new Class<?>[] { AccessManagerQueryProcessor.class },
+            (proxy, method, args) -> {
+                if (method.getName().equals("getGroups")) {
+                    return List.of("group1", "group2", "group3");
+                }
+                if (method.getName().equals("getUserToEntityMappings") && args[0].equals("user3")) {
+                    throw new ElementNotFoundException("User 'user3' does not exist.", "User", "user3");
+                }
+                try {
+                    return method.invoke(source, args);
+                }
+                catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            }
+        );
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+
+            testAccessManagerReplica = AccessManagerReplica.load(changingSource, executor);
+
+            assertEquals(List.of("user1", "user2"), testAccessManagerReplica.getUsers());
+            assertEquals(List.of("group1", "group2", "group3"), testAccessManagerReplica.getGroups());
+            assertEquals(List.of(), testAccessManagerReplica.getUserToGroupMappings("user2", false));
+            assertEquals(List.of("user1"), testAccessManagerReplica.getApplicationComponentAndAccessLevelToUserMappings(ApplicationScreen.ORDER, AccessLevel.VIEW, true));
+            assertEquals(List.of(), testAccessManagerReplica.getEntityToUserMappings("ClientAccount", "Company2", false));
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void load_QueryFails() throws Exception {
+
+        var failingSource = new AccessManagerReplica<String, String, ApplicationScreen, AccessLevel>() {
+            @Override
+            public List<EntityTypeAndEntity> getGroupToEntityMappings(String group) {
+                throw new IllegalStateException("Connection refused.");
+            }
+        };
+        failingSource.groups.addAll(source.groups);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+
+            var e = assertThrows(IllegalStateException.class, () -> {
+                AccessManagerReplica.load(failingSource, executor);
+            });
+
+            assertEquals("Connection refused.", e.getMessage());
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void getUserToGroupMappings() {
+
+        assertEquals(List.of("group1"), testAccessManagerReplica.getUserToGroupMappings("user1", false));
+        assertEquals(List.of("group1", "group2", "group3"), testAccessManagerReplica.getUserToGroupMappings("user1", true));
+        assertEquals(List.of(), testAccessManagerReplica.getUserToGroupMappings("user3", true));
+    }
+
+    @Test
+    public void getUserToGroupMappings_UserDoesntExist() {
+
+        ElementNotFoundException e = assertThrows(ElementNotFoundException.class, () -> {
+            testAccessManagerReplica.getUserToGroupMappings("user9", false);
+        });
+
+        assertEquals("User", e.getElementType());
+        assertEquals("user9", e.getElementValue());
+    }
+
+    @Test
+    public void getGroupToUserMappings() {
+
+        assertEquals(List.of(), testAccessManagerReplica.getGroupToUserMappings("group3", false));
+        assertEquals(List.of("user1"), testAccessManagerReplica.getGroupToUserMappings("group3", true));
+    }
+
+    @Test
+    public void getGroupToGroupMappings() {
+
+        assertEquals(List.of("group2"), testAccessManagerReplica.getGroupToGroupMappings("group1", false));
+        assertEquals(List.of("group2", "group3"), testAccessManagerReplica.getGroupToGroupMappings("group1", true));
+        assertEquals(List.of("group1", "group2"), testAccessManagerReplica.getGroupToGroupReverseMappings("group3", true));
+    }
+
+    @Test
+    public void getApplicationComponentAndAccessLevelToUserMappings() {
+
+        assertEquals(List.of(), testAccessManagerReplica.getApplicationComponentAndAccessLevelToUserMappings(ApplicationScreen.ORDER, AccessLevel.VIEW, false));
+        assertEquals(List.of("user1"), testAccessManagerReplica.getApplicationComponentAndAccessLevelToUserMappings(ApplicationScreen.ORDER, AccessLevel.VIEW, true));
+        assertEquals(List.of("group1", "group2", "group3"), testAccessManagerReplica.getApplicationComponentAndAccessLevelToGroupMappings(ApplicationScreen.ORDER, AccessLevel.VIEW, true));
+    }
+
+    @Test
+    public void getEntityToUserMappings() {
+
+        assertEquals(List.of("user1"), testAccessManagerReplica.getEntityToUserMappings("ClientAccount", "Company1", true));
+        assertEquals(List.of("user3"), testAccessManagerReplica.getEntityToUserMappings("ClientAccount", "Company2", false));
+        assertEquals(List.of("Company2"), testAccessManagerReplica.getUserToEntityMappings("user3", "ClientAccount"));
+        assertEquals(List.of(), testAccessManagerReplica.getUserToEntityMappings("user3", "ProductLine"));
+    }
+
+    @Test
+    public void hasAccessToApplicationComponent() {
+
+        assertTrue(testAccessManagerReplica.hasAccessToApplicationComponent("user1", ApplicationScreen.ORDER, AccessLevel.VIEW));
+        assertFalse(testAccessManagerReplica.hasAccessToApplicationComponent("user1", ApplicationScreen.SUMMARY, AccessLevel.MODIFY));
+        assertTrue(testAccessManagerReplica.hasAccessToApplicationComponent("user2", ApplicationScreen.SUMMARY, AccessLevel.MODIFY));
+        assertFalse(testAccessManagerReplica.hasAccessToApplicationComponent("user2", ApplicationScreen.ORDER, AccessLevel.VIEW));
+    }
+
+    @Test
+    public void hasAccessToEntity() {
+
+        assertTrue(testAccessManagerReplica.hasAccessToEntity("user1", "ClientAccount", "Company1"));
+        assertFalse(testAccessManagerReplica.hasAccessToEntity("user1", "ClientAccount", "Company2"));
+        assertTrue(testAccessManagerReplica.hasAccessToEntity("user3", "ClientAccount", "Company2"));
+        assertThrows(ElementNotFoundException.class, () -> {
+            testAccessManagerReplica.hasAccessToEntity("user1", "ClientAccount", "Company9");
+        });
+    }
+
+    @Test
+    public void getApplicationComponentsAccessibleByGroup() {
+
+        assertEquals(
+            Set.of(new ApplicationComponentAndAccessLevel<ApplicationScreen, AccessLevel>(ApplicationScreen.ORDER, AccessLevel.VIEW)),
+            testAccessManagerReplica.getApplicationComponentsAccessibleByGroup("group1")
+        );
+        assertEquals(Set.of(), testAccessManagerReplica.getApplicationComponentsAccessibleByGroup("group4"));
+    }
+
+    @Test
+    public void getEntitiesAccessibleByUser() {
+
+        assertEquals(Set.of(new EntityTypeAndEntity("ClientAccount", "Company1")), testAccessManagerReplica.getEntitiesAccessibleByUser("user1"));
+        assertEquals(Set.of("Company1"), testAccessManagerReplica.getEntitiesAccessibleByUser("user1", "ClientAccount"));
+        assertEquals(Set.of(), testAccessManagerReplica.getEntitiesAccessibleByUser("user1", "ProductLine"));
+    }
+}
@@ -0,0 +1,140 @@
+package net.alastairwyse.applicationaccessclient;
+
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+import net.alastairwyse.applicationaccessclient.models.ApplicationComponentAndAccessLevel;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for the net.alastairwyse.applicationaccessclient.ApplicationComponentAndAccessLevelBitSet class.
+ */
+public class ApplicationComponentAndAccessLevelBitSetTests {
+
+    private ApplicationComponentAndAccessLevelBitSet<ApplicationScreen, AccessLevel> testApplicationComponentAndAccessLevelBitSet;
+
+    @Before
+    public void setUp() {
+        testApplicationComponentAndAccessLevelBitSet = new ApplicationComponentAndAccessLevelBitSet<ApplicationScreen, AccessLevel>(ApplicationScreen.class, AccessLevel.class);
+    }
+
+    @Test
+    public void constructor_ApplicationComponentClassNotEnum() {
+
+        var e = assertThrows(IllegalArgumentException.class, () -> {
+            new ApplicationComponentAndAccessLevelBitSet<String, AccessLevel>(String.class, AccessLevel.class);
+        });
+
+        assertTrue(e.getMessage().contains("Parameter 'applicationComponentClass' with value 'java.lang.String' must be an enum."));
+    }
+
+    @Test
+    public void constructor_EnumConstantsSharedBetweenSets() {
+
+        var otherSet = new ApplicationComponentAndAccessLevelBitSet<ApplicationScreen, AccessLevel>(ApplicationScreen.class, AccessLevel.class);
+
+        assertSame(testApplicationComponentAndAccessLevelBitSet.applicationComponents, otherSet.applicationComponents);
+        assertSame(testApplicationComponentAndAccessLevelBitSet.accessLevels, otherSet.accessLevels);
+    }
+
+    @Test
+    public void add() {
+
+        assertTrue(testApplicationComponentAndAccessLevelBitSet.add(createElement(ApplicationScreen.ORDER, AccessLevel.VIEW)));
+        assertTrue(testApplicationComponentAndAccessLevelBitSet.add(createElement(ApplicationScreen.RESERVED_CHARACTERS, AccessLevel.RESERVED_CHARACTERS)));
+        assertFalse(testApplicationComponentAndAccessLevelBitSet.add(createElement(ApplicationScreen.ORDER, AccessLevel.VIEW)));
+
+        assertEquals(2, testApplicationComponentAndAccessLevelBitSet.size());
+        assertTrue(testApplicationComponentAndAccessLevelBitSet.contains(ApplicationScreen.ORDER, AccessLevel.VIEW));
+        assertTrue(testApplicationComponentAndAccessLevelBitSet.contains(createElement(ApplicationScreen.RESERVED_CHARACTERS, AccessLevel.RESERVED_CHARACTERS)));
+        assertFalse(testApplicationComponentAndAccessLevelBitSet.contains(ApplicationScreen.ORDER, AccessLevel.CREATE));
+        assertFalse(testApplicationComponentAndAccessLevelBitSet.contains(new ApplicationComponentAndAccessLevel<String, String>("ORDER", "VIEW")));
+        assertFalse(testApplicationComponentAndAccessLevelBitSet.contains(null));
+    }
+
+    @Test
+    public void remove() {
+
+        testApplicationComponentAndAccessLevelBitSet.add(ApplicationScreen.ORDER, AccessLevel.VIEW);
+        testApplicationComponentAndAccessLevelBitSet.add(ApplicationScreen.SETTINGS, AccessLevel.DELETE);
+
+        assertTrue(testApplicationComponentAndAccessLevelBitSet.remove(createElement(ApplicationScreen.ORDER, AccessLevel.VIEW)));
+        assertFalse(testApplicationComponentAndAccessLevelBitSet.remove(createElement(ApplicationScreen.ORDER, AccessLevel.VIEW)));
+
+        assertEquals(1, testApplicationComponentAndAccessLevelBitSet.size());
+        assertEquals(Set.of(createElement(ApplicationScreen.SETTINGS, AccessLevel.DELETE)), testApplicationComponentAndAccessLevelBitSet);
+    }
+
+    @Test
+    public void iterator() {
+
+        var expectedElements = new HashSet<ApplicationComponentAndAccessLevel<ApplicationScreen, AccessLevel>>();
+        for (ApplicationScreen currentApplicationScreen : ApplicationScreen.values()) {
+            for (AccessLevel currentAccessLevel : AccessLevel.values()) {
+                if ((currentApplicationScreen.ordinal() + currentAccessLevel.ordinal()) % 2 == 0) {
+                    expectedElements.add(createElement(currentApplicationScreen, currentAccessLevel));
+                    testApplicationComponentAndAccessLevelBitSet.add(currentApplicationScreen, currentAccessLevel);
+                }
+            }
+        }
+
+        var result = new HashSet<ApplicationComponentAndAccessLevel<ApplicationScreen, AccessLevel>>(testApplicationComponentAndAccessLevelBitSet);
+
+        assertEquals(expectedElements, result);
+        assertEquals(expectedElements, testApplicationComponentAndAccessLevelBitSet);
+        assertEquals(expectedElements.hashCode(), testApplicationComponentAndAccessLevelBitSet.hashCode());
+    }
+
+    @Test
+    public void iterator_Remove() {
+
+        testApplicationComponentAndAccessLevelBitSet.add(ApplicationScreen.ORDER, AccessLevel.VIEW);
+        testApplicationComponentAndAccessLevelBitSet.add(ApplicationScreen.SUMMARY, AccessLevel.VIEW);
+        testApplicationComponentAndAccessLevelBitSet.add(ApplicationScreen.REVIEW, AccessLevel.MODIFY);
+
+        testApplicationComponentAndAccessLevelBitSet.removeIf((ApplicationComponentAndAccessLevel<ApplicationScreen, AccessLevel> currentElement) -> currentElement.getAccessLevel() == AccessLevel.VIEW);
+
+        assertEquals(Set.of(createElement(ApplicationScreen.REVIEW, AccessLevel.MODIFY)), testApplicationComponentAndAccessLevelBitSet);
+    }
+
+    @Test
+    public void iterator_ConcurrentModification() {
+
+        testApplicationComponentAndAccessLevelBitSet.add(ApplicationScreen.ORDER, AccessLevel.VIEW);
+        Iterator<ApplicationComponentAndAccessLevel<ApplicationScreen, AccessLevel>> iterator = testApplicationComponentAndAccessLevelBitSet.iterator();
+        testApplicationComponentAndAccessLevelBitSet.add(ApplicationScreen.SUMMARY, AccessLevel.VIEW);
+
+        assertThrows(ConcurrentModificationException.class, () -> {
+            iterator.next();
+        });
+    }
+
+    @Test
+    public void clear() {
+
+        testApplicationComponentAndAccessLevelBitSet.add(ApplicationScreen.ORDER, AccessLevel.VIEW);
+
+        testApplicationComponentAndAccessLevelBitSet.clear();
+
+        assertEquals(0, testApplicationComponentAndAccessLevelBitSet.size());
+        assertFalse(testApplicationComponentAndAccessLevelBitSet.iterator().hasNext());
+    }
+
+    //#region Private/Protected Methods
+
+    private ApplicationComponentAndAccessLevel<ApplicationScreen, AccessLevel> createElement(ApplicationScreen applicationScreen, AccessLevel accessLevel) {
+        return new ApplicationComponentAndAccessLevel<ApplicationScreen, AccessLevel>(applicationScreen, accessLevel);
+    }
+
+    //#endregion
+}
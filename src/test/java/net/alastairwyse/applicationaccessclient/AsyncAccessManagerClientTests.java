@@ -0,0 +1,433 @@
+package net.alastairwyse.applicationaccessclient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import net.alastairwyse.applicationaccessclient.exceptions.ElementNotFoundException;
+import net.alastairwyse.applicationaccessclient.models.EntityTypeAndEntity;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for the net.alastairwyse.applicationaccessclient.AsyncAccessManagerClient class.
+ *
+ * Requests are sent to a local {@link HttpServer} which returns canned responses.
+ */
+public class AsyncAccessManagerClientTests {
+
+    private List<String> receivedRequests;
+    private AtomicInteger inFlightEntityRequestCount;
+    private AtomicInteger maximumInFlightEntityRequestCount;
+    private HttpServer server;
+    private AsyncAccessManagerClient<String, String, String, String> testAsyncAccessManagerClient;
+
+    @Before
+    public void setUp() throws IOException {
+
+        receivedRequests = new ArrayList<String>();
+        inFlightEntityRequestCount = new AtomicInteger(0);
+        maximumInFlightEntityRequestCount = new AtomicInteger(0);
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/api/v1/users", (exchange) -> {
+            receivedRequests.add(exchange.getRequestMethod() + " " + exchange.getRequestURI().getRawPath());
+            if (exchange.getRequestMethod().equals("POST")) {
+                sendResponse(exchange, 201, "");
+            }
+            else {
+                sendResponse(exchange, 200, "[\"user1\", \"user 2\"]");
+            }
+        });
+        server.createContext("/api/v1/userToGroupMappings/user/invalid", (exchange) -> {
+            sendResponse(exchange, 404, "{\"error\": {\"code\": \"UserNotFoundException\", \"message\": \"User 'invalid' does not exist.\", \"attributes\": [{\"name\": \"User\", \"value\": \"invalid\"}]}}");
+        });
+        server.createContext("/api/v1/dataElementAccess/applicationComponent/user/user1/applicationComponent/ORDER/accessLevel/VIEW", (exchange) -> {
+            sendResponse(exchange, 200, "true");
+        });
+        server.createContext("/api/v1/dataElementAccess/entity/user/user1/entityType/ClientAccount", (exchange) -> {
+            int inFlightCount = inFlightEntityRequestCount.incrementAndGet();
+            maximumInFlightEntityRequestCount.accumulateAndGet(inFlightCount, Math::max);
+            try {
+                Thread.sleep(50);
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            inFlightEntityRequestCount.decrementAndGet();
+            String path = exchange.getRequestURI().getPath();
+            sendResponse(exchange, 200, Boolean.toString(path.endsWith("0") == false));
+        });
+        server.createContext("/api/v1/entityTypes/ClientAccount/entities", (exchange) -> {
+            var body = new StringBuilder("[");
+            for (int i = 0; i < 5000; i++) {
+                if (i > 0) {
+                    body.append(", ");
+                }
+                body.append(String.format("{\"entityType\": \"ClientAccount\", \"entity\": \"Client%d\"}", i));
+            }
+            body.append("]");
+            sendResponse(exchange, 200, body.toString());
+        });
+        server.createContext("/api/v1/entityTypes/Invalid/entities", (exchange) -> {
+            sendResponse(exchange, 200, "[{\"entityType\": \"Invalid\", \"entity\": \"Client1\"}, ");
+        });
+        server.createContext("/api/v1/users/invalid", (exchange) -> {
+            sendResponse(exchange, 404, "{\"error\": {\"code\": \"UserNotFoundException\", \"message\": \"User 'invalid' does not exist.\", \"attributes\": [{\"name\": \"User\", \"value\": \"invalid\"}]}}");
+        });
+        server.createContext("/api/v1/userToEntityMappings/user/user1", (exchange) -> {
+            sendResponse(exchange, 200, "[{\"user\": \"user1\", \"entityType\": \"ClientAccount\", \"entity\": \"CompanyA\"}, {\"user\": \"user1\", \"entityType\": \"BusinessUnit\", \"entity\": \"Sales\"}]");
+        });
+        server.createContext("/api/v1/groups/group1", (exchange) -> {
+            sendResponse(exchange, 404, "");
+        });
+        server.createContext("/api/v1/groups/group2", (exchange) -> {
+            sendResponse(exchange, 500, "");
+        });
+        server.start();
+        testAsyncAccessManagerClient = new AsyncAccessManagerClient<String, String, String, String>(
+            URI.create(String.format("http://127.0.0.1:%d/", server.getAddress().getPort())),
+            new StringUniqueStringifier(),
+            new StringUniqueStringifier(),
+            new StringUniqueStringifier(),
+            new StringUniqueStringifier()
+        );
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        testAsyncAccessManagerClient.close();
+        server.stop(0);
+    }
+
+    @Test
+    public void getUsers() {
+
+        List<String> result = testAsyncAccessManagerClient.getUsers().join();
+
+        assertEquals(List.of("user1", "user 2"), result);
+    }
+
+    @Test
+    public void publishUsers() {
+
+        var subscriber = new CollectingSubscriber<String>();
+
+        testAsyncAccessManagerClient.publishUsers().subscribe(subscriber);
+
+        assertEquals(List.of("user1", "user 2"), subscriber.result.join());
+    }
+
+    @Test
+    public void publishEntities() {
+
+        var subscriber = new CollectingSubscriber<String>();
+
+        testAsyncAccessManagerClient.publishEntities("ClientAccount").subscribe(subscriber);
+
+        List<String> result = subscriber.result.join();
+        assertEquals(5000, result.size());
+        assertEquals("Client0", result.get(0));
+        assertEquals("Client4999", result.get(4999));
+    }
+
+    @Test
+    public void publishEntities_TruncatedResponseBody() {
+
+        var subscriber = new CollectingSubscriber<String>();
+
+        testAsyncAccessManagerClient.publishEntities("Invalid").subscribe(subscriber);
+
+        CompletionException e = assertThrows(CompletionException.class, () -> {
+            subscriber.result.join();
+        });
+        assertTrue(e.getCause().getMessage().contains("Error deserializing response body from JSON to type."));
+        assertEquals(List.of("Client1"), subscriber.elements);
+    }
+
+    @Test
+    public void publishEntities_DemandWithheld() throws Exception {
+
+        var subscriber = new DemandControlledSubscriber<String>(3, Integer.MAX_VALUE);
+
+        testAsyncAccessManagerClient.publishEntities("ClientAccount").subscribe(subscriber);
+
+        // Wait for the requested elements, and then for any (incorrectly) published further elements
+        subscriber.awaitElementCount(3);
+        Thread.sleep(200);
+        assertEquals(List.of("Client0", "Client1", "Client2"), subscriber.getElements());
+        assertFalse(subscriber.result.isDone());
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        List<String> result = subscriber.result.get(10, TimeUnit.SECONDS);
+        assertEquals(5000, result.size());
+        assertEquals("Client4999", result.get(4999));
+    }
+
+    @Test
+    public void publishEntities_CancelledMidStream() throws Exception {
+
+        var subscriber = new DemandControlledSubscriber<String>(Long.MAX_VALUE, 10);
+
+        testAsyncAccessManagerClient.publishEntities("ClientAccount").subscribe(subscriber);
+
+        subscriber.awaitElementCount(10);
+        Thread.sleep(200);
+        assertEquals(10, subscriber.getElements().size());
+        assertEquals("Client9", subscriber.getElements().get(9));
+        // Neither completion nor error is signalled after cancellation
+        assertFalse(subscriber.result.isDone());
+    }
+
+    @Test
+    public void publishGroupToUserMappings_NonSuccessResponseStatus() {
+
+        var subscriber = new CollectingSubscriber<String>();
+
+        testAsyncAccessManagerClient.publishGroupToUserMappings("group1", false).subscribe(subscriber);
+
+        CompletionException e = assertThrows(CompletionException.class, () -> {
+            subscriber.result.join();
+        });
+        assertTrue(e.getCause().getMessage().contains("Received non-succces HTTP response status 404"));
+    }
+
+    @Test
+    public void getEntitiesAccessibleByUser() {
+
+        Set<EntityTypeAndEntity> result = testAsyncAccessManagerClient.getEntitiesAccessibleByUser("user1").join();
+
+        assertEquals(Set.of(new EntityTypeAndEntity("ClientAccount", "CompanyA"), new EntityTypeAndEntity("BusinessUnit", "Sales")), result);
+    }
+
+    @Test
+    public void addUser() {
+
+        testAsyncAccessManagerClient.addUser("user 2").join();
+
+        assertEquals(List.of("POST /api/v1/users/user%202"), receivedRequests);
+    }
+
+    @Test
+    public void removeUser_ElementNotFoundException() {
+
+        CompletionException e = assertThrows(CompletionException.class, () -> {
+            testAsyncAccessManagerClient.removeUser("invalid").join();
+        });
+
+        assertTrue(e.getCause() instanceof ElementNotFoundException);
+        assertEquals("User", ((ElementNotFoundException)e.getCause()).getElementType());
+        assertEquals("invalid", ((ElementNotFoundException)e.getCause()).getElementValue());
+    }
+
+    @Test
+    public void hasAccessToApplicationComponent() {
+
+        assertTrue(testAsyncAccessManagerClient.hasAccessToApplicationComponent("user1", "ORDER", "VIEW").join());
+    }
+
+    @Test
+    public void hasAccessToEntities() {
+
+        var entities = new ArrayList<String>();
+        for (int i = 1; i <= 10; i++) {
+            entities.add("Client" + i);
+        }
+        testAsyncAccessManagerClient.setBulkRequestParallelism(3);
+
+        Map<String, Boolean> result = testAsyncAccessManagerClient.hasAccessToEntities("user1", "ClientAccount", entities).join();
+
+        assertEquals(entities, new ArrayList<String>(result.keySet()));
+        for (int i = 1; i <= 10; i++) {
+            assertEquals(i != 10, result.get("Client" + i));
+        }
+        assertTrue(maximumInFlightEntityRequestCount.get() <= 3);
+    }
+
+    @Test
+    public void hasAccessToEntities_EmptyCollection() {
+
+        Map<String, Boolean> result = testAsyncAccessManagerClient.hasAccessToEntities("user1", "ClientAccount", List.of()).join();
+
+        assertEquals(0, result.size());
+    }
+
+    @Test
+    public void setBulkRequestParallelism_ParallelismLessThan1() {
+
+        var e = assertThrows(IllegalArgumentException.class, () -> {
+            testAsyncAccessManagerClient.setBulkRequestParallelism(0);
+        });
+
+        assertTrue(e.getMessage().contains("Parameter 'bulkRequestParallelism' with value 0 must be greater than 0."));
+    }
+
+    @Test
+    public void containsGroup() {
+
+        assertFalse(testAsyncAccessManagerClient.containsGroup("group1").join());
+    }
+
+    @Test
+    public void containsGroup_UnexpectedResponseStatus() {
+
+        CompletionException e = assertThrows(CompletionException.class, () -> {
+            testAsyncAccessManagerClient.containsGroup("group2").join();
+        });
+
+        assertTrue(e.getCause().getMessage().contains("Received non-succces HTTP response status 500"));
+    }
+
+    @Test
+    public void getUserToGroupMappings_ElementNotFoundException() {
+
+        CompletionException e = assertThrows(CompletionException.class, () -> {
+            testAsyncAccessManagerClient.getUserToGroupMappings("invalid", false).join();
+        });
+
+        assertTrue(e.getCause() instanceof ElementNotFoundException);
+        assertEquals("User", ((ElementNotFoundException)e.getCause()).getElementType());
+        assertEquals("invalid", ((ElementNotFoundException)e.getCause()).getElementValue());
+    }
+
+    //#region Private/Protected Methods
+
+    /**
+     * Sends a response to a request received by the local server.
+     *
+     * @param exchange The exchange to send the response for.
+     * @param status The HTTP status of the response.
+     * @param body The body of the response.
+     */
+    private void sendResponse(HttpExchange exchange, int status, String body) throws IOException {
+
+        byte[] responseBody = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, responseBody.length == 0 ? -1 : responseBody.length);
+        try (OutputStream responseStream = exchange.getResponseBody()) {
+            responseStream.write(responseBody);
+        }
+    }
+
+    //#endregion
+
+    //#region Inner Classes
+
+    /**
+     * Subscriber which requests elements one at a time, and collects them into a list.
+     *
+     * @param <T> The type of the elements.
+     */
+    private class CollectingSubscriber<T> implements Flow.Subscriber<T> {
+
+        private Flow.Subscription subscription;
+        private List<T> elements = new ArrayList<T>();
+        private CompletableFuture<List<T>> result = new CompletableFuture<List<T>>();
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+
+            this.subscription = subscription;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(T item) {
+
+            elements.add(item);
+            subscription.request(1);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            result.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            result.complete(elements);
+        }
+    }
+
+    /**
+     * Subscriber which makes a single initial request for elements, and optionally cancels its subscription once a specified number of elements have been received.
+     *
+     * @param <T> The type of the elements.
+     */
+    private class DemandControlledSubscriber<T> implements Flow.Subscriber<T> {
+
+        private final long initialDemand;
+        private final int cancelAfterCount;
+        private volatile Flow.Subscription subscription;
+        private List<T> elements = new ArrayList<T>();
+        private CompletableFuture<List<T>> result = new CompletableFuture<List<T>>();
+
+        public DemandControlledSubscriber(long initialDemand, int cancelAfterCount) {
+            this.initialDemand = initialDemand;
+            this.cancelAfterCount = cancelAfterCount;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+
+            this.subscription = subscription;
+            subscription.request(initialDemand);
+        }
+
+        @Override
+        public synchronized void onNext(T item) {
+
+            elements.add(item);
+            if (elements.size() == cancelAfterCount) {
+                subscription.cancel();
+            }
+            notifyAll();
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            result.completeExceptionally(throwable);
+        }
+
+        @Override
+        public synchronized void onComplete() {
+            result.complete(new ArrayList<T>(elements));
+        }
+
+        public synchronized List<T> getElements() {
+            return new ArrayList<T>(elements);
+        }
+
+        public synchronized void awaitElementCount(int count) throws InterruptedException {
+
+            long deadline = System.currentTimeMillis() + 10000;
+            while (elements.size() < count && System.currentTimeMillis() < deadline) {
+                wait(100);
+            }
+        }
+    }
+
+    //#endregion
+}
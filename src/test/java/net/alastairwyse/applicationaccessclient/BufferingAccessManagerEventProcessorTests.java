@@ -0,0 +1,411 @@
+package net.alastairwyse.applicationaccessclient;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for the net.alastairwyse.applicationaccessclient.BufferingAccessManagerEventProcessor class.
+ */
+public class BufferingAccessManagerEventProcessorTests {
+
+    private List<String> processedEvents;
+    private List<Exception> handledExceptions;
+    private List<String> failedEvents;
+    private AccessManagerEventProcessor<String, String, ApplicationScreen, AccessLevel> mockEventProcessor;
+    private BufferingAccessManagerEventProcessor<String, String, ApplicationScreen, AccessLevel> testBufferingAccessManagerEventProcessor;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+
+        processedEvents = Collections.synchronizedList(new ArrayList<String>());
+        handledExceptions = Collections.synchronizedList(new ArrayList<Exception>());
+        failedEvents = Collections.synchronizedList(new ArrayList<String>());
+        mockEventProcessor = (AccessManagerEventProcessor<String, String, ApplicationScreen, AccessLevel>)Proxy.newProxyInstance(
+            AccessManagerEventProcessor.class.getClassLoader(),
+            new Class<?>[] { AccessManagerEventProcessor.class },
+            (proxy, method, args) -> {
+                if (args[0].equals("invalid")) {
+                    throw new IllegalArgumentException("Parameter 'user' with value 'invalid' is invalid.");
+                }
+                processedEvents.add(method.getName() + "(" + String.join(", ", List.of(args).stream().map(Object::toString).toList()) + ")");
+                return null;
+            }
+        );
+        testBufferingAccessManagerEventProcessor = new BufferingAccessManagerEventProcessor<String, String, ApplicationScreen, AccessLevel>(
+            mockEventProcessor,
+            100,
+            Duration.ofHours(1),
+            4,
+            1000,
+            (BufferedEventDescription description, Exception e) -> handleException(description, e)
+        );
+    }
+
+    @After
+    public void tearDown() {
+        testBufferingAccessManagerEventProcessor.close();
+    }
+
+    @Test
+    public void constructor_BatchSizeLessThan1() {
+
+        var e = assertThrows(IllegalArgumentException.class, () -> {
+            new BufferingAccessManagerEventProcessor<String, String, ApplicationScreen, AccessLevel>(mockEventProcessor, 0, Duration.ofSeconds(1), 1, 1000, (BufferedEventDescription description, Exception exception) -> {});
+        });
+
+        assertTrue(e.getMessage().contains("Parameter 'batchSize' with value 0 must be greater than 0."));
+    }
+
+    @Test
+    public void constructor_ConcurrencyLessThan1() {
+
+        var e = assertThrows(IllegalArgumentException.class, () -> {
+            new BufferingAccessManagerEventProcessor<String, String, ApplicationScreen, AccessLevel>(mockEventProcessor, 1, Duration.ofSeconds(1), 0, 1000, (BufferedEventDescription description, Exception exception) -> {});
+        });
+
+        assertTrue(e.getMessage().contains("Parameter 'concurrency' with value 0 must be greater than 0."));
+    }
+
+    @Test
+    public void constructor_ExceptionHandlerNull() {
+
+        var e = assertThrows(IllegalArgumentException.class, () -> {
+            new BufferingAccessManagerEventProcessor<String, String, ApplicationScreen, AccessLevel>(mockEventProcessor, 1, Duration.ofSeconds(1), 1, 1000, null);
+        });
+
+        assertTrue(e.getMessage().contains("Parameter 'exceptionHandler' cannot be null."));
+    }
+
+    @Test
+    public void constructor_CapacityLessThan1() {
+
+        var e = assertThrows(IllegalArgumentException.class, () -> {
+            new BufferingAccessManagerEventProcessor<String, String, ApplicationScreen, AccessLevel>(mockEventProcessor, 1, Duration.ofSeconds(1), 1, 0, (BufferedEventDescription description, Exception exception) -> {});
+        });
+
+        assertTrue(e.getMessage().contains("Parameter 'capacity' with value 0 must be greater than 0."));
+    }
+
+    @Test
+    public void bufferEvent_EventsNotProcessedUntilFlushed() throws Exception {
+
+        testBufferingAccessManagerEventProcessor.addUser("user1");
+        Thread.sleep(50);
+
+        assertEquals(0, processedEvents.size());
+
+        testBufferingAccessManagerEventProcessor.flush();
+
+        assertEquals(List.of("addUser(user1)"), processedEvents);
+    }
+
+    @Test
+    public void flush_PerElementOrderingPreserved() throws Exception {
+
+        for (int i = 0; i < 20; i++) {
+            testBufferingAccessManagerEventProcessor.addUser("user" + i);
+            testBufferingAccessManagerEventProcessor.addUserToGroupMapping("user" + i, "group1");
+            testBufferingAccessManagerEventProcessor.addUserToEntityMapping("user" + i, "ClientAccount", "CompanyA");
+            testBufferingAccessManagerEventProcessor.removeUser("user" + i);
+        }
+
+        testBufferingAccessManagerEventProcessor.flush();
+
+        assertEquals(80, processedEvents.size());
+        for (int i = 0; i < 20; i++) {
+            int addUserIndex = processedEvents.indexOf("addUser(user" + i + ")");
+            int addUserToGroupMappingIndex = processedEvents.indexOf("addUserToGroupMapping(user" + i + ", group1)");
+            int addUserToEntityMappingIndex = processedEvents.indexOf("addUserToEntityMapping(user" + i + ", ClientAccount, CompanyA)");
+            int removeUserIndex = processedEvents.indexOf("removeUser(user" + i + ")");
+            assertTrue(addUserIndex < addUserToGroupMappingIndex);
+            assertTrue(addUserToGroupMappingIndex < addUserToEntityMappingIndex);
+            assertTrue(addUserToEntityMappingIndex < removeUserIndex);
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void flush_DependentElementOrderingPreserved() throws Exception {
+
+        // Processing of element add events is delayed, so that dependent mapping events would be processed first if processed concurrently
+        var slowEventProcessor = (AccessManagerEventProcessor<String, String, ApplicationScreen, AccessLevel>)Proxy.newProxyInstance(
+            AccessManagerEventProcessor.class.getClassLoader(),
+            new Class<?>[] { AccessManagerEventProcessor.class },
+            (proxy, method, args) -> {
+                if (method.getName().equals("addGroup") || method.getName().equals("addEntity")) {
+                    Thread.sleep(100);
+                }
+                processedEvents.add(method.getName() + "(" + String.join(", ", List.of(args).stream().map(Object::toString).toList()) + ")");
+                return null;
+            }
+        );
+        testBufferingAccessManagerEventProcessor.close();
+        testBufferingAccessManagerEventProcessor = new BufferingAccessManagerEventProcessor<String, String, ApplicationScreen, AccessLevel>(
+            slowEventProcessor,
+            1,
+            Duration.ofHours(1),
+            2,
+            1000,
+            (BufferedEventDescription description, Exception e) -> handleException(description, e)
+        );
+        // 'user2' and 'group1', and 'user2' and 'ClientAccount' have hash codes which would assign them to different workers
+        assertNotEquals(Math.floorMod("user2".hashCode(), 2), Math.floorMod("group1".hashCode(), 2));
+        assertNotEquals(Math.floorMod("user2".hashCode(), 2), Math.floorMod("ClientAccount".hashCode(), 2));
+
+        testBufferingAccessManagerEventProcessor.addGroup("group1");
+        testBufferingAccessManagerEventProcessor.addUserToGroupMapping("user2", "group1");
+        testBufferingAccessManagerEventProcessor.addEntity("ClientAccount", "CompanyA");
+        testBufferingAccessManagerEventProcessor.addUserToEntityMapping("user2", "ClientAccount", "CompanyA");
+        testBufferingAccessManagerEventProcessor.flush();
+
+        assertEquals(4, processedEvents.size());
+        assertTrue(processedEvents.indexOf("addGroup(group1)") < processedEvents.indexOf("addUserToGroupMapping(user2, group1)"));
+        assertTrue(processedEvents.indexOf("addEntity(ClientAccount, CompanyA)") < processedEvents.indexOf("addUserToEntityMapping(user2, ClientAccount, CompanyA)"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void flush_IndependentEventsProcessedConcurrently() throws Exception {
+
+        var concurrentEventCount = new AtomicInteger(0);
+        var maximumConcurrentEventCount = new AtomicInteger(0);
+        var concurrentEventProcessor = (AccessManagerEventProcessor<String, String, ApplicationScreen, AccessLevel>)Proxy.newProxyInstance(
+            AccessManagerEventProcessor.class.getClassLoader(),
+            new Class<?>[] { AccessManagerEventProcessor.class },
+            (proxy, method, args) -> {
+                int currentCount = concurrentEventCount.incrementAndGet();
+                maximumConcurrentEventCount.accumulateAndGet(currentCount, Math::max);
+                Thread.sleep(50);
+                concurrentEventCount.decrementAndGet();
+                return null;
+            }
+        );
+        testBufferingAccessManagerEventProcessor.close();
+        testBufferingAccessManagerEventProcessor = new BufferingAccessManagerEventProcessor<String, String, ApplicationScreen, AccessLevel>(
+            concurrentEventProcessor,
+            1,
+            Duration.ofHours(1),
+            2,
+            1000,
+            (BufferedEventDescription description, Exception e) -> handleException(description, e)
+        );
+
+        testBufferingAccessManagerEventProcessor.addUserToGroupMapping("user1", "group1");
+        testBufferingAccessManagerEventProcessor.addUserToGroupMapping("user2", "group1");
+        testBufferingAccessManagerEventProcessor.flush();
+
+        assertEquals(2, maximumConcurrentEventCount.get());
+    }
+
+    @Test
+    public void bufferEvent_BatchSizeReached() throws Exception {
+
+        testBufferingAccessManagerEventProcessor.close();
+        testBufferingAccessManagerEventProcessor = new BufferingAccessManagerEventProcessor<String, String, ApplicationScreen, AccessLevel>(
+            mockEventProcessor,
+            2,
+            Duration.ofHours(1),
+            1,
+            1000,
+            (BufferedEventDescription description, Exception e) -> handleException(description, e)
+        );
+
+        testBufferingAccessManagerEventProcessor.addGroup("group1");
+        testBufferingAccessManagerEventProcessor.addGroup("group2");
+        long endTime = System.currentTimeMillis() + 5000;
+        while (processedEvents.size() < 2 && System.currentTimeMillis() < endTime) {
+            Thread.sleep(5);
+        }
+
+        assertEquals(List.of("addGroup(group1)", "addGroup(group2)"), processedEvents);
+    }
+
+    @Test
+    public void bufferEvent_FlushIntervalElapsed() throws Exception {
+
+        testBufferingAccessManagerEventProcessor.close();
+        testBufferingAccessManagerEventProcessor = new BufferingAccessManagerEventProcessor<String, String, ApplicationScreen, AccessLevel>(
+            mockEventProcessor,
+            100,
+            Duration.ofMillis(20),
+            2,
+            1000,
+            (BufferedEventDescription description, Exception e) -> handleException(description, e)
+        );
+
+        testBufferingAccessManagerEventProcessor.addEntityType("ClientAccount");
+        long endTime = System.currentTimeMillis() + 5000;
+        while (processedEvents.size() < 1 && System.currentTimeMillis() < endTime) {
+            Thread.sleep(5);
+        }
+
+        assertEquals(List.of("addEntityType(ClientAccount)"), processedEvents);
+    }
+
+    @Test
+    public void flush_ExceptionPassedToHandler() throws Exception {
+
+        testBufferingAccessManagerEventProcessor.addUser("invalid");
+        testBufferingAccessManagerEventProcessor.addUser("user1");
+
+        testBufferingAccessManagerEventProcessor.flush();
+
+        assertEquals(1, handledExceptions.size());
+        assertTrue(handledExceptions.get(0).getMessage().contains("Parameter 'user' with value 'invalid' is invalid."));
+        assertEquals(List.of("addUser(invalid)"), failedEvents);
+        assertEquals(List.of("addUser(user1)"), processedEvents);
+    }
+
+    @Test
+    public void flush_ExceptionHandlerThrowsException() throws Exception {
+
+        testBufferingAccessManagerEventProcessor.close();
+        testBufferingAccessManagerEventProcessor = new BufferingAccessManagerEventProcessor<String, String, ApplicationScreen, AccessLevel>(
+            mockEventProcessor,
+            100,
+            Duration.ofHours(1),
+            1,
+            1000,
+            (BufferedEventDescription description, Exception e) -> { throw new IllegalStateException("Exception handler failed."); }
+        );
+
+        testBufferingAccessManagerEventProcessor.addUser("invalid");
+        testBufferingAccessManagerEventProcessor.addUser("user1");
+        testBufferingAccessManagerEventProcessor.flush();
+        testBufferingAccessManagerEventProcessor.addUser("user2");
+        testBufferingAccessManagerEventProcessor.flush();
+
+        assertEquals(List.of("addUser(user1)", "addUser(user2)"), processedEvents);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void flush_ErrorPassedToHandler() throws Exception {
+
+        var failingEventProcessor = (AccessManagerEventProcessor<String, String, ApplicationScreen, AccessLevel>)Proxy.newProxyInstance(
+            AccessManagerEventProcessor.class.getClassLoader(),
+            new Class<?>[] { AccessManagerEventProcessor.class },
+            (proxy, method, args) -> {
+                if (args[0].equals("invalid")) {
+                    throw new AssertionError("Event processor failed.");
+                }
+                processedEvents.add(method.getName() + "(" + String.join(", ", List.of(args).stream().map(Object::toString).toList()) + ")");
+                return null;
+            }
+        );
+        testBufferingAccessManagerEventProcessor.close();
+        testBufferingAccessManagerEventProcessor = new BufferingAccessManagerEventProcessor<String, String, ApplicationScreen, AccessLevel>(
+            failingEventProcessor,
+            100,
+            Duration.ofHours(1),
+            1,
+            1000,
+            (BufferedEventDescription description, Exception e) -> handleException(description, e)
+        );
+
+        testBufferingAccessManagerEventProcessor.addUser("invalid");
+        testBufferingAccessManagerEventProcessor.addUser("user1");
+        testBufferingAccessManagerEventProcessor.flush();
+
+        assertEquals(1, handledExceptions.size());
+        assertTrue(handledExceptions.get(0).getCause() instanceof AssertionError);
+        assertEquals(List.of("addUser(user1)"), processedEvents);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void bufferEvent_CapacityReached() throws Exception {
+
+        var processingLatch = new CountDownLatch(1);
+        var blockingEventProcessor = (AccessManagerEventProcessor<String, String, ApplicationScreen, AccessLevel>)Proxy.newProxyInstance(
+            AccessManagerEventProcessor.class.getClassLoader(),
+            new Class<?>[] { AccessManagerEventProcessor.class },
+            (proxy, method, args) -> {
+                processingLatch.await();
+                processedEvents.add(method.getName() + "(" + String.join(", ", List.of(args).stream().map(Object::toString).toList()) + ")");
+                return null;
+            }
+        );
+        testBufferingAccessManagerEventProcessor.close();
+        testBufferingAccessManagerEventProcessor = new BufferingAccessManagerEventProcessor<String, String, ApplicationScreen, AccessLevel>(
+            blockingEventProcessor,
+            100,
+            Duration.ofHours(1),
+            1,
+            1,
+            (BufferedEventDescription description, Exception e) -> handleException(description, e)
+        );
+        // The first event is taken by the worker as soon as the buffer is full, and the second event fills the buffer
+        testBufferingAccessManagerEventProcessor.addUser("user1");
+        testBufferingAccessManagerEventProcessor.addUser("user2");
+        var bufferingThread = new Thread(() -> testBufferingAccessManagerEventProcessor.addUser("user3"));
+
+        bufferingThread.start();
+        bufferingThread.join(200);
+
+        assertTrue(bufferingThread.isAlive());
+
+        processingLatch.countDown();
+        bufferingThread.join(5000);
+        testBufferingAccessManagerEventProcessor.flush();
+
+        assertFalse(bufferingThread.isAlive());
+        assertEquals(List.of("addUser(user1)", "addUser(user2)", "addUser(user3)"), processedEvents);
+    }
+
+    @Test
+    public void close_BufferedEventsProcessed() {
+
+        testBufferingAccessManagerEventProcessor.addUser("user1");
+        testBufferingAccessManagerEventProcessor.addGroup("group1");
+
+        testBufferingAccessManagerEventProcessor.close();
+
+        assertEquals(2, processedEvents.size());
+        assertTrue(processedEvents.contains("addUser(user1)"));
+        assertTrue(processedEvents.contains("addGroup(group1)"));
+    }
+
+    @Test
+    public void bufferEvent_Closed() {
+
+        testBufferingAccessManagerEventProcessor.close();
+
+        var e = assertThrows(IllegalStateException.class, () -> {
+            testBufferingAccessManagerEventProcessor.addUser("user1");
+        });
+
+        assertTrue(e.getMessage().contains("The event processor has been closed."));
+    }
+
+    //#region Private/Protected Methods
+
+    /**
+     * Records an exception passed to the exception handler, and the event which failed.
+     *
+     * @param description Describes the event which failed.
+     * @param e The exception.
+     */
+    private void handleException(BufferedEventDescription description, Exception e) {
+        failedEvents.add(description.toString());
+        handledExceptions.add(e);
+    }
+
+    //#endregion
+}
@@ -0,0 +1,199 @@
+package net.alastairwyse.applicationaccessclient;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for the net.alastairwyse.applicationaccessclient.CacheInvalidatingAccessManagerEventProcessor class.
+ */
+public class CacheInvalidatingAccessManagerEventProcessorTests {
+
+    private List<String> processedEvents;
+    private List<String> invalidations;
+    private AccessManagerEventProcessor<String, String, ApplicationScreen, AccessLevel> mockEventProcessor;
+    private AccessManagerQueryProcessor<String, String, ApplicationScreen, AccessLevel> mockQueryProcessor;
+    private AccessDecisionCache<String, ApplicationScreen, AccessLevel> recordingCache;
+    private CacheInvalidatingAccessManagerEventProcessor<String, String, ApplicationScreen, AccessLevel> testCacheInvalidatingAccessManagerEventProcessor;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+
+        processedEvents = new ArrayList<String>();
+        invalidations = new ArrayList<String>();
+        mockEventProcessor = (AccessManagerEventProcessor<String, String, ApplicationScreen, AccessLevel>)Proxy.newProxyInstance(
+            AccessManagerEventProcessor.class.getClassLoader(),
+            new Class<?>[] { AccessManagerEventProcessor.class },
+            (proxy, method, args) -> {
+                processedEvents.add(method.getName());
+                return null;
+            }
+        );
+        mockQueryProcessor = (AccessManagerQueryProcessor<String, String, ApplicationScreen, AccessLevel>)Proxy.newProxyInstance(
+            AccessManagerQueryProcessor.class.getClassLoader(),
+            new Class<?>[] { AccessManagerQueryProcessor.class },
+            (proxy, method, args) -> {
+                processedEvents.add(method.getName() + "(" + args[0] + ")");
+                return List.of("user1", "user2");
+            }
+        );
+        recordingCache = new AccessDecisionCache<String, ApplicationScreen, AccessLevel>() {
+            public void invalidateUser(String user) { invalidations.add("user:" + user); }
+            public void invalidateUsers(Set<String> users) { invalidations.add("users:" + new TreeSet<String>(users)); }
+            public void invalidateAllUsers() { invalidations.add("allUsers"); }
+            public void invalidateApplicationComponent(String user, ApplicationScreen applicationComponent, AccessLevel accessLevel) { invalidations.add("applicationComponent:" + user + ":" + applicationComponent + ":" + accessLevel); }
+            public void invalidateApplicationComponent(Set<String> users, ApplicationScreen applicationComponent, AccessLevel accessLevel) { invalidations.add("applicationComponent:" + new TreeSet<String>(users) + ":" + applicationComponent + ":" + accessLevel); }
+            public void invalidateApplicationComponent(ApplicationScreen applicationComponent, AccessLevel accessLevel) { invalidations.add("applicationComponent:" + applicationComponent + ":" + accessLevel); }
+            public void invalidateEntity(String user, String entityType, String entity) { invalidations.add("entity:" + user + ":" + entityType + ":" + entity); }
+            public void invalidateEntity(Set<String> users, String entityType, String entity) { invalidations.add("entity:" + new TreeSet<String>(users) + ":" + entityType + ":" + entity); }
+            public void invalidateEntity(String entityType, String entity) { invalidations.add("entity:" + entityType + ":" + entity); }
+            public void invalidateEntityType(String entityType) { invalidations.add("entityType:" + entityType); }
+        };
+        testCacheInvalidatingAccessManagerEventProcessor = new CacheInvalidatingAccessManagerEventProcessor<String, String, ApplicationScreen, AccessLevel>(
+            mockEventProcessor,
+            List.of(recordingCache)
+        );
+    }
+
+    @Test
+    public void addUserToGroupMapping() throws Exception {
+
+        testCacheInvalidatingAccessManagerEventProcessor.addUserToGroupMapping("user1", "group1");
+
+        assertEquals(List.of("addUserToGroupMapping"), processedEvents);
+        assertEquals(List.of("user:user1"), invalidations);
+    }
+
+    @Test
+    public void removeUserToApplicationComponentAndAccessLevelMapping() throws Exception {
+
+        testCacheInvalidatingAccessManagerEventProcessor.removeUserToApplicationComponentAndAccessLevelMapping("user1", ApplicationScreen.ORDER, AccessLevel.VIEW);
+
+        assertEquals(List.of("removeUserToApplicationComponentAndAccessLevelMapping"), processedEvents);
+        assertEquals(List.of("applicationComponent:user1:ORDER:VIEW"), invalidations);
+    }
+
+    @Test
+    public void removeEntity() throws Exception {
+
+        testCacheInvalidatingAccessManagerEventProcessor.removeEntity("ClientAccount", "Company1");
+
+        assertEquals(List.of("entity:ClientAccount:Company1"), invalidations);
+    }
+
+    @Test
+    public void addEntity_NothingInvalidated() throws Exception {
+
+        testCacheInvalidatingAccessManagerEventProcessor.addEntity("ClientAccount", "Company1");
+
+        assertEquals(List.of("addEntity"), processedEvents);
+        assertEquals(0, invalidations.size());
+    }
+
+    @Test
+    public void removeGroupToGroupMapping_NoQueryProcessor() throws Exception {
+
+        testCacheInvalidatingAccessManagerEventProcessor.removeGroupToGroupMapping("group1", "group2");
+
+        assertEquals(List.of("allUsers"), invalidations);
+    }
+
+    @Test
+    public void removeGroupToGroupMapping_AffectedUsersRetrievedBeforeEventProcessed() throws Exception {
+
+        testCacheInvalidatingAccessManagerEventProcessor = new CacheInvalidatingAccessManagerEventProcessor<String, String, ApplicationScreen, AccessLevel>(
+            mockEventProcessor,
+            mockQueryProcessor,
+            List.of(recordingCache)
+        );
+
+        testCacheInvalidatingAccessManagerEventProcessor.removeGroupToGroupMapping("group1", "group2");
+
+        assertEquals(List.of("getGroupToUserMappings(group1)", "removeGroupToGroupMapping"), processedEvents);
+        assertEquals(List.of("users:[user1, user2]"), invalidations);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void removeGroupToGroupMapping_QueryProcessorThrowsException() throws Exception {
+
+        var failingQueryProcessor = (AccessManagerQueryProcessor<String, String, ApplicationScreen, AccessLevel>)Proxy.newProxyInstance(
+            AccessManagerQueryProcessor.class.getClassLoader(),
+            new Class<?>[] { AccessManagerQueryProcessor.class },
+            (proxy, method, args) -> {
+                throw new IllegalArgumentException("Group 'group1' does not exist.");
+            }
+        );
+        testCacheInvalidatingAccessManagerEventProcessor = new CacheInvalidatingAccessManagerEventProcessor<String, String, ApplicationScreen, AccessLevel>(
+            mockEventProcessor,
+            failingQueryProcessor,
+            List.of(recordingCache)
+        );
+
+        testCacheInvalidatingAccessManagerEventProcessor.removeGroupToGroupMapping("group1", "group2");
+
+        assertEquals(List.of("removeGroupToGroupMapping"), processedEvents);
+        assertEquals(List.of("allUsers"), invalidations);
+    }
+
+    @Test
+    public void removeGroupToGroupMapping_NoCaches() throws Exception {
+
+        testCacheInvalidatingAccessManagerEventProcessor = new CacheInvalidatingAccessManagerEventProcessor<String, String, ApplicationScreen, AccessLevel>(
+            mockEventProcessor,
+            mockQueryProcessor,
+            List.of()
+        );
+
+        testCacheInvalidatingAccessManagerEventProcessor.removeGroupToGroupMapping("group1", "group2");
+
+        assertEquals(List.of("removeGroupToGroupMapping"), processedEvents);
+    }
+
+    @Test
+    public void addGroupToApplicationComponentAndAccessLevelMapping() throws Exception {
+
+        testCacheInvalidatingAccessManagerEventProcessor.addGroupToApplicationComponentAndAccessLevelMapping("group1", ApplicationScreen.ORDER, AccessLevel.VIEW);
+
+        assertEquals(List.of("applicationComponent:ORDER:VIEW"), invalidations);
+
+        invalidations.clear();
+        testCacheInvalidatingAccessManagerEventProcessor = new CacheInvalidatingAccessManagerEventProcessor<String, String, ApplicationScreen, AccessLevel>(
+            mockEventProcessor,
+            mockQueryProcessor,
+            List.of(recordingCache)
+        );
+
+        testCacheInvalidatingAccessManagerEventProcessor.addGroupToApplicationComponentAndAccessLevelMapping("group1", ApplicationScreen.ORDER, AccessLevel.VIEW);
+
+        assertEquals(List.of("applicationComponent:[user1, user2]:ORDER:VIEW"), invalidations);
+    }
+
+    @Test
+    public void removeUser_EventProcessorThrowsException() {
+
+        testCacheInvalidatingAccessManagerEventProcessor = new CacheInvalidatingAccessManagerEventProcessor<String, String, ApplicationScreen, AccessLevel>(
+            new CacheInvalidatingAccessManagerEventProcessor<String, String, ApplicationScreen, AccessLevel>(mockEventProcessor, List.of()) {
+                @Override
+                public void removeUser(String user) {
+                    throw new IllegalArgumentException("Mock exception");
+                }
+            },
+            List.of(recordingCache)
+        );
+
+        assertThrows(IllegalArgumentException.class, () -> {
+            testCacheInvalidatingAccessManagerEventProcessor.removeUser("user1");
+        });
+        assertEquals(0, invalidations.size());
+    }
+}
@@ -0,0 +1,105 @@
+package net.alastairwyse.applicationaccessclient;
+
+import java.time.Duration;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for the net.alastairwyse.applicationaccessclient.CachingAccessManagerQueryProcessor class.
+ */
+public class CachingAccessManagerQueryProcessorTests {
+
+    private int hasAccessToApplicationComponentCallCount;
+    private Runnable queryAction;
+    private CachingAccessManagerQueryProcessor<String, String, ApplicationScreen, AccessLevel> testCachingAccessManagerQueryProcessor;
+
+    @Before
+    public void setUp() {
+
+        hasAccessToApplicationComponentCallCount = 0;
+        queryAction = () -> { };
+        var decoratedQueryProcessor = new AccessManagerQueryProcessorDecoratorBase<String, String, ApplicationScreen, AccessLevel>(null) {
+            @Override
+            public boolean hasAccessToApplicationComponent(String user, ApplicationScreen applicationComponent, AccessLevel accessLevel) {
+                hasAccessToApplicationComponentCallCount++;
+                queryAction.run();
+                return (user.equals("user1") && applicationComponent == ApplicationScreen.ORDER && accessLevel == AccessLevel.VIEW);
+            }
+        };
+        testCachingAccessManagerQueryProcessor = new CachingAccessManagerQueryProcessor<String, String, ApplicationScreen, AccessLevel>(
+            decoratedQueryProcessor,
+            2,
+            Duration.ofHours(1)
+        );
+    }
+
+    @Test
+    public void hasAccessToApplicationComponent_RepeatedCallAnsweredFromCache() throws Exception {
+
+        assertTrue(testCachingAccessManagerQueryProcessor.hasAccessToApplicationComponent("user1", ApplicationScreen.ORDER, AccessLevel.VIEW));
+        assertTrue(testCachingAccessManagerQueryProcessor.hasAccessToApplicationComponent("user1", ApplicationScreen.ORDER, AccessLevel.VIEW));
+        assertFalse(testCachingAccessManagerQueryProcessor.hasAccessToApplicationComponent("user1", ApplicationScreen.ORDER, AccessLevel.MODIFY));
+        assertFalse(testCachingAccessManagerQueryProcessor.hasAccessToApplicationComponent("user1", ApplicationScreen.ORDER, AccessLevel.MODIFY));
+
+        assertEquals(2, hasAccessToApplicationComponentCallCount);
+        assertEquals(2, testCachingAccessManagerQueryProcessor.getCacheHitCount());
+        assertEquals(2, testCachingAccessManagerQueryProcessor.getCacheMissCount());
+        assertEquals(0, testCachingAccessManagerQueryProcessor.getCacheEvictionCount());
+    }
+
+    @Test
+    public void hasAccessToApplicationComponent_CacheFull() throws Exception {
+
+        testCachingAccessManagerQueryProcessor.hasAccessToApplicationComponent("user1", ApplicationScreen.ORDER, AccessLevel.VIEW);
+        testCachingAccessManagerQueryProcessor.hasAccessToApplicationComponent("user2", ApplicationScreen.ORDER, AccessLevel.VIEW);
+        testCachingAccessManagerQueryProcessor.hasAccessToApplicationComponent("user3", ApplicationScreen.ORDER, AccessLevel.VIEW);
+        testCachingAccessManagerQueryProcessor.hasAccessToApplicationComponent("user1", ApplicationScreen.ORDER, AccessLevel.VIEW);
+
+        assertEquals(4, hasAccessToApplicationComponentCallCount);
+        assertEquals(0, testCachingAccessManagerQueryProcessor.getCacheHitCount());
+        assertEquals(4, testCachingAccessManagerQueryProcessor.getCacheMissCount());
+        assertEquals(2, testCachingAccessManagerQueryProcessor.getCacheEvictionCount());
+    }
+
+    @Test
+    public void hasAccessToApplicationComponent_InvalidatedDuringQuery() throws Exception {
+
+        // Simulates a write (and resulting invalidation) made after the query processor produced its result, but before the result is cached
+        queryAction = () -> testCachingAccessManagerQueryProcessor.invalidateUser("user2");
+
+        testCachingAccessManagerQueryProcessor.hasAccessToApplicationComponent("user1", ApplicationScreen.ORDER, AccessLevel.VIEW);
+        queryAction = () -> { };
+        testCachingAccessManagerQueryProcessor.hasAccessToApplicationComponent("user1", ApplicationScreen.ORDER, AccessLevel.VIEW);
+        testCachingAccessManagerQueryProcessor.hasAccessToApplicationComponent("user1", ApplicationScreen.ORDER, AccessLevel.VIEW);
+
+        assertEquals(2, hasAccessToApplicationComponentCallCount);
+        assertEquals(1, testCachingAccessManagerQueryProcessor.getCacheHitCount());
+    }
+
+    @Test
+    public void invalidateUsers() throws Exception {
+
+        testCachingAccessManagerQueryProcessor = new CachingAccessManagerQueryProcessor<String, String, ApplicationScreen, AccessLevel>(
+            testCachingAccessManagerQueryProcessor.queryProcessor,
+            10,
+            Duration.ofHours(1)
+        );
+        testCachingAccessManagerQueryProcessor.hasAccessToApplicationComponent("user1", ApplicationScreen.ORDER, AccessLevel.VIEW);
+        testCachingAccessManagerQueryProcessor.hasAccessToApplicationComponent("user2", ApplicationScreen.ORDER, AccessLevel.VIEW);
+        testCachingAccessManagerQueryProcessor.hasAccessToApplicationComponent("user3", ApplicationScreen.ORDER, AccessLevel.VIEW);
+
+        testCachingAccessManagerQueryProcessor.invalidateUsers(Set.of("user1", "user3"));
+        testCachingAccessManagerQueryProcessor.hasAccessToApplicationComponent("user1", ApplicationScreen.ORDER, AccessLevel.VIEW);
+        testCachingAccessManagerQueryProcessor.hasAccessToApplicationComponent("user2", ApplicationScreen.ORDER, AccessLevel.VIEW);
+        testCachingAccessManagerQueryProcessor.hasAccessToApplicationComponent("user3", ApplicationScreen.ORDER, AccessLevel.VIEW);
+
+        assertEquals(5, hasAccessToApplicationComponentCallCount);
+        assertEquals(1, testCachingAccessManagerQueryProcessor.getCacheHitCount());
+    }
+}
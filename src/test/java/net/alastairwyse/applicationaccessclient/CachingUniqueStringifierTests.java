@@ -0,0 +1,148 @@
+package net.alastairwyse.applicationaccessclient;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for the net.alastairwyse.applicationaccessclient.CachingUniqueStringifier class.
+ */
+public class CachingUniqueStringifierTests {
+
+    private CountingStringifier countingStringifier;
+    private CachingUniqueStringifier<ApplicationScreen> testCachingUniqueStringifier;
+
+    @Before
+    public void setUp() {
+        countingStringifier = new CountingStringifier();
+        testCachingUniqueStringifier = new CachingUniqueStringifier<ApplicationScreen>(countingStringifier, 3);
+    }
+
+    @Test
+    public void constructor_MaxWeightLessThan1() {
+
+        var e = assertThrows(IllegalArgumentException.class, () -> {
+            new CachingUniqueStringifier<ApplicationScreen>(countingStringifier, 0);
+        });
+
+        assertTrue(e.getMessage().contains("Parameter 'maxWeight' with value 0 must be greater than 0."));
+    }
+
+    @Test
+    public void fromString() {
+
+        assertSame(ApplicationScreen.ORDER, testCachingUniqueStringifier.fromString("ORDER"));
+        assertSame(ApplicationScreen.ORDER, testCachingUniqueStringifier.fromString("ORDER"));
+        assertSame(ApplicationScreen.ORDER, testCachingUniqueStringifier.fromString("ORDER"));
+
+        assertEquals(1, countingStringifier.fromStringCount);
+        assertEquals(2, testCachingUniqueStringifier.getHitCount());
+        assertEquals(1, testCachingUniqueStringifier.getMissCount());
+        assertEquals(2.0 / 3.0, testCachingUniqueStringifier.getHitRate(), 0.000001);
+    }
+
+    @Test
+    public void toString_PopulatedByFromString() {
+
+        testCachingUniqueStringifier.fromString("SUMMARY");
+
+        assertEquals("SUMMARY", testCachingUniqueStringifier.toString(ApplicationScreen.SUMMARY));
+
+        assertEquals(0, countingStringifier.toStringCount);
+        assertEquals(1, testCachingUniqueStringifier.getHitCount());
+    }
+
+    @Test
+    public void fromString_PopulatedByToString() {
+
+        testCachingUniqueStringifier.toString(ApplicationScreen.SETTINGS);
+
+        assertSame(ApplicationScreen.SETTINGS, testCachingUniqueStringifier.fromString("SETTINGS"));
+
+        assertEquals(0, countingStringifier.fromStringCount);
+    }
+
+    @Test
+    public void fromString_MaxWeightExceeded() {
+
+        testCachingUniqueStringifier.fromString("ORDER");
+        testCachingUniqueStringifier.fromString("SUMMARY");
+        testCachingUniqueStringifier.fromString("SETTINGS");
+        testCachingUniqueStringifier.fromString("DELIVERY");
+
+        // Each direction evicts one entry
+        assertEquals(2, testCachingUniqueStringifier.getEvictionCount());
+        int fromStringCountBefore = countingStringifier.fromStringCount;
+        for (String currentName : new String[] { "ORDER", "SUMMARY", "SETTINGS", "DELIVERY" }) {
+            testCachingUniqueStringifier.fromString(currentName);
+        }
+        assertTrue(countingStringifier.fromStringCount > fromStringCountBefore);
+    }
+
+    @Test
+    public void fromString_Weigher() {
+
+        testCachingUniqueStringifier = new CachingUniqueStringifier<ApplicationScreen>(
+            countingStringifier,
+            10,
+            (String stringifiedObject, ApplicationScreen inputObject) -> stringifiedObject.length()
+        );
+
+        // 'MANAGE_PRODUCTS' has weight 15, so is never cached
+        testCachingUniqueStringifier.fromString("MANAGE_PRODUCTS");
+        testCachingUniqueStringifier.fromString("MANAGE_PRODUCTS");
+        // 'ORDER' and 'REVIEW' have total weight 11, so one is evicted
+        testCachingUniqueStringifier.fromString("ORDER");
+        testCachingUniqueStringifier.fromString("REVIEW");
+
+        assertEquals(4, countingStringifier.fromStringCount);
+        assertEquals(0, testCachingUniqueStringifier.getHitCount());
+        assertEquals(2, testCachingUniqueStringifier.getEvictionCount());
+    }
+
+    @Test
+    public void clear() {
+
+        testCachingUniqueStringifier.fromString("ORDER");
+
+        testCachingUniqueStringifier.clear();
+        testCachingUniqueStringifier.fromString("ORDER");
+
+        assertEquals(2, countingStringifier.fromStringCount);
+    }
+
+    @Test
+    public void getHitRate_NoConversions() {
+
+        assertEquals(0.0, testCachingUniqueStringifier.getHitRate(), 0.0);
+    }
+
+    //#region Inner Classes
+
+    /**
+     * Stringifier for the ApplicationScreen enum which counts conversions.
+     */
+    private static class CountingStringifier implements UniqueStringifier<ApplicationScreen> {
+
+        public int toStringCount = 0;
+        public int fromStringCount = 0;
+
+        @Override
+        public String toString(ApplicationScreen inputObject) {
+            toStringCount++;
+            return inputObject.name();
+        }
+
+        @Override
+        public ApplicationScreen fromString(String stringifiedObject) {
+            fromStringCount++;
+            return ApplicationScreen.valueOf(stringifiedObject);
+        }
+    }
+
+    //#endregion
+}
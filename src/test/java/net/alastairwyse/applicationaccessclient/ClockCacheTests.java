@@ -0,0 +1,87 @@
+package net.alastairwyse.applicationaccessclient;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for the net.alastairwyse.applicationaccessclient.ClockCache class.
+ */
+public class ClockCacheTests {
+
+    private ClockCache<String, String> testClockCache;
+
+    @Before
+    public void setUp() {
+        testClockCache = new ClockCache<String, String>(3);
+    }
+
+    @Test
+    public void constructor_MaxWeightLessThan1() {
+
+        var e = assertThrows(IllegalArgumentException.class, () -> {
+            new ClockCache<String, String>(0);
+        });
+
+        assertTrue(e.getMessage().contains("Parameter 'maxWeight' with value 0 must be greater than 0."));
+    }
+
+    @Test
+    public void put_MaxWeightExceeded() {
+
+        testClockCache.put("user1", "value1", 1);
+        testClockCache.put("user2", "value2", 1);
+        testClockCache.put("user3", "value3", 1);
+        testClockCache.get("user1");
+        testClockCache.get("user2");
+        testClockCache.get("user3");
+
+        testClockCache.put("user4", "value4", 1);
+
+        assertEquals(3, testClockCache.size());
+        assertEquals(1, testClockCache.getEvictionCount());
+    }
+
+    @Test
+    public void put_ReferencedEntriesRetained() {
+
+        testClockCache.put("user1", "value1", 1);
+        testClockCache.put("user2", "value2", 1);
+        testClockCache.get("user1");
+        testClockCache.get("user2");
+
+        testClockCache.put("user3", "value3", 1);
+        testClockCache.put("user4", "value4", 1);
+
+        assertEquals("value1", testClockCache.get("user1"));
+        assertEquals("value2", testClockCache.get("user2"));
+        assertEquals(3, testClockCache.size());
+        assertEquals(1, testClockCache.getEvictionCount());
+    }
+
+    @Test
+    public void put_WeightExceedsMaxWeight() {
+
+        testClockCache.put("user1", "value1", 4);
+
+        assertNull(testClockCache.get("user1"));
+        assertEquals(0, testClockCache.size());
+    }
+
+    @Test
+    public void clear() {
+
+        testClockCache.put("user1", "value1", 2);
+        testClockCache.put("user2", "value2", 1);
+
+        testClockCache.clear();
+
+        assertEquals(0, testClockCache.size());
+        assertEquals(0, testClockCache.totalWeight.get());
+        assertNull(testClockCache.get("user1"));
+    }
+}
@@ -0,0 +1,123 @@
+package net.alastairwyse.applicationaccessclient;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for the net.alastairwyse.applicationaccessclient.CompactStringSet class.
+ */
+public class CompactStringSetTests {
+
+    private CompactStringSet testCompactStringSet;
+
+    @Before
+    public void setUp() {
+        testCompactStringSet = new CompactStringSet(List.of("CompanyC", "CompanyA", "Société", "CompanyB", "CompanyA", "", "日本"));
+    }
+
+    @Test
+    public void constructor_NullElement() {
+
+        var values = new ArrayList<String>();
+        values.add("CompanyA");
+        values.add(null);
+
+        var e = assertThrows(IllegalArgumentException.class, () -> {
+            new CompactStringSet(values);
+        });
+
+        assertTrue(e.getMessage().contains("Parameter 'values' cannot contain null elements."));
+    }
+
+    @Test
+    public void constructor_UnpairedSurrogate() {
+
+        var e = assertThrows(IllegalArgumentException.class, () -> {
+            new CompactStringSet(List.of("CompanyA", "Company\uD800"));
+        });
+
+        assertTrue(e.getMessage().contains("which cannot be encoded as UTF-8."));
+    }
+
+    @Test
+    public void contains() {
+
+        assertTrue(testCompactStringSet.contains("CompanyA"));
+        assertTrue(testCompactStringSet.contains("CompanyB"));
+        assertTrue(testCompactStringSet.contains("CompanyC"));
+        assertTrue(testCompactStringSet.contains("Société"));
+        assertTrue(testCompactStringSet.contains("日本"));
+        assertTrue(testCompactStringSet.contains(""));
+        assertFalse(testCompactStringSet.contains("Company"));
+        assertFalse(testCompactStringSet.contains("CompanyD"));
+        assertFalse(testCompactStringSet.contains("companyA"));
+        assertFalse(testCompactStringSet.contains(null));
+        assertFalse(testCompactStringSet.contains(1));
+    }
+
+    @Test
+    public void contains_UnpairedSurrogate() {
+
+        var questionMarkSet = new CompactStringSet(List.of("Company?"));
+
+        assertTrue(questionMarkSet.contains("Company?"));
+        assertFalse(questionMarkSet.contains("Company\uD800"));
+        assertFalse(questionMarkSet.contains("Company\uDC00"));
+    }
+
+    @Test
+    public void contains_EmptySet() {
+
+        testCompactStringSet = new CompactStringSet(List.of());
+
+        assertFalse(testCompactStringSet.contains("CompanyA"));
+        assertEquals(0, testCompactStringSet.size());
+        assertFalse(testCompactStringSet.iterator().hasNext());
+    }
+
+    @Test
+    public void size() {
+
+        assertEquals(6, testCompactStringSet.size());
+    }
+
+    @Test
+    public void iterator() {
+
+        var result = new ArrayList<String>();
+        for (String currentElement : testCompactStringSet) {
+            result.add(currentElement);
+        }
+
+        // Elements are returned in UTF-8 byte order
+        assertEquals(List.of("", "CompanyA", "CompanyB", "CompanyC", "Société", "日本"), result);
+    }
+
+    @Test
+    public void equals() {
+
+        Set<String> expected = new HashSet<String>(List.of("CompanyA", "CompanyB", "CompanyC", "Société", "", "日本"));
+
+        assertEquals(expected, testCompactStringSet);
+        assertEquals(testCompactStringSet, expected);
+        assertEquals(expected.hashCode(), testCompactStringSet.hashCode());
+    }
+
+    @Test
+    public void add_Unsupported() {
+
+        assertThrows(UnsupportedOperationException.class, () -> {
+            testCompactStringSet.add("CompanyD");
+        });
+    }
+}
@@ -0,0 +1,71 @@
+package net.alastairwyse.applicationaccessclient;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for the net.alastairwyse.applicationaccessclient.ElementDictionary class.
+ */
+public class ElementDictionaryTests {
+
+    private ElementDictionary<String> testElementDictionary;
+
+    @Before
+    public void setUp() {
+        testElementDictionary = new ElementDictionary<String>(new StringUniqueStringifier());
+    }
+
+    @Test
+    public void getOrAddId() {
+
+        assertEquals(0, testElementDictionary.getOrAddId("user1"));
+        assertEquals(1, testElementDictionary.getOrAddId("user2"));
+        assertEquals(0, testElementDictionary.getOrAddId(new String("user1")));
+        assertEquals(2, testElementDictionary.size());
+    }
+
+    @Test
+    public void getId() {
+
+        testElementDictionary.getOrAddId("user1");
+
+        assertEquals(0, testElementDictionary.getId("user1"));
+        assertEquals(-1, testElementDictionary.getId("user2"));
+        assertEquals(1, testElementDictionary.size());
+    }
+
+    @Test
+    public void getElement_ReturnsFirstInternedInstance() {
+
+        String user = new String("user1");
+        testElementDictionary.getOrAddId(user);
+        testElementDictionary.getOrAddId(new String("user1"));
+
+        assertSame(user, testElementDictionary.getElement(0));
+    }
+
+    @Test
+    public void getElement_IdDoesntExist() {
+
+        var e = assertThrows(IllegalArgumentException.class, () -> {
+            testElementDictionary.getElement(0);
+        });
+
+        assertEquals("Parameter 'id' with value 0 does not identify an element.", e.getMessage());
+    }
+
+    @Test
+    public void packIds() {
+
+        long packedIds = ElementDictionary.packIds(3, Integer.MAX_VALUE);
+
+        assertEquals(3, ElementDictionary.unpackFirstId(packedIds));
+        assertEquals(Integer.MAX_VALUE, ElementDictionary.unpackSecondId(packedIds));
+        assertTrue(ElementDictionary.packIds(1, 5) < ElementDictionary.packIds(2, 0));
+    }
+}
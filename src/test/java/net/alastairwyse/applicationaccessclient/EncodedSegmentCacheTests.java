@@ -0,0 +1,104 @@
+package net.alastairwyse.applicationaccessclient;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for the net.alastairwyse.applicationaccessclient.EncodedSegmentCache class.
+ */
+public class EncodedSegmentCacheTests {
+
+    private AtomicInteger toStringCallCount;
+
+    @Before
+    public void setUp() {
+        toStringCallCount = new AtomicInteger(0);
+    }
+
+    @Test
+    public void constructor_MaxSizeLessThan1() {
+
+        var e = assertThrows(IllegalArgumentException.class, () -> {
+            new EncodedSegmentCache<String>(new StringUniqueStringifier(), 0);
+        });
+
+        assertTrue(e.getMessage().contains("Parameter 'maxSize' with value 0 must be greater than 0."));
+    }
+
+    @Test
+    public void get() {
+
+        var testEncodedSegmentCache = new EncodedSegmentCache<String>(createCountingStringifier(), 10);
+
+        assertEquals("user%201", testEncodedSegmentCache.get("user 1"));
+        assertEquals("user%201", testEncodedSegmentCache.get("user 1"));
+        assertEquals("user2", testEncodedSegmentCache.get("user2"));
+
+        assertEquals(2, toStringCallCount.get());
+    }
+
+    @Test
+    public void get_MaxSizeReached() {
+
+        var testEncodedSegmentCache = new EncodedSegmentCache<String>(createCountingStringifier(), 2);
+
+        testEncodedSegmentCache.get("user1");
+        testEncodedSegmentCache.get("user1");
+        testEncodedSegmentCache.get("user2");
+        testEncodedSegmentCache.get("user3");
+        testEncodedSegmentCache.get("user1");
+
+        // Frequently used 'user1' is retained when the maximum size is exceeded
+        assertEquals(3, toStringCallCount.get());
+        assertEquals(2, testEncodedSegmentCache.encodedSegments.size());
+    }
+
+    @Test
+    public void get_Enum() {
+
+        var testEncodedSegmentCache = new EncodedSegmentCache<AccessLevel>(new UniqueStringifier<AccessLevel>() {
+            public String toString(AccessLevel inputObject) {
+                toStringCallCount.incrementAndGet();
+                return inputObject == AccessLevel.RESERVED_CHARACTERS ? "!*'();:@&=+$,/?%#[]" : inputObject.toString();
+            }
+            public AccessLevel fromString(String stringifiedObject) {
+                return AccessLevel.valueOf(stringifiedObject);
+            }
+        }, 10);
+
+        assertEquals("VIEW", testEncodedSegmentCache.get(AccessLevel.VIEW));
+        assertEquals("%21%2A%27%28%29%3B%3A%40%26%3D%2B%24%2C%2F%3F%25%23%5B%5D", testEncodedSegmentCache.get(AccessLevel.RESERVED_CHARACTERS));
+        assertEquals("DELETE", testEncodedSegmentCache.get(AccessLevel.DELETE));
+
+        // All constants are encoded on the first call
+        assertEquals(AccessLevel.values().length, toStringCallCount.get());
+    }
+
+    //#region Private/Protected Methods
+
+    /**
+     * Creates a string stringifier which counts calls to its toString() method.
+     *
+     * @return The stringifier.
+     */
+    private UniqueStringifier<String> createCountingStringifier() {
+
+        return new UniqueStringifier<String>() {
+            public String toString(String inputObject) {
+                toStringCallCount.incrementAndGet();
+                return inputObject;
+            }
+            public String fromString(String stringifiedObject) {
+                return stringifiedObject;
+            }
+        };
+    }
+
+    //#endregion
+}
@@ -0,0 +1,79 @@
+package net.alastairwyse.applicationaccessclient;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for the net.alastairwyse.applicationaccessclient.EnumUniqueStringifier class.
+ */
+public class EnumUniqueStringifierTests {
+
+    private EnumUniqueStringifier<ApplicationScreen> testEnumUniqueStringifier;
+
+    @Before
+    public void setUp() {
+        testEnumUniqueStringifier = new EnumUniqueStringifier<ApplicationScreen>(ApplicationScreen.class);
+    }
+
+    @Test
+    public void toString_AllConstants() {
+
+        for (ApplicationScreen currentApplicationScreen : ApplicationScreen.values()) {
+            assertEquals(currentApplicationScreen.name(), testEnumUniqueStringifier.toString(currentApplicationScreen));
+        }
+    }
+
+    @Test
+    public void fromString_AllConstants() {
+
+        for (ApplicationScreen currentApplicationScreen : ApplicationScreen.values()) {
+            assertEquals(currentApplicationScreen, testEnumUniqueStringifier.fromString(currentApplicationScreen.name()));
+        }
+    }
+
+    @Test
+    public void fromString_UnknownName() {
+
+        var e = assertThrows(IllegalArgumentException.class, () -> {
+            testEnumUniqueStringifier.fromString("Order");
+        });
+
+        assertTrue(e.getMessage().contains("Parameter 'stringifiedObject' with value 'Order' is not a constant of enum 'net.alastairwyse.applicationaccessclient.ApplicationScreen'."));
+    }
+
+    @Test
+    public void tryFromString() {
+
+        assertEquals(ApplicationScreen.MANAGE_PRODUCTS, testEnumUniqueStringifier.tryFromString("MANAGE_PRODUCTS"));
+        assertNull(testEnumUniqueStringifier.tryFromString("Order"));
+        assertNull(testEnumUniqueStringifier.tryFromString(""));
+        assertNull(testEnumUniqueStringifier.tryFromString(null));
+    }
+
+    @Test
+    public void fromString_NamesWithSameHashCode() {
+
+        var testCollidingEnumUniqueStringifier = new EnumUniqueStringifier<CollidingNames>(CollidingNames.class);
+
+        assertEquals(CollidingNames.Aa, testCollidingEnumUniqueStringifier.fromString("Aa"));
+        assertEquals(CollidingNames.BB, testCollidingEnumUniqueStringifier.fromString("BB"));
+        assertNull(testCollidingEnumUniqueStringifier.tryFromString("Ab"));
+    }
+
+    //#region Inner Classes
+
+    /**
+     * Enum whose constants' names have the same hash code.
+     */
+    private enum CollidingNames {
+        Aa, 
+        BB
+    }
+
+    //#endregion
+}
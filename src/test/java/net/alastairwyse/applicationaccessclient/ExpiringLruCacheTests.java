@@ -0,0 +1,103 @@
+package net.alastairwyse.applicationaccessclient;
+
+import java.time.Duration;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for the net.alastairwyse.applicationaccessclient.ExpiringLruCache class.
+ */
+public class ExpiringLruCacheTests {
+
+    private ExpiringLruCache<String, Integer> testExpiringLruCache;
+
+    @Before
+    public void setUp() {
+
+        testExpiringLruCache = new ExpiringLruCache<String, Integer>(3, Duration.ofHours(1));
+    }
+
+    @Test
+    public void constructor_MaxSizeLessThan1() {
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> {
+            new ExpiringLruCache<String, Integer>(0, Duration.ofHours(1));
+        });
+
+        assertTrue(e.getMessage().contains("Parameter 'maxSize' with value 0 must be greater than 0."));
+    }
+
+    @Test
+    public void constructor_TimeToLiveZero() {
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> {
+            new ExpiringLruCache<String, Integer>(1, Duration.ZERO);
+        });
+
+        assertTrue(e.getMessage().contains("Parameter 'timeToLive' with value 'PT0S' must be greater than 0."));
+    }
+
+    @Test
+    public void get_HitAndMissCounted() {
+
+        testExpiringLruCache.put("a", 1);
+
+        assertEquals(Integer.valueOf(1), testExpiringLruCache.get("a"));
+        assertNull(testExpiringLruCache.get("b"));
+        assertEquals(1, testExpiringLruCache.getHitCount());
+        assertEquals(1, testExpiringLruCache.getMissCount());
+        assertEquals(0, testExpiringLruCache.getEvictionCount());
+    }
+
+    @Test
+    public void get_ExpiredEntryRemoved() throws Exception {
+
+        testExpiringLruCache = new ExpiringLruCache<String, Integer>(3, Duration.ofMillis(1));
+        testExpiringLruCache.put("a", 1);
+        Thread.sleep(10);
+
+        assertNull(testExpiringLruCache.get("a"));
+        assertEquals(0, testExpiringLruCache.size());
+        assertEquals(0, testExpiringLruCache.getHitCount());
+        assertEquals(1, testExpiringLruCache.getMissCount());
+        assertEquals(1, testExpiringLruCache.getEvictionCount());
+    }
+
+    @Test
+    public void put_LeastRecentlyUsedEntryEvictedWhenFull() {
+
+        testExpiringLruCache.put("a", 1);
+        testExpiringLruCache.put("b", 2);
+        testExpiringLruCache.put("c", 3);
+        testExpiringLruCache.get("a");
+
+        testExpiringLruCache.put("d", 4);
+
+        assertEquals(3, testExpiringLruCache.size());
+        assertEquals(1, testExpiringLruCache.getEvictionCount());
+        assertNull(testExpiringLruCache.get("b"));
+        assertEquals(Integer.valueOf(1), testExpiringLruCache.get("a"));
+        assertEquals(Integer.valueOf(3), testExpiringLruCache.get("c"));
+        assertEquals(Integer.valueOf(4), testExpiringLruCache.get("d"));
+    }
+
+    @Test
+    public void removeIf() {
+
+        testExpiringLruCache.put("a1", 1);
+        testExpiringLruCache.put("b1", 2);
+        testExpiringLruCache.put("a2", 3);
+
+        testExpiringLruCache.removeIf((String key) -> key.startsWith("a"));
+
+        assertEquals(1, testExpiringLruCache.size());
+        assertEquals(Integer.valueOf(2), testExpiringLruCache.get("b1"));
+        assertEquals(0, testExpiringLruCache.getEvictionCount());
+    }
+}
@@ -0,0 +1,116 @@
+package net.alastairwyse.applicationaccessclient;
+
+import java.util.List;
+import java.util.Map;
+
+import net.alastairwyse.applicationaccessclient.exceptions.ElementNotFoundException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for the net.alastairwyse.applicationaccessclient.GroupHierarchyIndex class.
+ */
+public class GroupHierarchyIndexTests {
+
+    private GroupHierarchyIndex<String> testGroupHierarchyIndex;
+
+    @Before
+    public void setUp() {
+
+        // Diamond shaped hierarchy group1 -> (group2, group3) -> group4, plus group4 -> group5
+        testGroupHierarchyIndex = new GroupHierarchyIndex<String>(
+            List.of("group1", "group2", "group3", "group4", "group5", "group6"),
+            Map.of(
+                "group1", List.of("group2", "group3"),
+                "group2", List.of("group4"),
+                "group3", List.of("group4"),
+                "group4", List.of("group5")
+            )
+        );
+    }
+
+    @Test
+    public void getGroupToGroupMappings() {
+
+        assertEquals(List.of("group2", "group3"), testGroupHierarchyIndex.getGroupToGroupMappings("group1", false));
+        assertEquals(List.of("group2", "group3", "group4", "group5"), testGroupHierarchyIndex.getGroupToGroupMappings("group1", true));
+        assertEquals(List.of(), testGroupHierarchyIndex.getGroupToGroupMappings("group6", true));
+    }
+
+    @Test
+    public void getGroupToGroupReverseMappings() {
+
+        assertEquals(List.of("group4"), testGroupHierarchyIndex.getGroupToGroupReverseMappings("group5", false));
+        assertEquals(List.of("group1", "group2", "group3", "group4"), testGroupHierarchyIndex.getGroupToGroupReverseMappings("group5", true));
+    }
+
+    @Test
+    public void getGroupToGroupMappings_GroupDoesntExist() {
+
+        ElementNotFoundException e = assertThrows(ElementNotFoundException.class, () -> {
+            testGroupHierarchyIndex.getGroupToGroupMappings("group9", true);
+        });
+
+        assertEquals("Group", e.getElementType());
+        assertEquals("group9", e.getElementValue());
+    }
+
+    @Test
+    public void addGroupToGroupMapping() {
+
+        testGroupHierarchyIndex.addGroupToGroupMapping("group5", "group6");
+        testGroupHierarchyIndex.addGroupToGroupMapping("group6", "group7");
+
+        assertEquals(List.of("group2", "group3", "group4", "group5", "group6", "group7"), testGroupHierarchyIndex.getGroupToGroupMappings("group1", true));
+        assertEquals(List.of("group1", "group2", "group3", "group4", "group5", "group6"), testGroupHierarchyIndex.getGroupToGroupReverseMappings("group7", true));
+        assertTrue(testGroupHierarchyIndex.containsGroup("group7"));
+    }
+
+    @Test
+    public void removeGroupToGroupMapping() {
+
+        // group4 remains reachable from group1 via group3
+        testGroupHierarchyIndex.removeGroupToGroupMapping("group2", "group4");
+
+        assertEquals(List.of("group2", "group3", "group4", "group5"), testGroupHierarchyIndex.getGroupToGroupMappings("group1", true));
+        assertEquals(List.of(), testGroupHierarchyIndex.getGroupToGroupMappings("group2", true));
+        assertEquals(List.of("group1", "group3", "group4"), testGroupHierarchyIndex.getGroupToGroupReverseMappings("group5", true));
+
+        testGroupHierarchyIndex.removeGroupToGroupMapping("group3", "group4");
+
+        assertEquals(List.of("group2", "group3"), testGroupHierarchyIndex.getGroupToGroupMappings("group1", true));
+        assertEquals(List.of("group4"), testGroupHierarchyIndex.getGroupToGroupReverseMappings("group5", true));
+    }
+
+    @Test
+    public void removeGroup() {
+
+        testGroupHierarchyIndex.removeGroup("group4");
+
+        assertFalse(testGroupHierarchyIndex.containsGroup("group4"));
+        assertEquals(List.of("group2", "group3"), testGroupHierarchyIndex.getGroupToGroupMappings("group1", true));
+        assertEquals(List.of(), testGroupHierarchyIndex.getGroupToGroupReverseMappings("group5", true));
+    }
+
+    @Test
+    public void isMappedToGroup() {
+
+        assertTrue(testGroupHierarchyIndex.isMappedToGroup(List.of("group6", "group2"), "group5"));
+        assertTrue(testGroupHierarchyIndex.isMappedToGroup(List.of("group6"), "group6"));
+        assertFalse(testGroupHierarchyIndex.isMappedToGroup(List.of("group4"), "group2"));
+        assertFalse(testGroupHierarchyIndex.isMappedToGroup(List.of("group1"), "group9"));
+    }
+
+    @Test
+    public void getGroupsAndMappedGroups() {
+
+        assertEquals(List.of("group3", "group4", "group5", "group6"), testGroupHierarchyIndex.getGroupsAndMappedGroups(List.of("group6", "group3", "group9")));
+        assertEquals(List.of("group1", "group2"), testGroupHierarchyIndex.getGroupsAndReverseMappedGroups(List.of("group2")));
+    }
+}
@@ -0,0 +1,154 @@
+package net.alastairwyse.applicationaccessclient;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for the net.alastairwyse.applicationaccessclient.GroupHierarchyIndexingAccessManagerProcessor class.
+ */
+public class GroupHierarchyIndexingAccessManagerProcessorTests {
+
+    private List<String> processedEvents;
+    private List<String> queries;
+    private AccessManagerEventProcessor<String, String, ApplicationScreen, AccessLevel> mockEventProcessor;
+    private AccessManagerQueryProcessor<String, String, ApplicationScreen, AccessLevel> mockQueryProcessor;
+    private GroupHierarchyIndexingAccessManagerProcessor<String, String, ApplicationScreen, AccessLevel> testGroupHierarchyIndexingAccessManagerProcessor;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception {
+
+        processedEvents = new ArrayList<String>();
+        queries = new ArrayList<String>();
+        // Hierarchy group1 -> group2 -> group3, plus group4
+        var groupToGroupMappings = Map.of(
+            "group1", List.of("group2"),
+            "group2", List.of("group3"),
+            "group3", List.<String>of(),
+            "group4", List.<String>of()
+        );
+        var userToGroupMappings = Map.of(
+            "user1", List.of("group1"),
+            "user2", List.of("group4"),
+            "user3", List.of("group2", "group9")
+        );
+        mockEventProcessor = (AccessManagerEventProcessor<String, String, ApplicationScreen, AccessLevel>)Proxy.newProxyInstance(
+            AccessManagerEventProcessor.class.getClassLoader(),
+            new Class<?>[] { AccessManagerEventProcessor.class },
+            (proxy, method, args) -> {
+                processedEvents.add(method.getName());
+                return null;
+            }
+        );
+        mockQueryProcessor = (AccessManagerQueryProcessor<String, String, ApplicationScreen, AccessLevel>)Proxy.newProxyInstance(
+            AccessManagerQueryProcessor.class.getClassLoader(),
+            new Class<?>[] { AccessManagerQueryProcessor.class },
+            (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "getGroups":
+                        return List.of("group1", "group2", "group3", "group4");
+                    case "getGroupToGroupMappings":
+                        return groupToGroupMappings.get((String)args[0]);
+                    case "getUserToGroupMappings":
+                        queries.add("getUserToGroupMappings(" + args[0] + ", " + args[1] + ")");
+                        if ((Boolean)args[1] == true) {
+                            return List.of("group2", "group3", "group9");
+                        }
+                        return userToGroupMappings.get((String)args[0]);
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            }
+        );
+        testGroupHierarchyIndexingAccessManagerProcessor = new GroupHierarchyIndexingAccessManagerProcessor<String, String, ApplicationScreen, AccessLevel>(
+            mockEventProcessor,
+            mockQueryProcessor
+        );
+    }
+
+    @Test
+    public void getUserToGroupMappings() throws Exception {
+
+        List<String> result = testGroupHierarchyIndexingAccessManagerProcessor.getUserToGroupMappings("user1", false);
+
+        assertEquals(List.of("group1"), result);
+        assertEquals(List.of("getUserToGroupMappings(user1, false)"), queries);
+    }
+
+    @Test
+    public void getUserToGroupMappings_IncludeIndirectMappings() throws Exception {
+
+        List<String> result = testGroupHierarchyIndexingAccessManagerProcessor.getUserToGroupMappings("user1", true);
+
+        assertEquals(List.of("group1", "group2", "group3"), result);
+        assertEquals(List.of("getUserToGroupMappings(user1, false)"), queries);
+    }
+
+    @Test
+    public void getUserToGroupMappings_IncludeIndirectMappingsDirectGroupNotInIndex() throws Exception {
+
+        List<String> result = testGroupHierarchyIndexingAccessManagerProcessor.getUserToGroupMappings("user3", true);
+
+        assertEquals(List.of("group2", "group3", "group9"), result);
+        assertEquals(List.of("getUserToGroupMappings(user3, false)", "getUserToGroupMappings(user3, true)"), queries);
+    }
+
+    @Test
+    public void isUserMappedToGroup() throws Exception {
+
+        assertTrue(testGroupHierarchyIndexingAccessManagerProcessor.isUserMappedToGroup("user1", "group1"));
+        assertTrue(testGroupHierarchyIndexingAccessManagerProcessor.isUserMappedToGroup("user1", "group3"));
+        assertFalse(testGroupHierarchyIndexingAccessManagerProcessor.isUserMappedToGroup("user1", "group4"));
+        assertFalse(testGroupHierarchyIndexingAccessManagerProcessor.isUserMappedToGroup("user2", "group3"));
+    }
+
+    @Test
+    public void addGroupToGroupMapping() throws Exception {
+
+        testGroupHierarchyIndexingAccessManagerProcessor.addGroupToGroupMapping("group4", "group1");
+
+        assertEquals(List.of("addGroupToGroupMapping"), processedEvents);
+        assertEquals(List.of("group1", "group2", "group3"), testGroupHierarchyIndexingAccessManagerProcessor.getGroupToGroupMappings("group4", true));
+        assertTrue(testGroupHierarchyIndexingAccessManagerProcessor.isUserMappedToGroup("user2", "group3"));
+    }
+
+    @Test
+    public void removeGroupToGroupMapping() throws Exception {
+
+        testGroupHierarchyIndexingAccessManagerProcessor.removeGroupToGroupMapping("group2", "group3");
+
+        assertEquals(List.of("removeGroupToGroupMapping"), processedEvents);
+        assertEquals(List.of("group2"), testGroupHierarchyIndexingAccessManagerProcessor.getGroupToGroupMappings("group1", true));
+        assertEquals(List.of(), testGroupHierarchyIndexingAccessManagerProcessor.getGroupToGroupReverseMappings("group3", true));
+        assertFalse(testGroupHierarchyIndexingAccessManagerProcessor.isUserMappedToGroup("user1", "group3"));
+    }
+
+    @Test
+    public void removeGroup() throws Exception {
+
+        testGroupHierarchyIndexingAccessManagerProcessor.removeGroup("group2");
+
+        assertEquals(List.of("removeGroup"), processedEvents);
+        assertEquals(List.of(), testGroupHierarchyIndexingAccessManagerProcessor.getGroupToGroupMappings("group1", true));
+        assertFalse(testGroupHierarchyIndexingAccessManagerProcessor.isUserMappedToGroup("user1", "group3"));
+    }
+
+    @Test
+    public void addGroup() throws Exception {
+
+        testGroupHierarchyIndexingAccessManagerProcessor.addGroup("group5");
+        testGroupHierarchyIndexingAccessManagerProcessor.addGroupToGroupMapping("group5", "group2");
+
+        assertEquals(List.of("addGroup", "addGroupToGroupMapping"), processedEvents);
+        assertEquals(List.of("group2", "group3"), testGroupHierarchyIndexingAccessManagerProcessor.getGroupToGroupMappings("group5", true));
+    }
+}
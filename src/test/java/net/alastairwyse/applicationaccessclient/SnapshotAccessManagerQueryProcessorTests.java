@@ -0,0 +1,102 @@
+package net.alastairwyse.applicationaccessclient;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
+import net.alastairwyse.applicationaccessclient.models.ApplicationComponentAndAccessLevel;
+import net.alastairwyse.applicationaccessclient.models.EntityTypeAndEntity;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for the net.alastairwyse.applicationaccessclient.SnapshotAccessManagerQueryProcessor class.
+ */
+public class SnapshotAccessManagerQueryProcessorTests {
+
+    private int getApplicationComponentsAccessibleByUserCallCount;
+    private int getEntitiesAccessibleByUserCallCount;
+    private SnapshotAccessManagerQueryProcessor<String, String, ApplicationScreen, AccessLevel> testSnapshotAccessManagerQueryProcessor;
+
+    @Before
+    public void setUp() {
+
+        getApplicationComponentsAccessibleByUserCallCount = 0;
+        getEntitiesAccessibleByUserCallCount = 0;
+        var decoratedQueryProcessor = new AccessManagerQueryProcessorDecoratorBase<String, String, ApplicationScreen, AccessLevel>(null) {
+            @Override
+            public Set<ApplicationComponentAndAccessLevel<ApplicationScreen, AccessLevel>> getApplicationComponentsAccessibleByUser(String user) {
+                getApplicationComponentsAccessibleByUserCallCount++;
+                var results = new HashSet<ApplicationComponentAndAccessLevel<ApplicationScreen, AccessLevel>>();
+                results.add(new ApplicationComponentAndAccessLevel<ApplicationScreen, AccessLevel>(ApplicationScreen.ORDER, AccessLevel.VIEW));
+                results.add(new ApplicationComponentAndAccessLevel<ApplicationScreen, AccessLevel>(ApplicationScreen.SUMMARY, AccessLevel.MODIFY));
+                return results;
+            }
+
+            @Override
+            public Set<EntityTypeAndEntity> getEntitiesAccessibleByUser(String user) {
+                getEntitiesAccessibleByUserCallCount++;
+                var results = new HashSet<EntityTypeAndEntity>();
+                results.add(new EntityTypeAndEntity("ClientAccount", "Company1"));
+                return results;
+            }
+        };
+        testSnapshotAccessManagerQueryProcessor = new SnapshotAccessManagerQueryProcessor<String, String, ApplicationScreen, AccessLevel>(
+            decoratedQueryProcessor,
+            new StringUniqueStringifier(),
+            new StringUniqueStringifier(),
+            new EnumUniqueStringifier<ApplicationScreen>(ApplicationScreen.class),
+            new EnumUniqueStringifier<AccessLevel>(AccessLevel.class),
+            10,
+            Duration.ofHours(1)
+        );
+    }
+
+    @Test
+    public void hasAccessToApplicationComponent() throws Exception {
+
+        assertTrue(testSnapshotAccessManagerQueryProcessor.hasAccessToApplicationComponent("user1", ApplicationScreen.ORDER, AccessLevel.VIEW));
+        assertTrue(testSnapshotAccessManagerQueryProcessor.hasAccessToApplicationComponent("user1", ApplicationScreen.SUMMARY, AccessLevel.MODIFY));
+        assertFalse(testSnapshotAccessManagerQueryProcessor.hasAccessToApplicationComponent("user1", ApplicationScreen.SUMMARY, AccessLevel.DELETE));
+        assertTrue(testSnapshotAccessManagerQueryProcessor.hasAccessToApplicationComponent("user2", ApplicationScreen.ORDER, AccessLevel.VIEW));
+
+        assertEquals(2, getApplicationComponentsAccessibleByUserCallCount);
+        assertEquals(0, getEntitiesAccessibleByUserCallCount);
+    }
+
+    @Test
+    public void hasAccessToEntity() throws Exception {
+
+        assertTrue(testSnapshotAccessManagerQueryProcessor.hasAccessToEntity("user1", "ClientAccount", "Company1"));
+        assertFalse(testSnapshotAccessManagerQueryProcessor.hasAccessToEntity("user1", "ClientAccount", "Company2"));
+        assertFalse(testSnapshotAccessManagerQueryProcessor.hasAccessToEntity("user1", "ProductLines", "Company1"));
+
+        assertEquals(0, getApplicationComponentsAccessibleByUserCallCount);
+        assertEquals(1, getEntitiesAccessibleByUserCallCount);
+    }
+
+    @Test
+    public void hasAccessToApplicationComponent_SnapshotRefreshedAfterInterval() throws Exception {
+
+        testSnapshotAccessManagerQueryProcessor = new SnapshotAccessManagerQueryProcessor<String, String, ApplicationScreen, AccessLevel>(
+            testSnapshotAccessManagerQueryProcessor.queryProcessor,
+            new StringUniqueStringifier(),
+            new StringUniqueStringifier(),
+            new EnumUniqueStringifier<ApplicationScreen>(ApplicationScreen.class),
+            new EnumUniqueStringifier<AccessLevel>(AccessLevel.class),
+            10,
+            Duration.ofMillis(1)
+        );
+
+        testSnapshotAccessManagerQueryProcessor.hasAccessToApplicationComponent("user1", ApplicationScreen.ORDER, AccessLevel.VIEW);
+        Thread.sleep(10);
+        testSnapshotAccessManagerQueryProcessor.hasAccessToApplicationComponent("user1", ApplicationScreen.ORDER, AccessLevel.VIEW);
+
+        assertEquals(2, getApplicationComponentsAccessibleByUserCallCount);
+    }
+}
@@ -0,0 +1,87 @@
+package net.alastairwyse.applicationaccessclient;
+
+import java.net.URI;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for the net.alastairwyse.applicationaccessclient.UriTemplate class.
+ */
+public class UriTemplateTests {
+
+    @Test
+    public void constructor_UnterminatedParameter() {
+
+        var e = assertThrows(IllegalArgumentException.class, () -> {
+            new UriTemplate("users/{user");
+        });
+
+        assertTrue(e.getMessage().contains("Parameter 'template' with value 'users/{user' contains an unterminated parameter."));
+    }
+
+    @Test
+    public void expand() {
+
+        var testUriTemplate = new UriTemplate("userToGroupMappings/user/{user}/group/{group}");
+
+        URI result = testUriTemplate.expand("http://127.0.0.1:5000/api/v1/", "user 1", "group/1");
+
+        assertEquals(2, testUriTemplate.getParameterCount());
+        assertEquals("http://127.0.0.1:5000/api/v1/userToGroupMappings/user/user%201/group/group%2F1", result.toString());
+        assertEquals("/api/v1/userToGroupMappings/user/user 1/group/group/1", result.getPath());
+    }
+
+    @Test
+    public void expand_QueryParameter() {
+
+        var testUriTemplate = new UriTemplate("userToGroupMappings/user/{user}?includeIndirectMappings={includeIndirectMappings}");
+
+        URI result = testUriTemplate.expand("http://127.0.0.1:5000/api/v1/", "user1", "true");
+
+        assertEquals("http://127.0.0.1:5000/api/v1/userToGroupMappings/user/user1?includeIndirectMappings=true", result.toString());
+    }
+
+    @Test
+    public void expand_NoParameters() {
+
+        var testUriTemplate = new UriTemplate("users");
+
+        URI result = testUriTemplate.expand("http://127.0.0.1:5000/api/v1/");
+
+        assertEquals("http://127.0.0.1:5000/api/v1/users", result.toString());
+    }
+
+    @Test
+    public void expand_ParameterCountMismatch() {
+
+        var testUriTemplate = new UriTemplate("users/{user}");
+
+        var e = assertThrows(IllegalArgumentException.class, () -> {
+            testUriTemplate.expand("http://127.0.0.1:5000/api/v1/", "user1", "user2");
+        });
+
+        assertTrue(e.getMessage().contains("Parameter 'parameterValues' with length 2 does not match the 1 parameters in template 'users/{user}'."));
+    }
+
+    @Test
+    public void encode() {
+
+        assertEquals("abcXYZ019-._~", UriTemplate.encode("abcXYZ019-._~"));
+        assertEquals("a%20b%2Bc%2A%3F%26%3D%25", UriTemplate.encode("a b+c*?&=%"));
+        assertEquals("%C3%A9%E2%82%AC%F0%9F%98%80", UriTemplate.encode("é€😀"));
+        assertEquals("a%3Fb", UriTemplate.encode("a\ud83db"));
+    }
+
+    @Test
+    public void encode_NoCharactersRequireEncoding() {
+
+        String value = "ClientAccount";
+
+        assertSame(value, UriTemplate.encode(value));
+    }
+}
@@ -0,0 +1,113 @@
+package net.alastairwyse.applicationaccessclient;
+
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import net.alastairwyse.applicationaccessclient.models.ApplicationComponentAndAccessLevel;
+import net.alastairwyse.applicationaccessclient.models.EntityTypeAndEntity;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for the net.alastairwyse.applicationaccessclient.WeakInterner class.
+ */
+public class WeakInternerTests {
+
+    private WeakInterner<EntityTypeAndEntity> testWeakInterner;
+
+    @Before
+    public void setUp() {
+        testWeakInterner = new WeakInterner<EntityTypeAndEntity>();
+    }
+
+    @Test
+    public void intern() {
+
+        var first = new EntityTypeAndEntity("ClientAccount", "CompanyA");
+        var second = new EntityTypeAndEntity("ClientAccount", "CompanyA");
+        var third = new EntityTypeAndEntity("ClientAccount", "CompanyB");
+
+        assertSame(first, testWeakInterner.intern(first));
+        assertSame(first, testWeakInterner.intern(second));
+        assertSame(third, testWeakInterner.intern(third));
+        assertEquals(2, testWeakInterner.size());
+    }
+
+    @Test
+    public void intern_ApplicationComponentAndAccessLevel() {
+
+        var testApplicationComponentInterner = new WeakInterner<ApplicationComponentAndAccessLevel<ApplicationScreen, AccessLevel>>();
+        var first = new ApplicationComponentAndAccessLevel<ApplicationScreen, AccessLevel>(ApplicationScreen.ORDER, AccessLevel.VIEW);
+        var second = new ApplicationComponentAndAccessLevel<ApplicationScreen, AccessLevel>(ApplicationScreen.ORDER, AccessLevel.VIEW);
+
+        assertSame(first, testApplicationComponentInterner.intern(first));
+        assertSame(first, testApplicationComponentInterner.intern(second));
+        assertEquals(1, testApplicationComponentInterner.size());
+    }
+
+    @Test
+    public void intern_Concurrent() throws Exception {
+
+        var executor = Executors.newFixedThreadPool(8);
+        try {
+            var tasks = new ArrayList<Callable<EntityTypeAndEntity[]>>();
+            for (int i = 0; i < 8; i++) {
+                tasks.add(() -> {
+                    var results = new EntityTypeAndEntity[1000];
+                    for (int j = 0; j < results.length; j++) {
+                        results[j] = testWeakInterner.intern(new EntityTypeAndEntity("ClientAccount", String.format("Company%d", j)));
+                    }
+                    return results;
+                });
+            }
+            var results = new ArrayList<EntityTypeAndEntity[]>();
+            for (Future<EntityTypeAndEntity[]> currentResult : executor.invokeAll(tasks)) {
+                results.add(currentResult.get(10, TimeUnit.SECONDS));
+            }
+
+            for (int j = 0; j < 1000; j++) {
+                for (EntityTypeAndEntity[] currentResults : results) {
+                    assertSame(results.get(0)[j], currentResults[j]);
+                }
+            }
+            assertEquals(1000, testWeakInterner.size());
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void size_UnreferencedInstancesRemoved() throws Exception {
+
+        for (int i = 0; i < 100; i++) {
+            testWeakInterner.intern(new EntityTypeAndEntity("ClientAccount", String.format("Company%d", i)));
+        }
+        var retained = testWeakInterner.intern(new EntityTypeAndEntity("ClientAccount", "CompanyA"));
+
+        for (int i = 0; i < 50 && testWeakInterner.size() > 1; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+
+        assertEquals(1, testWeakInterner.size());
+        assertSame(retained, testWeakInterner.intern(new EntityTypeAndEntity("ClientAccount", "CompanyA")));
+    }
+
+    @Test
+    public void clear() {
+
+        testWeakInterner.intern(new EntityTypeAndEntity("ClientAccount", "CompanyA"));
+
+        testWeakInterner.clear();
+
+        assertEquals(0, testWeakInterner.size());
+    }
+}
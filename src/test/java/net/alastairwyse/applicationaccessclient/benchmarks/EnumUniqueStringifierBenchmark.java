@@ -0,0 +1,97 @@
+package net.alastairwyse.applicationaccessclient.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import net.alastairwyse.applicationaccessclient.ApplicationScreen;
+import net.alastairwyse.applicationaccessclient.EnumUniqueStringifier;
+
+/**
+ * JMH benchmarks comparing conversion of enum constants to and from strings using {@link EnumUniqueStringifier} against {@link Enum#name()} and {@link Enum#valueOf(Class, String)}.
+ * <p>
+ * Run via the {@link #main(String[])} method with the test classpath.  The {@link GCProfiler} is enabled, and the 'gc.alloc.rate.norm' result (bytes allocated per operation) 
+ * should be 0 for the EnumUniqueStringifier benchmarks.  Names are converted from copies of the constant names (rather than the interned names themselves), as would be the 
+ * case for names deserialized from a response body.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnumUniqueStringifierBenchmark {
+
+    private EnumUniqueStringifier<ApplicationScreen> enumUniqueStringifier;
+    private ApplicationScreen[] constants;
+    private String[] names;
+
+    @Setup
+    public void setUp() {
+
+        enumUniqueStringifier = new EnumUniqueStringifier<ApplicationScreen>(ApplicationScreen.class);
+        constants = ApplicationScreen.values();
+        names = new String[constants.length];
+        for (int i = 0; i < constants.length; i++) {
+            names[i] = new String(constants[i].name().toCharArray());
+            // Compute the hash code up front, as it is cached after first use in any case
+            names[i].hashCode();
+        }
+    }
+
+    @Benchmark
+    public void toString_EnumUniqueStringifier(Blackhole blackhole) {
+
+        for (ApplicationScreen currentConstant : constants) {
+            blackhole.consume(enumUniqueStringifier.toString(currentConstant));
+        }
+    }
+
+    @Benchmark
+    public void toString_EnumName(Blackhole blackhole) {
+
+        for (ApplicationScreen currentConstant : constants) {
+            blackhole.consume(currentConstant.name());
+        }
+    }
+
+    @Benchmark
+    public void fromString_EnumUniqueStringifier(Blackhole blackhole) {
+
+        for (String currentName : names) {
+            blackhole.consume(enumUniqueStringifier.fromString(currentName));
+        }
+    }
+
+    @Benchmark
+    public void fromString_EnumValueOf(Blackhole blackhole) {
+
+        for (String currentName : names) {
+            blackhole.consume(Enum.valueOf(ApplicationScreen.class, currentName));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+
+        var options = new OptionsBuilder()
+            .include(EnumUniqueStringifierBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(options).run();
+    }
+}
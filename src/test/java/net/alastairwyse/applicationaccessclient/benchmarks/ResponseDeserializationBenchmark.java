@@ -0,0 +1,101 @@
+package net.alastairwyse.applicationaccessclient.benchmarks;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import net.alastairwyse.applicationaccessclient.models.datatransferobjects.UserAndEntity;
+import net.alastairwyse.applicationaccessclient.models.datatransferobjects.UserAndGroup;
+
+/**
+ * JMH benchmarks comparing deserialization of web API response bodies using an anonymous {@link TypeReference} created per call (as previously done by the client classes)
+ * against a cached {@link ObjectReader} (as created on construction by the AccessManagerClientBase class).
+ * <p>
+ * Payloads mirror those returned by the 'getUserToGroupMappings' and 'getEntitiesAccessibleByUser' endpoints.  Run via the {@link #main(String[])} method with the test
+ * classpath.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseDeserializationBenchmark {
+
+    @Param({ "10", "1000" })
+    public int elementCount;
+
+    private ObjectMapper objectMapper;
+    private ObjectReader userAndGroupListReader;
+    private ObjectReader userAndEntityListReader;
+    private String userToGroupMappingsResponseBody;
+    private String entitiesAccessibleByUserResponseBody;
+
+    @Setup
+    public void setUp() {
+
+        objectMapper = new ObjectMapper();
+        userAndGroupListReader = objectMapper.readerFor(new TypeReference<ArrayList<UserAndGroup>>(){});
+        userAndEntityListReader = objectMapper.readerFor(new TypeReference<ArrayList<UserAndEntity>>(){});
+        var userToGroupMappingsBuilder = new StringBuilder("[");
+        var entitiesAccessibleByUserBuilder = new StringBuilder("[");
+        for (int i = 0; i < elementCount; i++) {
+            if (i > 0) {
+                userToGroupMappingsBuilder.append(", ");
+                entitiesAccessibleByUserBuilder.append(", ");
+            }
+            userToGroupMappingsBuilder.append(String.format("{\"user\": \"user%d\", \"group\": \"group%d\"}", i, i));
+            entitiesAccessibleByUserBuilder.append(String.format("{\"user\": \"user1\", \"entityType\": \"ClientAccount\", \"entity\": \"Client%d\"}", i));
+        }
+        userToGroupMappingsResponseBody = userToGroupMappingsBuilder.append("]").toString();
+        entitiesAccessibleByUserResponseBody = entitiesAccessibleByUserBuilder.append("]").toString();
+    }
+
+    @Benchmark
+    public ArrayList<UserAndGroup> getUserToGroupMappings_TypeReferencePerCall() throws IOException {
+        return objectMapper.readValue(userToGroupMappingsResponseBody, new TypeReference<ArrayList<UserAndGroup>>(){});
+    }
+
+    @Benchmark
+    public ArrayList<UserAndGroup> getUserToGroupMappings_CachedObjectReader() throws IOException {
+        return userAndGroupListReader.readValue(userToGroupMappingsResponseBody);
+    }
+
+    @Benchmark
+    public ArrayList<UserAndEntity> getEntitiesAccessibleByUser_TypeReferencePerCall() throws IOException {
+        return objectMapper.readValue(entitiesAccessibleByUserResponseBody, new TypeReference<ArrayList<UserAndEntity>>(){});
+    }
+
+    @Benchmark
+    public ArrayList<UserAndEntity> getEntitiesAccessibleByUser_CachedObjectReader() throws IOException {
+        return userAndEntityListReader.readValue(entitiesAccessibleByUserResponseBody);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+
+        var options = new OptionsBuilder()
+            .include(ResponseDeserializationBenchmark.class.getSimpleName())
+            .build();
+        new Runner(options).run();
+    }
+}